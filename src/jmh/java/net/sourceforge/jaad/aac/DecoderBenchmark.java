@@ -0,0 +1,55 @@
+package net.sourceforge.jaad.aac;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end decoding of synthetic streams, one frame per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoderBenchmark {
+
+	private static final int FRAMES = 64;
+	@Param({"LC", "HE_AAC", "HE_AAC_V2"})
+	private FrameWriter.Type type;
+	private byte[][] frames;
+	private Decoder decoder;
+	private float[][] out;
+	private int frame;
+
+	@Setup
+	public void setup() throws AACException {
+		final FrameWriter writer = new FrameWriter(type, 42);
+		frames = new byte[FRAMES][];
+		for(int i = 0; i<FRAMES; i++) {
+			frames[i] = writer.nextFrame();
+		}
+		decoder = new Decoder(writer.getDecoderSpecificInfo());
+		out = new float[2][2048];
+		frame = 0;
+	}
+
+	@Benchmark
+	public float[][] decodeFrame() throws AACException {
+		final byte[] b = frames[frame];
+		frame = (frame+1)%FRAMES;
+		decoder.decodeFrame(b, 0, b.length, out);
+		return out;
+	}
+}
@@ -0,0 +1,50 @@
+package net.sourceforge.jaad.aac;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to the first decoded frame in a fresh JVM: each fork creates a
+ * decoder and decodes one frame, including class loading and the creation
+ * of the tables. The frame is written in the setup, so the writer classes
+ * are already loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+	@Param({"LC", "HE_AAC_V2"})
+	private FrameWriter.Type type;
+	private byte[] decoderSpecificInfo;
+	private byte[] frame;
+
+	@Setup
+	public void setup() {
+		final FrameWriter writer = new FrameWriter(type, 42);
+		decoderSpecificInfo = writer.getDecoderSpecificInfo();
+		frame = writer.nextFrame();
+	}
+
+	@Benchmark
+	public float[][] firstFrame() throws AACException {
+		final Decoder decoder = new Decoder(decoderSpecificInfo);
+		final float[][] out = new float[2][2048];
+		decoder.decodeFrame(frame, 0, frame.length, out);
+		return out;
+	}
+}
@@ -0,0 +1,53 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.syntax.ICSInfo.WindowSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inverse transform, windowing and overlap-add of one channel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBankBenchmark {
+
+	@Param({"ONLY_LONG_SEQUENCE", "EIGHT_SHORT_SEQUENCE"})
+	private WindowSequence windowSequence;
+	@Param({"0", "1"})
+	private int windowShape;
+	private FilterBank filterBank;
+	private float[] in, out;
+
+	@Setup
+	public void setup() throws AACException {
+		filterBank = new FilterBank(false, 1);
+		final Random rnd = new Random(42);
+		in = new float[1024];
+		for(int i = 0; i<in.length; i++) {
+			in[i] = 1000*(rnd.nextFloat()-0.5f);
+		}
+		out = new float[2048];
+	}
+
+	@Benchmark
+	public float[] process() {
+		filterBank.process(windowSequence, windowShape, windowShape, in, out, 0);
+		return out;
+	}
+}
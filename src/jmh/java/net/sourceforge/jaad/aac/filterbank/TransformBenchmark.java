@@ -0,0 +1,72 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The inverse MDCT and the FFT it is based on, for long (2048/1920) and short
+ * (256/240) windows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBenchmark {
+
+	@Param({"2048", "256", "1920", "240"})
+	private int length;
+	private MDCT mdct;
+	private FFT fft;
+	private float[] mdctIn, mdctOut;
+	private float[] fftRe, fftIm, bufRe, bufIm;
+
+	@Setup
+	public void setup() throws AACException {
+		final Random rnd = new Random(42);
+		mdct = new MDCT(length);
+		mdctIn = new float[length/2];
+		for(int i = 0; i<mdctIn.length; i++) {
+			mdctIn[i] = rnd.nextFloat()-0.5f;
+		}
+		mdctOut = new float[length];
+
+		fft = new FFT(length/4);
+		fftRe = new float[length/4];
+		fftIm = new float[length/4];
+		bufRe = new float[length/4];
+		bufIm = new float[length/4];
+		for(int i = 0; i<fftRe.length; i++) {
+			fftRe[i] = rnd.nextFloat()-0.5f;
+			fftIm[i] = rnd.nextFloat()-0.5f;
+		}
+	}
+
+	@Benchmark
+	public float[] mdct() {
+		mdct.process(mdctIn, 0, mdctOut, 0);
+		return mdctOut;
+	}
+
+	@Benchmark
+	public float[] fft() {
+		//the FFT works in place: restore the input to keep the values bounded
+		System.arraycopy(fftRe, 0, bufRe, 0, fftRe.length);
+		System.arraycopy(fftIm, 0, bufIm, 0, fftIm.length);
+		fft.process(bufRe, bufIm, false);
+		return bufRe;
+	}
+}
@@ -0,0 +1,81 @@
+package net.sourceforge.jaad.aac.huffman;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes a long window worth of spectral codewords of one codebook and a
+ * frame worth of scalefactors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HuffmanBenchmark {
+
+	private static final int SPECTRAL_COEFFICIENTS = 1024;
+	private static final int SCALEFACTORS = 8*15;
+	@Param({"1", "4", "6", "8", "11"})
+	private int cb;
+	private byte[] spectralData, scaleFactors;
+	private BitStream in;
+	private int[] buf;
+	private int count;
+
+	@Setup
+	public void setup() {
+		final Random rnd = new Random(42);
+		final BitWriter out = new BitWriter();
+		count = SPECTRAL_COEFFICIENTS/(cb<5 ? 4 : 2);
+		for(int i = 0; i<count; i++) {
+			CodewordWriter.writeSpectralData(out, cb, rnd);
+		}
+		spectralData = out.toByteArray();
+
+		out.reset();
+		for(int i = 0; i<SCALEFACTORS; i++) {
+			CodewordWriter.writeScaleFactor(out, rnd.nextInt(7)-3);
+		}
+		scaleFactors = out.toByteArray();
+
+		in = new BitStream();
+		buf = new int[4];
+	}
+
+	@Benchmark
+	public int decodeSpectralData() throws AACException {
+		in.setData(spectralData);
+		int sum = 0;
+		for(int i = 0; i<count; i++) {
+			Huffman.decodeSpectralData(in, cb, buf, 0);
+			sum += buf[0];
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int decodeScaleFactor() throws AACException {
+		in.setData(scaleFactors);
+		int sum = 0;
+		for(int i = 0; i<SCALEFACTORS; i++) {
+			sum += Huffman.decodeScaleFactor(in);
+		}
+		return sum;
+	}
+}
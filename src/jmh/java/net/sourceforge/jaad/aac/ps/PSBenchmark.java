@@ -0,0 +1,80 @@
+package net.sourceforge.jaad.aac.ps;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.SampleFrequency;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parametric stereo processing of one frame in the QMF domain: hybrid
+ * analysis, decorrelation, mixing and hybrid synthesis. The parameters of
+ * every frame are decoded from a synthetic payload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PSBenchmark {
+
+	private static final int FRAMES = 16;
+	private static final int TIME_SLOTS_RATE = 32;
+	private static final int TIME_SLOTS = TIME_SLOTS_RATE+6;
+	private static final int BANDS = 64;
+	private byte[][] payloads;
+	private BitStream in;
+	private PS ps;
+	private float[] input, left, right;
+	private int frame;
+
+	@Setup
+	public void setup() {
+		final Random rnd = new Random(42);
+		final PSWriter writer = new PSWriter();
+		final BitWriter out = new BitWriter();
+		payloads = new byte[FRAMES][];
+		for(int i = 0; i<FRAMES; i++) {
+			out.reset();
+			writer.write(out, rnd);
+			payloads[i] = out.toByteArray();
+		}
+
+		input = new float[TIME_SLOTS*BANDS*2];
+		left = new float[TIME_SLOTS*BANDS*2];
+		right = new float[TIME_SLOTS*BANDS*2];
+		for(int i = 0; i<input.length; i++) {
+			input[i] = rnd.nextFloat()-0.5f;
+		}
+
+		in = new BitStream();
+		ps = new PS(SampleFrequency.SAMPLE_FREQUENCY_44100, TIME_SLOTS_RATE);
+		frame = 0;
+	}
+
+	@Benchmark
+	public float[] process() throws AACException {
+		in.setData(payloads[frame]);
+		frame = (frame+1)%FRAMES;
+		ps.decode(in);
+
+		//PS works in place and expects a cleared right channel
+		System.arraycopy(input, 0, left, 0, input.length);
+		Arrays.fill(right, 0);
+		ps.process(left, right);
+		return right;
+	}
+}
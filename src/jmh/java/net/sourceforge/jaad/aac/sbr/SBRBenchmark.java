@@ -0,0 +1,96 @@
+package net.sourceforge.jaad.aac.sbr;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.SampleFrequency;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of synthetic SBR payloads and the reconstruction of one frame:
+ * QMF analysis, HF generation, HF adjustment and QMF synthesis. As the
+ * processing depends on the decoded envelopes, <code>process</code> decodes
+ * the payload of the frame as well; <code>decode</code> measures that part
+ * alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SBRBenchmark {
+
+	private static final int FRAMES = 16;
+	private static final int CORE_FRAME_LENGTH = 1024;
+	@Param({"1", "2"})
+	private int channels;
+	private byte[][] payloads;
+	private BitStream in;
+	private SBR sbr;
+	private float[][] core, buf;
+	private int frame;
+
+	@Setup
+	public void setup() throws AACException {
+		final Random rnd = new Random(42);
+		final SampleFrequency sf = SampleFrequency.SAMPLE_FREQUENCY_44100;
+		final SBRWriter writer = new SBRWriter(sf, channels==2, false);
+		final BitWriter out = new BitWriter();
+		payloads = new byte[FRAMES][];
+		for(int i = 0; i<FRAMES; i++) {
+			out.reset();
+			writer.write(out, rnd);
+			payloads[i] = out.toByteArray();
+		}
+
+		core = new float[channels][CORE_FRAME_LENGTH];
+		buf = new float[channels][2*CORE_FRAME_LENGTH];
+		for(int ch = 0; ch<channels; ch++) {
+			for(int i = 0; i<CORE_FRAME_LENGTH; i++) {
+				core[ch][i] = 1000*(rnd.nextFloat()-0.5f);
+			}
+		}
+
+		in = new BitStream();
+		sbr = new SBR(false, channels==2, sf, false);
+		frame = 0;
+	}
+
+	private void decodeNext() throws AACException {
+		final byte[] payload = payloads[frame];
+		frame = (frame+1)%FRAMES;
+		in.setData(payload);
+		sbr.decode(in, 8*payload.length, false);
+	}
+
+	@Benchmark
+	public SBR decode() throws AACException {
+		decodeNext();
+		return sbr;
+	}
+
+	@Benchmark
+	public float[][] process() throws AACException {
+		decodeNext();
+		//the output overwrites the core samples
+		for(int ch = 0; ch<channels; ch++) {
+			System.arraycopy(core[ch], 0, buf[ch], 0, CORE_FRAME_LENGTH);
+		}
+		if(channels==2) sbr.process(buf[0], buf[1], false);
+		else sbr.process(buf[0], false);
+		return buf;
+	}
+}
@@ -0,0 +1,54 @@
+package net.sourceforge.jaad.aac.syntax;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.jaad.aac.AACException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads a frame sized buffer of random data with a fixed number of bits per
+ * call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitStreamBenchmark {
+
+	private static final int SIZE = 2*Constants.MIN_INPUT_SIZE; //two channels
+	@Param({"1", "4", "11", "16", "32"})
+	private int bits;
+	private byte[] data;
+	private BitStream in;
+	private int count;
+
+	@Setup
+	public void setup() {
+		data = new byte[SIZE];
+		new Random(42).nextBytes(data);
+		in = new BitStream();
+		count = 8*SIZE/bits;
+	}
+
+	@Benchmark
+	public int readBits() throws AACException {
+		in.setData(data);
+		int sum = 0;
+		for(int i = 0; i<count; i++) {
+			sum += in.readBits(bits);
+		}
+		return sum;
+	}
+}
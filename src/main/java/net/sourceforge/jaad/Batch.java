@@ -0,0 +1,527 @@
+package net.sourceforge.jaad;
+
+import net.sourceforge.jaad.aac.Decoder;
+import net.sourceforge.jaad.aac.DecoderPool;
+import net.sourceforge.jaad.aac.SampleBuffer;
+import net.sourceforge.jaad.adts.ADTSDemultiplexer;
+import net.sourceforge.jaad.mp4.MP4Container;
+import net.sourceforge.jaad.mp4.api.AudioTrack;
+import net.sourceforge.jaad.mp4.api.Movie;
+import net.sourceforge.jaad.mp4.api.Track;
+import net.sourceforge.jaad.util.wav.WaveFileWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes many AAC files to WAVE files in parallel. The input files may be in
+ * MP4 container or ADTS format; the format is detected from the content.
+ *
+ * Each file is decoded completely by one worker thread. The decoders are
+ * taken from a <code>DecoderPool</code> and reused for the following files,
+ * so their number never exceeds the number of workers. Inputs are only read ahead
+ * by a few files, which keeps memory usage constant for arbitrarily long
+ * input lists. A failing file is reported in the statistics, but does not
+ * affect the other files.
+ */
+public class Batch {
+
+	private static final String USAGE = "usage:\nnet.sourceforge.jaad.Batch [-t <threads>] [-o <outdir>] <input>...\n\n"
+			+"\t-t\tnumber of worker threads (default: number of processors)\n"
+			+"\t-o\tdirectory for the WAVE files <input>.wav (default: next to the input files)\n"
+			+"\tinput\ta file, a directory (AAC and MP4 files, decoded recursively) or @<listfile> with one file per line";
+	private static final int QUEUED_FILES_PER_THREAD = 2;
+	private final int threads;
+	private final File outputDir;
+	private final DecoderPool pool;
+
+	public static void main(String[] args) {
+		try {
+			int threads = Runtime.getRuntime().availableProcessors();
+			File outputDir = null;
+			int i = 0;
+			while(i<args.length&&args[i].startsWith("-")) {
+				if(i+1>=args.length) printUsage();
+				if(args[i].equals("-t")) threads = Integer.parseInt(args[i+1]);
+				else if(args[i].equals("-o")) outputDir = new File(args[i+1]);
+				else printUsage();
+				i += 2;
+			}
+			if(i>=args.length) printUsage();
+
+			final Batch batch = new Batch(threads, outputDir);
+			final Statistics stats = batch.decode(new InputFiles(Arrays.asList(args).subList(i, args.length)));
+			System.out.println(stats);
+			if(stats.getFailedCount()>0) System.exit(2);
+		}
+		catch(Exception e) {
+			System.err.println("error while decoding: "+e.toString());
+			System.exit(1);
+		}
+	}
+
+	private static void printUsage() {
+		System.out.println(USAGE);
+		System.exit(1);
+	}
+
+	/**
+	 * Creates a new batch decoder.
+	 * @param threads the number of worker threads
+	 * @param outputDir the directory for the WAVE files, or null to write
+	 * them next to the input files
+	 */
+	public Batch(int threads, File outputDir) {
+		if(threads<1) throw new IllegalArgumentException("illegal number of threads: "+threads);
+		this.threads = threads;
+		this.outputDir = outputDir;
+		pool = new DecoderPool(threads);
+	}
+
+	/**
+	 * Decodes all files to WAVE files and blocks until all are finished. The
+	 * inputs are consumed lazily: if all workers are busy and the queue is
+	 * full, the iterator is not advanced.
+	 * @param inputs the files to decode
+	 * @return the statistics of the run
+	 * @throws InterruptedException if the calling thread is interrupted
+	 */
+	public Statistics decode(Iterator<File> inputs) throws InterruptedException {
+		final Statistics stats = new Statistics();
+		final Semaphore permits = new Semaphore(threads*QUEUED_FILES_PER_THREAD);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerFactory());
+		try {
+			while(inputs.hasNext()) {
+				final File in = inputs.next();
+				permits.acquire();
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							stats.add(decodeFile(in, getOutputFile(in), pool));
+						}
+						finally {
+							permits.release();
+						}
+					}
+				});
+			}
+		}
+		finally {
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		stats.finish();
+		return stats;
+	}
+
+	//the input extension is kept, so 'a.m4a' and 'a.aac' do not collide
+	private File getOutputFile(File in) {
+		return new File(outputDir==null ? in.getAbsoluteFile().getParentFile() : outputDir, in.getName()+".wav");
+	}
+
+	/**
+	 * Decodes a single file on the calling thread. MP4 files with more than
+	 * one AAC track are written to one WAVE file per track. Existing WAVE
+	 * files are overwritten. If decoding fails, the incomplete WAVE files are
+	 * deleted.
+	 * @param in the input file
+	 * @param out the WAVE file
+	 * @return the result; never throws but reports errors in the result
+	 */
+	public static Result decodeFile(File in, File out) {
+		return decodeFile(in, out, new DecoderPool(1));
+	}
+
+	/**
+	 * Decodes a single file on the calling thread like
+	 * <code>decodeFile(File, File)</code>, with decoders taken from the given
+	 * pool and returned to it afterwards.
+	 * @param in the input file
+	 * @param out the WAVE file
+	 * @param pool the pool of unused decoders
+	 * @return the result; never throws but reports errors in the result
+	 */
+	public static Result decodeFile(File in, File out, DecoderPool pool) {
+		final Result result = new Result(in);
+		final long start = System.nanoTime();
+		try {
+			if(isMP4(in)) decodeMP4(in, out, pool, result);
+			else decodeADTS(in, out, pool, result);
+		}
+		catch(Exception e) {
+			result.error = e;
+			for(File f : result.outputs) {
+				f.delete();
+			}
+		}
+		result.nanos = System.nanoTime()-start;
+		return result;
+	}
+
+	private static boolean isMP4(File f) throws IOException {
+		final byte[] b = new byte[8];
+		final RandomAccessFile in = new RandomAccessFile(f, "r");
+		try {
+			if(in.read(b)<b.length) return false;
+		}
+		finally {
+			in.close();
+		}
+		return b[4]=='f'&&b[5]=='t'&&b[6]=='y'&&b[7]=='p';
+	}
+
+	private static void decodeMP4(File in, File out, DecoderPool pool, Result result) throws Exception {
+		final FileChannel channel = new RandomAccessFile(in, "r").getChannel();
+		try {
+			final Movie movie = new MP4Container(channel).getMovie();
+			final List<Track> tracks = movie.getTracks(AudioTrack.AudioCodec.AAC);
+			if(tracks.isEmpty()) throw new Exception("movie does not contain any AAC track");
+
+			for(int i = 0; i<tracks.size(); i++) {
+				final Track track = tracks.get(i);
+				final File f = tracks.size()==1 ? out : new File(out.getParentFile(), out.getName().replaceFirst("\\.wav$", "."+i+".wav"));
+				final Decoder dec = pool.acquire(track.getDecoderSpecificInfo());
+				final SampleBuffer buf = new SampleBuffer();
+				byte[] b = new byte[track.getMaxFrameSize()];
+				WaveFileWriter wav = null;
+				try {
+					int len;
+					while(track.hasMoreFrames()) {
+						//grows while the fragments of fragmented files are read
+						if(b.length<track.getMaxFrameSize()) b = new byte[track.getMaxFrameSize()];
+						len = track.readNextFrame(b, 0);
+						dec.decodeFrame(b, 0, len, buf);
+						if(wav==null) wav = result.createOutput(f, buf);
+						result.addFrame(buf);
+						wav.write(buf.getData());
+					}
+				}
+				finally {
+					pool.release(dec);
+					if(wav!=null) wav.close();
+				}
+			}
+		}
+		finally {
+			channel.close();
+		}
+	}
+
+	private static void decodeADTS(File in, File out, DecoderPool pool, Result result) throws Exception {
+		final InputStream fin = new BufferedInputStream(new FileInputStream(in));
+		Decoder dec = null;
+		WaveFileWriter wav = null;
+		try {
+			final ADTSDemultiplexer adts = new ADTSDemultiplexer(fin);
+			dec = pool.acquire(adts.getDecoderSpecificInfo());
+			final SampleBuffer buf = new SampleBuffer();
+			byte[] b;
+			while(true) {
+				try {
+					b = adts.readNextFrame();
+				}
+				catch(EOFException e) {
+					break;
+				}
+				dec.decodeFrame(b, buf);
+				if(wav==null) wav = result.createOutput(out, buf);
+				result.addFrame(buf);
+				wav.write(buf.getData());
+			}
+		}
+		finally {
+			if(dec!=null) pool.release(dec);
+			if(wav!=null) wav.close();
+			fin.close();
+		}
+	}
+
+	/**
+	 * The result of decoding one input file.
+	 */
+	public static class Result {
+
+		private final File input;
+		private final List<File> outputs;
+		private long nanos, samples, bytes;
+		private double duration;
+		private Exception error;
+
+		private Result(File input) {
+			this.input = input;
+			outputs = new ArrayList<File>(1);
+		}
+
+		private WaveFileWriter createOutput(File f, SampleBuffer buf) throws IOException {
+			outputs.add(f);
+			return new WaveFileWriter(f, buf.getSampleRate(), buf.getChannels(), buf.getBitsPerSample());
+		}
+
+		private void addFrame(SampleBuffer buf) {
+			final int frameBytes = buf.getData().length;
+			bytes += frameBytes;
+			final int sampleBytes = buf.getChannels()*buf.getBitsPerSample()/8;
+			if(sampleBytes>0) {
+				final int n = frameBytes/sampleBytes;
+				samples += n;
+				duration += (double) n/buf.getSampleRate();
+			}
+		}
+
+		public File getInput() {
+			return input;
+		}
+
+		/**
+		 * Returns the WAVE files that were written.
+		 */
+		public List<File> getOutputs() {
+			return outputs;
+		}
+
+		/**
+		 * Returns the time it took to decode the file, without the time it
+		 * was waiting in the queue.
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * Returns the number of decoded samples per channel.
+		 */
+		public long getSamples() {
+			return samples;
+		}
+
+		/**
+		 * Returns the length of the decoded audio in seconds.
+		 */
+		public double getDuration() {
+			return duration;
+		}
+
+		/**
+		 * Returns the size of the decoded PCM data in bytes.
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * Returns the exception that stopped decoding, or null if the file
+		 * was decoded completely.
+		 */
+		public Exception getError() {
+			return error;
+		}
+	}
+
+	/**
+	 * Throughput and latency statistics of a batch run. Failed files are
+	 * listed, but only successful files are taken into account for the
+	 * latency percentiles.
+	 */
+	public static class Statistics {
+
+		private final long start;
+		private long nanos;
+		private int count;
+		private long bytes;
+		private double duration;
+		private long[] latencies;
+		private final List<Result> failed;
+
+		private Statistics() {
+			start = System.nanoTime();
+			latencies = new long[64];
+			failed = new ArrayList<Result>();
+		}
+
+		private synchronized void add(Result r) {
+			if(r.error!=null) {
+				failed.add(r);
+				System.err.println(r.input+": "+r.error);
+			}
+			else {
+				if(count==latencies.length) latencies = Arrays.copyOf(latencies, 2*count);
+				latencies[count++] = r.nanos;
+				bytes += r.bytes;
+				duration += r.duration;
+			}
+		}
+
+		private synchronized void finish() {
+			nanos = System.nanoTime()-start;
+			Arrays.sort(latencies, 0, count);
+		}
+
+		public synchronized int getDecodedCount() {
+			return count;
+		}
+
+		public synchronized int getFailedCount() {
+			return failed.size();
+		}
+
+		public synchronized List<Result> getFailed() {
+			return new ArrayList<Result>(failed);
+		}
+
+		/**
+		 * Returns the wall clock time of the whole run in seconds.
+		 */
+		public synchronized double getSeconds() {
+			return nanos/1e9;
+		}
+
+		/**
+		 * Returns the length of all decoded audio in seconds.
+		 */
+		public synchronized double getDuration() {
+			return duration;
+		}
+
+		/**
+		 * Returns the given percentile of the decoding time per file in
+		 * milliseconds.
+		 * @param p the percentile between 0 and 100
+		 */
+		public synchronized double getLatency(double p) {
+			if(count==0) return 0;
+			final int i = (int) Math.ceil(p/100*count)-1;
+			return latencies[Math.min(Math.max(i, 0), count-1)]/1e6;
+		}
+
+		@Override
+		public synchronized String toString() {
+			final double s = getSeconds();
+			final StringBuilder sb = new StringBuilder();
+			sb.append("decoded: ").append(count).append(" files, failed: ").append(failed.size()).append('\n');
+			sb.append(String.format("time: %.2f s, %.1f files/s, %.1f MB/s PCM, %.1fx realtime%n", s, count/s, bytes/s/1e6, duration/s));
+			sb.append(String.format("latency per file: p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms", getLatency(50), getLatency(90), getLatency(99), getLatency(100)));
+			return sb.toString();
+		}
+	}
+
+	//daemon threads, so a hanging file can not keep the VM alive after main
+	private static class WorkerFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			final Thread t = new Thread(r, "jaad-batch-"+count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	/**
+	 * Expands the command line inputs lazily: directories are traversed
+	 * recursively and list files are read line by line. From directories only
+	 * files with an AAC or MP4 extension are taken, so that WAVE files of an
+	 * earlier run, cover images etc. are not decoded; files that are named
+	 * explicitly are always taken.
+	 */
+	static class InputFiles implements Iterator<File> {
+
+		private static final String[] EXTENSIONS = {".aac", ".adts", ".m4a", ".m4b", ".m4p", ".mp4", ".3gp"};
+		private static final FileFilter FILTER = new FileFilter() {
+			@Override
+			public boolean accept(File f) {
+				if(f.isDirectory()) return true;
+				final String name = f.getName().toLowerCase(Locale.ENGLISH);
+				for(String ext : EXTENSIONS) {
+					if(name.endsWith(ext)) return true;
+				}
+				return false;
+			}
+		};
+		private final Iterator<String> args;
+		private final LinkedList<File> pending;
+		private BufferedReader list;
+		private File next;
+
+		InputFiles(List<String> args) {
+			this.args = args.iterator();
+			pending = new LinkedList<File>();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(next==null) next = findNext();
+			return next!=null;
+		}
+
+		@Override
+		public File next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			final File f = next;
+			next = null;
+			return f;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private File findNext() {
+			try {
+				while(true) {
+					if(!pending.isEmpty()) {
+						final File f = pending.removeFirst();
+						if(f.isDirectory()) {
+							final File[] files = f.listFiles(FILTER);
+							if(files!=null) {
+								Arrays.sort(files);
+								pending.addAll(0, Arrays.asList(files));
+							}
+						}
+						else return f;
+					}
+					else if(list!=null) {
+						final String line = list.readLine();
+						if(line==null) {
+							list.close();
+							list = null;
+						}
+						else if(line.trim().length()>0) pending.add(new File(line.trim()));
+					}
+					else if(args.hasNext()) {
+						final String s = args.next();
+						if(s.startsWith("@")) list = new BufferedReader(new FileReader(s.substring(1)));
+						else pending.add(new File(s));
+					}
+					else return null;
+				}
+			}
+			catch(IOException e) {
+				throw new RuntimeException("error while reading input list: "+e.toString(), e);
+			}
+		}
+	}
+}
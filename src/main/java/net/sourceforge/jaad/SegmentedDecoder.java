@@ -0,0 +1,263 @@
+package net.sourceforge.jaad;
+
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.Decoder;
+import net.sourceforge.jaad.aac.DecoderPool;
+import net.sourceforge.jaad.aac.SampleBuffer;
+import net.sourceforge.jaad.mp4.api.Track;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes a single long AAC track on several threads. The frames are read
+ * sequentially and split into segments of consecutive frames, which are
+ * decoded in parallel, each by its own decoder.
+ *
+ * A decoder starting in the middle of a stream lacks the overlap of the
+ * filterbank and the SBR and PS state of the preceding frames. Therefore
+ * each segment is decoded together with a few pre-roll frames taken from
+ * the end of the previous segment, and their output is discarded. The
+ * remaining frames are passed to the output in stream order, one frame per
+ * buffer, so the PCM data has exactly the length and alignment of a
+ * sequential decode.
+ *
+ * The output is not bit-exact for every stream. Streams without PNS and
+ * SBR are decoded bit-exact with one frame of pre-roll, including LTP. The
+ * noise of PNS, and the noise floor and sinusoids of SBR, are taken from
+ * sequences that continue over the whole stream. A decoder starting in the
+ * middle of a stream cannot reproduce them, so these components have the
+ * same spectral envelope, but a different waveform. Where they dominate,
+ * single samples differ by thousands of LSB, while the energy of a frame
+ * stays within about 2 dB. Apart from the noise, SBR and PS converge to
+ * the sequential output after a few frames of pre-roll. The prediction of
+ * AAC Main depends on the whole history and only converges approximately.
+ */
+public class SegmentedDecoder {
+
+	/**
+	 * The default number of frames per segment, about six seconds for 44.1
+	 * kHz.
+	 */
+	public static final int DEFAULT_SEGMENT_LENGTH = 256;
+	/**
+	 * The default number of pre-roll frames. This is enough for the envelopes
+	 * and filterbanks of SBR and PS to converge, but does not reproduce
+	 * their noise.
+	 */
+	public static final int DEFAULT_PRE_ROLL = 8;
+	private static final int QUEUED_SEGMENTS_PER_THREAD = 2;
+	private final int threads;
+	private int segmentLength, preRoll;
+
+	/**
+	 * Creates a new segmented decoder with the default segment length and
+	 * pre-roll.
+	 * @param threads the number of worker threads
+	 */
+	public SegmentedDecoder(int threads) {
+		if(threads<1) throw new IllegalArgumentException("illegal number of threads: "+threads);
+		this.threads = threads;
+		segmentLength = DEFAULT_SEGMENT_LENGTH;
+		preRoll = DEFAULT_PRE_ROLL;
+	}
+
+	/**
+	 * Sets the number of frames per segment. Longer segments reduce the
+	 * overhead of the pre-roll, shorter segments reduce the memory used for
+	 * the decoded segments waiting for output.
+	 * @param segmentLength the number of output frames per segment
+	 */
+	public void setSegmentLength(int segmentLength) {
+		if(segmentLength<1) throw new IllegalArgumentException("illegal segment length: "+segmentLength);
+		this.segmentLength = segmentLength;
+	}
+
+	public int getSegmentLength() {
+		return segmentLength;
+	}
+
+	/**
+	 * Sets the number of frames decoded before each segment, whose output is
+	 * discarded. The first segment starts at the beginning of the stream and
+	 * has no pre-roll.
+	 * @param preRoll the number of pre-roll frames
+	 */
+	public void setPreRoll(int preRoll) {
+		if(preRoll<0) throw new IllegalArgumentException("illegal pre-roll: "+preRoll);
+		this.preRoll = preRoll;
+	}
+
+	public int getPreRoll() {
+		return preRoll;
+	}
+
+	/**
+	 * Decodes all remaining frames of an AAC track and blocks until all are
+	 * passed to the output. The frames are read on the calling thread.
+	 * @param track the track to decode
+	 * @param output receives the decoded frames in stream order, on the
+	 * calling thread
+	 * @throws IOException if reading the track, decoding or writing to the
+	 * output fails
+	 * @throws InterruptedException if the calling thread is interrupted
+	 */
+	public void decode(final Track track, Output output) throws IOException, InterruptedException {
+		decode(track.getDecoderSpecificInfo(), new FrameReader() {
+			@Override
+			public byte[] next() throws IOException {
+				return track.hasMoreFrames() ? track.readNextFrame().getData() : null;
+			}
+		}, output);
+	}
+
+	/**
+	 * Decodes a sequence of AAC frames and blocks until all are passed to the
+	 * output. The frames are taken from the iterator on the calling thread.
+	 * @param decoderSpecificInfo the decoder specific info from an MP4 container
+	 * @param frames the AAC frames
+	 * @param output receives the decoded frames in stream order, on the
+	 * calling thread
+	 * @throws IOException if decoding or writing to the output fails
+	 * @throws InterruptedException if the calling thread is interrupted
+	 */
+	public void decode(byte[] decoderSpecificInfo, final Iterator<byte[]> frames, Output output) throws IOException, InterruptedException {
+		decode(decoderSpecificInfo, new FrameReader() {
+			@Override
+			public byte[] next() {
+				return frames.hasNext() ? frames.next() : null;
+			}
+		}, output);
+	}
+
+	private void decode(byte[] decoderSpecificInfo, FrameReader reader, Output output) throws IOException, InterruptedException {
+		//fails early for unsupported streams
+		final DecoderPool pool = new DecoderPool(threads);
+		pool.release(pool.acquire(decoderSpecificInfo));
+
+		final int maxQueued = threads*QUEUED_SEGMENTS_PER_THREAD;
+		final Queue<Future<List<SampleBuffer>>> queue = new ArrayDeque<Future<List<SampleBuffer>>>(maxQueued);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerFactory());
+		try {
+			List<byte[]> frames = new ArrayList<byte[]>(segmentLength);
+			int skip = 0;
+			byte[] b;
+			while((b = reader.next())!=null) {
+				frames.add(b);
+				if(frames.size()==skip+segmentLength) {
+					if(queue.size()==maxQueued) write(queue.remove(), output);
+					queue.add(executor.submit(new Segment(pool, decoderSpecificInfo, frames, skip)));
+
+					//the pre-roll of the next segment is taken from the end of this one
+					skip = Math.min(preRoll, frames.size());
+					final List<byte[]> next = new ArrayList<byte[]>(skip+segmentLength);
+					next.addAll(frames.subList(frames.size()-skip, frames.size()));
+					frames = next;
+				}
+			}
+			if(frames.size()>skip) queue.add(executor.submit(new Segment(pool, decoderSpecificInfo, frames, skip)));
+			while(!queue.isEmpty()) {
+				write(queue.remove(), output);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void write(Future<List<SampleBuffer>> segment, Output output) throws IOException, InterruptedException {
+		final List<SampleBuffer> buffers;
+		try {
+			buffers = segment.get();
+		}
+		catch(ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if(cause instanceof IOException) throw (IOException) cause;
+			if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if(cause instanceof Error) throw (Error) cause;
+			throw new AACException(cause);
+		}
+		for(SampleBuffer buf : buffers) {
+			output.write(buf);
+		}
+	}
+
+	/**
+	 * Receives the decoded PCM data.
+	 */
+	public interface Output {
+
+		/**
+		 * Called for each decoded frame, in stream order.
+		 * @param buffer the PCM data of the frame, which is not referenced by
+		 * the decoder afterwards
+		 * @throws IOException if writing fails; decoding is aborted
+		 */
+		void write(SampleBuffer buffer) throws IOException;
+	}
+
+	//returns the next frame or null at the end of the stream
+	private interface FrameReader {
+
+		byte[] next() throws IOException;
+	}
+
+	/**
+	 * The frames of one segment, preceded by its pre-roll frames.
+	 */
+	private static class Segment implements Callable<List<SampleBuffer>> {
+
+		private final DecoderPool pool;
+		private final byte[] decoderSpecificInfo;
+		private final List<byte[]> frames;
+		private final int skip;
+
+		private Segment(DecoderPool pool, byte[] decoderSpecificInfo, List<byte[]> frames, int skip) {
+			this.pool = pool;
+			this.decoderSpecificInfo = decoderSpecificInfo;
+			this.frames = frames;
+			this.skip = skip;
+		}
+
+		@Override
+		public List<SampleBuffer> call() throws AACException {
+			final List<SampleBuffer> buffers = new ArrayList<SampleBuffer>(frames.size()-skip);
+			final Decoder dec = pool.acquire(decoderSpecificInfo);
+			try {
+				final SampleBuffer preRoll = new SampleBuffer();
+				SampleBuffer buf;
+				for(int i = 0; i<frames.size(); i++) {
+					buf = (i<skip) ? preRoll : new SampleBuffer();
+					dec.decodeFrame(frames.get(i), buf);
+					if(i>=skip) buffers.add(buf);
+				}
+			}
+			finally {
+				pool.release(dec);
+			}
+			return buffers;
+		}
+	}
+
+	private static class WorkerFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			final Thread t = new Thread(r, "jaad-segment-"+count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+}
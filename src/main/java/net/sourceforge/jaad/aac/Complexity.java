@@ -0,0 +1,50 @@
+package net.sourceforge.jaad.aac;
+
+/**
+ * Complexity tiers for decoding streams with SBR and PS, ordered from the
+ * highest quality to the lowest decoding time. Streams without SBR are
+ * always decoded completely.
+ *
+ * In all tiers the SBR and PS data is still read from the bitstream, as
+ * it is coded differentially from frame to frame; only the synthesis is
+ * reduced. Switching between tiers never recreates the decoder and keeps the
+ * history of the synthesis filterbanks, so the output stays continuous.
+ * Only <code>DOWNSAMPLED_SBR</code> outputs the sample rate of the core
+ * decoder, that is half of the full SBR rate; all other tiers have the same
+ * sample rate, frame length and delay as <code>FULL</code>.
+ */
+public enum Complexity {
+
+	/**
+	 * SBR and PS are decoded completely.
+	 */
+	FULL,
+	/**
+	 * SBR and PS with a 32-band synthesis filterbank: the output has the
+	 * sample rate of the core decoder and keeps the stereo image of PS, but
+	 * not the reconstructed high band above the core bandwidth. As this
+	 * changes the output sample rate, the tier should be chosen before
+	 * decoding a stream, not switched during playback.
+	 */
+	DOWNSAMPLED_SBR,
+	/**
+	 * SBR without PS: PS streams are decoded to mono, which is output on
+	 * both channels.
+	 */
+	NO_PS,
+	/**
+	 * Only the core decoder: the high band is neither generated nor
+	 * adjusted and PS streams are decoded to mono. The core output is still
+	 * upsampled by the SBR filterbanks with an empty high band, so it keeps
+	 * the full sample rate.
+	 */
+	CORE;
+
+	/**
+	 * Returns true if the tier outputs the full SBR sample rate.
+	 * @return false only for <code>DOWNSAMPLED_SBR</code>
+	 */
+	public boolean isFullRate() {
+		return this!=DOWNSAMPLED_SBR;
+	}
+}
@@ -0,0 +1,119 @@
+package net.sourceforge.jaad.aac;
+
+/**
+ * Chooses the complexity tier of a decoder from the time spent per frame.
+ * The load is the decoding time of a frame relative to its duration, that
+ * is 1 for decoding exactly in real time. If the smoothed load exceeds the
+ * budget, the controller steps down to the next tier; if it stays below
+ * half of the budget for a while, it steps up again. A step up that is
+ * followed soon by a step down doubles the waiting time for the next one,
+ * so the decoder doesn't alternate between two tiers.
+ *
+ * All tiers of a controller must have the same output sample rate, so
+ * <code>DOWNSAMPLED_SBR</code> cannot be combined with the other tiers. A
+ * tier change keeps the history of the synthesis filterbanks, so it causes
+ * no discontinuity in the output: only the high band or the stereo image of
+ * PS are switched on or off with the next frame.
+ * @see Decoder#setComplexityController(ComplexityController)
+ */
+public class ComplexityController {
+
+	//weight of a new frame in the smoothed load
+	private static final float SMOOTHING = 0.1f;
+	//frames to average after a change before stepping down again
+	private static final int SETTLE_FRAMES = 8;
+	//frames to wait before stepping up
+	private static final int MIN_HOLD = 100, MAX_HOLD = 6400;
+	private final float budget;
+	private final Complexity[] tiers;
+	private int level;
+	private float load;
+	private boolean loadValid;
+	private int frames, hold;
+	private boolean steppedUp;
+
+	/**
+	 * Creates a controller stepping through the tiers <code>FULL</code>,
+	 * <code>NO_PS</code> and <code>CORE</code>, which all keep the full
+	 * output sample rate.
+	 * @param budget the maximum load, e.g. 0.5 to use at most half of the
+	 * real time for decoding
+	 */
+	public ComplexityController(float budget) {
+		this(budget, Complexity.FULL, Complexity.NO_PS, Complexity.CORE);
+	}
+
+	/**
+	 * Creates a controller stepping through the given tiers, starting with
+	 * the first one.
+	 * @param budget the maximum load, e.g. 0.5 to use at most half of the
+	 * real time for decoding
+	 * @param tiers the tiers, ordered from the highest quality to the
+	 * lowest decoding time, all with the same output sample rate
+	 * @throws IllegalArgumentException if the tiers have different output
+	 * sample rates
+	 */
+	public ComplexityController(float budget, Complexity... tiers) {
+		if(budget<=0) throw new IllegalArgumentException("budget must be positive: "+budget);
+		if(tiers.length==0) throw new IllegalArgumentException("no tiers given");
+		for(int i = 1; i<tiers.length; i++) {
+			if(tiers[i].isFullRate()!=tiers[0].isFullRate()) throw new IllegalArgumentException("tiers with different output sample rates: "+tiers[0]+", "+tiers[i]);
+		}
+		this.budget = budget;
+		this.tiers = tiers.clone();
+		hold = MIN_HOLD;
+	}
+
+	/**
+	 * Returns the tier to decode the next frame with.
+	 * @return the current tier
+	 */
+	public Complexity getComplexity() {
+		return tiers[level];
+	}
+
+	/**
+	 * Returns the smoothed load measured with the current tier.
+	 * @return the load, or 0 if no frame was measured yet
+	 */
+	public float getLoad() {
+		return loadValid ? load : 0;
+	}
+
+	/**
+	 * Adds the decoding time of a frame and returns the tier for the next
+	 * frame.
+	 * @param decodeNanos the time spent decoding the frame in nanoseconds
+	 * @param frameNanos the duration of the frame in nanoseconds
+	 * @return the tier to decode the next frame with
+	 */
+	public Complexity update(long decodeNanos, long frameNanos) {
+		final float l = (float) decodeNanos/frameNanos;
+		if(loadValid) load += SMOOTHING*(l-load);
+		else {
+			load = l;
+			loadValid = true;
+		}
+		frames++;
+
+		if(load>budget&&frames>=SETTLE_FRAMES&&level<tiers.length-1) {
+			//the last step up didn't last: wait longer next time
+			if(steppedUp&&frames<hold) hold = Math.min(2*hold, MAX_HOLD);
+			change(level+1, false);
+		}
+		else if(load<budget/2&&frames>=hold&&level>0) change(level-1, true);
+		else if(steppedUp&&frames>=hold) {
+			//the last step up was stable
+			steppedUp = false;
+			hold = Math.max(hold/2, MIN_HOLD);
+		}
+		return tiers[level];
+	}
+
+	private void change(int level, boolean up) {
+		this.level = level;
+		steppedUp = up;
+		frames = 0;
+		loadValid = false;
+	}
+}
@@ -6,6 +6,9 @@ import net.sourceforge.jaad.aac.syntax.PCE;
 import net.sourceforge.jaad.aac.syntax.SyntacticElements;
 import net.sourceforge.jaad.aac.filterbank.FilterBank;
 import net.sourceforge.jaad.aac.transport.ADIFHeader;
+import net.sourceforge.jaad.util.jfr.Events;
+import net.sourceforge.jaad.util.jfr.FrameDecodeEvent;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -26,11 +29,15 @@ public class Decoder implements Constants {
 		h.setLevel(Level.ALL);
 		LOGGER.addHandler(h);
 	}
-	private final DecoderConfig config;
-	private final SyntacticElements syntacticElements;
-	private final FilterBank filterBank;
+	private DecoderConfig config;
+	private SyntacticElements syntacticElements;
+	private FilterBank filterBank;
 	private BitStream in;
 	private ADIFHeader adifHeader;
+	private ComplexityController controller;
+	private ForkJoinPool pool;
+	private OutputLayout layout = OutputLayout.NATIVE;
+	private DecoderMetrics metrics;
 
 	/**
 	 * The methods returns true, if a profile is supported by the decoder.
@@ -71,6 +78,119 @@ public class Decoder implements Constants {
 		return config;
 	}
 
+	/**
+	 * Prepares the decoder for a new stream, as if it was created with the
+	 * given decoder specific info. If the new stream has the same profile,
+	 * sample frequency, channel configuration, frame length and SBR
+	 * signalling as the current one, the buffers of the decoder are reused
+	 * and only the history of the previous stream (filterbank overlap, LTP,
+	 * prediction, SBR and PS state) is cleared; otherwise new buffers are
+	 * allocated.
+	 *
+	 * The settings of the decoder (parallel processing, output layout,
+	 * complexity tier and controller) are kept.
+	 * 
+	 * @param decoderSpecificInfo a byte array containing the decoder specific info from an MP4 container
+	 * @throws AACException if the specified profile is not supported
+	 * @see DecoderPool
+	 */
+	public void reset(byte[] decoderSpecificInfo) throws AACException {
+		final DecoderConfig conf = DecoderConfig.parseMP4DecoderSpecificInfo(decoderSpecificInfo);
+		if(conf==null) throw new IllegalArgumentException("illegal MP4 decoder specific info");
+		reset(conf);
+	}
+
+	void reset(DecoderConfig conf) throws AACException {
+		if(!canDecode(conf.getProfile())) throw new AACException("unsupported profile: "+conf.getProfile().getDescription());
+
+		if(conf.getReuseKey().equals(config.getReuseKey())) {
+			syntacticElements.reset(conf);
+			filterBank.reset();
+		}
+		else {
+			final SyntacticElements elements = new SyntacticElements(conf);
+			elements.setPool(pool);
+			elements.setOutputLayout(layout);
+			elements.setComplexity(syntacticElements.getComplexity());
+			elements.setStageTiming(metrics!=null);
+			filterBank = new FilterBank(conf.isSmallFrameUsed(), conf.getChannelConfiguration().getChannelCount());
+			syntacticElements = elements;
+		}
+		config = conf;
+		adifHeader = null;
+
+		LOGGER.log(Level.FINE, "profile: {0}", config.getProfile());
+		LOGGER.log(Level.FINE, "sf: {0}", config.getSampleFrequency().getFrequency());
+		LOGGER.log(Level.FINE, "channels: {0}", config.getChannelConfiguration().getDescription());
+	}
+
+	/**
+	 * Enables the concurrent processing of the channel elements of a frame
+	 * (inverse quantization, TNS, filterbank and SBR of each SCE, CPE and
+	 * LFE) on the given pool. This lowers the latency of a single frame of
+	 * multichannel streams at the cost of some scheduling overhead; mono and
+	 * stereo streams, which consist of only one element, are not affected.
+	 * The output is identical to the sequential processing.
+	 *
+	 * @param pool the pool to process the elements on, e.g.
+	 * <code>ForkJoinPool.commonPool()</code>, or null to process them
+	 * sequentially (the default)
+	 */
+	public void setParallelProcessing(ForkJoinPool pool) {
+		this.pool = pool;
+		syntacticElements.setPool(pool);
+	}
+
+	/**
+	 * Mixes the output to the given channel layout. Where possible, the
+	 * spectra are mixed before the filterbank, which then runs only once per
+	 * output channel; streams with SBR or LTP are mixed after decoding.
+	 * @param layout the layout, <code>NATIVE</code> by default
+	 * @throws AACException if the layout can't be set up
+	 */
+	public void setOutputLayout(OutputLayout layout) throws AACException {
+		if(layout==null) throw new NullPointerException();
+		syntacticElements.setOutputLayout(layout);
+		this.layout = layout;
+	}
+
+	/**
+	 * Sets the complexity tier for decoding SBR and PS, applied from the
+	 * next frame on. Tiers below <code>FULL</code> trade quality for
+	 * decoding time; streams without SBR are not affected.
+	 * @param complexity the tier, <code>FULL</code> by default
+	 * @see Complexity
+	 */
+	public void setComplexity(Complexity complexity) {
+		if(complexity==null) throw new NullPointerException();
+		syntacticElements.setComplexity(complexity);
+	}
+
+	public Complexity getComplexity() {
+		return syntacticElements.getComplexity();
+	}
+
+	/**
+	 * Lets the given controller choose the complexity tier after each frame,
+	 * from the time spent decoding it.
+	 * @param controller the controller, or null to keep the current tier
+	 */
+	public void setComplexityController(ComplexityController controller) {
+		this.controller = controller;
+		if(controller!=null) syntacticElements.setComplexity(controller.getComplexity());
+	}
+
+	/**
+	 * Installs a listener receiving the timings of the decoding stages and
+	 * the properties of each frame. The stages are only measured while a
+	 * listener is installed.
+	 * @param metrics the listener, or null to remove it
+	 */
+	public void setMetrics(DecoderMetrics metrics) {
+		this.metrics = metrics;
+		syntacticElements.setStageTiming(metrics!=null);
+	}
+
 	/**
 	 * Decodes one frame of AAC data in frame mode and returns the raw PCM
 	 * data.
@@ -80,6 +200,119 @@ public class Decoder implements Constants {
 	 */
 	public void decodeFrame(byte[] frame, SampleBuffer buffer) throws AACException {
 		if(frame!=null) in.setData(frame);
+		decodeFrame(buffer);
+	}
+
+	/**
+	 * Decodes one frame of AAC data in frame mode and returns the raw PCM
+	 * data. The frame is read directly from the given array, which must not
+	 * be modified while decoding.
+	 * @param frame an array containing the AAC frame
+	 * @param off the offset of the frame in the array
+	 * @param len the length of the frame in bytes
+	 * @param buffer a buffer to hold the decoded PCM data
+	 * @throws AACException if decoding fails
+	 */
+	public void decodeFrame(byte[] frame, int off, int len, SampleBuffer buffer) throws AACException {
+		in.setData(frame, off, len);
+		decodeFrame(buffer);
+	}
+
+	/**
+	 * Decodes one frame of AAC data in frame mode and writes the PCM data as
+	 * floats into the given planar buffers, one array per channel. The
+	 * samples are scaled to the range [-1, 1] but not clipped.
+	 *
+	 * The buffers are not reallocated: the outer array should have at least
+	 * <code>getChannelCount()</code> entries (additional channels are
+	 * dropped) and each channel array must hold the whole frame, that is up to
+	 * twice the frame length if SBR is present.
+	 * 
+	 * @param frame the AAC frame
+	 * @param out the planar buffers to hold the decoded PCM data
+	 * @return the number of samples written per channel
+	 * @throws AACException if decoding fails or a buffer is too small
+	 */
+	public int decodeFrame(byte[] frame, float[][] out) throws AACException {
+		if(frame!=null) in.setData(frame);
+		return decodeFrame(out);
+	}
+
+	/**
+	 * Decodes one frame of AAC data in frame mode and writes the PCM data as
+	 * floats into the given planar buffers. The frame is read directly from
+	 * the given array, which must not be modified while decoding.
+	 * @see #decodeFrame(byte[], float[][])
+	 * @param frame an array containing the AAC frame
+	 * @param off the offset of the frame in the array
+	 * @param len the length of the frame in bytes
+	 * @param out the planar buffers to hold the decoded PCM data
+	 * @return the number of samples written per channel
+	 * @throws AACException if decoding fails or a buffer is too small
+	 */
+	public int decodeFrame(byte[] frame, int off, int len, float[][] out) throws AACException {
+		in.setData(frame, off, len);
+		return decodeFrame(out);
+	}
+
+	/**
+	 * Decodes one frame of AAC data in frame mode and writes the PCM data as
+	 * 16 bit samples into the given planar buffers, one array per channel.
+	 *
+	 * The buffers are not reallocated: the outer array should have at least
+	 * <code>getChannelCount()</code> entries (additional channels are
+	 * dropped) and each channel array must hold the whole frame, that is up to
+	 * twice the frame length if SBR is present.
+	 *
+	 * @param frame the AAC frame
+	 * @param out the planar buffers to hold the decoded PCM data
+	 * @return the number of samples written per channel
+	 * @throws AACException if decoding fails or a buffer is too small
+	 */
+	public int decodeFrame(byte[] frame, short[][] out) throws AACException {
+		if(frame!=null) in.setData(frame);
+		return decodeFrame(out);
+	}
+
+	/**
+	 * Decodes one frame of AAC data in frame mode and writes the PCM data as
+	 * 16 bit samples into the given planar buffers. The frame is read
+	 * directly from the given array, which must not be modified while
+	 * decoding.
+	 * @see #decodeFrame(byte[], short[][])
+	 * @param frame an array containing the AAC frame
+	 * @param off the offset of the frame in the array
+	 * @param len the length of the frame in bytes
+	 * @param out the planar buffers to hold the decoded PCM data
+	 * @return the number of samples written per channel
+	 * @throws AACException if decoding fails or a buffer is too small
+	 */
+	public int decodeFrame(byte[] frame, int off, int len, short[][] out) throws AACException {
+		in.setData(frame, off, len);
+		return decodeFrame(out);
+	}
+
+	/**
+	 * Returns the number of channels of the last decoded frame. Unlike the
+	 * <code>SampleBuffer</code>, the planar output does not duplicate mono
+	 * into two channels.
+	 * @return the number of decoded channels
+	 */
+	public int getChannelCount() {
+		return syntacticElements.getChannelCount();
+	}
+
+	/**
+	 * Returns the output sample rate of the last decoded frame. If SBR is
+	 * present, this is twice the sample rate of the core decoder, unless SBR
+	 * is downsampled by the stream or by the complexity tier.
+	 * @return the output sample rate
+	 */
+	public int getSampleRate() {
+		return syntacticElements.getSampleRate();
+	}
+
+	private void decodeFrame(SampleBuffer buffer) throws AACException {
 		try {
 			decode(buffer);
 		}
@@ -89,7 +322,53 @@ public class Decoder implements Constants {
 		}
 	}
 
+	private int decodeFrame(float[][] out) throws AACException {
+		try {
+			decode();
+			return syntacticElements.sendToOutput(out);
+		}
+		catch(AACException e) {
+			if(!e.isEndOfStream()) throw e;
+			else LOGGER.log(Level.WARNING,"unexpected end of frame",e);
+			return 0;
+		}
+	}
+
+	private int decodeFrame(short[][] out) throws AACException {
+		try {
+			decode();
+			return syntacticElements.sendToOutput(out);
+		}
+		catch(AACException e) {
+			if(!e.isEndOfStream()) throw e;
+			else LOGGER.log(Level.WARNING,"unexpected end of frame",e);
+			return 0;
+		}
+	}
+
 	private void decode(SampleBuffer buffer) throws AACException {
+		try {
+			decode();
+			//3: send to output buffer
+			syntacticElements.sendToOutput(buffer);
+		}
+		catch(AACException e) {
+			buffer.setData(new byte[0], 0, 0, 0, 0);
+			throw e;
+		}
+		catch(Exception e) {
+			buffer.setData(new byte[0], 0, 0, 0, 0);
+			throw new AACException(e);
+		}
+	}
+
+	private void decode() throws AACException {
+		FrameDecodeEvent event = null;
+		if(Events.isEnabled(Events.FRAME_DECODE)) {
+			event = new FrameDecodeEvent();
+			event.begin();
+		}
+
 		if(ADIFHeader.isPresent(in)) {
 			adifHeader = ADIFHeader.readHeader(in);
 			final PCE pce = adifHeader.getFirstPCE();
@@ -102,21 +381,46 @@ public class Decoder implements Constants {
 
 		syntacticElements.startNewFrame();
 
+		final long start = (controller==null&&metrics==null) ? 0 : System.nanoTime();
 		try {
 			//1: bitstream parsing and noiseless coding
 			syntacticElements.decode(in);
+			if(metrics!=null) syntacticElements.getStageNanos()[DecoderMetrics.Stage.PARSING.ordinal()] = System.nanoTime()-start;
 			//2: spectral processing
 			syntacticElements.process(filterBank);
-			//3: send to output buffer
-			syntacticElements.sendToOutput(buffer);
 		}
 		catch(AACException e) {
-			buffer.setData(new byte[0], 0, 0, 0, 0);
+			if(metrics!=null) metrics.frameFailed(e);
 			throw e;
 		}
 		catch(Exception e) {
-			buffer.setData(new byte[0], 0, 0, 0, 0);
-			throw new AACException(e);
+			final AACException ex = new AACException(e);
+			if(metrics!=null) metrics.frameFailed(ex);
+			throw ex;
+		}
+
+		if(controller!=null) {
+			final long frameNanos = 1000000000L*config.getFrameLength()/config.getSampleFrequency().getFrequency();
+			syntacticElements.setComplexity(controller.update(System.nanoTime()-start, frameNanos));
 		}
+		if(metrics!=null) reportFrame();
+
+		if(event!=null) {
+			event.end();
+			if(event.shouldCommit()) {
+				event.profile = config.getProfile().getDescription();
+				event.channels = syntacticElements.getChannelCount();
+				event.sbr = syntacticElements.isSBRPresent();
+				event.ps = syntacticElements.isPSPresent();
+				event.bitsRead = syntacticElements.getBitsRead();
+				event.commit();
+			}
+		}
+	}
+
+	private void reportFrame() {
+		final int bits = syntacticElements.getBitsRead();
+		final int bitrate = (int) ((long) bits*config.getSampleFrequency().getFrequency()/config.getFrameLength());
+		metrics.frameDecoded(config.getProfile(), syntacticElements.isSBRPresent(), syntacticElements.isPSPresent(), (bits+7)/8, bitrate, syntacticElements.getStageNanos());
 	}
 }
@@ -1,5 +1,7 @@
 package net.sourceforge.jaad.aac;
 
+import java.util.Arrays;
+import java.util.List;
 import net.sourceforge.jaad.aac.syntax.BitStream;
 import net.sourceforge.jaad.aac.syntax.Constants;
 import net.sourceforge.jaad.aac.syntax.PCE;
@@ -130,6 +132,16 @@ public class DecoderConfig implements Constants {
 		return spectralDataResilience;
 	}
 
+	/**
+	 * Returns the values the buffers of a decoder depend on. A decoder can
+	 * be reset to another configuration with an equal key without
+	 * allocating new buffers.
+	 * @return a key to compare configurations with
+	 */
+	List<Object> getReuseKey() {
+		return Arrays.<Object>asList(profile, sampleFrequency, channelConfiguration, frameLengthFlag, sbrPresent, downSampledSBR);
+	}
+
 	/* ======== static builder ========= */
 	/**
 	 * Parses the input arrays as a DecoderSpecificInfo, as used in MP4
@@ -0,0 +1,59 @@
+package net.sourceforge.jaad.aac;
+
+/**
+ * Receives the timings and properties of each frame decoded by a
+ * <code>Decoder</code>. The decoder only measures its stages while a
+ * listener is installed.
+ * @see Decoder#setMetrics(DecoderMetrics)
+ * @see DecoderStatistics
+ */
+public interface DecoderMetrics {
+
+	/**
+	 * The stages of decoding a frame, as indices into the timings passed to
+	 * <code>frameDecoded</code>.
+	 */
+	enum Stage {
+
+		/**
+		 * Bitstream parsing, including the noiseless decoding and the inverse
+		 * quantization of the spectral data, which are done in one pass.
+		 */
+		PARSING,
+		/**
+		 * Spectral processing: M/S and intensity stereo, prediction, LTP,
+		 * TNS and dependent coupling.
+		 */
+		SPECTRAL,
+		/**
+		 * Filterbank, including the spectral downmix if enabled.
+		 */
+		FILTERBANK,
+		/**
+		 * SBR analysis, HF generation and synthesis, without PS.
+		 */
+		SBR,
+		/**
+		 * Parametric stereo.
+		 */
+		PS
+	}
+
+	/**
+	 * Called after a frame was decoded, on the thread that decoded it.
+	 * @param profile the profile of the frame
+	 * @param sbr true if the frame contains SBR data
+	 * @param ps true if the frame contains PS data
+	 * @param bytes the number of bytes read from the frame
+	 * @param bitrate the bitrate of the frame in bits per second
+	 * @param stageNanos the time spent in each stage in nanoseconds, indexed
+	 * by the ordinal of the <code>Stage</code>; only valid during the call
+	 */
+	void frameDecoded(Profile profile, boolean sbr, boolean ps, int bytes, int bitrate, long[] stageNanos);
+
+	/**
+	 * Called if decoding a frame fails, on the thread that decoded it.
+	 * @param e the error
+	 */
+	void frameFailed(AACException e);
+}
@@ -0,0 +1,86 @@
+package net.sourceforge.jaad.aac;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Keeps decoders that are no longer used, so they can decode other streams
+ * with a compatible configuration without allocating new buffers. This
+ * saves most of the setup time for short streams.
+ *
+ * The pool is thread-safe, but each decoder must only be used by one thread
+ * between <code>acquire</code> and <code>release</code>. The settings of a
+ * decoder (parallel processing, output layout and complexity) are kept when
+ * it is released, so all users of a pool should apply the same settings.
+ * @see Decoder#reset(byte[])
+ */
+public class DecoderPool {
+
+	private static final int DEFAULT_MAX_IDLE = 8;
+	private final ConcurrentMap<List<Object>, BlockingQueue<Decoder>> idle;
+	private final int maxIdle;
+
+	/**
+	 * Creates a pool keeping up to 8 unused decoders per configuration.
+	 */
+	public DecoderPool() {
+		this(DEFAULT_MAX_IDLE);
+	}
+
+	/**
+	 * Creates a pool keeping up to the given number of unused decoders per
+	 * configuration.
+	 * @param maxIdle the maximum number of unused decoders per configuration
+	 */
+	public DecoderPool(int maxIdle) {
+		if(maxIdle<=0) throw new IllegalArgumentException("maxIdle must be positive: "+maxIdle);
+		this.maxIdle = maxIdle;
+		idle = new ConcurrentHashMap<List<Object>, BlockingQueue<Decoder>>();
+	}
+
+	/**
+	 * Returns a decoder for the given decoder specific info, reusing an
+	 * unused decoder with a compatible configuration if available.
+	 * @param decoderSpecificInfo a byte array containing the decoder specific info from an MP4 container
+	 * @return a decoder, as if newly created with the decoder specific info
+	 * @throws AACException if the specified profile is not supported
+	 */
+	public Decoder acquire(byte[] decoderSpecificInfo) throws AACException {
+		final DecoderConfig conf = DecoderConfig.parseMP4DecoderSpecificInfo(decoderSpecificInfo);
+		if(conf==null) throw new IllegalArgumentException("illegal MP4 decoder specific info");
+
+		final BlockingQueue<Decoder> queue = idle.get(conf.getReuseKey());
+		final Decoder decoder = (queue==null) ? null : queue.poll();
+		if(decoder==null) return new Decoder(decoderSpecificInfo);
+		decoder.reset(conf);
+		return decoder;
+	}
+
+	/**
+	 * Returns a decoder to the pool. It must not be used afterwards. If the
+	 * pool holds enough unused decoders of the same configuration, the
+	 * decoder is dropped.
+	 * @param decoder the decoder, which may have been created outside of the
+	 * pool
+	 */
+	public void release(Decoder decoder) {
+		final List<Object> key = decoder.getConfig().getReuseKey();
+		BlockingQueue<Decoder> queue = idle.get(key);
+		if(queue==null) {
+			final BlockingQueue<Decoder> q = new LinkedBlockingQueue<Decoder>(maxIdle);
+			queue = idle.putIfAbsent(key, q);
+			if(queue==null) queue = q;
+		}
+		queue.offer(decoder);
+	}
+
+	/**
+	 * Drops all unused decoders.
+	 */
+	public void clear() {
+		idle.clear();
+	}
+}
@@ -0,0 +1,166 @@
+package net.sourceforge.jaad.aac;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sums up the metrics of one or more decoders and exposes them as a
+ * standard MBean, e.g. registered with
+ * <code>ManagementFactory.getPlatformMBeanServer().registerMBean(statistics,
+ * new ObjectName("net.sourceforge.jaad:type=DecoderStatistics"))</code>.
+ *
+ * The counters may be updated by several decoding threads. Switches of the
+ * profile, SBR and PS are counted between consecutive frames passed to this
+ * instance, so they are only meaningful if it is used by a single decoder.
+ */
+public class DecoderStatistics implements DecoderMetrics, DecoderStatisticsMBean {
+
+	private final AtomicLong frames = new AtomicLong();
+	private final AtomicLong bytes = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong profileSwitches = new AtomicLong();
+	private final AtomicLong sbrSwitches = new AtomicLong();
+	private final AtomicLong psSwitches = new AtomicLong();
+	private final AtomicLong bitrateSum = new AtomicLong();
+	private final AtomicLongArray nanos = new AtomicLongArray(Stage.values().length);
+	private volatile Profile profile;
+	private volatile boolean sbr, ps;
+	private volatile int bitrate;
+
+	@Override
+	public void frameDecoded(Profile profile, boolean sbr, boolean ps, int bytes, int bitrate, long[] stageNanos) {
+		if(this.profile!=null) {
+			if(profile!=this.profile) profileSwitches.incrementAndGet();
+			if(sbr!=this.sbr) sbrSwitches.incrementAndGet();
+			if(ps!=this.ps) psSwitches.incrementAndGet();
+		}
+		this.profile = profile;
+		this.sbr = sbr;
+		this.ps = ps;
+		this.bitrate = bitrate;
+
+		frames.incrementAndGet();
+		this.bytes.addAndGet(bytes);
+		bitrateSum.addAndGet(bitrate);
+		for(int i = 0; i<stageNanos.length; i++) {
+			nanos.addAndGet(i, stageNanos[i]);
+		}
+	}
+
+	@Override
+	public void frameFailed(AACException e) {
+		errors.incrementAndGet();
+	}
+
+	@Override
+	public long getFrames() {
+		return frames.get();
+	}
+
+	@Override
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	@Override
+	public long getErrors() {
+		return errors.get();
+	}
+
+	@Override
+	public long getProfileSwitches() {
+		return profileSwitches.get();
+	}
+
+	@Override
+	public long getSBRSwitches() {
+		return sbrSwitches.get();
+	}
+
+	@Override
+	public long getPSSwitches() {
+		return psSwitches.get();
+	}
+
+	/**
+	 * Returns the profile of the last decoded frame.
+	 * @return the description of the profile, or null if no frame was decoded
+	 */
+	@Override
+	public String getProfile() {
+		final Profile p = profile;
+		return (p==null) ? null : p.getDescription();
+	}
+
+	/**
+	 * Returns the bitrate of the last decoded frame.
+	 * @return the bitrate in bits per second
+	 */
+	@Override
+	public int getBitrate() {
+		return bitrate;
+	}
+
+	/**
+	 * Returns the average bitrate of all decoded frames.
+	 * @return the bitrate in bits per second, or 0 if no frame was decoded
+	 */
+	@Override
+	public int getAverageBitrate() {
+		final long n = frames.get();
+		return (n==0) ? 0 : (int) (bitrateSum.get()/n);
+	}
+
+	/**
+	 * Returns the total time spent in the given stage.
+	 * @param stage the stage
+	 * @return the time in nanoseconds
+	 */
+	public long getNanos(Stage stage) {
+		return nanos.get(stage.ordinal());
+	}
+
+	@Override
+	public long getParsingNanos() {
+		return getNanos(Stage.PARSING);
+	}
+
+	@Override
+	public long getSpectralNanos() {
+		return getNanos(Stage.SPECTRAL);
+	}
+
+	@Override
+	public long getFilterbankNanos() {
+		return getNanos(Stage.FILTERBANK);
+	}
+
+	@Override
+	public long getSBRNanos() {
+		return getNanos(Stage.SBR);
+	}
+
+	@Override
+	public long getPSNanos() {
+		return getNanos(Stage.PS);
+	}
+
+	/**
+	 * Sets all counters and timings to zero.
+	 */
+	@Override
+	public void reset() {
+		frames.set(0);
+		bytes.set(0);
+		errors.set(0);
+		profileSwitches.set(0);
+		sbrSwitches.set(0);
+		psSwitches.set(0);
+		bitrateSum.set(0);
+		for(int i = 0; i<nanos.length(); i++) {
+			nanos.set(i, 0);
+		}
+		profile = null;
+		bitrate = 0;
+	}
+}
@@ -0,0 +1,37 @@
+package net.sourceforge.jaad.aac;
+
+/**
+ * Management interface of the <code>DecoderStatistics</code>.
+ */
+public interface DecoderStatisticsMBean {
+
+	long getFrames();
+
+	long getBytes();
+
+	long getErrors();
+
+	long getProfileSwitches();
+
+	long getSBRSwitches();
+
+	long getPSSwitches();
+
+	String getProfile();
+
+	int getBitrate();
+
+	int getAverageBitrate();
+
+	long getParsingNanos();
+
+	long getSpectralNanos();
+
+	long getFilterbankNanos();
+
+	long getSBRNanos();
+
+	long getPSNanos();
+
+	void reset();
+}
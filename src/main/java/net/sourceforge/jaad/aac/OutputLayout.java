@@ -0,0 +1,36 @@
+package net.sourceforge.jaad.aac;
+
+/**
+ * Channel layouts the decoder can mix its output to.
+ * @see Decoder#setOutputLayout(OutputLayout)
+ */
+public enum OutputLayout {
+
+	/**
+	 * All channels as decoded; mono is duplicated into two channels of the
+	 * <code>SampleBuffer</code>.
+	 */
+	NATIVE(0),
+	/**
+	 * One channel.
+	 */
+	MONO(1),
+	/**
+	 * Two channels, with center and surround channels mixed into the front
+	 * channels.
+	 */
+	STEREO(2);
+	private final int chCount;
+
+	private OutputLayout(int chCount) {
+		this.chCount = chCount;
+	}
+
+	/**
+	 * Returns the number of output channels, or 0 for <code>NATIVE</code>.
+	 * @return the number of channels
+	 */
+	public int getChannelCount() {
+		return chCount;
+	}
+}
@@ -0,0 +1,229 @@
+package net.sourceforge.jaad.aac;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import net.sourceforge.jaad.aac.filterbank.FilterBank;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+import net.sourceforge.jaad.aac.syntax.Constants;
+import net.sourceforge.jaad.aac.syntax.PCE;
+import net.sourceforge.jaad.aac.syntax.SyntacticElements;
+import net.sourceforge.jaad.aac.tools.LTPrediction;
+import net.sourceforge.jaad.aac.transport.ADIFHeader;
+
+/**
+ * AAC decoder with two pipeline stages: while the bitstream of a frame is
+ * parsed on the calling thread, the previous frame is synthesized (spectral
+ * processing, filterbank and conversion to PCM) on the given executor. This
+ * is meant for decoding long AAC-LC streams, where the output of a frame is
+ * not needed before the next one is passed in.
+ *
+ * The output is delayed by one frame: each call to
+ * <code>decodeFrame</code> returns the PCM data of the frame passed with the
+ * previous call, and <code>flush</code> returns the last one. The output is
+ * identical to the <code>Decoder</code>.
+ *
+ * The parsed frames are double-buffered: two sets of elements parse the
+ * frames alternately, while the state of the synthesis (the filterbank
+ * overlap) is shared and updated in frame order. SBR and PS, main
+ * prediction and LTP however decode their bitstream data into the same
+ * objects that hold their synthesis state. Therefore only AAC-LC streams
+ * without SBR are pipelined. HE-AAC and HE-AACv2 streams (detected at the
+ * first frame carrying SBR data), main and LTP streams are decoded with the
+ * same delay and output, but parsing waits for the synthesis of the previous
+ * frame, so there is no speedup.
+ */
+public class PipelinedDecoder implements Constants {
+
+	private final DecoderConfig config;
+	private final SyntacticElements[] elements;
+	private final FilterBank filterBank;
+	private final Executor executor;
+	private final BitStream in;
+	private final Frame[] frames;
+	private int frameCount;
+	//elements of the last parsed frame
+	private SyntacticElements last;
+	//true if the frames are parsed one at a time into the same elements
+	private boolean sequential;
+
+	//a parsed frame and its synthesis
+	private final class Frame implements Callable<Void> {
+
+		private final SampleBuffer output;
+		private SyntacticElements elements;
+		private FutureTask<Void> synthesis;
+		private AACException error;
+		private int bitsRead;
+
+		private Frame() {
+			output = new SampleBuffer();
+		}
+
+		@Override
+		public Void call() throws AACException {
+			elements.process(filterBank);
+			elements.sendToOutput(output);
+			return null;
+		}
+	}
+
+	/**
+	 * Initializes the decoder with a MP4 decoder specific info.
+	 *
+	 * The executor runs the synthesis of one frame at a time, so a single
+	 * thread is enough.
+	 *
+	 * @param decoderSpecificInfo a byte array containing the decoder specific info from an MP4 container
+	 * @param executor the executor to synthesize the frames on
+	 * @throws AACException if the specified profile is not supported
+	 */
+	public PipelinedDecoder(byte[] decoderSpecificInfo, Executor executor) throws AACException {
+		config = DecoderConfig.parseMP4DecoderSpecificInfo(decoderSpecificInfo);
+		if(config==null) throw new IllegalArgumentException("illegal MP4 decoder specific info");
+
+		if(!Decoder.canDecode(config.getProfile())) throw new AACException("unsupported profile: "+config.getProfile().getDescription());
+
+		this.executor = executor;
+		elements = new SyntacticElements[2];
+		elements[0] = new SyntacticElements(config);
+		elements[1] = new SyntacticElements(config, elements[0]);
+		filterBank = new FilterBank(config.isSmallFrameUsed(), config.getChannelConfiguration().getChannelCount());
+		frames = new Frame[]{new Frame(), new Frame()};
+
+		in = new BitStream();
+		sequential = isSequential(config.getProfile())||config.isSBRPresent();
+	}
+
+	//profiles keeping prediction state in the parsed elements
+	private static boolean isSequential(Profile profile) {
+		return profile.equals(Profile.AAC_MAIN)||LTPrediction.isLTPProfile(profile);
+	}
+
+	public DecoderConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Parses one frame of AAC data in frame mode and returns the PCM data of
+	 * the previous frame. The frame is not referenced after this method
+	 * returns.
+	 *
+	 * If an error occurs while the frame is parsed, the exception is thrown
+	 * by the next call, which would return the output of the frame.
+	 *
+	 * @param frame the AAC frame
+	 * @param buffer a buffer to hold the decoded PCM data of the previous frame
+	 * @return true if the buffer holds the previous frame, false for the first frame
+	 * @throws AACException if decoding of the previous frame failed
+	 */
+	public boolean decodeFrame(byte[] frame, SampleBuffer buffer) throws AACException {
+		if(frame!=null) in.setData(frame);
+
+		final Frame prev = (frameCount==0) ? null : frames[(frameCount-1)&1];
+		final Frame next = frames[frameCount&1];
+		frameCount++;
+
+		//the elements of the previous frame are parsed again
+		if(sequential&&prev!=null) finish(prev);
+
+		if(last==null) next.elements = elements[0];
+		else if(sequential) next.elements = last;
+		else next.elements = (last==elements[0]) ? elements[1] : elements[0];
+		parse(next);
+
+		if(prev!=null) finish(prev);
+		if(next.error==null) {
+			next.output.setBigEndian(buffer.isBigEndian());
+			next.synthesis = new FutureTask<Void>(next);
+			executor.execute(next.synthesis);
+		}
+
+		if(prev==null) return false;
+		sendToOutput(prev, buffer);
+		return true;
+	}
+
+	/**
+	 * Returns the PCM data of the last frame passed to
+	 * <code>decodeFrame</code>, if not returned yet.
+	 * @param buffer a buffer to hold the decoded PCM data
+	 * @return true if the buffer holds the last frame
+	 * @throws AACException if decoding of the last frame failed
+	 */
+	public boolean flush(SampleBuffer buffer) throws AACException {
+		if(frameCount==0) return false;
+		final Frame prev = frames[(frameCount-1)&1];
+		frameCount = 0;
+		finish(prev);
+		sendToOutput(prev, buffer);
+		return true;
+	}
+
+	private void parse(Frame frame) {
+		final SyntacticElements syntacticElements = frame.elements;
+		frame.synthesis = null;
+		frame.error = null;
+		try {
+			if(ADIFHeader.isPresent(in)) {
+				final ADIFHeader adifHeader = ADIFHeader.readHeader(in);
+				final PCE pce = adifHeader.getFirstPCE();
+				config.setProfile(pce.getProfile());
+				config.setSampleFrequency(pce.getSampleFrequency());
+				config.setChannelConfiguration(ChannelConfiguration.forInt(pce.getChannelCount()));
+			}
+
+			if(!Decoder.canDecode(config.getProfile())) throw new AACException("unsupported profile: "+config.getProfile().getDescription());
+
+			syntacticElements.startNewFrame();
+			syntacticElements.decode(in);
+			frame.bitsRead = syntacticElements.getBitsRead();
+		}
+		catch(AACException e) {
+			frame.error = e;
+		}
+		catch(Exception e) {
+			frame.error = new AACException(e);
+		}
+
+		if(last!=null&&last!=syntacticElements) syntacticElements.setPreviousWindowShapes(last);
+		last = syntacticElements;
+		if(!sequential&&syntacticElements.isSBRPresent()) {
+			LOGGER.fine("SBR present, pipelining disabled");
+			sequential = true;
+		}
+	}
+
+	//waits for the synthesis of the frame
+	private void finish(Frame frame) {
+		if(frame.synthesis==null) return;
+		try {
+			frame.synthesis.get();
+		}
+		catch(ExecutionException e) {
+			final Throwable cause = e.getCause();
+			frame.error = (cause instanceof AACException) ? (AACException) cause : new AACException(cause);
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			frame.error = new AACException(e);
+		}
+		frame.synthesis = null;
+	}
+
+	private void sendToOutput(Frame frame, SampleBuffer buffer) throws AACException {
+		if(frame.error!=null) {
+			buffer.setData(new byte[0], 0, 0, 0, 0);
+			if(!frame.error.isEndOfStream()) throw frame.error;
+			else LOGGER.log(Level.WARNING, "unexpected end of frame", frame.error);
+			return;
+		}
+		//swap the arrays, the output of the frame after next reuses the given one
+		final SampleBuffer out = frame.output;
+		final byte[] b = buffer.getData();
+		buffer.setData(out.getData(), out.getSampleRate(), out.getChannels(), out.getBitsPerSample(), frame.bitsRead);
+		out.setData(b, 0, 0, 0, 0);
+	}
+}
@@ -2,115 +2,332 @@ package net.sourceforge.jaad.aac.filterbank;
 
 import net.sourceforge.jaad.aac.AACException;
 
-class FFT implements FFTTables {
+/**
+ * Complex FFT on split real and imaginary arrays, in place and non-scaling.
+ * The length is factored into radix-4 stages and at most one stage each of
+ * radix 2, 3 and 5, so besides the powers of two used by the long and short
+ * windows (512/64) and gain control (128/16), the lengths for 960-sample
+ * frames (480/60) are supported.
+ *
+ * The transform is computed by decimation in time: the input is reordered by
+ * a precomputed digit-reversal permutation into a work buffer, the stages
+ * combine the sub-transforms in the buffer and the last stage writes the
+ * result back.
+ */
+public class FFT {
 
 	private final int length;
-	private final float[][] roots;
-	private final float[][] rev;
-	private float[] a, b, c, d, e1, e2;
+	private final int[] radices;
+	private final int[] permutation;
+	//twiddle factors per stage: index j*(radix-1)+p-1 holds w^(j*p)
+	private final float[][] cos, sin, negSin;
+	private final float[] workRe, workIm;
 
-	FFT(int length) throws AACException {
+	public FFT(int length) throws AACException {
 		this.length = length;
+		radices = factorize(length);
+		permutation = createPermutation(length, radices);
 
-		switch(length) {
-			case 64:
-				roots = FFT_TABLE_64;
-				break;
-			case 512:
-				roots = FFT_TABLE_512;
-				break;
-			case 60:
-				roots = FFT_TABLE_60;
-				break;
-			case 480:
-				roots = FFT_TABLE_480;
-				break;
-			default:
-				throw new AACException("unexpected FFT length: "+length);
+		cos = new float[radices.length][];
+		sin = new float[radices.length][];
+		negSin = new float[radices.length][];
+		int m = 1, r, j, p, n;
+		for(int s = 0; s<radices.length; s++) {
+			r = radices[s];
+			cos[s] = new float[m*(r-1)];
+			sin[s] = new float[m*(r-1)];
+			negSin[s] = new float[m*(r-1)];
+			for(j = 0; j<m; j++) {
+				for(p = 1; p<r; p++) {
+					final double angle = 2*Math.PI*j*p/(m*r);
+					n = j*(r-1)+p-1;
+					cos[s][n] = (float) Math.cos(angle);
+					sin[s][n] = (float) Math.sin(angle);
+					negSin[s][n] = -sin[s][n];
+				}
+			}
+			m *= r;
 		}
 
-		//processing buffers
-		rev = new float[length][2];
-		a = new float[2];
-		b = new float[2];
-		c = new float[2];
-		d = new float[2];
-		e1 = new float[2];
-		e2 = new float[2];
+		workRe = new float[length];
+		workIm = new float[length];
+	}
+
+	private static int[] factorize(int length) throws AACException {
+		int n = length, count = 0;
+		final int[] tmp = new int[16];
+		if(n%5==0) {
+			tmp[count++] = 5;
+			n /= 5;
+		}
+		if(n%3==0) {
+			tmp[count++] = 3;
+			n /= 3;
+		}
+		//odd power of two
+		if(Integer.numberOfTrailingZeros(n)%2==1) {
+			tmp[count++] = 2;
+			n /= 2;
+		}
+		while(n%4==0) {
+			tmp[count++] = 4;
+			n /= 4;
+		}
+		if(n!=1||count<2) throw new AACException("unsupported FFT length: "+length);
+		final int[] radices = new int[count];
+		System.arraycopy(tmp, 0, radices, 0, count);
+		return radices;
 	}
 
-	void process(float[][] in, boolean forward) {
-		final int imOff = (forward ? 2 : 1);
-		final int scale = (forward ? 1: 1);
-		//bit-reversal
-		int ii = 0;
+	//input index for each position of the work buffer
+	private static int[] createPermutation(int length, int[] radices) {
+		final int[] perm = new int[length];
+		int pos, n, m, s;
 		for(int i = 0; i<length; i++) {
-			rev[i][0] = in[ii][0];
-			rev[i][1] = in[ii][1];
-			int k = length>>1;
-			while(ii>=k&&k>0) {
-				ii -= k;
-				k >>= 1;
+			//the sub-transform of phase p of the last stage starts at p*m
+			pos = 0;
+			n = i;
+			m = length;
+			for(s = radices.length-1; s>=0; s--) {
+				m /= radices[s];
+				pos += (n%radices[s])*m;
+				n /= radices[s];
 			}
-			ii += k;
+			perm[pos] = i;
 		}
+		return perm;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Transforms the data in place.
+	 *
+	 * @param re the real parts
+	 * @param im the imaginary parts
+	 * @param forward true for the forward transform (negative exponent), false
+	 * for the inverse
+	 */
+	public void process(float[] re, float[] im, boolean forward) {
+		final int[] perm = permutation;
 		for(int i = 0; i<length; i++) {
-			in[i][0] = rev[i][0];
-			in[i][1] = rev[i][1];
+			workRe[i] = re[perm[i]];
+			workIm[i] = im[perm[i]];
 		}
 
-		//bottom base-4 round
-		for(int i = 0; i<length; i += 4) {
-			a[0] = in[i][0]+in[i+1][0];
-			a[1] = in[i][1]+in[i+1][1];
-			b[0] = in[i+2][0]+in[i+3][0];
-			b[1] = in[i+2][1]+in[i+3][1];
-			c[0] = in[i][0]-in[i+1][0];
-			c[1] = in[i][1]-in[i+1][1];
-			d[0] = in[i+2][0]-in[i+3][0];
-			d[1] = in[i+2][1]-in[i+3][1];
-			in[i][0] = a[0]+b[0];
-			in[i][1] = a[1]+b[1];
-			in[i+2][0] = a[0]-b[0];
-			in[i+2][1] = a[1]-b[1];
-
-			e1[0] = c[0]-d[1];
-			e1[1] = c[1]+d[0];
-			e2[0] = c[0]+d[1];
-			e2[1] = c[1]-d[0];
-			if(forward) {
-				in[i+1][0] = e2[0];
-				in[i+1][1] = e2[1];
-				in[i+3][0] = e1[0];
-				in[i+3][1] = e1[1];
+		int m = 1;
+		float[] srcRe = workRe, srcIm = workIm, dstRe, dstIm;
+		for(int s = 0; s<radices.length; s++) {
+			//the last stage writes to the output
+			if(s==radices.length-1) {
+				dstRe = re;
+				dstIm = im;
 			}
 			else {
-				in[i+1][0] = e1[0];
-				in[i+1][1] = e1[1];
-				in[i+3][0] = e2[0];
-				in[i+3][1] = e2[1];
+				dstRe = workRe;
+				dstIm = workIm;
+			}
+			final float[] c = cos[s], sn = forward ? negSin[s] : sin[s];
+			switch(radices[s]) {
+				case 4:
+					radix4(srcRe, srcIm, dstRe, dstIm, m, c, sn, forward);
+					break;
+				case 2:
+					radix2(srcRe, srcIm, dstRe, dstIm, m, c, sn);
+					break;
+				case 3:
+					radix3(srcRe, srcIm, dstRe, dstIm, m, c, sn, forward);
+					break;
+				case 5:
+					radix5(srcRe, srcIm, dstRe, dstIm, m, c, sn, forward);
+					break;
+			}
+			m *= radices[s];
+		}
+	}
+
+	private void radix2(float[] srcRe, float[] srcIm, float[] dstRe, float[] dstIm, int m, float[] c, float[] s) {
+		final int step = 2*m;
+		int i0, i1;
+		float wr, wi, ar, ai, br, bi;
+		for(int j = 0; j<m; j++) {
+			wr = c[j];
+			wi = s[j];
+			for(i0 = j; i0<length; i0 += step) {
+				i1 = i0+m;
+				ar = srcRe[i0];
+				ai = srcIm[i0];
+				br = srcRe[i1]*wr-srcIm[i1]*wi;
+				bi = srcRe[i1]*wi+srcIm[i1]*wr;
+				dstRe[i0] = ar+br;
+				dstIm[i0] = ai+bi;
+				dstRe[i1] = ar-br;
+				dstIm[i1] = ai-bi;
 			}
 		}
+	}
 
-		//iterations from bottom to top
-		int shift, m, km;
-		float rootRe, rootIm, zRe, zIm;
-		for(int i = 4; i<length; i <<= 1) {
-			shift = i<<1;
-			m = length/shift;
-			for(int j = 0; j<length; j += shift) {
-				for(int k = 0; k<i; k++) {
-					km = k*m;
-					rootRe = roots[km][0];
-					rootIm = roots[km][imOff];
-					zRe = in[i+j+k][0]*rootRe-in[i+j+k][1]*rootIm;
-					zIm = in[i+j+k][0]*rootIm+in[i+j+k][1]*rootRe;
-
-					in[i+j+k][0] = (in[j+k][0]-zRe)*scale;
-					in[i+j+k][1] = (in[j+k][1]-zIm)*scale;
-					in[j+k][0] = (in[j+k][0]+zRe)*scale;
-					in[j+k][1] = (in[j+k][1]+zIm)*scale;
+	private void radix4(float[] srcRe, float[] srcIm, float[] dstRe, float[] dstIm, int m, float[] c, float[] s, boolean forward) {
+		final int step = 4*m;
+		int i0, i1, i2, i3, n;
+		float w1r, w1i, w2r, w2i, w3r, w3i;
+		float ar, ai, br, bi, cr, ci, dr, di;
+		float t0r, t0i, t1r, t1i, t2r, t2i, t3r, t3i;
+		for(int j = 0; j<m; j++) {
+			n = 3*j;
+			w1r = c[n];
+			w1i = s[n];
+			w2r = c[n+1];
+			w2i = s[n+1];
+			w3r = c[n+2];
+			w3i = s[n+2];
+			for(i0 = j; i0<length; i0 += step) {
+				i1 = i0+m;
+				i2 = i1+m;
+				i3 = i2+m;
+				ar = srcRe[i0];
+				ai = srcIm[i0];
+				if(j==0) {
+					br = srcRe[i1];
+					bi = srcIm[i1];
+					cr = srcRe[i2];
+					ci = srcIm[i2];
+					dr = srcRe[i3];
+					di = srcIm[i3];
+				}
+				else {
+					br = srcRe[i1]*w1r-srcIm[i1]*w1i;
+					bi = srcRe[i1]*w1i+srcIm[i1]*w1r;
+					cr = srcRe[i2]*w2r-srcIm[i2]*w2i;
+					ci = srcRe[i2]*w2i+srcIm[i2]*w2r;
+					dr = srcRe[i3]*w3r-srcIm[i3]*w3i;
+					di = srcRe[i3]*w3i+srcIm[i3]*w3r;
+				}
+				t0r = ar+cr;
+				t0i = ai+ci;
+				t1r = ar-cr;
+				t1i = ai-ci;
+				t2r = br+dr;
+				t2i = bi+di;
+				//(b-d) multiplied by -i (forward) or i
+				if(forward) {
+					t3r = bi-di;
+					t3i = dr-br;
 				}
+				else {
+					t3r = di-bi;
+					t3i = br-dr;
+				}
+				dstRe[i0] = t0r+t2r;
+				dstIm[i0] = t0i+t2i;
+				dstRe[i1] = t1r+t3r;
+				dstIm[i1] = t1i+t3i;
+				dstRe[i2] = t0r-t2r;
+				dstIm[i2] = t0i-t2i;
+				dstRe[i3] = t1r-t3r;
+				dstIm[i3] = t1i-t3i;
+			}
+		}
+	}
+
+	private void radix3(float[] srcRe, float[] srcIm, float[] dstRe, float[] dstIm, int m, float[] c, float[] s, boolean forward) {
+		//sin(2*pi/3), negative for the forward transform
+		final float s1 = forward ? -0.8660254f : 0.8660254f;
+		final int step = 3*m;
+		int i0, i1, i2, n;
+		float w1r, w1i, w2r, w2i;
+		float ar, ai, br, bi, cr, ci, sr, si, tr, ti, dr, di;
+		for(int j = 0; j<m; j++) {
+			n = 2*j;
+			w1r = c[n];
+			w1i = s[n];
+			w2r = c[n+1];
+			w2i = s[n+1];
+			for(i0 = j; i0<length; i0 += step) {
+				i1 = i0+m;
+				i2 = i1+m;
+				ar = srcRe[i0];
+				ai = srcIm[i0];
+				br = srcRe[i1]*w1r-srcIm[i1]*w1i;
+				bi = srcRe[i1]*w1i+srcIm[i1]*w1r;
+				cr = srcRe[i2]*w2r-srcIm[i2]*w2i;
+				ci = srcRe[i2]*w2i+srcIm[i2]*w2r;
+
+				sr = br+cr;
+				si = bi+ci;
+				tr = ar-0.5f*sr;
+				ti = ai-0.5f*si;
+				//i*sin(2*pi/3)*(b-c)
+				dr = -s1*(bi-ci);
+				di = s1*(br-cr);
+				dstRe[i0] = ar+sr;
+				dstIm[i0] = ai+si;
+				dstRe[i1] = tr+dr;
+				dstIm[i1] = ti+di;
+				dstRe[i2] = tr-dr;
+				dstIm[i2] = ti-di;
+			}
+		}
+	}
+
+	private void radix5(float[] srcRe, float[] srcIm, float[] dstRe, float[] dstIm, int m, float[] c, float[] s, boolean forward) {
+		//cos and sin of 2*pi/5 and 4*pi/5, sin negative for the forward transform
+		final float c1 = 0.30901699f, c2 = -0.80901699f;
+		final float s1 = forward ? -0.95105652f : 0.95105652f;
+		final float s2 = forward ? -0.58778525f : 0.58778525f;
+		final int step = 5*m;
+		int i0, i1, i2, i3, i4, n;
+		float ar, ai, br, bi, cr, ci, dr, di, er, ei;
+		float b1r, b1i, b2r, b2i, d1r, d1i, d2r, d2i;
+		float t1r, t1i, t2r, t2i, u1r, u1i, u2r, u2i;
+		for(int j = 0; j<m; j++) {
+			n = 4*j;
+			for(i0 = j; i0<length; i0 += step) {
+				i1 = i0+m;
+				i2 = i1+m;
+				i3 = i2+m;
+				i4 = i3+m;
+				ar = srcRe[i0];
+				ai = srcIm[i0];
+				br = srcRe[i1]*c[n]-srcIm[i1]*s[n];
+				bi = srcRe[i1]*s[n]+srcIm[i1]*c[n];
+				cr = srcRe[i2]*c[n+1]-srcIm[i2]*s[n+1];
+				ci = srcRe[i2]*s[n+1]+srcIm[i2]*c[n+1];
+				dr = srcRe[i3]*c[n+2]-srcIm[i3]*s[n+2];
+				di = srcRe[i3]*s[n+2]+srcIm[i3]*c[n+2];
+				er = srcRe[i4]*c[n+3]-srcIm[i4]*s[n+3];
+				ei = srcRe[i4]*s[n+3]+srcIm[i4]*c[n+3];
+
+				b1r = br+er;
+				b1i = bi+ei;
+				b2r = cr+dr;
+				b2i = ci+di;
+				d1r = br-er;
+				d1i = bi-ei;
+				d2r = cr-dr;
+				d2i = ci-di;
+				t1r = ar+c1*b1r+c2*b2r;
+				t1i = ai+c1*b1i+c2*b2i;
+				t2r = ar+c2*b1r+c1*b2r;
+				t2i = ai+c2*b1i+c1*b2i;
+				//i*(s1*d1+s2*d2) and i*(s2*d1-s1*d2)
+				u1r = -(s1*d1i+s2*d2i);
+				u1i = s1*d1r+s2*d2r;
+				u2r = -(s2*d1i-s1*d2i);
+				u2i = s2*d1r-s1*d2r;
+
+				dstRe[i0] = ar+b1r+b2r;
+				dstIm[i0] = ai+b1i+b2i;
+				dstRe[i1] = t1r+u1r;
+				dstIm[i1] = t1i+u1i;
+				dstRe[i4] = t1r-u1r;
+				dstIm[i4] = t1i-u1i;
+				dstRe[i2] = t2r+u2r;
+				dstIm[i2] = t2i+u2i;
+				dstRe[i3] = t2r-u2r;
+				dstIm[i3] = t2i-u2i;
 			}
 		}
 	}
@@ -1,10 +1,11 @@
 package net.sourceforge.jaad.aac.filterbank;
 
+import java.util.Arrays;
 import net.sourceforge.jaad.aac.AACException;
 import net.sourceforge.jaad.aac.syntax.Constants;
 import net.sourceforge.jaad.aac.syntax.ICSInfo.WindowSequence;
 
-public class FilterBank implements Constants, SineWindows, KBDWindows {
+public class FilterBank implements Constants {
 
 	private final float[][] LONG_WINDOWS;// = {SINE_LONG, KBD_LONG};
 	private final float[][] SHORT_WINDOWS;// = {SINE_SHORT, KBD_SHORT};
@@ -12,19 +13,20 @@ public class FilterBank implements Constants, SineWindows, KBDWindows {
 	private final MDCT mdctShort, mdctLong;
 	private final float[] buf;
 	private final float[][] overlaps;
+	private final Kernels kernels;
 
 	public FilterBank(boolean smallFrames, int channels) throws AACException {
 		if(smallFrames) {
 			length = WINDOW_SMALL_LEN_LONG;
 			shortLen = WINDOW_SMALL_LEN_SHORT;
-			LONG_WINDOWS = new float[][]{SINE_960, KBD_960};
-			SHORT_WINDOWS = new float[][]{SINE_120, KBD_120};
+			LONG_WINDOWS = new float[][]{Windows.getSine(WINDOW_SMALL_LEN_LONG), Windows.getKBD(WINDOW_SMALL_LEN_LONG)};
+			SHORT_WINDOWS = new float[][]{Windows.getSine(WINDOW_SMALL_LEN_SHORT), Windows.getKBD(WINDOW_SMALL_LEN_SHORT)};
 		}
 		else {
 			length = WINDOW_LEN_LONG;
 			shortLen = WINDOW_LEN_SHORT;
-			LONG_WINDOWS = new float[][]{SINE_1024, KBD_1024};
-			SHORT_WINDOWS = new float[][]{SINE_128, KBD_128};
+			LONG_WINDOWS = new float[][]{Windows.getSine(WINDOW_LEN_LONG), Windows.getKBD(WINDOW_LEN_LONG)};
+			SHORT_WINDOWS = new float[][]{Windows.getSine(WINDOW_LEN_SHORT), Windows.getKBD(WINDOW_LEN_SHORT)};
 		}
 		mid = (length-shortLen)/2;
 		trans = shortLen/2;
@@ -34,132 +36,120 @@ public class FilterBank implements Constants, SineWindows, KBDWindows {
 
 		overlaps = new float[channels][length];
 		buf = new float[2*length];
+		kernels = Kernels.getInstance();
+	}
+
+	/**
+	 * Creates a filterbank that shares the windows and the overlap buffers
+	 * of the given one but has its own transforms and work buffer. This
+	 * allows different channels to be processed concurrently.
+	 * @param shared the filterbank holding the overlap buffers
+	 * @throws AACException if the transforms can't be created
+	 */
+	public FilterBank(FilterBank shared) throws AACException {
+		LONG_WINDOWS = shared.LONG_WINDOWS;
+		SHORT_WINDOWS = shared.SHORT_WINDOWS;
+		length = shared.length;
+		shortLen = shared.shortLen;
+		mid = shared.mid;
+		trans = shared.trans;
+
+		mdctShort = new MDCT(shortLen*2);
+		mdctLong = new MDCT(length*2);
+
+		overlaps = shared.overlaps;
+		buf = new float[2*length];
+		kernels = shared.kernels;
 	}
 
 	public void process(WindowSequence windowSequence, int windowShape, int windowShapePrev, float[] in, float[] out, int channel) {
+		final float[] overlap = overlaps[channel];
+		final float[] longWin = LONG_WINDOWS[windowShape], longPrev = LONG_WINDOWS[windowShapePrev];
+		final float[] shortWin = SHORT_WINDOWS[windowShape], shortPrev = SHORT_WINDOWS[windowShapePrev];
+		final int s = shortLen;
 		int i;
-		float[] overlap = overlaps[channel];
 		switch(windowSequence) {
 			case ONLY_LONG_SEQUENCE:
 				mdctLong.process(in, 0, buf, 0);
 				//add second half output of previous frame to windowed output of current frame
-				for(i = 0; i<length; i++) {
-					out[i] = overlap[i]+(buf[i]*LONG_WINDOWS[windowShapePrev][i]);
-				}
+				kernels.multiplyAdd(buf, 0, longPrev, 0, overlap, 0, out, 0, length);
 
 				//window the second half and save as overlap for next frame
-				for(i = 0; i<length; i++) {
-					overlap[i] = buf[length+i]*LONG_WINDOWS[windowShape][length-1-i];
-				}
+				kernels.multiplyReverse(buf, length, longWin, length-1, overlap, 0, length);
 				break;
 			case LONG_START_SEQUENCE:
 				mdctLong.process(in, 0, buf, 0);
 				//add second half output of previous frame to windowed output of current frame
-				for(i = 0; i<length; i++) {
-					out[i] = overlap[i]+(buf[i]*LONG_WINDOWS[windowShapePrev][i]);
-				}
+				kernels.multiplyAdd(buf, 0, longPrev, 0, overlap, 0, out, 0, length);
 
 				//window the second half and save as overlap for next frame
-				for(i = 0; i<mid; i++) {
-					overlap[i] = buf[length+i];
-				}
-				for(i = 0; i<shortLen; i++) {
-					overlap[mid+i] = buf[length+mid+i]*SHORT_WINDOWS[windowShape][shortLen-i-1];
-				}
-				for(i = 0; i<mid; i++) {
-					overlap[mid+shortLen+i] = 0;
-				}
+				System.arraycopy(buf, length, overlap, 0, mid);
+				kernels.multiplyReverse(buf, length+mid, shortWin, s-1, overlap, mid, s);
+				Arrays.fill(overlap, mid+s, length, 0);
 				break;
 			case EIGHT_SHORT_SEQUENCE:
 				for(i = 0; i<8; i++) {
-					mdctShort.process(in, i*shortLen, buf, 2*i*shortLen);
+					mdctShort.process(in, i*s, buf, 2*i*s);
 				}
 
 				//add second half output of previous frame to windowed output of current frame
-				for(i = 0; i<mid; i++) {
-					out[i] = overlap[i];
-				}
-				for(i = 0; i<shortLen; i++) {
-					out[mid+i] = overlap[mid+i]+(buf[i]*SHORT_WINDOWS[windowShapePrev][i]);
-					out[mid+1*shortLen+i] = overlap[mid+shortLen*1+i]+(buf[shortLen*1+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*2+i]*SHORT_WINDOWS[windowShape][i]);
-					out[mid+2*shortLen+i] = overlap[mid+shortLen*2+i]+(buf[shortLen*3+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*4+i]*SHORT_WINDOWS[windowShape][i]);
-					out[mid+3*shortLen+i] = overlap[mid+shortLen*3+i]+(buf[shortLen*5+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*6+i]*SHORT_WINDOWS[windowShape][i]);
-					if(i<trans) out[mid+4*shortLen+i] = overlap[mid+shortLen*4+i]+(buf[shortLen*7+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*8+i]*SHORT_WINDOWS[windowShape][i]);
+				System.arraycopy(overlap, 0, out, 0, mid);
+				kernels.multiplyAdd(buf, 0, shortPrev, 0, overlap, mid, out, mid, s);
+				//each short window overlaps with the previous one
+				for(i = 1; i<4; i++) {
+					kernels.multiplyReverseAdd(buf, (2*i-1)*s, shortWin, s-1, overlap, mid+i*s, out, mid+i*s, s);
+					kernels.multiplyAdd(buf, 2*i*s, shortWin, 0, out, mid+i*s, out, mid+i*s, s);
 				}
+				kernels.multiplyReverseAdd(buf, 7*s, shortWin, s-1, overlap, mid+4*s, out, mid+4*s, trans);
+				kernels.multiplyAdd(buf, 8*s, shortWin, 0, out, mid+4*s, out, mid+4*s, trans);
 
 				//window the second half and save as overlap for next frame
-				for(i = 0; i<shortLen; i++) {
-					if(i>=trans) overlap[mid+4*shortLen+i-length] = (buf[shortLen*7+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*8+i]*SHORT_WINDOWS[windowShape][i]);
-					overlap[mid+5*shortLen+i-length] = (buf[shortLen*9+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*10+i]*SHORT_WINDOWS[windowShape][i]);
-					overlap[mid+6*shortLen+i-length] = (buf[shortLen*11+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*12+i]*SHORT_WINDOWS[windowShape][i]);
-					overlap[mid+7*shortLen+i-length] = (buf[shortLen*13+i]*SHORT_WINDOWS[windowShape][shortLen-1-i])+(buf[shortLen*14+i]*SHORT_WINDOWS[windowShape][i]);
-					overlap[mid+8*shortLen+i-length] = (buf[shortLen*15+i]*SHORT_WINDOWS[windowShape][shortLen-1-i]);
-				}
-				for(i = 0; i<mid; i++) {
-					overlap[mid+shortLen+i] = 0;
-				}
+				kernels.multiplyReverse(buf, 7*s+trans, shortWin, s-1-trans, overlap, mid+4*s+trans-length, s-trans);
+				kernels.multiplyAdd(buf, 8*s+trans, shortWin, trans, overlap, mid+4*s+trans-length, overlap, mid+4*s+trans-length, s-trans);
+				for(i = 5; i<8; i++) {
+					kernels.multiplyReverse(buf, (2*i-1)*s, shortWin, s-1, overlap, mid+i*s-length, s);
+					kernels.multiplyAdd(buf, 2*i*s, shortWin, 0, overlap, mid+i*s-length, overlap, mid+i*s-length, s);
+				}
+				kernels.multiplyReverse(buf, 15*s, shortWin, s-1, overlap, mid+8*s-length, s);
+				Arrays.fill(overlap, mid+s, length, 0);
 				break;
 			case LONG_STOP_SEQUENCE:
 				mdctLong.process(in, 0, buf, 0);
 				//add second half output of previous frame to windowed output of current frame
 				//construct first half window using padding with 1's and 0's
-				for(i = 0; i<mid; i++) {
-					out[i] = overlap[i];
-				}
-				for(i = 0; i<shortLen; i++) {
-					out[mid+i] = overlap[mid+i]+(buf[mid+i]*SHORT_WINDOWS[windowShapePrev][i]);
-				}
-				for(i = 0; i<mid; i++) {
-					out[mid+shortLen+i] = overlap[mid+shortLen+i]+buf[mid+shortLen+i];
+				System.arraycopy(overlap, 0, out, 0, mid);
+				kernels.multiplyAdd(buf, mid, shortPrev, 0, overlap, mid, out, mid, s);
+				for(i = mid+s; i<length; i++) {
+					out[i] = overlap[i]+buf[i];
 				}
 				//window the second half and save as overlap for next frame
-				for(i = 0; i<length; i++) {
-					overlap[i] = buf[length+i]*LONG_WINDOWS[windowShape][length-1-i];
-				}
+				kernels.multiplyReverse(buf, length, longWin, length-1, overlap, 0, length);
 				break;
 		}
 	}
 
 	//only for LTP: no overlapping, no short blocks
 	public void processLTP(WindowSequence windowSequence, int windowShape, int windowShapePrev, float[] in, float[] out) {
-		int i;
+		final float[] longWin = LONG_WINDOWS[windowShape], longPrev = LONG_WINDOWS[windowShapePrev];
 
 		switch(windowSequence) {
 			case ONLY_LONG_SEQUENCE:
-				for(i = length-1; i>=0; i--) {
-					buf[i] = in[i]*LONG_WINDOWS[windowShapePrev][i];
-					buf[i+length] = in[i+length]*LONG_WINDOWS[windowShape][length-1-i];
-				}
+				kernels.multiply(in, 0, longPrev, 0, buf, 0, length);
+				kernels.multiplyReverse(in, length, longWin, length-1, buf, length, length);
 				break;
 
 			case LONG_START_SEQUENCE:
-				for(i = 0; i<length; i++) {
-					buf[i] = in[i]*LONG_WINDOWS[windowShapePrev][i];
-				}
-				for(i = 0; i<mid; i++) {
-					buf[i+length] = in[i+length];
-				}
-				for(i = 0; i<shortLen; i++) {
-					buf[i+length+mid] = in[i+length+mid]*SHORT_WINDOWS[windowShape][shortLen-1-i];
-				}
-				for(i = 0; i<mid; i++) {
-					buf[i+length+mid+shortLen] = 0;
-				}
+				kernels.multiply(in, 0, longPrev, 0, buf, 0, length);
+				System.arraycopy(in, length, buf, length, mid);
+				kernels.multiplyReverse(in, length+mid, SHORT_WINDOWS[windowShape], shortLen-1, buf, length+mid, shortLen);
+				Arrays.fill(buf, length+mid+shortLen, 2*length, 0);
 				break;
 
 			case LONG_STOP_SEQUENCE:
-				for(i = 0; i<mid; i++) {
-					buf[i] = 0;
-				}
-				for(i = 0; i<shortLen; i++) {
-					buf[i+mid] = in[i+mid]*SHORT_WINDOWS[windowShapePrev][i];
-				}
-				for(i = 0; i<mid; i++) {
-					buf[i+mid+shortLen] = in[i+mid+shortLen];
-				}
-				for(i = 0; i<length; i++) {
-					buf[i+length] = in[i+length]*LONG_WINDOWS[windowShape][length-1-i];
-				}
+				Arrays.fill(buf, 0, mid, 0);
+				kernels.multiply(in, mid, SHORT_WINDOWS[windowShapePrev], 0, buf, mid, shortLen);
+				System.arraycopy(in, mid+shortLen, buf, mid+shortLen, mid);
+				kernels.multiplyReverse(in, length, longWin, length-1, buf, length, length);
 				break;
 		}
 		mdctLong.processForward(buf, out);
@@ -168,4 +158,15 @@ public class FilterBank implements Constants, SineWindows, KBDWindows {
 	public float[] getOverlap(int channel) {
 		return overlaps[channel];
 	}
+
+	//clears the overlap of all channels
+	public void reset() {
+		for(int i = 0; i<overlaps.length; i++) {
+			Arrays.fill(overlaps[i], 0);
+		}
+	}
+
+	public int getChannelCount() {
+		return overlaps.length;
+	}
 }
@@ -0,0 +1,99 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import java.util.logging.Level;
+import net.sourceforge.jaad.aac.syntax.Constants;
+
+/**
+ * Element-wise kernels of the synthesis stages: the MDCT twiddle factors,
+ * windowing, overlap-add, the QMF windows of SBR and the conversion to PCM.
+ * They run for every channel of every frame, so a SIMD implementation using
+ * the Vector API is used if it was compiled (maven profile 'vector') and the
+ * JVM was started with <code>--add-modules jdk.incubator.vector</code>.
+ * Otherwise, or if the
+ * system property <code>net.sourceforge.jaad.aac.vector</code> is false, the
+ * scalar implementation is used.
+ *
+ * Both implementations evaluate every sum in the same order and never fuse
+ * multiplications and additions, so their results are bit-identical.
+ */
+public abstract class Kernels {
+
+	public static final String VECTOR_PROPERTY = "net.sourceforge.jaad.aac.vector";
+	private static final String VECTOR_CLASS = "net.sourceforge.jaad.aac.filterbank.VectorKernels";
+	private static final Kernels INSTANCE = create();
+
+	private static Kernels create() {
+		if(!"false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY))) {
+			try {
+				return (Kernels) Class.forName(VECTOR_CLASS).getDeclaredConstructor().newInstance();
+			}
+			catch(ClassNotFoundException e) {
+				//not compiled
+			}
+			catch(Exception e) {
+				Constants.LOGGER.log(Level.FINE, "vector kernels not available: {0}", e.toString());
+			}
+			catch(LinkageError e) {
+				//jdk.incubator.vector not added
+				Constants.LOGGER.log(Level.FINE, "vector kernels not available: {0}", e.toString());
+			}
+		}
+		return new ScalarKernels();
+	}
+
+	public static Kernels getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns a short description of the implementation, for logging.
+	 */
+	public abstract String getName();
+
+	/**
+	 * <code>out[i] = a[i]*w[i]</code>
+	 */
+	public abstract void multiply(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n);
+
+	/**
+	 * <code>out[i] = a[i]*w[-i]</code>: the window is read backwards, starting
+	 * at <code>wOff</code>.
+	 */
+	public abstract void multiplyReverse(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n);
+
+	/**
+	 * <code>out[i] = add[i]+a[i]*w[i]</code>
+	 */
+	public abstract void multiplyAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n);
+
+	/**
+	 * <code>out[i] = add[i]+a[i]*w[-i]</code>: the window is read backwards,
+	 * starting at <code>wOff</code>.
+	 */
+	public abstract void multiplyReverseAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n);
+
+	/**
+	 * Polyphase window of the QMF filterbanks:
+	 * <code>out[i] = sum(x[xOff+taps[t]+i]*c[t*n+i])</code>, summed in the
+	 * order of the taps.
+	 */
+	public abstract void window(float[] x, int xOff, int[] taps, float[] c, float[] out, int outOff, int n);
+
+	/**
+	 * <code>out[i] = a[i]*f</code>
+	 */
+	public abstract void scale(float[] a, int aOff, float f, float[] out, int outOff, int n);
+
+	/**
+	 * Complex multiplication of split arrays, as used for the twiddle factors
+	 * of the MDCT: <code>out = (re+i*im)*(c+i*s)</code>. The output may be the
+	 * same as the input.
+	 */
+	public abstract void complexMultiply(float[] re, float[] im, float[] c, float[] s, float[] outRe, float[] outIm, int n);
+
+	/**
+	 * Rounds to 16 bit PCM like <code>Math.round</code>, clipping to the
+	 * range of a short.
+	 */
+	public abstract void toShort(float[] a, int aOff, short[] out, int outOff, int n);
+}
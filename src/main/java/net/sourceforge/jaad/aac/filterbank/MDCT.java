@@ -2,37 +2,35 @@ package net.sourceforge.jaad.aac.filterbank;
 
 import net.sourceforge.jaad.aac.AACException;
 
-class MDCT implements MDCTTables {
+class MDCT {
 
 	private final int N, N2, N4, N8;
-	private final float[][] sincos;
+	//twiddle factors
+	private final float[] cos, sin;
 	private final FFT fft;
-	private final float[][] buf;
-	private final float[] tmp;
+	private final float[] re, im;
+	private final Kernels kernels;
 
 	MDCT(int length) throws AACException {
 		N = length;
 		N2 = length>>1;
 		N4 = length>>2;
 		N8 = length>>3;
-		switch(length) {
-			case 2048:
-				sincos = MDCT_TABLE_2048;
-				break;
-			case 256:
-				sincos = MDCT_TABLE_128;
-				break;
-			case 1920:
-				sincos = MDCT_TABLE_1920;
-				break;
-			case 240:
-				sincos = MDCT_TABLE_240;
-			default:
-				throw new AACException("unsupported MDCT length: "+length);
+		if(length!=2048&&length!=256&&length!=1920&&length!=240) throw new AACException("unsupported MDCT length: "+length);
+		//scale*e^(j*2*pi*(k+1/8)/N)
+		final double scale = Math.sqrt(2.0/N);
+		double a;
+		cos = new float[N4];
+		sin = new float[N4];
+		for(int k = 0; k<N4; k++) {
+			a = 2*Math.PI*(k+0.125)/N;
+			cos[k] = (float) (scale*StrictMath.cos(a));
+			sin[k] = (float) (scale*StrictMath.sin(a));
 		}
 		fft = new FFT(N4);
-		buf = new float[N4][2];
-		tmp = new float[2];
+		re = new float[N4];
+		im = new float[N4];
+		kernels = Kernels.getInstance();
 	}
 
 	void process(float[] in, int inOff, float[] out, int outOff) {
@@ -40,87 +38,84 @@ class MDCT implements MDCTTables {
 
 		//pre-IFFT complex multiplication
 		for(k = 0; k<N4; k++) {
-			buf[k][1] = (in[inOff+2*k]*sincos[k][0])+(in[inOff+N2-1-2*k]*sincos[k][1]);
-			buf[k][0] = (in[inOff+N2-1-2*k]*sincos[k][0])-(in[inOff+2*k]*sincos[k][1]);
+			re[k] = in[inOff+N2-1-2*k];
+			im[k] = in[inOff+2*k];
 		}
+		kernels.complexMultiply(re, im, cos, sin, re, im, N4);
 
 		//complex IFFT, non-scaling
-		fft.process(buf, false);
+		fft.process(re, im, false);
 
 		//post-IFFT complex multiplication
-		for(k = 0; k<N4; k++) {
-			tmp[0] = buf[k][0];
-			tmp[1] = buf[k][1];
-			buf[k][1] = (tmp[1]*sincos[k][0])+(tmp[0]*sincos[k][1]);
-			buf[k][0] = (tmp[0]*sincos[k][0])-(tmp[1]*sincos[k][1]);
-		}
+		kernels.complexMultiply(re, im, cos, sin, re, im, N4);
 
 		//reordering
 		for(k = 0; k<N8; k += 2) {
-			out[outOff+2*k] = buf[N8+k][1];
-			out[outOff+2+2*k] = buf[N8+1+k][1];
+			out[outOff+2*k] = im[N8+k];
+			out[outOff+2+2*k] = im[N8+1+k];
 
-			out[outOff+1+2*k] = -buf[N8-1-k][0];
-			out[outOff+3+2*k] = -buf[N8-2-k][0];
+			out[outOff+1+2*k] = -re[N8-1-k];
+			out[outOff+3+2*k] = -re[N8-2-k];
 
-			out[outOff+N4+2*k] = buf[k][0];
-			out[outOff+N4+2+2*k] = buf[1+k][0];
+			out[outOff+N4+2*k] = re[k];
+			out[outOff+N4+2+2*k] = re[1+k];
 
-			out[outOff+N4+1+2*k] = -buf[N4-1-k][1];
-			out[outOff+N4+3+2*k] = -buf[N4-2-k][1];
+			out[outOff+N4+1+2*k] = -im[N4-1-k];
+			out[outOff+N4+3+2*k] = -im[N4-2-k];
 
-			out[outOff+N2+2*k] = buf[N8+k][0];
-			out[outOff+N2+2+2*k] = buf[N8+1+k][0];
+			out[outOff+N2+2*k] = re[N8+k];
+			out[outOff+N2+2+2*k] = re[N8+1+k];
 
-			out[outOff+N2+1+2*k] = -buf[N8-1-k][1];
-			out[outOff+N2+3+2*k] = -buf[N8-2-k][1];
+			out[outOff+N2+1+2*k] = -im[N8-1-k];
+			out[outOff+N2+3+2*k] = -im[N8-2-k];
 
-			out[outOff+N2+N4+2*k] = -buf[k][1];
-			out[outOff+N2+N4+2+2*k] = -buf[1+k][1];
+			out[outOff+N2+N4+2*k] = -im[k];
+			out[outOff+N2+N4+2+2*k] = -im[1+k];
 
-			out[outOff+N2+N4+1+2*k] = buf[N4-1-k][0];
-			out[outOff+N2+N4+3+2*k] = buf[N4-2-k][0];
+			out[outOff+N2+N4+1+2*k] = re[N4-1-k];
+			out[outOff+N2+N4+3+2*k] = re[N4-2-k];
 		}
 	}
 
 	void processForward(float[] in, float[] out) {
 		int n, k;
+		float t0, t1;
 		//pre-FFT complex multiplication
 		for(k = 0; k<N8; k++) {
 			n = k<<1;
-			tmp[0] = in[N-N4-1-n]+in[N-N4+n];
-			tmp[1] = in[N4+n]-in[N4-1-n];
+			t0 = in[N-N4-1-n]+in[N-N4+n];
+			t1 = in[N4+n]-in[N4-1-n];
 
-			buf[k][0] = (tmp[0]*sincos[k][0])+(tmp[1]*sincos[k][1]);
-			buf[k][1] = (tmp[1]*sincos[k][0])-(tmp[0]*sincos[k][1]);
+			re[k] = (t0*cos[k])+(t1*sin[k]);
+			im[k] = (t1*cos[k])-(t0*sin[k]);
 
-			buf[k][0] *= N;
-			buf[k][1] *= N;
+			re[k] *= N;
+			im[k] *= N;
 
-			tmp[0] = in[N2-1-n]-in[n];
-			tmp[1] = in[N2+n]+in[N-1-n];
+			t0 = in[N2-1-n]-in[n];
+			t1 = in[N2+n]+in[N-1-n];
 
-			buf[k+N8][0] = (tmp[0]*sincos[k+N8][0])+(tmp[1]*sincos[k+N8][1]);
-			buf[k+N8][1] = (tmp[1]*sincos[k+N8][0])-(tmp[0]*sincos[k+N8][1]);
+			re[k+N8] = (t0*cos[k+N8])+(t1*sin[k+N8]);
+			im[k+N8] = (t1*cos[k+N8])-(t0*sin[k+N8]);
 
-			buf[k+N8][0] *= N;
-			buf[k+N8][1] *= N;
+			re[k+N8] *= N;
+			im[k+N8] *= N;
 		}
 
 		//complex FFT, non-scaling
-		fft.process(buf, true);
+		fft.process(re, im, true);
 
 		//post-FFT complex multiplication
 		for(k = 0; k<N4; k++) {
 			n = k<<1;
 
-			tmp[0] = (buf[k][0]*sincos[k][0])+(buf[k][1]*sincos[k][1]);
-			tmp[1] = (buf[k][1]*sincos[k][0])-(buf[k][0]*sincos[k][1]);
+			t0 = (re[k]*cos[k])+(im[k]*sin[k]);
+			t1 = (im[k]*cos[k])-(re[k]*sin[k]);
 
-			out[n] = -tmp[0];
-			out[N2-1-n] = tmp[1];
-			out[N2+n] = -tmp[1];
-			out[N-1-n] = tmp[0];
+			out[n] = -t0;
+			out[N2-1-n] = t1;
+			out[N2+n] = -t1;
+			out[N-1-n] = t0;
 		}
 	}
 }
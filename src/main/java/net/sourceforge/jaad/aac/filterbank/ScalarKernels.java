@@ -0,0 +1,75 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+final class ScalarKernels extends Kernels {
+
+	@Override
+	public String getName() {
+		return "scalar";
+	}
+
+	@Override
+	public void multiply(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = a[aOff+i]*w[wOff+i];
+		}
+	}
+
+	@Override
+	public void multiplyReverse(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = a[aOff+i]*w[wOff-i];
+		}
+	}
+
+	@Override
+	public void multiplyAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = add[addOff+i]+(a[aOff+i]*w[wOff+i]);
+		}
+	}
+
+	@Override
+	public void multiplyReverseAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = add[addOff+i]+(a[aOff+i]*w[wOff-i]);
+		}
+	}
+
+	@Override
+	public void window(float[] x, int xOff, int[] taps, float[] c, float[] out, int outOff, int n) {
+		float sum;
+		int t;
+		for(int i = 0; i<n; i++) {
+			sum = x[xOff+taps[0]+i]*c[i];
+			for(t = 1; t<taps.length; t++) {
+				sum += x[xOff+taps[t]+i]*c[t*n+i];
+			}
+			out[outOff+i] = sum;
+		}
+	}
+
+	@Override
+	public void scale(float[] a, int aOff, float f, float[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = a[aOff+i]*f;
+		}
+	}
+
+	@Override
+	public void complexMultiply(float[] re, float[] im, float[] c, float[] s, float[] outRe, float[] outIm, int n) {
+		float r, i;
+		for(int k = 0; k<n; k++) {
+			r = re[k];
+			i = im[k];
+			outRe[k] = (r*c[k])-(i*s[k]);
+			outIm[k] = (r*s[k])+(i*c[k]);
+		}
+	}
+
+	@Override
+	public void toShort(float[] a, int aOff, short[] out, int outOff, int n) {
+		for(int i = 0; i<n; i++) {
+			out[outOff+i] = (short) Math.max(Math.min(Math.round(a[aOff+i]), Short.MAX_VALUE), Short.MIN_VALUE);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The sine and Kaiser-Bessel derived windows (ISO/IEC 14496-3, 4.6.11.3.2),
+ * created on first use for the frame length of the stream and shared by all
+ * filterbanks.
+ */
+final class Windows {
+
+	private static final Map<Integer, float[]> SINE = new HashMap<Integer, float[]>();
+	private static final Map<Integer, float[]> KBD = new HashMap<Integer, float[]>();
+
+	private Windows() {
+	}
+
+	/**
+	 * Returns the first half of the sine window for a transform of
+	 * <code>2*length</code> samples.
+	 * @param length the length of the window half
+	 * @return the window
+	 */
+	static synchronized float[] getSine(int length) {
+		float[] w = SINE.get(length);
+		if(w==null) {
+			w = new float[length];
+			for(int i = 0; i<length; i++) {
+				w[i] = (float) StrictMath.sin((i+0.5)*Math.PI/(2.0*length));
+			}
+			SINE.put(length, w);
+		}
+		return w;
+	}
+
+	/**
+	 * Returns the first half of the KBD window for a transform of
+	 * <code>2*length</code> samples, with alpha 4 for long and 6 for short
+	 * windows.
+	 * @param length the length of the window half
+	 * @return the window
+	 */
+	static synchronized float[] getKBD(int length) {
+		float[] w = KBD.get(length);
+		if(w==null) {
+			if(length==1024) w = KBDTables.KBD_1024;
+			else if(length==128) w = KBDTables.KBD_128;
+			else w = createKBD(length, (length>256) ? 4 : 6);
+			KBD.put(length, w);
+		}
+		return w;
+	}
+
+	private static float[] createKBD(int length, int alpha) {
+		//Kaiser window of length+1 samples
+		final double[] kaiser = new double[length+1];
+		double sum = 0, x;
+		int i;
+		for(i = 0; i<=length; i++) {
+			x = 2.0*i/length-1;
+			kaiser[i] = besselI0(Math.PI*alpha*Math.sqrt(1-x*x));
+			sum += kaiser[i];
+		}
+
+		final float[] w = new float[length];
+		double acc = 0;
+		for(i = 0; i<length; i++) {
+			acc += kaiser[i];
+			w[i] = (float) Math.sqrt(acc/sum);
+		}
+		return w;
+	}
+
+	//modified Bessel function of the first kind, order 0
+	private static double besselI0(double x) {
+		double sum = 1, term = 1, f;
+		int k = 1;
+		do {
+			f = x/(2*k++);
+			term *= f*f;
+			sum += term;
+		}
+		while(term>1e-20*sum);
+		return sum;
+	}
+}
@@ -1,6 +1,7 @@
 package net.sourceforge.jaad.aac.gain;
 
 import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.filterbank.FFT;
 import net.sourceforge.jaad.aac.syntax.ICSInfo.WindowSequence;
 
 //inverse modified discrete cosine transform
@@ -9,6 +10,9 @@ class IMDCT implements GCConstants, IMDCTTables, Windows {
 	private static final float[][] LONG_WINDOWS = {SINE_256, KBD_256};
 	private static final float[][] SHORT_WINDOWS = {SINE_32, KBD_32};
 	private final int frameLen, shortFrameLen, lbLong, lbShort, lbMid;
+	//complex FFTs of length 128/16, created on first use
+	private FFT fftLong, fftShort;
+	private float[] re, im;
 
 	IMDCT(int frameLen) {
 		this.frameLen = frameLen;
@@ -130,15 +134,24 @@ class IMDCT implements GCConstants, IMDCTTables, Windows {
 	private void imdct(float[] in, float[] out, float[] window, int n) throws AACException {
 		final int n2 = n/2;
 		float[][] table, table2;
+		final FFT fft;
 		if(n==256) {
 			table = IMDCT_TABLE_256;
 			table2 = IMDCT_POST_TABLE_256;
+			if(fftLong==null) fftLong = new FFT(n2);
+			fft = fftLong;
 		}
 		else if(n==32) {
 			table = IMDCT_TABLE_32;
 			table2 = IMDCT_POST_TABLE_32;
+			if(fftShort==null) fftShort = new FFT(n2);
+			fft = fftShort;
 		}
 		else throw new AACException("gain control: unexpected IMDCT length");
+		if(re==null||re.length<n2) {
+			re = new float[n2];
+			im = new float[n2];
+		}
 
 		final float[] tmp = new float[n];
 		int i;
@@ -150,21 +163,20 @@ class IMDCT implements GCConstants, IMDCTTables, Windows {
 		}
 
 		//pre-twiddle
-		final float[][] buf = new float[n2][2];
 		for(i = 0; i<n2; i++) {
-			buf[i][0] = (table[i][0]*tmp[2*i])-(table[i][1]*tmp[2*i+1]);
-			buf[i][1] = (table[i][0]*tmp[2*i+1])+(table[i][1]*tmp[2*i]);
+			re[i] = (table[i][0]*tmp[2*i])-(table[i][1]*tmp[2*i+1]);
+			im[i] = (table[i][0]*tmp[2*i+1])+(table[i][1]*tmp[2*i]);
 		}
 
 		//fft
-		FFT.process(buf, n2);
+		fft.process(re, im, true);
 
 		//post-twiddle and reordering
 		for(i = 0; i<n2; i++) {
-			tmp[i] = table2[i][0]*buf[i][0]+table2[i][1]*buf[n2-1-i][0]
-					+table2[i][2]*buf[i][1]+table2[i][3]*buf[n2-1-i][1];
-			tmp[n-1-i] = table2[i][2]*buf[i][0]-table2[i][3]*buf[n2-1-i][0]
-					-table2[i][0]*buf[i][1]+table2[i][1]*buf[n2-1-i][1];
+			tmp[i] = table2[i][0]*re[i]+table2[i][1]*re[n2-1-i]
+					+table2[i][2]*im[i]+table2[i][3]*im[n2-1-i];
+			tmp[n-1-i] = table2[i][2]*re[i]-table2[i][3]*re[n2-1-i]
+					-table2[i][0]*im[i]+table2[i][1]*im[n2-1-i];
 		}
 
 		//copy to output and apply window
@@ -8,29 +8,31 @@ public class Huffman implements Codebooks {
 
 	private static final boolean[] UNSIGNED = {false, false, true, true, false, false, true, true, true, true, true};
 	private static final int QUAD_LEN = 4, PAIR_LEN = 2;
+	private static final HuffmanTable TABLE_SF = new HuffmanTable(HCB_SF);
+	private static final HuffmanTable[] TABLES = new HuffmanTable[CODEBOOKS.length];
 
-	private Huffman() {
+	static {
+		for(int i = 0; i<CODEBOOKS.length; i++) {
+			TABLES[i] = new HuffmanTable(CODEBOOKS[i]);
+		}
 	}
 
-	private static int findOffset(BitStream in, int[][] table) throws AACException {
-		int off = 0;
-		int len = table[off][0];
-		int cw = in.readBits(len);
-		int j;
-		while(cw!=table[off][1]) {
-			off++;
-			j = table[off][0]-len;
-			len = table[off][0];
-			cw <<= j;
-			cw |= in.readBits(j);
-		}
-		return off;
+	private Huffman() {
 	}
 
+	//reads the sign bits of all non-zero values at once
 	private static void signValues(BitStream in, int[] data, int off, int len) throws AACException {
+		int n = 0;
 		for(int i = off; i<off+len; i++) {
-			if(data[i]!=0) {
-				if(in.readBool()) data[i] = -data[i];
+			if(data[i]!=0) n++;
+		}
+		if(n>0) {
+			final int bits = in.readBits(n);
+			for(int i = off; i<off+len; i++) {
+				if(data[i]!=0) {
+					n--;
+					if(((bits>>n)&1)!=0) data[i] = -data[i];
+				}
 			}
 		}
 	}
@@ -48,7 +50,7 @@ public class Huffman implements Codebooks {
 	}
 
 	public static int decodeScaleFactor(BitStream in) throws AACException {
-		final int offset = findOffset(in, HCB_SF);
+		final int offset = TABLE_SF.decode(in);
 		return HCB_SF[offset][2];
 	}
 
@@ -56,7 +58,7 @@ public class Huffman implements Codebooks {
 		final int[][] HCB = CODEBOOKS[cb-1];
 
 		//find index
-		final int offset = findOffset(in, HCB);
+		final int offset = TABLES[cb-1].decode(in);
 
 		//copy data
 		data[off] = HCB[offset][2];
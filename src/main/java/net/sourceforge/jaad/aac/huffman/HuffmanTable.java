@@ -0,0 +1,104 @@
+package net.sourceforge.jaad.aac.huffman;
+
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+
+/**
+ * Lookup table for one of the canonical codebooks in <code>Codebooks</code>.
+ *
+ * The first level is indexed by the next <code>ROOT_BITS</code> bits of the
+ * stream and resolves all shorter codewords with a single lookup. Longer
+ * codewords point to a second level table that is indexed by the remaining
+ * bits. Each entry holds the offset of the codeword in the codebook and its
+ * length, so the values are still taken from the original codebook.
+ */
+final class HuffmanTable {
+
+	private static final int ROOT_BITS = 9;
+	private static final int LEN_BITS = 5;
+	private static final int LEN_MASK = (1<<LEN_BITS)-1;
+	private static final int SUB_TABLE = 0x80000000;
+	private final int rootBits;
+	private final int[] table;
+
+	HuffmanTable(int[][] codebook) {
+		int maxLen = 0;
+		for(int i = 0; i<codebook.length; i++) {
+			maxLen = Math.max(maxLen, codebook[i][0]);
+		}
+		rootBits = Math.min(maxLen, ROOT_BITS);
+
+		//size of the second level tables for each prefix
+		final int rootSize = 1<<rootBits;
+		final int[] subBits = new int[rootSize];
+		int len, rest;
+		for(int i = 0; i<codebook.length; i++) {
+			len = codebook[i][0];
+			if(len>rootBits) {
+				final int prefix = codebook[i][1]>>>(len-rootBits);
+				subBits[prefix] = Math.max(subBits[prefix], len-rootBits);
+			}
+		}
+		int size = rootSize;
+		for(int i = 0; i<rootSize; i++) {
+			if(subBits[i]>0) size += 1<<subBits[i];
+		}
+
+		table = new int[size];
+		int next = rootSize;
+		for(int i = 0; i<rootSize; i++) {
+			if(subBits[i]>0) {
+				table[i] = SUB_TABLE|(next<<LEN_BITS)|subBits[i];
+				next += 1<<subBits[i];
+			}
+		}
+
+		int cw, start, count, e, bits;
+		for(int i = 0; i<codebook.length; i++) {
+			len = codebook[i][0];
+			cw = codebook[i][1];
+			if(len<=rootBits) {
+				start = cw<<(rootBits-len);
+				count = 1<<(rootBits-len);
+				fill(start, count, (i<<LEN_BITS)|len);
+			}
+			else {
+				e = table[cw>>>(len-rootBits)];
+				bits = e&LEN_MASK;
+				rest = len-rootBits;
+				start = ((e&~SUB_TABLE)>>>LEN_BITS)+((cw&((1<<rest)-1))<<(bits-rest));
+				count = 1<<(bits-rest);
+				fill(start, count, (i<<LEN_BITS)|rest);
+			}
+		}
+	}
+
+	private void fill(int start, int count, int entry) {
+		for(int i = start; i<start+count; i++) {
+			table[i] = entry;
+		}
+	}
+
+	/**
+	 * Reads the next codeword from the stream and returns its offset in the
+	 * codebook, that this table was created from.
+	 */
+	int decode(BitStream in) throws AACException {
+		int e = table[peek(in, rootBits)];
+		if(e<0) {
+			in.skipBits(rootBits);
+			e = table[((e&~SUB_TABLE)>>>LEN_BITS)+peek(in, e&LEN_MASK)];
+		}
+		final int len = e&LEN_MASK;
+		if(len==0) throw new AACException("Huffman: invalid codeword");
+		in.skipBits(len);
+		return e>>>LEN_BITS;
+	}
+
+	//at the end of a frame less bits than the table width may be left
+	private static int peek(BitStream in, int n) throws AACException {
+		final int left = in.getBitsLeft();
+		if(left>=n) return in.peekBits(n);
+		else return in.peekBits(left)<<(n-left);
+	}
+}
@@ -1,14 +1,23 @@
 package net.sourceforge.jaad.aac.ps;
 
-class Filterbank implements PSTables {
+import java.util.Arrays;
+
+class Filterbank implements PSConstants, PSTables {
 
 	private int frame_len;
 	private int[] resolution20 = new int[3];
 	private int[] resolution34 = new int[5];
 
-	private float[][] work;
-	private float[][][] buffer;
-	private float[][][] temp;
+	//complex interleaved: work holds frame_len+12 samples, buffer 12 samples per band
+	private float[] work;
+	private float[] buffer;
+	private float[] temp;
+	//work buffers for the channel filters
+	private final float[] input_re1 = new float[6], input_re2 = new float[6];
+	private final float[] input_im1 = new float[6], input_im2 = new float[6];
+	private final float[] out_re1 = new float[6], out_re2 = new float[6];
+	private final float[] out_im1 = new float[6], out_im2 = new float[6];
+	private final float[] x = new float[4];
 
 	Filterbank(int numTimeSlotsRate) {
 		int i;
@@ -25,14 +34,19 @@ class Filterbank implements PSTables {
 
 		this.frame_len = numTimeSlotsRate;
 
-		this.work = new float[(this.frame_len+12)][2];
+		this.work = new float[2*(this.frame_len+12)];
+
+		this.buffer = new float[5*24];
 
-		this.buffer = new float[5][frame_len][2];
+		temp = new float[frame_len*HYBRID_SLOT];
+	}
 
-		temp = new float[frame_len][12][2];
+	//clears the delayed samples of the previous frame
+	void reset() {
+		Arrays.fill(buffer, 0);
 	}
 
-	void hybrid_analysis(float[][][] X, float[][][] X_hybrid, boolean use34, int numTimeSlotsRate) {
+	void hybrid_analysis(float[] X, float[] X_hybrid, boolean use34, int numTimeSlotsRate) {
 		int k, n, band;
 		int offset = 0;
 		int qmf_bands = (use34) ? 5 : 3;
@@ -42,21 +56,21 @@ class Filterbank implements PSTables {
 			/* build working buffer */
 			//memcpy(this.work, this.buffer[band], 12*sizeof(qmf_t));
 			for(int i = 0; i<12; i++) {
-				work[i][0] = buffer[band][i][0];
-				work[i][1] = buffer[band][i][1];
+				work[2*i] = buffer[band*24+2*i];
+				work[2*i+1] = buffer[band*24+2*i+1];
 			}
 
 			/* add new samples */
 			for(n = 0; n<this.frame_len; n++) {
-				this.work[12+n][0] = X[n+6 /*delay*/][band][0];
-				this.work[12+n][0] = X[n+6 /*delay*/][band][0];
+				this.work[2*(12+n)] = X[(n+6 /*delay*/)*QMF_SLOT+2*band];
+				this.work[2*(12+n)] = X[(n+6 /*delay*/)*QMF_SLOT+2*band];
 			}
 
 			/* store samples */
 			//memcpy(this.buffer[band], this.work+this.frame_len, 12*sizeof(qmf_t));
 			for(int i = 0; i<12; i++) {
-				buffer[band][i][0] = work[frame_len+i][0];
-				buffer[band][i][1] = work[frame_len+i][1];
+				buffer[band*24+2*i] = work[2*(frame_len+i)];
+				buffer[band*24+2*i+1] = work[2*(frame_len+i)+1];
 			}
 
 			switch(resolution[band]) {
@@ -81,8 +95,8 @@ class Filterbank implements PSTables {
 
 			for(n = 0; n<this.frame_len; n++) {
 				for(k = 0; k<resolution[band]; k++) {
-					X_hybrid[n][offset+k][0] = this.temp[n][k][0];
-					X_hybrid[n][offset+k][1] = this.temp[n][k][1];
+					X_hybrid[n*HYBRID_SLOT+2*(offset+k)] = this.temp[n*HYBRID_SLOT+2*k];
+					X_hybrid[n*HYBRID_SLOT+2*(offset+k)+1] = this.temp[n*HYBRID_SLOT+2*k+1];
 				}
 			}
 			offset += resolution[band];
@@ -91,101 +105,99 @@ class Filterbank implements PSTables {
 		/* group hybrid channels */
 		if(!use34) {
 			for(n = 0; n<numTimeSlotsRate; n++) {
-				X_hybrid[n][3][0] += X_hybrid[n][4][0];
-				X_hybrid[n][3][1] += X_hybrid[n][4][1];
-				X_hybrid[n][4][0] = 0;
-				X_hybrid[n][4][1] = 0;
-
-				X_hybrid[n][2][0] += X_hybrid[n][5][0];
-				X_hybrid[n][2][1] += X_hybrid[n][5][1];
-				X_hybrid[n][5][0] = 0;
-				X_hybrid[n][5][1] = 0;
+				X_hybrid[n*HYBRID_SLOT+2*3] += X_hybrid[n*HYBRID_SLOT+2*4];
+				X_hybrid[n*HYBRID_SLOT+2*3+1] += X_hybrid[n*HYBRID_SLOT+2*4+1];
+				X_hybrid[n*HYBRID_SLOT+2*4] = 0;
+				X_hybrid[n*HYBRID_SLOT+2*4+1] = 0;
+
+				X_hybrid[n*HYBRID_SLOT+2*2] += X_hybrid[n*HYBRID_SLOT+2*5];
+				X_hybrid[n*HYBRID_SLOT+2*2+1] += X_hybrid[n*HYBRID_SLOT+2*5+1];
+				X_hybrid[n*HYBRID_SLOT+2*5] = 0;
+				X_hybrid[n*HYBRID_SLOT+2*5+1] = 0;
 			}
 		}
 	}
 
 	/* real filter, size 2 */
 	static void channel_filter2(int frame_len, float[] filter,
-		float[][] buffer, float[][][] X_hybrid) {
+		float[] buffer, float[] X_hybrid) {
 		int i;
 
 		for(i = 0; i<frame_len; i++) {
-			float r0 = (filter[0]*(buffer[0+i][0]+buffer[12+i][0]));
-			float r1 = (filter[1]*(buffer[1+i][0]+buffer[11+i][0]));
-			float r2 = (filter[2]*(buffer[2+i][0]+buffer[10+i][0]));
-			float r3 = (filter[3]*(buffer[3+i][0]+buffer[9+i][0]));
-			float r4 = (filter[4]*(buffer[4+i][0]+buffer[8+i][0]));
-			float r5 = (filter[5]*(buffer[5+i][0]+buffer[7+i][0]));
-			float r6 = (filter[6]*buffer[6+i][0]);
-			float i0 = (filter[0]*(buffer[0+i][1]+buffer[12+i][1]));
-			float i1 = (filter[1]*(buffer[1+i][1]+buffer[11+i][1]));
-			float i2 = (filter[2]*(buffer[2+i][1]+buffer[10+i][1]));
-			float i3 = (filter[3]*(buffer[3+i][1]+buffer[9+i][1]));
-			float i4 = (filter[4]*(buffer[4+i][1]+buffer[8+i][1]));
-			float i5 = (filter[5]*(buffer[5+i][1]+buffer[7+i][1]));
-			float i6 = (filter[6]*buffer[6+i][1]);
+			float r0 = (filter[0]*(buffer[2*(0+i)]+buffer[2*(12+i)]));
+			float r1 = (filter[1]*(buffer[2*(1+i)]+buffer[2*(11+i)]));
+			float r2 = (filter[2]*(buffer[2*(2+i)]+buffer[2*(10+i)]));
+			float r3 = (filter[3]*(buffer[2*(3+i)]+buffer[2*(9+i)]));
+			float r4 = (filter[4]*(buffer[2*(4+i)]+buffer[2*(8+i)]));
+			float r5 = (filter[5]*(buffer[2*(5+i)]+buffer[2*(7+i)]));
+			float r6 = (filter[6]*buffer[2*(6+i)]);
+			float i0 = (filter[0]*(buffer[2*(0+i)+1]+buffer[2*(12+i)+1]));
+			float i1 = (filter[1]*(buffer[2*(1+i)+1]+buffer[2*(11+i)+1]));
+			float i2 = (filter[2]*(buffer[2*(2+i)+1]+buffer[2*(10+i)+1]));
+			float i3 = (filter[3]*(buffer[2*(3+i)+1]+buffer[2*(9+i)+1]));
+			float i4 = (filter[4]*(buffer[2*(4+i)+1]+buffer[2*(8+i)+1]));
+			float i5 = (filter[5]*(buffer[2*(5+i)+1]+buffer[2*(7+i)+1]));
+			float i6 = (filter[6]*buffer[2*(6+i)+1]);
 
 			/* q = 0 */
-			X_hybrid[i][0][0] = r0+r1+r2+r3+r4+r5+r6;
-			X_hybrid[i][0][1] = i0+i1+i2+i3+i4+i5+i6;
+			X_hybrid[i*HYBRID_SLOT] = r0+r1+r2+r3+r4+r5+r6;
+			X_hybrid[i*HYBRID_SLOT+1] = i0+i1+i2+i3+i4+i5+i6;
 
 			/* q = 1 */
-			X_hybrid[i][1][0] = r0-r1+r2-r3+r4-r5+r6;
-			X_hybrid[i][1][1] = i0-i1+i2-i3+i4-i5+i6;
+			X_hybrid[i*HYBRID_SLOT+2*1] = r0-r1+r2-r3+r4-r5+r6;
+			X_hybrid[i*HYBRID_SLOT+2*1+1] = i0-i1+i2-i3+i4-i5+i6;
 		}
 	}
 
 	/* complex filter, size 4 */
-	static void channel_filter4(int frame_len, float[] filter,
-		float[][] buffer, float[][][] X_hybrid) {
+	void channel_filter4(int frame_len, float[] filter,
+		float[] buffer, float[] X_hybrid) {
 		int i;
-		float[] input_re1 = new float[2], input_re2 = new float[2];
-		float[] input_im1 = new float[2], input_im2 = new float[2];
 
 		for(i = 0; i<frame_len; i++) {
-			input_re1[0] = -(filter[2]*(buffer[i+2][0]+buffer[i+10][0]))
-				+(filter[6]*buffer[i+6][0]);
+			input_re1[0] = -(filter[2]*(buffer[2*(i+2)]+buffer[2*(i+10)]))
+				+(filter[6]*buffer[2*(i+6)]);
 			input_re1[1] = (-0.70710678118655f
-				*((filter[1]*(buffer[i+1][0]+buffer[i+11][0]))
-				+(filter[3]*(buffer[i+3][0]+buffer[i+9][0]))
-				-(filter[5]*(buffer[i+5][0]+buffer[i+7][0]))));
+				*((filter[1]*(buffer[2*(i+1)]+buffer[2*(i+11)]))
+				+(filter[3]*(buffer[2*(i+3)]+buffer[2*(i+9)]))
+				-(filter[5]*(buffer[2*(i+5)]+buffer[2*(i+7)]))));
 
-			input_im1[0] = (filter[0]*(buffer[i+0][1]-buffer[i+12][1]))
-				-(filter[4]*(buffer[i+4][1]-buffer[i+8][1]));
+			input_im1[0] = (filter[0]*(buffer[2*(i+0)+1]-buffer[2*(i+12)+1]))
+				-(filter[4]*(buffer[2*(i+4)+1]-buffer[2*(i+8)+1]));
 			input_im1[1] = (0.70710678118655f
-				*((filter[1]*(buffer[i+1][1]-buffer[i+11][1]))
-				-(filter[3]*(buffer[i+3][1]-buffer[i+9][1]))
-				-(filter[5]*(buffer[i+5][1]-buffer[i+7][1]))));
+				*((filter[1]*(buffer[2*(i+1)+1]-buffer[2*(i+11)+1]))
+				-(filter[3]*(buffer[2*(i+3)+1]-buffer[2*(i+9)+1]))
+				-(filter[5]*(buffer[2*(i+5)+1]-buffer[2*(i+7)+1]))));
 
-			input_re2[0] = (filter[0]*(buffer[i+0][0]-buffer[i+12][0]))
-				-(filter[4]*(buffer[i+4][0]-buffer[i+8][0]));
+			input_re2[0] = (filter[0]*(buffer[2*(i+0)]-buffer[2*(i+12)]))
+				-(filter[4]*(buffer[2*(i+4)]-buffer[2*(i+8)]));
 			input_re2[1] = (0.70710678118655f
-				*((filter[1]*(buffer[i+1][0]-buffer[i+11][0]))
-				-(filter[3]*(buffer[i+3][0]-buffer[i+9][0]))
-				-(filter[5]*(buffer[i+5][0]-buffer[i+7][0]))));
+				*((filter[1]*(buffer[2*(i+1)]-buffer[2*(i+11)]))
+				-(filter[3]*(buffer[2*(i+3)]-buffer[2*(i+9)]))
+				-(filter[5]*(buffer[2*(i+5)]-buffer[2*(i+7)]))));
 
-			input_im2[0] = -(filter[2]*(buffer[i+2][1]+buffer[i+10][1]))
-				+(filter[6]*buffer[i+6][1]);
+			input_im2[0] = -(filter[2]*(buffer[2*(i+2)+1]+buffer[2*(i+10)+1]))
+				+(filter[6]*buffer[2*(i+6)+1]);
 			input_im2[1] = (-0.70710678118655f
-				*((filter[1]*(buffer[i+1][1]+buffer[i+11][1]))
-				+(filter[3]*(buffer[i+3][1]+buffer[i+9][1]))
-				-(filter[5]*(buffer[i+5][1]+buffer[i+7][1]))));
+				*((filter[1]*(buffer[2*(i+1)+1]+buffer[2*(i+11)+1]))
+				+(filter[3]*(buffer[2*(i+3)+1]+buffer[2*(i+9)+1]))
+				-(filter[5]*(buffer[2*(i+5)+1]+buffer[2*(i+7)+1]))));
 
 			/* q == 0 */
-			X_hybrid[i][0][0] = input_re1[0]+input_re1[1]+input_im1[0]+input_im1[1];
-			X_hybrid[i][0][1] = -input_re2[0]-input_re2[1]+input_im2[0]+input_im2[1];
+			X_hybrid[i*HYBRID_SLOT] = input_re1[0]+input_re1[1]+input_im1[0]+input_im1[1];
+			X_hybrid[i*HYBRID_SLOT+1] = -input_re2[0]-input_re2[1]+input_im2[0]+input_im2[1];
 
 			/* q == 1 */
-			X_hybrid[i][1][0] = input_re1[0]-input_re1[1]-input_im1[0]+input_im1[1];
-			X_hybrid[i][1][1] = input_re2[0]-input_re2[1]+input_im2[0]-input_im2[1];
+			X_hybrid[i*HYBRID_SLOT+2*1] = input_re1[0]-input_re1[1]-input_im1[0]+input_im1[1];
+			X_hybrid[i*HYBRID_SLOT+2*1+1] = input_re2[0]-input_re2[1]+input_im2[0]-input_im2[1];
 
 			/* q == 2 */
-			X_hybrid[i][2][0] = input_re1[0]-input_re1[1]+input_im1[0]-input_im1[1];
-			X_hybrid[i][2][1] = -input_re2[0]+input_re2[1]+input_im2[0]-input_im2[1];
+			X_hybrid[i*HYBRID_SLOT+2*2] = input_re1[0]-input_re1[1]+input_im1[0]-input_im1[1];
+			X_hybrid[i*HYBRID_SLOT+2*2+1] = -input_re2[0]+input_re2[1]+input_im2[0]-input_im2[1];
 
 			/* q == 3 */
-			X_hybrid[i][3][0] = input_re1[0]+input_re1[1]-input_im1[0]-input_im1[1];
-			X_hybrid[i][3][1] = input_re2[0]+input_re2[1]+input_im2[0]+input_im2[1];
+			X_hybrid[i*HYBRID_SLOT+2*3] = input_re1[0]+input_re1[1]-input_im1[0]-input_im1[1];
+			X_hybrid[i*HYBRID_SLOT+2*3+1] = input_re2[0]+input_re2[1]+input_im2[0]+input_im2[1];
 		}
 	}
 
@@ -209,68 +221,65 @@ class Filterbank implements PSTables {
 
 	/* complex filter, size 8 */
 	void channel_filter8(int frame_len, float[] filter,
-		float[][] buffer, float[][][] X_hybrid) {
+		float[] buffer, float[] X_hybrid) {
 		int i, n;
-		float[] input_re1 = new float[4], input_re2 = new float[4];
-		float[] input_im1 = new float[4], input_im2 = new float[4];
-		float[] x = new float[4];
 
 		for(i = 0; i<frame_len; i++) {
-			input_re1[0] = (filter[6]*buffer[6+i][0]);
-			input_re1[1] = (filter[5]*(buffer[5+i][0]+buffer[7+i][0]));
-			input_re1[2] = -(filter[0]*(buffer[0+i][0]+buffer[12+i][0]))+(filter[4]*(buffer[4+i][0]+buffer[8+i][0]));
-			input_re1[3] = -(filter[1]*(buffer[1+i][0]+buffer[11+i][0]))+(filter[3]*(buffer[3+i][0]+buffer[9+i][0]));
+			input_re1[0] = (filter[6]*buffer[2*(6+i)]);
+			input_re1[1] = (filter[5]*(buffer[2*(5+i)]+buffer[2*(7+i)]));
+			input_re1[2] = -(filter[0]*(buffer[2*(0+i)]+buffer[2*(12+i)]))+(filter[4]*(buffer[2*(4+i)]+buffer[2*(8+i)]));
+			input_re1[3] = -(filter[1]*(buffer[2*(1+i)]+buffer[2*(11+i)]))+(filter[3]*(buffer[2*(3+i)]+buffer[2*(9+i)]));
 
-			input_im1[0] = (filter[5]*(buffer[7+i][1]-buffer[5+i][1]));
-			input_im1[1] = (filter[0]*(buffer[12+i][1]-buffer[0+i][1]))+(filter[4]*(buffer[8+i][1]-buffer[4+i][1]));
-			input_im1[2] = (filter[1]*(buffer[11+i][1]-buffer[1+i][1]))+(filter[3]*(buffer[9+i][1]-buffer[3+i][1]));
-			input_im1[3] = (filter[2]*(buffer[10+i][1]-buffer[2+i][1]));
+			input_im1[0] = (filter[5]*(buffer[2*(7+i)+1]-buffer[2*(5+i)+1]));
+			input_im1[1] = (filter[0]*(buffer[2*(12+i)+1]-buffer[2*(0+i)+1]))+(filter[4]*(buffer[2*(8+i)+1]-buffer[2*(4+i)+1]));
+			input_im1[2] = (filter[1]*(buffer[2*(11+i)+1]-buffer[2*(1+i)+1]))+(filter[3]*(buffer[2*(9+i)+1]-buffer[2*(3+i)+1]));
+			input_im1[3] = (filter[2]*(buffer[2*(10+i)+1]-buffer[2*(2+i)+1]));
 
 			for(n = 0; n<4; n++) {
 				x[n] = input_re1[n]-input_im1[3-n];
 			}
 			DCT3_4_unscaled(x, x);
-			X_hybrid[i][7][0] = x[0];
-			X_hybrid[i][5][0] = x[2];
-			X_hybrid[i][3][0] = x[3];
-			X_hybrid[i][1][0] = x[1];
+			X_hybrid[i*HYBRID_SLOT+2*7] = x[0];
+			X_hybrid[i*HYBRID_SLOT+2*5] = x[2];
+			X_hybrid[i*HYBRID_SLOT+2*3] = x[3];
+			X_hybrid[i*HYBRID_SLOT+2*1] = x[1];
 
 			for(n = 0; n<4; n++) {
 				x[n] = input_re1[n]+input_im1[3-n];
 			}
 			DCT3_4_unscaled(x, x);
-			X_hybrid[i][6][0] = x[1];
-			X_hybrid[i][4][0] = x[3];
-			X_hybrid[i][2][0] = x[2];
-			X_hybrid[i][0][0] = x[0];
+			X_hybrid[i*HYBRID_SLOT+2*6] = x[1];
+			X_hybrid[i*HYBRID_SLOT+2*4] = x[3];
+			X_hybrid[i*HYBRID_SLOT+2*2] = x[2];
+			X_hybrid[i*HYBRID_SLOT] = x[0];
 
-			input_im2[0] = (filter[6]*buffer[6+i][1]);
-			input_im2[1] = (filter[5]*(buffer[5+i][1]+buffer[7+i][1]));
-			input_im2[2] = -(filter[0]*(buffer[0+i][1]+buffer[12+i][1]))+(filter[4]*(buffer[4+i][1]+buffer[8+i][1]));
-			input_im2[3] = -(filter[1]*(buffer[1+i][1]+buffer[11+i][1]))+(filter[3]*(buffer[3+i][1]+buffer[9+i][1]));
+			input_im2[0] = (filter[6]*buffer[2*(6+i)+1]);
+			input_im2[1] = (filter[5]*(buffer[2*(5+i)+1]+buffer[2*(7+i)+1]));
+			input_im2[2] = -(filter[0]*(buffer[2*(0+i)+1]+buffer[2*(12+i)+1]))+(filter[4]*(buffer[2*(4+i)+1]+buffer[2*(8+i)+1]));
+			input_im2[3] = -(filter[1]*(buffer[2*(1+i)+1]+buffer[2*(11+i)+1]))+(filter[3]*(buffer[2*(3+i)+1]+buffer[2*(9+i)+1]));
 
-			input_re2[0] = (filter[5]*(buffer[7+i][0]-buffer[5+i][0]));
-			input_re2[1] = (filter[0]*(buffer[12+i][0]-buffer[0+i][0]))+(filter[4]*(buffer[8+i][0]-buffer[4+i][0]));
-			input_re2[2] = (filter[1]*(buffer[11+i][0]-buffer[1+i][0]))+(filter[3]*(buffer[9+i][0]-buffer[3+i][0]));
-			input_re2[3] = (filter[2]*(buffer[10+i][0]-buffer[2+i][0]));
+			input_re2[0] = (filter[5]*(buffer[2*(7+i)]-buffer[2*(5+i)]));
+			input_re2[1] = (filter[0]*(buffer[2*(12+i)]-buffer[2*(0+i)]))+(filter[4]*(buffer[2*(8+i)]-buffer[2*(4+i)]));
+			input_re2[2] = (filter[1]*(buffer[2*(11+i)]-buffer[2*(1+i)]))+(filter[3]*(buffer[2*(9+i)]-buffer[2*(3+i)]));
+			input_re2[3] = (filter[2]*(buffer[2*(10+i)]-buffer[2*(2+i)]));
 
 			for(n = 0; n<4; n++) {
 				x[n] = input_im2[n]+input_re2[3-n];
 			}
 			DCT3_4_unscaled(x, x);
-			X_hybrid[i][7][1] = x[0];
-			X_hybrid[i][5][1] = x[2];
-			X_hybrid[i][3][1] = x[3];
-			X_hybrid[i][1][1] = x[1];
+			X_hybrid[i*HYBRID_SLOT+2*7+1] = x[0];
+			X_hybrid[i*HYBRID_SLOT+2*5+1] = x[2];
+			X_hybrid[i*HYBRID_SLOT+2*3+1] = x[3];
+			X_hybrid[i*HYBRID_SLOT+2*1+1] = x[1];
 
 			for(n = 0; n<4; n++) {
 				x[n] = input_im2[n]-input_re2[3-n];
 			}
 			DCT3_4_unscaled(x, x);
-			X_hybrid[i][6][1] = x[1];
-			X_hybrid[i][4][1] = x[3];
-			X_hybrid[i][2][1] = x[2];
-			X_hybrid[i][0][1] = x[0];
+			X_hybrid[i*HYBRID_SLOT+2*6+1] = x[1];
+			X_hybrid[i*HYBRID_SLOT+2*4+1] = x[3];
+			X_hybrid[i*HYBRID_SLOT+2*2+1] = x[2];
+			X_hybrid[i*HYBRID_SLOT+1] = x[0];
 		}
 	}
 
@@ -295,25 +304,21 @@ class Filterbank implements PSTables {
 
 	/* complex filter, size 12 */
 	void channel_filter12(int frame_len, float[] filter,
-		float[][] buffer, float[][][] X_hybrid) {
+		float[] buffer, float[] X_hybrid) {
 		int i, n;
-		float[] input_re1 = new float[6], input_re2 = new float[6];
-		float[] input_im1 = new float[6], input_im2 = new float[6];
-		float[] out_re1 = new float[6], out_re2 = new float[6];
-		float[] out_im1 = new float[6], out_im2 = new float[6];
 
 		for(i = 0; i<frame_len; i++) {
 			for(n = 0; n<6; n++) {
 				if(n==0) {
-					input_re1[0] = (buffer[6+i][0]*filter[6]);
-					input_re2[0] = (buffer[6+i][1]*filter[6]);
+					input_re1[0] = (buffer[2*(6+i)]*filter[6]);
+					input_re2[0] = (buffer[2*(6+i)+1]*filter[6]);
 				}
 				else {
-					input_re1[6-n] = ((buffer[n+i][0]+buffer[12-n+i][0])*filter[n]);
-					input_re2[6-n] = ((buffer[n+i][1]+buffer[12-n+i][1])*filter[n]);
+					input_re1[6-n] = ((buffer[2*(n+i)]+buffer[2*(12-n+i)])*filter[n]);
+					input_re2[6-n] = ((buffer[2*(n+i)+1]+buffer[2*(12-n+i)+1])*filter[n]);
 				}
-				input_im2[n] = ((buffer[n+i][0]-buffer[12-n+i][0])*filter[n]);
-				input_im1[n] = ((buffer[n+i][1]-buffer[12-n+i][1])*filter[n]);
+				input_im2[n] = ((buffer[2*(n+i)]-buffer[2*(12-n+i)])*filter[n]);
+				input_im1[n] = ((buffer[2*(n+i)+1]-buffer[2*(12-n+i)+1])*filter[n]);
 			}
 
 			DCT3_6_unscaled(out_re1, input_re1);
@@ -323,20 +328,20 @@ class Filterbank implements PSTables {
 			DCT3_6_unscaled(out_im2, input_im2);
 
 			for(n = 0; n<6; n += 2) {
-				X_hybrid[i][n][0] = out_re1[n]-out_im1[n];
-				X_hybrid[i][n][1] = out_re2[n]+out_im2[n];
-				X_hybrid[i][n+1][0] = out_re1[n+1]+out_im1[n+1];
-				X_hybrid[i][n+1][1] = out_re2[n+1]-out_im2[n+1];
-
-				X_hybrid[i][10-n][0] = out_re1[n+1]-out_im1[n+1];
-				X_hybrid[i][10-n][1] = out_re2[n+1]+out_im2[n+1];
-				X_hybrid[i][11-n][0] = out_re1[n]+out_im1[n];
-				X_hybrid[i][11-n][1] = out_re2[n]-out_im2[n];
+				X_hybrid[i*HYBRID_SLOT+2*n] = out_re1[n]-out_im1[n];
+				X_hybrid[i*HYBRID_SLOT+2*n+1] = out_re2[n]+out_im2[n];
+				X_hybrid[i*HYBRID_SLOT+2*(n+1)] = out_re1[n+1]+out_im1[n+1];
+				X_hybrid[i*HYBRID_SLOT+2*(n+1)+1] = out_re2[n+1]-out_im2[n+1];
+
+				X_hybrid[i*HYBRID_SLOT+2*(10-n)] = out_re1[n+1]-out_im1[n+1];
+				X_hybrid[i*HYBRID_SLOT+2*(10-n)+1] = out_re2[n+1]+out_im2[n+1];
+				X_hybrid[i*HYBRID_SLOT+2*(11-n)] = out_re1[n]+out_im1[n];
+				X_hybrid[i*HYBRID_SLOT+2*(11-n)+1] = out_re2[n]-out_im2[n];
 			}
 		}
 	}
 
-	void hybrid_synthesis(float[][][] X, float[][][] X_hybrid,
+	void hybrid_synthesis(float[] X, float[] X_hybrid,
 		boolean use34, int numTimeSlotsRate) {
 		int k, n, band;
 		int offset = 0;
@@ -345,12 +350,12 @@ class Filterbank implements PSTables {
 
 		for(band = 0; band<qmf_bands; band++) {
 			for(n = 0; n<this.frame_len; n++) {
-				X[n][band][0] = 0;
-				X[n][band][1] = 0;
+				X[n*QMF_SLOT+2*band] = 0;
+				X[n*QMF_SLOT+2*band+1] = 0;
 
 				for(k = 0; k<resolution[band]; k++) {
-					X[n][band][0] += X_hybrid[n][offset+k][0];
-					X[n][band][1] += X_hybrid[n][offset+k][1];
+					X[n*QMF_SLOT+2*band] += X_hybrid[n*HYBRID_SLOT+2*(offset+k)];
+					X[n*QMF_SLOT+2*band+1] += X_hybrid[n*HYBRID_SLOT+2*(offset+k)+1];
 				}
 			}
 			offset += resolution[band];
@@ -1,5 +1,6 @@
 package net.sourceforge.jaad.aac.ps;
 
+import java.util.Arrays;
 import net.sourceforge.jaad.aac.AACException;
 import net.sourceforge.jaad.aac.SampleFrequency;
 import net.sourceforge.jaad.aac.syntax.BitStream;
@@ -58,13 +59,13 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 	int[] num_sample_delay_ser = new int[NO_ALLPASS_LINKS];
 	int[] delay_D = new int[64];
 	int[] delay_buf_index_delay = new int[64];
-	float[][][] delay_Qmf = new float[14][64][2]; /* 14 samples delay max, 64 QMF channels */
+	float[] delay_Qmf = new float[14*QMF_SLOT]; /* 14 samples delay max, 64 QMF channels */
 
-	float[][][] delay_SubQmf = new float[2][32][2]; /* 2 samples delay max (SubQmf is always allpass filtered) */
+	float[] delay_SubQmf = new float[2*HYBRID_SLOT]; /* 2 samples delay max (SubQmf is always allpass filtered) */
 
-	float[][][][] delay_Qmf_ser = new float[NO_ALLPASS_LINKS][5][64][2]; /* 5 samples delay max (table 8.34), 64 QMF channels */
+	float[][] delay_Qmf_ser = new float[NO_ALLPASS_LINKS][5*QMF_SLOT]; /* 5 samples delay max (table 8.34), 64 QMF channels */
 
-	float[][][][] delay_SubQmf_ser = new float[NO_ALLPASS_LINKS][5][32][2]; /* 5 samples delay max (table 8.34) */
+	float[][] delay_SubQmf_ser = new float[NO_ALLPASS_LINKS][5*HYBRID_SLOT]; /* 5 samples delay max (table 8.34) */
 	/* transients */
 
 	float alpha_decay;
@@ -72,14 +73,31 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 	float[] P_PeakDecayNrg = new float[34];
 	float[] P_prev = new float[34];
 	float[] P_SmoothPeakDecayDiffNrg_prev = new float[34];
+	/* frames were skipped since the last processed one */
+	private boolean skipped;
 	/* mixing and phase */
-	float[][] h11_prev = new float[50][2];
-	float[][] h12_prev = new float[50][2];
-	float[][] h21_prev = new float[50][2];
-	float[][] h22_prev = new float[50][2];
+	float[] h11_prev = new float[2*50];
+	float[] h12_prev = new float[2*50];
+	float[] h21_prev = new float[2*50];
+	float[] h22_prev = new float[2*50];
 	int phase_hist;
-	float[][][] ipd_prev = new float[20][2][2];
-	float[][][] opd_prev = new float[20][2][2];
+	float[] ipd_prev = new float[4*20];
+	float[] opd_prev = new float[4*20];
+	//work buffers, reused for each frame
+	private final float[] X_hybrid_left = new float[32*HYBRID_SLOT];
+	private final float[] X_hybrid_right = new float[32*HYBRID_SLOT];
+	private final int[] temp_delay_ser = new int[NO_ALLPASS_LINKS];
+	private final float[] P = new float[32*34];
+	private final float[] G_TransientRatio = new float[32*34];
+	private final float[] g_DecaySlope_filt = new float[NO_ALLPASS_LINKS];
+	private final float[] inputLeft = new float[2], inLeft = new float[2], inRight = new float[2];
+	private final float[] tmp = new float[2], tmp0 = new float[2], tmp2 = new float[2], R0 = new float[2];
+	private final float[] Phi_Fract = new float[2], Q_Fract_allpass = new float[2];
+	private final float[] h11 = new float[2], h12 = new float[2], h21 = new float[2], h22 = new float[2];
+	private final float[] H11 = new float[2], H12 = new float[2], H21 = new float[2], H22 = new float[2];
+	private final float[] deltaH11 = new float[2], deltaH12 = new float[2], deltaH21 = new float[2], deltaH22 = new float[2];
+	private final float[] tempLeft = new float[2], tempRight = new float[2];
+	private final float[] phaseLeft = new float[2], phaseRight = new float[2];
 
 	public PS(SampleFrequency sr, int numTimeSlotsRate) {
 		int i;
@@ -119,24 +137,16 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 
 		/* mixing and phase */
 		for(i = 0; i<50; i++) {
-			this.h11_prev[i][0] = 1;
-			this.h12_prev[i][1] = 1;
-			this.h11_prev[i][0] = 1;
-			this.h12_prev[i][1] = 1;
+			this.h11_prev[2*i] = 1;
+			this.h12_prev[2*i+1] = 1;
+			this.h11_prev[2*i] = 1;
+			this.h12_prev[2*i+1] = 1;
 		}
 
 		this.phase_hist = 0;
 
-		for(i = 0; i<20; i++) {
-			this.ipd_prev[i][0][0] = 0;
-			this.ipd_prev[i][0][1] = 0;
-			this.ipd_prev[i][1][0] = 0;
-			this.ipd_prev[i][1][1] = 0;
-			this.opd_prev[i][0][0] = 0;
-			this.opd_prev[i][0][1] = 0;
-			this.opd_prev[i][1][0] = 0;
-			this.opd_prev[i][1][1] = 0;
-		}
+		Arrays.fill(ipd_prev, 0);
+		Arrays.fill(opd_prev, 0);
 	}
 
 	public int decode(BitStream ld) throws AACException {
@@ -626,16 +636,12 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 	}
 
 	/* decorrelate the mono signal using an allpass filter */
-	private void ps_decorrelate(float[][][] X_left, float[][][] X_right,
-		float[][][] X_hybrid_left, float[][][] X_hybrid_right) {
+	private void ps_decorrelate(float[] X_left, float[] X_right,
+		float[] X_hybrid_left, float[] X_hybrid_right) {
 		int gr, n, m, bk;
 		int temp_delay = 0;
 		int sb, maxsb;
-		int[] temp_delay_ser = new int[NO_ALLPASS_LINKS];
 		float P_SmoothPeakDecayDiffNrg, nrg;
-		float[][] P = new float[32][34];
-		float[][] G_TransientRatio = new float[32][34];
-		float[] inputLeft = new float[2];
 
 
 		/* chose hybrid filterbank: 20 or 34 band case */
@@ -650,7 +656,7 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 		/* clear the energy values */
 		for(n = 0; n<32; n++) {
 			for(bk = 0; bk<34; bk++) {
-				P[n][bk] = 0;
+				P[n*34+bk] = 0;
 			}
 		}
 
@@ -667,16 +673,16 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 
 					/* input from hybrid subbands or QMF subbands */
 					if(gr<this.num_hybrid_groups) {
-						inputLeft[0] = X_hybrid_left[n][sb][0];
-						inputLeft[1] = X_hybrid_left[n][sb][1];
+						inputLeft[0] = X_hybrid_left[n*HYBRID_SLOT+2*sb];
+						inputLeft[1] = X_hybrid_left[n*HYBRID_SLOT+2*sb+1];
 					}
 					else {
-						inputLeft[0] = X_left[n][sb][0];
-						inputLeft[1] = X_left[n][sb][1];
+						inputLeft[0] = X_left[n*QMF_SLOT+2*sb];
+						inputLeft[1] = X_left[n*QMF_SLOT+2*sb+1];
 					}
 
 					/* accumulate energy */
-					P[n][bk] += (inputLeft[0]*inputLeft[0])+(inputLeft[1]*inputLeft[1]);
+					P[n*34+bk] += (inputLeft[0]*inputLeft[0])+(inputLeft[1]*inputLeft[1]);
 				}
 			}
 		}
@@ -687,25 +693,25 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 				float gamma = 1.5f;
 
 				this.P_PeakDecayNrg[bk] = (this.P_PeakDecayNrg[bk]*this.alpha_decay);
-				if(this.P_PeakDecayNrg[bk]<P[n][bk])
-					this.P_PeakDecayNrg[bk] = P[n][bk];
+				if(this.P_PeakDecayNrg[bk]<P[n*34+bk])
+					this.P_PeakDecayNrg[bk] = P[n*34+bk];
 
 				/* apply smoothing filter to peak decay energy */
 				P_SmoothPeakDecayDiffNrg = this.P_SmoothPeakDecayDiffNrg_prev[bk];
-				P_SmoothPeakDecayDiffNrg += ((this.P_PeakDecayNrg[bk]-P[n][bk]-this.P_SmoothPeakDecayDiffNrg_prev[bk])*alpha_smooth);
+				P_SmoothPeakDecayDiffNrg += ((this.P_PeakDecayNrg[bk]-P[n*34+bk]-this.P_SmoothPeakDecayDiffNrg_prev[bk])*alpha_smooth);
 				this.P_SmoothPeakDecayDiffNrg_prev[bk] = P_SmoothPeakDecayDiffNrg;
 
 				/* apply smoothing filter to energy */
 				nrg = this.P_prev[bk];
-				nrg += ((P[n][bk]-this.P_prev[bk])*this.alpha_smooth);
+				nrg += ((P[n*34+bk]-this.P_prev[bk])*this.alpha_smooth);
 				this.P_prev[bk] = nrg;
 
 				/* calculate transient ratio */
 				if((P_SmoothPeakDecayDiffNrg*gamma)<=nrg) {
-					G_TransientRatio[n][bk] = 1.0f;
+					G_TransientRatio[n*34+bk] = 1.0f;
 				}
 				else {
-					G_TransientRatio[n][bk] = (nrg/(P_SmoothPeakDecayDiffNrg*gamma));
+					G_TransientRatio[n*34+bk] = (nrg/(P_SmoothPeakDecayDiffNrg*gamma));
 				}
 			}
 		}
@@ -720,7 +726,6 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 			/* QMF channel */
 			for(sb = this.group_border[gr]; sb<maxsb; sb++) {
 				float g_DecaySlope;
-				float[] g_DecaySlope_filt = new float[NO_ALLPASS_LINKS];
 
 				/* g_DecaySlope: [0..1] */
 				if(gr<this.num_hybrid_groups||sb<=this.decay_cutoff) {
@@ -750,54 +755,55 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 				}
 
 				for(n = this.border_position[0]; n<this.border_position[this.num_env]; n++) {
-					float[] tmp = new float[2], tmp0 = new float[2], R0 = new float[2];
+					/* tmp is cleared for every sample */
+					tmp[0] = 0;
+					tmp[1] = 0;
 
 					if(gr<this.num_hybrid_groups) {
 						/* hybrid filterbank input */
-						inputLeft[0] = X_hybrid_left[n][sb][0];
-						inputLeft[1] = X_hybrid_left[n][sb][1];
+						inputLeft[0] = X_hybrid_left[n*HYBRID_SLOT+2*sb];
+						inputLeft[1] = X_hybrid_left[n*HYBRID_SLOT+2*sb+1];
 					}
 					else {
 						/* QMF filterbank input */
-						inputLeft[0] = X_left[n][sb][0];
-						inputLeft[1] = X_left[n][sb][1];
+						inputLeft[0] = X_left[n*QMF_SLOT+2*sb];
+						inputLeft[1] = X_left[n*QMF_SLOT+2*sb+1];
 					}
 
 					if(sb>this.nr_allpass_bands&&gr>=this.num_hybrid_groups) {
 						/* delay */
 
 						/* never hybrid subbands here, always QMF subbands */
-						tmp[0] = this.delay_Qmf[this.delay_buf_index_delay[sb]][sb][0];
-						tmp[1] = this.delay_Qmf[this.delay_buf_index_delay[sb]][sb][1];
+						tmp[0] = this.delay_Qmf[this.delay_buf_index_delay[sb]*QMF_SLOT+2*sb];
+						tmp[1] = this.delay_Qmf[this.delay_buf_index_delay[sb]*QMF_SLOT+2*sb+1];
 						R0[0] = tmp[0];
 						R0[1] = tmp[1];
-						this.delay_Qmf[this.delay_buf_index_delay[sb]][sb][0] = inputLeft[0];
-						this.delay_Qmf[this.delay_buf_index_delay[sb]][sb][1] = inputLeft[1];
+						this.delay_Qmf[this.delay_buf_index_delay[sb]*QMF_SLOT+2*sb] = inputLeft[0];
+						this.delay_Qmf[this.delay_buf_index_delay[sb]*QMF_SLOT+2*sb+1] = inputLeft[1];
 					}
 					else {
 						/* allpass filter */
 						//int m;
-						float[] Phi_Fract = new float[2];
 
 						/* fetch parameters */
 						if(gr<this.num_hybrid_groups) {
 							/* select data from the hybrid subbands */
-							tmp0[0] = this.delay_SubQmf[temp_delay][sb][0];
-							tmp0[1] = this.delay_SubQmf[temp_delay][sb][1];
+							tmp0[0] = this.delay_SubQmf[temp_delay*HYBRID_SLOT+2*sb];
+							tmp0[1] = this.delay_SubQmf[temp_delay*HYBRID_SLOT+2*sb+1];
 
-							this.delay_SubQmf[temp_delay][sb][0] = inputLeft[0];
-							this.delay_SubQmf[temp_delay][sb][1] = inputLeft[1];
+							this.delay_SubQmf[temp_delay*HYBRID_SLOT+2*sb] = inputLeft[0];
+							this.delay_SubQmf[temp_delay*HYBRID_SLOT+2*sb+1] = inputLeft[1];
 
 							Phi_Fract[0] = Phi_Fract_SubQmf[sb][0];
 							Phi_Fract[1] = Phi_Fract_SubQmf[sb][1];
 						}
 						else {
 							/* select data from the QMF subbands */
-							tmp0[0] = this.delay_Qmf[temp_delay][sb][0];
-							tmp0[1] = this.delay_Qmf[temp_delay][sb][1];
+							tmp0[0] = this.delay_Qmf[temp_delay*QMF_SLOT+2*sb];
+							tmp0[1] = this.delay_Qmf[temp_delay*QMF_SLOT+2*sb+1];
 
-							this.delay_Qmf[temp_delay][sb][0] = inputLeft[0];
-							this.delay_Qmf[temp_delay][sb][1] = inputLeft[1];
+							this.delay_Qmf[temp_delay*QMF_SLOT+2*sb] = inputLeft[0];
+							this.delay_Qmf[temp_delay*QMF_SLOT+2*sb+1] = inputLeft[1];
 
 							Phi_Fract[0] = Phi_Fract_Qmf[sb][0];
 							Phi_Fract[1] = Phi_Fract_Qmf[sb][1];
@@ -810,13 +816,11 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 						R0[0] = tmp[0];
 						R0[1] = tmp[1];
 						for(m = 0; m<NO_ALLPASS_LINKS; m++) {
-							float[] Q_Fract_allpass = new float[2], tmp2 = new float[2];
-
 							/* fetch parameters */
 							if(gr<this.num_hybrid_groups) {
 								/* select data from the hybrid subbands */
-								tmp0[0] = this.delay_SubQmf_ser[m][temp_delay_ser[m]][sb][0];
-								tmp0[1] = this.delay_SubQmf_ser[m][temp_delay_ser[m]][sb][1];
+								tmp0[0] = this.delay_SubQmf_ser[m][temp_delay_ser[m]*HYBRID_SLOT+2*sb];
+								tmp0[1] = this.delay_SubQmf_ser[m][temp_delay_ser[m]*HYBRID_SLOT+2*sb+1];
 
 								if(this.use34hybrid_bands) {
 									Q_Fract_allpass[0] = Q_Fract_allpass_SubQmf34[sb][m][0];
@@ -829,8 +833,8 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 							}
 							else {
 								/* select data from the QMF subbands */
-								tmp0[0] = this.delay_Qmf_ser[m][temp_delay_ser[m]][sb][0];
-								tmp0[1] = this.delay_Qmf_ser[m][temp_delay_ser[m]][sb][1];
+								tmp0[0] = this.delay_Qmf_ser[m][temp_delay_ser[m]*QMF_SLOT+2*sb];
+								tmp0[1] = this.delay_Qmf_ser[m][temp_delay_ser[m]*QMF_SLOT+2*sb+1];
 
 								Q_Fract_allpass[0] = Q_Fract_allpass_Qmf[sb][m][0];
 								Q_Fract_allpass[1] = Q_Fract_allpass_Qmf[sb][m][1];
@@ -851,12 +855,12 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 
 							/* store sample */
 							if(gr<this.num_hybrid_groups) {
-								this.delay_SubQmf_ser[m][temp_delay_ser[m]][sb][0] = tmp2[0];
-								this.delay_SubQmf_ser[m][temp_delay_ser[m]][sb][1] = tmp2[1];
+								this.delay_SubQmf_ser[m][temp_delay_ser[m]*HYBRID_SLOT+2*sb] = tmp2[0];
+								this.delay_SubQmf_ser[m][temp_delay_ser[m]*HYBRID_SLOT+2*sb+1] = tmp2[1];
 							}
 							else {
-								this.delay_Qmf_ser[m][temp_delay_ser[m]][sb][0] = tmp2[0];
-								this.delay_Qmf_ser[m][temp_delay_ser[m]][sb][1] = tmp2[1];
+								this.delay_Qmf_ser[m][temp_delay_ser[m]*QMF_SLOT+2*sb] = tmp2[0];
+								this.delay_Qmf_ser[m][temp_delay_ser[m]*QMF_SLOT+2*sb+1] = tmp2[1];
 							}
 
 							/* store for next iteration (or as output value if last iteration) */
@@ -869,18 +873,18 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 					bk = (~NEGATE_IPD_MASK)&this.map_group2bk[gr];
 
 					/* duck if a past transient is found */
-					R0[0] = (G_TransientRatio[n][bk]*R0[0]);
-					R0[1] = (G_TransientRatio[n][bk]*R0[1]);
+					R0[0] = (G_TransientRatio[n*34+bk]*R0[0]);
+					R0[1] = (G_TransientRatio[n*34+bk]*R0[1]);
 
 					if(gr<this.num_hybrid_groups) {
 						/* hybrid */
-						X_hybrid_right[n][sb][0] = R0[0];
-						X_hybrid_right[n][sb][1] = R0[1];
+						X_hybrid_right[n*HYBRID_SLOT+2*sb] = R0[0];
+						X_hybrid_right[n*HYBRID_SLOT+2*sb+1] = R0[1];
 					}
 					else {
 						/* QMF */
-						X_right[n][sb][0] = R0[0];
-						X_right[n][sb][1] = R0[1];
+						X_right[n*QMF_SLOT+2*sb] = R0[0];
+						X_right[n*QMF_SLOT+2*sb+1] = R0[1];
 					}
 
 					/* Update delay buffer index */
@@ -916,21 +920,14 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 		return (float) Math.sqrt(c[0]*c[0]+c[1]*c[1]);
 	}
 
-	private void ps_mix_phase(float[][][] X_left, float[][][] X_right,
-		float[][][] X_hybrid_left, float[][][] X_hybrid_right) {
+	private void ps_mix_phase(float[] X_left, float[] X_right,
+		float[] X_hybrid_left, float[] X_hybrid_right) {
 		int n;
 		int gr;
 		int bk = 0;
 		int sb, maxsb;
 		int env;
 		int nr_ipdopd_par;
-		float[] h11 = new float[2], h12 = new float[2], h21 = new float[2], h22 = new float[2];
-		float[] H11 = new float[2], H12 = new float[2], H21 = new float[2], H22 = new float[2];
-		float[] deltaH11 = new float[2], deltaH12 = new float[2], deltaH21 = new float[2], deltaH22 = new float[2];
-		float[] tempLeft = new float[2];
-		float[] tempRight = new float[2];
-		float[] phaseLeft = new float[2];
-		float[] phaseRight = new float[2];
 		float L;
 		float[] sf_iid;
 		int no_iid_steps;
@@ -1054,22 +1051,22 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 					int i = this.phase_hist;
 
 					/* previous value */
-					tempLeft[0] = (this.ipd_prev[bk][i][0]*0.25f);
-					tempLeft[1] = (this.ipd_prev[bk][i][1]*0.25f);
-					tempRight[0] = (this.opd_prev[bk][i][0]*0.25f);
-					tempRight[1] = (this.opd_prev[bk][i][1]*0.25f);
+					tempLeft[0] = (this.ipd_prev[4*bk+2*i]*0.25f);
+					tempLeft[1] = (this.ipd_prev[4*bk+2*i+1]*0.25f);
+					tempRight[0] = (this.opd_prev[4*bk+2*i]*0.25f);
+					tempRight[1] = (this.opd_prev[4*bk+2*i+1]*0.25f);
 
 					/* save current value */
-					this.ipd_prev[bk][i][0] = ipdopd_cos_tab[Math.abs(this.ipd_index[env][bk])];
-					this.ipd_prev[bk][i][1] = ipdopd_sin_tab[Math.abs(this.ipd_index[env][bk])];
-					this.opd_prev[bk][i][0] = ipdopd_cos_tab[Math.abs(this.opd_index[env][bk])];
-					this.opd_prev[bk][i][1] = ipdopd_sin_tab[Math.abs(this.opd_index[env][bk])];
+					this.ipd_prev[4*bk+2*i] = ipdopd_cos_tab[Math.abs(this.ipd_index[env][bk])];
+					this.ipd_prev[4*bk+2*i+1] = ipdopd_sin_tab[Math.abs(this.ipd_index[env][bk])];
+					this.opd_prev[4*bk+2*i] = ipdopd_cos_tab[Math.abs(this.opd_index[env][bk])];
+					this.opd_prev[4*bk+2*i+1] = ipdopd_sin_tab[Math.abs(this.opd_index[env][bk])];
 
 					/* add current value */
-					tempLeft[0] += this.ipd_prev[bk][i][0];
-					tempLeft[1] += this.ipd_prev[bk][i][1];
-					tempRight[0] += this.opd_prev[bk][i][0];
-					tempRight[1] += this.opd_prev[bk][i][1];
+					tempLeft[0] += this.ipd_prev[4*bk+2*i];
+					tempLeft[1] += this.ipd_prev[4*bk+2*i+1];
+					tempRight[0] += this.opd_prev[4*bk+2*i];
+					tempRight[1] += this.opd_prev[4*bk+2*i+1];
 
 					/* ringbuffer index */
 					if(i==0) {
@@ -1078,10 +1075,10 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 					i--;
 
 					/* get value before previous */
-					tempLeft[0] += (this.ipd_prev[bk][i][0]*0.5f);
-					tempLeft[1] += (this.ipd_prev[bk][i][1]*0.5f);
-					tempRight[0] += (this.opd_prev[bk][i][0]*0.5f);
-					tempRight[1] += (this.opd_prev[bk][i][1]*0.5f);
+					tempLeft[0] += (this.ipd_prev[4*bk+2*i]*0.5f);
+					tempLeft[1] += (this.ipd_prev[4*bk+2*i+1]*0.5f);
+					tempRight[0] += (this.opd_prev[4*bk+2*i]*0.5f);
+					tempRight[1] += (this.opd_prev[4*bk+2*i+1]*0.5f);
 
 					xy = magnitude_c(tempRight);
 					pq = magnitude_c(tempLeft);
@@ -1126,33 +1123,33 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 				L = (float) (this.border_position[env+1]-this.border_position[env]);
 
 				/* obtain final H_xy by means of linear interpolation */
-				deltaH11[0] = (h11[0]-this.h11_prev[gr][0])/L;
-				deltaH12[0] = (h12[0]-this.h12_prev[gr][0])/L;
-				deltaH21[0] = (h21[0]-this.h21_prev[gr][0])/L;
-				deltaH22[0] = (h22[0]-this.h22_prev[gr][0])/L;
+				deltaH11[0] = (h11[0]-this.h11_prev[2*gr])/L;
+				deltaH12[0] = (h12[0]-this.h12_prev[2*gr])/L;
+				deltaH21[0] = (h21[0]-this.h21_prev[2*gr])/L;
+				deltaH22[0] = (h22[0]-this.h22_prev[2*gr])/L;
 
-				H11[0] = this.h11_prev[gr][0];
-				H12[0] = this.h12_prev[gr][0];
-				H21[0] = this.h21_prev[gr][0];
-				H22[0] = this.h22_prev[gr][0];
+				H11[0] = this.h11_prev[2*gr];
+				H12[0] = this.h12_prev[2*gr];
+				H21[0] = this.h21_prev[2*gr];
+				H22[0] = this.h22_prev[2*gr];
 
-				this.h11_prev[gr][0] = h11[0];
-				this.h12_prev[gr][0] = h12[0];
-				this.h21_prev[gr][0] = h21[0];
-				this.h22_prev[gr][0] = h22[0];
+				this.h11_prev[2*gr] = h11[0];
+				this.h12_prev[2*gr] = h12[0];
+				this.h21_prev[2*gr] = h21[0];
+				this.h22_prev[2*gr] = h22[0];
 
 				/* only calculate imaginary part when needed */
 				if((this.enable_ipdopd)&&(bk<nr_ipdopd_par)) {
 					/* obtain final H_xy by means of linear interpolation */
-					deltaH11[1] = (h11[1]-this.h11_prev[gr][1])/L;
-					deltaH12[1] = (h12[1]-this.h12_prev[gr][1])/L;
-					deltaH21[1] = (h21[1]-this.h21_prev[gr][1])/L;
-					deltaH22[1] = (h22[1]-this.h22_prev[gr][1])/L;
+					deltaH11[1] = (h11[1]-this.h11_prev[2*gr+1])/L;
+					deltaH12[1] = (h12[1]-this.h12_prev[2*gr+1])/L;
+					deltaH21[1] = (h21[1]-this.h21_prev[2*gr+1])/L;
+					deltaH22[1] = (h22[1]-this.h22_prev[2*gr+1])/L;
 
-					H11[1] = this.h11_prev[gr][1];
-					H12[1] = this.h12_prev[gr][1];
-					H21[1] = this.h21_prev[gr][1];
-					H22[1] = this.h22_prev[gr][1];
+					H11[1] = this.h11_prev[2*gr+1];
+					H12[1] = this.h12_prev[2*gr+1];
+					H21[1] = this.h21_prev[2*gr+1];
+					H22[1] = this.h22_prev[2*gr+1];
 
 					if((NEGATE_IPD_MASK&this.map_group2bk[gr])!=0) {
 						deltaH11[1] = -deltaH11[1];
@@ -1166,10 +1163,10 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 						H22[1] = -H22[1];
 					}
 
-					this.h11_prev[gr][1] = h11[1];
-					this.h12_prev[gr][1] = h12[1];
-					this.h21_prev[gr][1] = h21[1];
-					this.h22_prev[gr][1] = h22[1];
+					this.h11_prev[2*gr+1] = h11[1];
+					this.h12_prev[2*gr+1] = h12[1];
+					this.h21_prev[2*gr+1] = h21[1];
+					this.h22_prev[2*gr+1] = h22[1];
 				}
 
 				/* apply H_xy to the current envelope band of the decorrelated subband */
@@ -1188,20 +1185,18 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 
 					/* channel is an alias to the subband */
 					for(sb = this.group_border[gr]; sb<maxsb; sb++) {
-						float[] inLeft = new float[2], inRight = new float[2];
-
 						/* load decorrelated samples */
 						if(gr<this.num_hybrid_groups) {
-							inLeft[0] = X_hybrid_left[n][sb][0];
-							inLeft[1] = X_hybrid_left[n][sb][1];
-							inRight[0] = X_hybrid_right[n][sb][0];
-							inRight[1] = X_hybrid_right[n][sb][1];
+							inLeft[0] = X_hybrid_left[n*HYBRID_SLOT+2*sb];
+							inLeft[1] = X_hybrid_left[n*HYBRID_SLOT+2*sb+1];
+							inRight[0] = X_hybrid_right[n*HYBRID_SLOT+2*sb];
+							inRight[1] = X_hybrid_right[n*HYBRID_SLOT+2*sb+1];
 						}
 						else {
-							inLeft[0] = X_left[n][sb][0];
-							inLeft[1] = X_left[n][sb][1];
-							inRight[0] = X_right[n][sb][0];
-							inRight[1] = X_right[n][sb][1];
+							inLeft[0] = X_left[n*QMF_SLOT+2*sb];
+							inLeft[1] = X_left[n*QMF_SLOT+2*sb+1];
+							inRight[0] = X_right[n*QMF_SLOT+2*sb];
+							inRight[1] = X_right[n*QMF_SLOT+2*sb+1];
 						}
 
 						/* apply mixing */
@@ -1221,16 +1216,16 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 
 						/* store final samples */
 						if(gr<this.num_hybrid_groups) {
-							X_hybrid_left[n][sb][0] = tempLeft[0];
-							X_hybrid_left[n][sb][1] = tempLeft[1];
-							X_hybrid_right[n][sb][0] = tempRight[0];
-							X_hybrid_right[n][sb][1] = tempRight[1];
+							X_hybrid_left[n*HYBRID_SLOT+2*sb] = tempLeft[0];
+							X_hybrid_left[n*HYBRID_SLOT+2*sb+1] = tempLeft[1];
+							X_hybrid_right[n*HYBRID_SLOT+2*sb] = tempRight[0];
+							X_hybrid_right[n*HYBRID_SLOT+2*sb+1] = tempRight[1];
 						}
 						else {
-							X_left[n][sb][0] = tempLeft[0];
-							X_left[n][sb][1] = tempLeft[1];
-							X_right[n][sb][0] = tempRight[0];
-							X_right[n][sb][1] = tempRight[1];
+							X_left[n*QMF_SLOT+2*sb] = tempLeft[0];
+							X_left[n*QMF_SLOT+2*sb+1] = tempLeft[1];
+							X_right[n*QMF_SLOT+2*sb] = tempRight[0];
+							X_right[n*QMF_SLOT+2*sb+1] = tempRight[1];
 						}
 					}
 				}
@@ -1244,10 +1239,73 @@ public class PS implements PSConstants, PSTables, HuffmanTables {
 		}
 	}
 
-	/* main Parametric Stereo decoding function */
-	public int process(float[][][] X_left, float[][][] X_right) {
-		float[][][] X_hybrid_left = new float[32][32][2];
-		float[][][] X_hybrid_right = new float[32][32][2];
+	/**
+	 * Decodes the parameters of a frame without processing it, as they are
+	 * coded differentially. The next processed frame starts with a cleared
+	 * filter history.
+	 */
+	public void skip() {
+		ps_data_decode();
+		skipped = true;
+	}
+
+	/**
+	 * Clears all state of the previous stream, so the buffers can be reused
+	 * for a new stream. Afterwards the PS decodes like a newly created one.
+	 */
+	public void reset() {
+		resetHistory();
+		header_read = false;
+		ps_data_available = 0;
+		enable_ipdopd = false;
+
+		Arrays.fill(iid_index_prev, 0);
+		Arrays.fill(icc_index_prev, 0);
+		Arrays.fill(ipd_index_prev, 0);
+		Arrays.fill(opd_index_prev, 0);
+		Arrays.fill(ipd_index_1, 0);
+		Arrays.fill(opd_index_1, 0);
+		Arrays.fill(ipd_index_2, 0);
+		Arrays.fill(opd_index_2, 0);
+
+		saved_delay = 0;
+		Arrays.fill(delay_buf_index_delay, 0);
+		Arrays.fill(delay_buf_index_ser, 0);
+
+		//as set by the constructor
+		Arrays.fill(h11_prev, 0);
+		Arrays.fill(h12_prev, 0);
+		Arrays.fill(h21_prev, 0);
+		Arrays.fill(h22_prev, 0);
+		for(int i = 0; i<50; i++) {
+			h11_prev[2*i] = 1;
+			h12_prev[2*i+1] = 1;
+		}
+		phase_hist = 0;
+		Arrays.fill(ipd_prev, 0);
+		Arrays.fill(opd_prev, 0);
+	}
+
+	//clears the history of the decorrelation filters after skipped frames
+	private void resetHistory() {
+		hyb.reset();
+		Arrays.fill(delay_Qmf, 0);
+		Arrays.fill(delay_SubQmf, 0);
+		for(int i = 0; i<NO_ALLPASS_LINKS; i++) {
+			Arrays.fill(delay_Qmf_ser[i], 0);
+			Arrays.fill(delay_SubQmf_ser[i], 0);
+		}
+		Arrays.fill(P_PeakDecayNrg, 0);
+		Arrays.fill(P_prev, 0);
+		Arrays.fill(P_SmoothPeakDecayDiffNrg_prev, 0);
+		skipped = false;
+	}
+
+	/* main Parametric Stereo decoding function, the QMF matrices hold QMF_SLOT floats per time slot */
+	public int process(float[] X_left, float[] X_right) {
+		Arrays.fill(X_hybrid_left, 0);
+		Arrays.fill(X_hybrid_right, 0);
+		if(skipped) resetHistory();
 
 		/* delta decoding of the bitstream data */
 		ps_data_decode();
@@ -7,5 +7,7 @@ interface PSConstants {
 	int NEGATE_IPD_MASK = 0x1000;
 	float DECAY_SLOPE = 0.05f;
 	float COEF_SQRT2 = 1.4142135623731f;
+	int QMF_SLOT = 128; //floats per time slot of a QMF matrix: 64 bands, real and imaginary interleaved
+	int HYBRID_SLOT = 64; //floats per time slot of a hybrid matrix: 32 bands
 
 }
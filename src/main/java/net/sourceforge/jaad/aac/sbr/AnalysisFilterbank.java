@@ -1,12 +1,28 @@
 package net.sourceforge.jaad.aac.sbr;
 
 import java.util.Arrays;
+import net.sourceforge.jaad.aac.filterbank.Kernels;
 
-class AnalysisFilterbank implements FilterbankTable {
+class AnalysisFilterbank implements Constants, FilterbankTable {
 
+	//offsets of the polyphase components in x
+	private static final int[] TAPS = {0, 64, 128, 192, 256};
+	//every second window coefficient
+	private static final float[] QMF_C = new float[320];
+
+	static {
+		for(int i = 0; i<320; i++) {
+			QMF_C[i] = qmf_c[2*i];
+		}
+	}
 	private float[] x; //x is implemented as double ringbuffer
 	private int x_index; //ringbuffer index
 	private int channels;
+	//work buffers
+	private final float[] u = new float[64];
+	private final float[] in_real = new float[32], in_imag = new float[32];
+	private final float[] out_real = new float[32], out_imag = new float[32];
+	private final Kernels kernels = Kernels.getInstance();
 
 	AnalysisFilterbank(int channels) {
 		this.channels = channels;
@@ -16,15 +32,13 @@ class AnalysisFilterbank implements FilterbankTable {
 
 	public void reset() {
 		Arrays.fill(x, 0);
+		x_index = 0;
 	}
 
 	void sbr_qmf_analysis_32(SBR sbr, float[] input,
-		float[][][] X, int offset, int kx) {
-		float[] u = new float[64];
-		float[] in_real = new float[32], in_imag = new float[32];
-		float[] out_real = new float[32], out_imag = new float[32];
+		float[] X, int offset, int kx) {
 		int in = 0;
-		int l;
+		int l, pX;
 
 		/* qmf subsample l */
 		for(l = 0; l<sbr.numTimeSlotsRate; l++) {
@@ -40,13 +54,7 @@ class AnalysisFilterbank implements FilterbankTable {
 			}
 
 			/* window and summation to create array u */
-			for(n = 0; n<64; n++) {
-				u[n] = (this.x[this.x_index+n]*qmf_c[2*n])
-					+(this.x[this.x_index+n+64]*qmf_c[2*(n+64)])
-					+(this.x[this.x_index+n+128]*qmf_c[2*(n+128)])
-					+(this.x[this.x_index+n+192]*qmf_c[2*(n+192)])
-					+(this.x[this.x_index+n+256]*qmf_c[2*(n+256)]);
-			}
+			kernels.window(x, x_index, TAPS, QMF_C, u, 0, 64);
 
 			/* update ringbuffer index */
 			this.x_index -= 32;
@@ -68,24 +76,25 @@ class AnalysisFilterbank implements FilterbankTable {
 			DCT.dct4_kernel(in_real, in_imag, out_real, out_imag);
 
 			// Reordering of data moved from DCT_IV to here
-			for(n = 0; n<16; n++) {
+			pX = (l+offset)*QMF_SLOT;
+			for(n = 0; n<16; n++, pX += 4) {
 				if(2*n+1<kx) {
-					X[l+offset][2*n][0] = 2.0f*out_real[n];
-					X[l+offset][2*n][1] = 2.0f*out_imag[n];
-					X[l+offset][2*n+1][0] = -2.0f*out_imag[31-n];
-					X[l+offset][2*n+1][1] = -2.0f*out_real[31-n];
+					X[pX] = 2.0f*out_real[n];
+					X[pX+1] = 2.0f*out_imag[n];
+					X[pX+2] = -2.0f*out_imag[31-n];
+					X[pX+3] = -2.0f*out_real[31-n];
 				}
 				else {
 					if(2*n<kx) {
-						X[l+offset][2*n][0] = 2.0f*out_real[n];
-						X[l+offset][2*n][1] = 2.0f*out_imag[n];
+						X[pX] = 2.0f*out_real[n];
+						X[pX+1] = 2.0f*out_imag[n];
 					}
 					else {
-						X[l+offset][2*n][0] = 0;
-						X[l+offset][2*n][1] = 0;
+						X[pX] = 0;
+						X[pX+1] = 0;
 					}
-					X[l+offset][2*n+1][0] = 0;
-					X[l+offset][2*n+1][1] = 0;
+					X[pX+2] = 0;
+					X[pX+3] = 0;
 				}
 			}
 		}
@@ -20,6 +20,7 @@ interface Constants {
 	int MAX_NTSR = 32; //max number_time_slots * rate, ok for DRM and not DRM mode
 	int MAX_M = 49; //maximum value for M
 	int MAX_L_E = 5; //maximum value for L_E
+	int QMF_SLOT = 128; //floats per time slot of a QMF matrix: 64 bands, real and imaginary interleaved
 	int EXT_SBR_DATA = 13;
 	int EXT_SBR_DATA_CRC = 14;
 	int FIXFIX = 0;
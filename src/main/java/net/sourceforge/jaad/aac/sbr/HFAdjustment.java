@@ -1,5 +1,7 @@
 package net.sourceforge.jaad.aac.sbr;
 
+import java.util.Arrays;
+
 class HFAdjustment implements Constants, NoiseTable {
 
 	private static final float[] h_smooth = {
@@ -11,14 +13,23 @@ class HFAdjustment implements Constants, NoiseTable {
 	private static final int[] phi_im = {0, 1, 0, -1};
 	private static final float[] limGain = {0.5f, 1.0f, 2.0f, 1e10f};
 	private static final float EPS = 1e-12f;
-	private float[][] G_lim_boost = new float[MAX_L_E][MAX_M];
-	private float[][] Q_M_lim_boost = new float[MAX_L_E][MAX_M];
-	private float[][] S_M_boost = new float[MAX_L_E][MAX_M];
-
-	public static int hf_adjustment(SBR sbr, float[][][] Xsbr, int ch) {
-		HFAdjustment adj = new HFAdjustment();
+	//boosted gains per envelope: index l*MAX_M+m
+	private final float[] G_lim_boost = new float[MAX_L_E*MAX_M];
+	private final float[] Q_M_lim_boost = new float[MAX_L_E*MAX_M];
+	private final float[] S_M_boost = new float[MAX_L_E*MAX_M];
+	//work buffers for calculate_gain
+	private final float[] Q_M_lim = new float[MAX_M];
+	private final float[] G_lim = new float[MAX_M];
+	private final float[] S_M = new float[MAX_M];
+
+	public int hf_adjustment(SBR sbr, float[] Xsbr, int ch) {
 		int ret = 0;
 
+		//clear the values of the previous call
+		Arrays.fill(G_lim_boost, 0);
+		Arrays.fill(Q_M_lim_boost, 0);
+		Arrays.fill(S_M_boost, 0);
+
 		if(sbr.bs_frame_class[ch]==FIXFIX) {
 			sbr.l_A[ch] = -1;
 		}
@@ -35,12 +46,12 @@ class HFAdjustment implements Constants, NoiseTable {
 				sbr.l_A[ch] = sbr.L_E[ch]+1-sbr.bs_pointer[ch];
 		}
 
-		ret = estimate_current_envelope(sbr, adj, Xsbr, ch);
+		ret = estimate_current_envelope(sbr, this, Xsbr, ch);
 		if(ret>0) return 1;
 
-		calculate_gain(sbr, adj, ch);
+		calculate_gain(sbr, this, ch);
 
-		hf_assembly(sbr, adj, Xsbr, ch);
+		hf_assembly(sbr, this, Xsbr, ch);
 
 		return 0;
 	}
@@ -83,8 +94,8 @@ class HFAdjustment implements Constants, NoiseTable {
 	}
 
 	private static int estimate_current_envelope(SBR sbr, HFAdjustment adj,
-		float[][][] Xsbr, int ch) {
-		int m, l, j, k, k_l, k_h, p;
+		float[] Xsbr, int ch) {
+		int m, l, j, k, k_l, k_h, p, x;
 		float nrg, div;
 
 		if(sbr.bs_interpol_freq) {
@@ -102,9 +113,10 @@ class HFAdjustment implements Constants, NoiseTable {
 				for(m = 0; m<sbr.M; m++) {
 					nrg = 0;
 
-					for(i = l_i+sbr.tHFAdj; i<u_i+sbr.tHFAdj; i++) {
-						nrg += (Xsbr[i][m+sbr.kx][0]*Xsbr[i][m+sbr.kx][0])
-							+(Xsbr[i][m+sbr.kx][1]*Xsbr[i][m+sbr.kx][1]);
+					x = (l_i+sbr.tHFAdj)*QMF_SLOT+2*(m+sbr.kx);
+					for(i = l_i; i<u_i; i++, x += QMF_SLOT) {
+						nrg += (Xsbr[x]*Xsbr[x])
+							+(Xsbr[x+1]*Xsbr[x+1]);
 					}
 
 					sbr.E_curr[ch][m][l] = nrg/div;
@@ -130,9 +142,10 @@ class HFAdjustment implements Constants, NoiseTable {
 							div = 1;
 
 						for(i = l_i+sbr.tHFAdj; i<u_i+sbr.tHFAdj; i++) {
-							for(j = k_l; j<k_h; j++) {
-								nrg += (Xsbr[i][j][0]*Xsbr[i][j][0])
-									+(Xsbr[i][j][1]*Xsbr[i][j][1]);
+							x = i*QMF_SLOT+2*k_l;
+							for(j = k_l; j<k_h; j++, x += 2) {
+								nrg += (Xsbr[x]*Xsbr[x])
+									+(Xsbr[x+1]*Xsbr[x+1]);
 							}
 						}
 
@@ -146,9 +159,9 @@ class HFAdjustment implements Constants, NoiseTable {
 	}
 
 	private static void hf_assembly(SBR sbr, HFAdjustment adj,
-		float[][][] Xsbr, int ch) {
+		float[] Xsbr, int ch) {
 
-		int m, l, i, n;
+		int m, l, i, n, x, b;
 		int fIndexNoise = 0;
 		int fIndexSine = 0;
 		boolean assembly_reset = false;
@@ -174,8 +187,8 @@ class HFAdjustment implements Constants, NoiseTable {
 
 			if(assembly_reset) {
 				for(n = 0; n<4; n++) {
-					System.arraycopy(adj.G_lim_boost[l], 0, sbr.G_temp_prev[ch][n], 0, sbr.M);
-					System.arraycopy(adj.Q_M_lim_boost[l], 0, sbr.Q_temp_prev[ch][n], 0, sbr.M);
+					System.arraycopy(adj.G_lim_boost, l*MAX_M, sbr.G_temp_prev[ch], n*64, sbr.M);
+					System.arraycopy(adj.Q_M_lim_boost, l*MAX_M, sbr.Q_temp_prev[ch], n*64, sbr.M);
 				}
 				/* reset ringbuffer index */
 				sbr.GQ_ringbuf_index[ch] = 4;
@@ -184,11 +197,13 @@ class HFAdjustment implements Constants, NoiseTable {
 
 			for(i = sbr.t_E[ch][l]; i<sbr.t_E[ch][l+1]; i++) {
 				/* load new values into ringbuffer */
-				System.arraycopy(adj.G_lim_boost[l], 0, sbr.G_temp_prev[ch][sbr.GQ_ringbuf_index[ch]], 0, sbr.M);
-				System.arraycopy(adj.Q_M_lim_boost[l], 0, sbr.Q_temp_prev[ch][sbr.GQ_ringbuf_index[ch]], 0, sbr.M);
+				System.arraycopy(adj.G_lim_boost, l*MAX_M, sbr.G_temp_prev[ch], sbr.GQ_ringbuf_index[ch]*64, sbr.M);
+				System.arraycopy(adj.Q_M_lim_boost, l*MAX_M, sbr.Q_temp_prev[ch], sbr.GQ_ringbuf_index[ch]*64, sbr.M);
 
-				for(m = 0; m<sbr.M; m++) {
-					float[] psi = new float[2];
+				x = (i+sbr.tHFAdj)*QMF_SLOT+2*sbr.kx;
+				b = l*MAX_M;
+				for(m = 0; m<sbr.M; m++, x += 2) {
+					float psi_re, psi_im;
 
 					G_filt = 0;
 					Q_filt = 0;
@@ -200,36 +215,36 @@ class HFAdjustment implements Constants, NoiseTable {
 							ri++;
 							if(ri>=5)
 								ri -= 5;
-							G_filt += (sbr.G_temp_prev[ch][ri][m]*curr_h_smooth);
-							Q_filt += (sbr.Q_temp_prev[ch][ri][m]*curr_h_smooth);
+							G_filt += (sbr.G_temp_prev[ch][ri*64+m]*curr_h_smooth);
+							Q_filt += (sbr.Q_temp_prev[ch][ri*64+m]*curr_h_smooth);
 						}
 					}
 					else {
-						G_filt = sbr.G_temp_prev[ch][sbr.GQ_ringbuf_index[ch]][m];
-						Q_filt = sbr.Q_temp_prev[ch][sbr.GQ_ringbuf_index[ch]][m];
+						G_filt = sbr.G_temp_prev[ch][sbr.GQ_ringbuf_index[ch]*64+m];
+						Q_filt = sbr.Q_temp_prev[ch][sbr.GQ_ringbuf_index[ch]*64+m];
 					}
 
-					Q_filt = (adj.S_M_boost[l][m]!=0||no_noise) ? 0 : Q_filt;
+					Q_filt = (adj.S_M_boost[b+m]!=0||no_noise) ? 0 : Q_filt;
 
 					/* add noise to the output */
 					fIndexNoise = (fIndexNoise+1)&511;
 
 					/* the smoothed gain values are applied to Xsbr */
 					/* V is defined, not calculated */
-					Xsbr[i+sbr.tHFAdj][m+sbr.kx][0] = G_filt*Xsbr[i+sbr.tHFAdj][m+sbr.kx][0]
+					Xsbr[x] = G_filt*Xsbr[x]
 						+(Q_filt*NOISE_TABLE[fIndexNoise][0]);
 					if(sbr.bs_extension_id==3&&sbr.bs_extension_data==42)
-						Xsbr[i+sbr.tHFAdj][m+sbr.kx][0] = 16428320;
-					Xsbr[i+sbr.tHFAdj][m+sbr.kx][1] = G_filt*Xsbr[i+sbr.tHFAdj][m+sbr.kx][1]
+						Xsbr[x] = 16428320;
+					Xsbr[x+1] = G_filt*Xsbr[x+1]
 						+(Q_filt*NOISE_TABLE[fIndexNoise][1]);
 
 					{
 						int rev = (((m+sbr.kx)&1)!=0 ? -1 : 1);
-						psi[0] = adj.S_M_boost[l][m]*phi_re[fIndexSine];
-						Xsbr[i+sbr.tHFAdj][m+sbr.kx][0] += psi[0];
+						psi_re = adj.S_M_boost[b+m]*phi_re[fIndexSine];
+						Xsbr[x] += psi_re;
 
-						psi[1] = rev*adj.S_M_boost[l][m]*phi_im[fIndexSine];
-						Xsbr[i+sbr.tHFAdj][m+sbr.kx][1] += psi[1];
+						psi_im = rev*adj.S_M_boost[b+m]*phi_im[fIndexSine];
+						Xsbr[x+1] += psi_im;
 					}
 				}
 
@@ -252,10 +267,10 @@ class HFAdjustment implements Constants, NoiseTable {
 		int current_t_noise_band = 0;
 		int S_mapped;
 
-		float[] Q_M_lim = new float[MAX_M];
-		float[] G_lim = new float[MAX_M];
+		final float[] Q_M_lim = adj.Q_M_lim;
+		final float[] G_lim = adj.G_lim;
 		float G_boost;
-		float[] S_M = new float[MAX_M];
+		final float[] S_M = adj.S_M;
 
 		for(l = 0; l<sbr.L_E[ch]; l++) {
 			int current_f_noise_band = 0;
@@ -410,14 +425,14 @@ class HFAdjustment implements Constants, NoiseTable {
 
 				for(m = ml1; m<ml2; m++) {
 					/* apply compensation to gain, noise floor sf's and sinusoid levels */
-					adj.G_lim_boost[l][m] = (float) Math.sqrt(G_lim[m]*G_boost);
-					adj.Q_M_lim_boost[l][m] = (float) Math.sqrt(Q_M_lim[m]*G_boost);
+					adj.G_lim_boost[l*MAX_M+m] = (float) Math.sqrt(G_lim[m]*G_boost);
+					adj.Q_M_lim_boost[l*MAX_M+m] = (float) Math.sqrt(Q_M_lim[m]*G_boost);
 
 					if(S_M[m]!=0) {
-						adj.S_M_boost[l][m] = (float) Math.sqrt(S_M[m]*G_boost);
+						adj.S_M_boost[l*MAX_M+m] = (float) Math.sqrt(S_M[m]*G_boost);
 					}
 					else {
-						adj.S_M_boost[l][m] = 0;
+						adj.S_M_boost[l*MAX_M+m] = 0;
 					}
 				}
 			}
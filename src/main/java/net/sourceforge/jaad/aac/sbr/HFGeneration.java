@@ -1,6 +1,6 @@
 package net.sourceforge.jaad.aac.sbr;
 
-class HFGeneration {
+class HFGeneration implements Constants {
 
 	private static final int[] goalSbTab = {21, 23, 32, 43, 46, 64, 85, 93, 128, 0, 0, 0};
 
@@ -14,10 +14,13 @@ class HFGeneration {
 		float det;
 	}
 
-	public static void hf_generation(SBR sbr, float[][][] Xlow,
-		float[][][] Xhigh, int ch) {
-		int l, i, x;
-		float[][] alpha_0 = new float[64][2], alpha_1 = new float[64][2];
+	//work buffers for the prediction coefficients, complex interleaved
+	private final float[] alpha_0 = new float[2*64], alpha_1 = new float[2*64];
+	private final acorr_coef ac = new acorr_coef();
+
+	public void hf_generation(SBR sbr, float[] Xlow,
+		float[] Xhigh, int ch) {
+		int l, i, x, lo, hi;
 
 		int offset = sbr.tHFAdj;
 		int first = sbr.t_E[ch][0];
@@ -54,32 +57,34 @@ class HFGeneration {
 				if(bw2>0) {
 					float temp1_r, temp2_r, temp3_r;
 					float temp1_i, temp2_i, temp3_i;
-					calc_prediction_coef(sbr, Xlow, alpha_0, alpha_1, p);
-
-					a0_r = (alpha_0[p][0]*bw);
-					a1_r = (alpha_1[p][0]*bw2);
-					a0_i = (alpha_0[p][1]*bw);
-					a1_i = (alpha_1[p][1]*bw2);
-
-					temp2_r = (Xlow[first-2+offset][p][0]);
-					temp3_r = (Xlow[first-1+offset][p][0]);
-					temp2_i = (Xlow[first-2+offset][p][1]);
-					temp3_i = (Xlow[first-1+offset][p][1]);
-					for(l = first; l<last; l++) {
+					calc_prediction_coef(sbr, Xlow, ac, alpha_0, alpha_1, p);
+
+					a0_r = (alpha_0[2*p]*bw);
+					a1_r = (alpha_1[2*p]*bw2);
+					a0_i = (alpha_0[2*p+1]*bw);
+					a1_i = (alpha_1[2*p+1]*bw2);
+
+					lo = (first+offset)*QMF_SLOT+2*p;
+					hi = (first+offset)*QMF_SLOT+2*k;
+					temp2_r = (Xlow[lo-2*QMF_SLOT]);
+					temp3_r = (Xlow[lo-QMF_SLOT]);
+					temp2_i = (Xlow[lo-2*QMF_SLOT+1]);
+					temp3_i = (Xlow[lo-QMF_SLOT+1]);
+					for(l = first; l<last; l++, lo += QMF_SLOT, hi += QMF_SLOT) {
 						temp1_r = temp2_r;
 						temp2_r = temp3_r;
-						temp3_r = (Xlow[l+offset][p][0]);
+						temp3_r = (Xlow[lo]);
 						temp1_i = temp2_i;
 						temp2_i = temp3_i;
-						temp3_i = (Xlow[l+offset][p][1]);
+						temp3_i = (Xlow[lo+1]);
 
-						Xhigh[l+offset][k][0]
+						Xhigh[hi]
 							= temp3_r
 							+((a0_r*temp2_r)
 							-(a0_i*temp2_i)
 							+(a1_r*temp1_r)
 							-(a1_i*temp1_i));
-						Xhigh[l+offset][k][1]
+						Xhigh[hi+1]
 							= temp3_i
 							+((a0_i*temp2_r)
 							+(a0_r*temp2_i)
@@ -88,9 +93,11 @@ class HFGeneration {
 					}
 				}
 				else {
-					for(l = first; l<last; l++) {
-						Xhigh[l+offset][k][0] = Xlow[l+offset][p][0];
-						Xhigh[l+offset][k][1] = Xlow[l+offset][p][1];
+					lo = (first+offset)*QMF_SLOT+2*p;
+					hi = (first+offset)*QMF_SLOT+2*k;
+					for(l = first; l<last; l++, lo += QMF_SLOT, hi += QMF_SLOT) {
+						Xhigh[hi] = Xlow[lo];
+						Xhigh[hi+1] = Xlow[lo+1];
 					}
 				}
 			}
@@ -101,7 +108,7 @@ class HFGeneration {
 		}
 	}
 
-	private static void auto_correlation(SBR sbr, acorr_coef ac, float[][][] buffer,
+	private static void auto_correlation(SBR sbr, acorr_coef ac, float[] buffer,
 		int bd, int len) {
 		float r01r = 0, r01i = 0, r02r = 0, r02i = 0, r11r = 0;
 		float temp1_r, temp1_i, temp2_r, temp2_i, temp3_r, temp3_i, temp4_r, temp4_i, temp5_r, temp5_i;
@@ -109,23 +116,24 @@ class HFGeneration {
 		int j;
 		int offset = sbr.tHFAdj;
 
-		temp2_r = buffer[offset-2][bd][0];
-		temp2_i = buffer[offset-2][bd][1];
-		temp3_r = buffer[offset-1][bd][0];
-		temp3_i = buffer[offset-1][bd][1];
+		temp2_r = buffer[(offset-2)*QMF_SLOT+2*bd];
+		temp2_i = buffer[(offset-2)*QMF_SLOT+2*bd+1];
+		temp3_r = buffer[(offset-1)*QMF_SLOT+2*bd];
+		temp3_i = buffer[(offset-1)*QMF_SLOT+2*bd+1];
 		// Save these because they are needed after loop
 		temp4_r = temp2_r;
 		temp4_i = temp2_i;
 		temp5_r = temp3_r;
 		temp5_i = temp3_i;
 
-		for(j = offset; j<len+offset; j++) {
+		final int end = (len+offset)*QMF_SLOT;
+		for(j = offset*QMF_SLOT+2*bd; j<end; j += QMF_SLOT) {
 			temp1_r = temp2_r; // temp1_r = QMF_RE(buffer[j-2][bd];
 			temp1_i = temp2_i; // temp1_i = QMF_IM(buffer[j-2][bd];
 			temp2_r = temp3_r; // temp2_r = QMF_RE(buffer[j-1][bd];
 			temp2_i = temp3_i; // temp2_i = QMF_IM(buffer[j-1][bd];
-			temp3_r = buffer[j][bd][0];
-			temp3_i = buffer[j][bd][1];
+			temp3_r = buffer[j];
+			temp3_i = buffer[j+1];
 			r01r += temp3_r*temp2_r+temp3_i*temp2_i;
 			r01i += temp3_i*temp2_r-temp3_r*temp2_i;
 			r02r += temp3_r*temp1_r+temp3_i*temp1_i;
@@ -164,39 +172,38 @@ class HFGeneration {
 	}
 
 	/* calculate linear prediction coefficients using the covariance method */
-	private static void calc_prediction_coef(SBR sbr, float[][][] Xlow,
-		float[][] alpha_0, float[][] alpha_1, int k) {
+	private static void calc_prediction_coef(SBR sbr, float[] Xlow, acorr_coef ac,
+		float[] alpha_0, float[] alpha_1, int k) {
 		float tmp;
-		acorr_coef ac = new acorr_coef();
 
 		auto_correlation(sbr, ac, Xlow, k, sbr.numTimeSlotsRate+6);
 
 		if(ac.det==0) {
-			alpha_1[k][0] = 0;
-			alpha_1[k][1] = 0;
+			alpha_1[2*k] = 0;
+			alpha_1[2*k+1] = 0;
 		}
 		else {
 			tmp = 1.0f/ac.det;
-			alpha_1[k][0] = ((ac.r01[0]*ac.r12[0])-(ac.r01[1]*ac.r12[1])-(ac.r02[0]*ac.r11[0]))*tmp;
-			alpha_1[k][1] = ((ac.r01[1]*ac.r12[0])+(ac.r01[0]*ac.r12[1])-(ac.r02[1]*ac.r11[0]))*tmp;
+			alpha_1[2*k] = ((ac.r01[0]*ac.r12[0])-(ac.r01[1]*ac.r12[1])-(ac.r02[0]*ac.r11[0]))*tmp;
+			alpha_1[2*k+1] = ((ac.r01[1]*ac.r12[0])+(ac.r01[0]*ac.r12[1])-(ac.r02[1]*ac.r11[0]))*tmp;
 		}
 
 		if(ac.r11[0]==0) {
-			alpha_0[k][0] = 0;
-			alpha_0[k][1] = 0;
+			alpha_0[2*k] = 0;
+			alpha_0[2*k+1] = 0;
 		}
 		else {
 			tmp = 1.0f/ac.r11[0];
-			alpha_0[k][0] = -(ac.r01[0]+(alpha_1[k][0]*ac.r12[0])+(alpha_1[k][1]*ac.r12[1]))*tmp;
-			alpha_0[k][1] = -(ac.r01[1]+(alpha_1[k][1]*ac.r12[0])-(alpha_1[k][0]*ac.r12[1]))*tmp;
+			alpha_0[2*k] = -(ac.r01[0]+(alpha_1[2*k]*ac.r12[0])+(alpha_1[2*k+1]*ac.r12[1]))*tmp;
+			alpha_0[2*k+1] = -(ac.r01[1]+(alpha_1[2*k+1]*ac.r12[0])-(alpha_1[2*k]*ac.r12[1]))*tmp;
 		}
 
-		if(((alpha_0[k][0]*alpha_0[k][0])+(alpha_0[k][1]*alpha_0[k][1])>=16.0f)
-			||((alpha_1[k][0]*alpha_1[k][0])+(alpha_1[k][1]*alpha_1[k][1])>=16.0f)) {
-			alpha_0[k][0] = 0;
-			alpha_0[k][1] = 0;
-			alpha_1[k][0] = 0;
-			alpha_1[k][1] = 0;
+		if(((alpha_0[2*k]*alpha_0[2*k])+(alpha_0[2*k+1]*alpha_0[2*k+1])>=16.0f)
+			||((alpha_1[2*k]*alpha_1[2*k])+(alpha_1[2*k+1]*alpha_1[2*k+1])>=16.0f)) {
+			alpha_0[2*k] = 0;
+			alpha_0[2*k+1] = 0;
+			alpha_1[2*k] = 0;
+			alpha_1[2*k+1] = 0;
 		}
 	}
 
@@ -2,6 +2,7 @@ package net.sourceforge.jaad.aac.sbr;
 
 import java.util.Arrays;
 import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.Complexity;
 import net.sourceforge.jaad.aac.SampleFrequency;
 import net.sourceforge.jaad.aac.ps.PS;
 import net.sourceforge.jaad.aac.syntax.BitStream;
@@ -49,8 +50,9 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 	int[][] f = new int[2][MAX_L_E+1];
 	int[] f_prev = new int[2];
 
-	float[][][] G_temp_prev = new float[2][5][64];
-	float[][][] Q_temp_prev = new float[2][5][64];
+	//ringbuffers of 5 slots of 64 gains
+	float[][] G_temp_prev = new float[2][5*64];
+	float[][] Q_temp_prev = new float[2][5*64];
 	int[] GQ_ringbuf_index = new int[2];
 
 	int[][][] E = new int[2][64][MAX_L_E];
@@ -101,8 +103,22 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 	boolean stereo;
 	AnalysisFilterbank[] qmfa = new AnalysisFilterbank[2];
 	SynthesisFilterbank[] qmfs = new SynthesisFilterbank[2];
-
-	float[][][][] Xsbr = new float[2][MAX_NTSRHFG][64][2];
+	//32-band synthesis for DOWNSAMPLED_SBR, created when first needed
+	private SynthesisFilterbank[] qmfs32;
+	//requested tier, and the tier in effect for the current and the last frame
+	private Complexity complexity = Complexity.FULL;
+	private Complexity tier = Complexity.FULL;
+
+	//QMF matrices: QMF_SLOT floats per time slot
+	float[][] Xsbr = new float[2][MAX_NTSRHFG*QMF_SLOT];
+	//work buffers, reused for each frame
+	private final HFGeneration hfGen = new HFGeneration();
+	private final HFAdjustment hfAdj = new HFAdjustment();
+	private final float[] X = new float[MAX_NTSR*QMF_SLOT];
+	//time borders while parsing the grid, restored on errors
+	final int[] t_E_temp = new int[6];
+	private final int[] saved_t_E = new int[6], saved_t_Q = new int[3];
+	private float[] X_left, X_right;
 
 	int numTimeSlotsRate;
 	int numTimeSlots;
@@ -112,6 +128,9 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 	PS ps;
 	boolean ps_used;
 	boolean psResetFlag;
+	//time spent in PS since the last call of takePSNanos, if measured
+	private boolean psTiming;
+	private long psNanos;
 
 	/* to get it compiling */
 	/* we'll see during the coding of all the tools, whether
@@ -216,20 +235,10 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		if(this.qmfs[0]!=null) qmfs[0].reset();
 		if(this.qmfs[1]!=null) qmfs[1].reset();
 
-		for(j = 0; j<5; j++) {
-			if(this.G_temp_prev[0][j]!=null) Arrays.fill(G_temp_prev[0][j], 0);
-			if(this.G_temp_prev[1][j]!=null) Arrays.fill(G_temp_prev[1][j], 0);
-			if(this.Q_temp_prev[0][j]!=null) Arrays.fill(Q_temp_prev[0][j], 0);
-			if(this.Q_temp_prev[1][j]!=null) Arrays.fill(Q_temp_prev[1][j], 0);
-		}
-
-		for(int i = 0; i<40; i++) {
-			for(int k = 0; k<64; k++) {
-				Xsbr[0][i][j][0] = 0;
-				Xsbr[0][i][j][1] = 0;
-				Xsbr[1][i][j][0] = 0;
-				Xsbr[1][i][j][1] = 0;
-			}
+		for(j = 0; j<2; j++) {
+			Arrays.fill(G_temp_prev[j], 0);
+			Arrays.fill(Q_temp_prev[j], 0);
+			Arrays.fill(Xsbr[j], 0);
 		}
 
 		this.GQ_ringbuf_index[0] = 0;
@@ -270,6 +279,41 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		this.bs_add_harmonic_flag_prev[1] = false;
 	}
 
+	/**
+	 * Clears all state of the previous stream, so the buffers can be reused
+	 * for a new stream with the same configuration. Afterwards the SBR
+	 * decodes like a newly created one.
+	 */
+	public void reset() {
+		sbrReset();
+		//the 32-band synthesis is reset when the tier is entered again
+		tier = Complexity.FULL;
+
+		for(int j = 0; j<2; j++) {
+			Arrays.fill(bs_invf_mode_prev[j], 0);
+			Arrays.fill(bwArray_prev[j], 0);
+		}
+		Arrays.fill(l_A_prev, 0);
+		Arrays.fill(index_noise_prev, 0);
+		Arrays.fill(psi_is_prev, 0);
+		this.kx_prev = 0;
+		this.bs_header_flag = false;
+		this.bs_stop_freq = 0;
+		this.bs_xover_band = 0;
+		this.bs_stop_freq_prev = 0;
+		this.bs_xover_band_prev = 0;
+		this.bs_freq_scale_prev = 0;
+		this.bs_alter_scale_prev = false;
+		this.bs_noise_bands_prev = 0;
+		this.just_seeked = false;
+		this.ret = 0;
+		this.frame = 0;
+
+		if(ps!=null) ps.reset();
+		this.ps_used = false;
+		this.psResetFlag = false;
+	}
+
 	void sbr_reset() {
 
 		/* if these are different from the previous frame: Reset = 1 */
@@ -619,7 +663,8 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 				sinusoidal_coding(ld, 1);
 		}
 		else {
-			int[] saved_t_E = new int[6], saved_t_Q = new int[3];
+			Arrays.fill(saved_t_E, 0);
+			Arrays.fill(saved_t_Q, 0);
 			int saved_L_E = this.L_E[0];
 			int saved_L_Q = this.L_Q[0];
 			int saved_frame_class = this.bs_frame_class[0];
@@ -1049,25 +1094,13 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 	}
 
 	private void sbr_save_matrix(int ch) {
-		int i;
-
-		for(i = 0; i<this.tHFGen; i++) {
-			for(int j = 0; j<64; j++) {
-				Xsbr[ch][i][j][0] = Xsbr[ch][i+numTimeSlotsRate][j][0];
-				Xsbr[ch][i][j][1] = Xsbr[ch][i+numTimeSlotsRate][j][1];
-			}
-		}
-		for(i = this.tHFGen; i<MAX_NTSRHFG; i++) {
-			for(int j = 0; j<64; j++) {
-				Xsbr[ch][i][j][0] = 0;
-				Xsbr[ch][i][j][1] = 0;
-			}
-		}
+		System.arraycopy(Xsbr[ch], numTimeSlotsRate*QMF_SLOT, Xsbr[ch], 0, tHFGen*QMF_SLOT);
+		Arrays.fill(Xsbr[ch], tHFGen*QMF_SLOT, MAX_NTSRHFG*QMF_SLOT, 0);
 	}
 
-	private int sbr_process_channel(float[] channel_buf, float[][][] X,
+	private int sbr_process_channel(float[] channel_buf, float[] X,
 		int ch, boolean dont_process) {
-		int k, l;
+		int l, k;
 		int ret = 0;
 
 		this.bsco = 0;
@@ -1081,11 +1114,11 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		if(!dont_process) {
 			/* insert high frequencies here */
 			/* hf generation using patching */
-			HFGeneration.hf_generation(this, this.Xsbr[ch], this.Xsbr[ch], ch);
+			hfGen.hf_generation(this, this.Xsbr[ch], this.Xsbr[ch], ch);
 
 
 			/* hf adjustment */
-			ret = HFAdjustment.hf_adjustment(this, this.Xsbr[ch], ch);
+			ret = hfAdj.hf_adjustment(this, this.Xsbr[ch], ch);
 			if(ret>0) {
 				dont_process = true;
 			}
@@ -1093,14 +1126,8 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 
 		if(this.just_seeked||dont_process) {
 			for(l = 0; l<this.numTimeSlotsRate; l++) {
-				for(k = 0; k<32; k++) {
-					X[l][k][0] = this.Xsbr[ch][l+this.tHFAdj][k][0];
-					X[l][k][1] = this.Xsbr[ch][l+this.tHFAdj][k][1];
-				}
-				for(k = 32; k<64; k++) {
-					X[l][k][0] = 0;
-					X[l][k][1] = 0;
-				}
+				System.arraycopy(Xsbr[ch], (l+tHFAdj)*QMF_SLOT, X, l*QMF_SLOT, 2*32);
+				Arrays.fill(X, l*QMF_SLOT+2*32, (l+1)*QMF_SLOT, 0);
 			}
 		}
 		else {
@@ -1118,18 +1145,10 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 					bsco_band = this.bsco;
 				}
 
-				for(k = 0; k<kx_band+bsco_band; k++) {
-					X[l][k][0] = this.Xsbr[ch][l+this.tHFAdj][k][0];
-					X[l][k][1] = this.Xsbr[ch][l+this.tHFAdj][k][1];
-				}
-				for(k = kx_band+bsco_band; k<kx_band+M_band; k++) {
-					X[l][k][0] = this.Xsbr[ch][l+this.tHFAdj][k][0];
-					X[l][k][1] = this.Xsbr[ch][l+this.tHFAdj][k][1];
-				}
-				for(k = Math.max(kx_band+bsco_band, kx_band+M_band); k<64; k++) {
-					X[l][k][0] = 0;
-					X[l][k][1] = 0;
-				}
+				//copy the bands up to kx+max(bsco, M), clear the rest
+				k = Math.min(Math.max(kx_band+bsco_band, kx_band+M_band), 64);
+				System.arraycopy(Xsbr[ch], (l+tHFAdj)*QMF_SLOT, X, l*QMF_SLOT, 2*k);
+				Arrays.fill(X, l*QMF_SLOT+2*k, (l+1)*QMF_SLOT, 0);
 			}
 		}
 
@@ -1140,7 +1159,6 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		boolean just_seeked) {
 		boolean dont_process = false;
 		int ret = 0;
-		float[][][] X = new float[MAX_NTSR][64][2];
 
 		/* case can occur due to bit errors */
 		if(!stereo) return 21;
@@ -1161,23 +1179,16 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 			this.just_seeked = false;
 		}
 
+		/* the core tier only upsamples, without a high band */
+		if(setTier(false)==Complexity.CORE) dont_process = true;
+
 		this.ret += sbr_process_channel(left_chan, X, 0, dont_process);
 		/* subband synthesis */
-		if(downSampledSBR) {
-			qmfs[0].sbr_qmf_synthesis_32(this, X, left_chan);
-		}
-		else {
-			qmfs[0].sbr_qmf_synthesis_64(this, X, left_chan);
-		}
+		synthesis(0, X, left_chan);
 
 		this.ret += sbr_process_channel(right_chan, X, 1, dont_process);
 		/* subband synthesis */
-		if(downSampledSBR) {
-			qmfs[1].sbr_qmf_synthesis_32(this, X, right_chan);
-		}
-		else {
-			qmfs[1].sbr_qmf_synthesis_64(this, X, right_chan);
-		}
+		synthesis(1, X, right_chan);
 
 		if(this.bs_header_flag)
 			this.just_seeked = false;
@@ -1201,7 +1212,6 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		boolean just_seeked) {
 		boolean dont_process = false;
 		int ret = 0;
-		float[][][] X = new float[MAX_NTSR][64][2];
 
 		/* case can occur due to bit errors */
 		if(stereo) return 21;
@@ -1222,14 +1232,12 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 			this.just_seeked = false;
 		}
 
+		/* the core tier only upsamples, without a high band */
+		if(setTier(false)==Complexity.CORE) dont_process = true;
+
 		this.ret += sbr_process_channel(channel, X, 0, dont_process);
 		/* subband synthesis */
-		if(downSampledSBR) {
-			qmfs[0].sbr_qmf_synthesis_32(this, X, channel);
-		}
-		else {
-			qmfs[0].sbr_qmf_synthesis_64(this, X, channel);
-		}
+		synthesis(0, X, channel);
 
 		if(this.bs_header_flag)
 			this.just_seeked = false;
@@ -1248,11 +1256,9 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 
 	public int processPS(float[] left_channel, float[] right_channel,
 		boolean just_seeked) {
-		int l, k;
+		int l;
 		boolean dont_process = false;
 		int ret = 0;
-		float[][][] X_left = new float[38][64][2];
-		float[][][] X_right = new float[38][64][2];
 
 		/* case can occur due to bit errors */
 		if(stereo) return 21;
@@ -1276,28 +1282,42 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		if(this.qmfs[1]==null) {
 			this.qmfs[1] = new SynthesisFilterbank((downSampledSBR) ? 32 : 64);
 		}
+		if(X_left==null) {
+			X_left = new float[38*QMF_SLOT];
+			X_right = new float[38*QMF_SLOT];
+		}
+		else {
+			//PS expects cleared matrices
+			Arrays.fill(X_left, 0);
+			Arrays.fill(X_right, 0);
+		}
 
-		this.ret += sbr_process_channel(left_channel, X_left, 0, dont_process);
+		final Complexity c = setTier(true);
+		if(c==Complexity.NO_PS||c==Complexity.CORE) {
+			/* the core tier only upsamples, without a high band */
+			this.ret += sbr_process_channel(left_channel, X_left, 0, dont_process||c==Complexity.CORE);
+			/* the parameters are still delta decoded */
+			ps.skip();
+			/* both synthesis filterbanks keep running, so that PS can continue */
+			synthesis(0, X_left, left_channel);
+			synthesis(1, X_left, right_channel);
+		}
+		else {
+			this.ret += sbr_process_channel(left_channel, X_left, 0, dont_process);
 
-		/* copy some extra data for PS */
-		for(l = this.numTimeSlotsRate; l<this.numTimeSlotsRate+6; l++) {
-			for(k = 0; k<5; k++) {
-				X_left[l][k][0] = this.Xsbr[0][this.tHFAdj+l][k][0];
-				X_left[l][k][1] = this.Xsbr[0][this.tHFAdj+l][k][1];
+			/* copy some extra data for PS */
+			for(l = this.numTimeSlotsRate; l<this.numTimeSlotsRate+6; l++) {
+				System.arraycopy(Xsbr[0], (tHFAdj+l)*QMF_SLOT, X_left, l*QMF_SLOT, 2*5);
 			}
-		}
 
-		/* perform parametric stereo */
-		ps.process(X_left, X_right);
+			/* perform parametric stereo */
+			final long start = psTiming ? System.nanoTime() : 0;
+			ps.process(X_left, X_right);
+			if(psTiming) psNanos += System.nanoTime()-start;
 
-		/* subband synthesis */
-		if(downSampledSBR) {
-			qmfs[0].sbr_qmf_synthesis_32(this, X_left, left_channel);
-			qmfs[1].sbr_qmf_synthesis_32(this, X_right, right_channel);
-		}
-		else {
-			qmfs[0].sbr_qmf_synthesis_64(this, X_left, left_channel);
-			qmfs[1].sbr_qmf_synthesis_64(this, X_right, right_channel);
+			/* subband synthesis */
+			synthesis(0, X_left, left_channel);
+			synthesis(1, X_right, right_channel);
 		}
 
 		if(this.bs_header_flag)
@@ -1315,6 +1335,74 @@ public class SBR implements Constants, net.sourceforge.jaad.aac.syntax.Constants
 		return 0;
 	}
 
+	/**
+	 * Sets the complexity tier for the following frames. The bitstream data
+	 * is decoded in every tier, so the tier may change with each frame.
+	 * @param complexity the tier
+	 */
+	public void setComplexity(Complexity complexity) {
+		this.complexity = complexity;
+	}
+
+	/* selects the tier of this frame and clears the state that the last tier didn't update */
+	private Complexity setTier(boolean psFrame) {
+		Complexity c = complexity;
+		//equivalent tiers for this stream
+		if(c==Complexity.NO_PS&&!psFrame) c = Complexity.FULL;
+		if(c==Complexity.DOWNSAMPLED_SBR&&downSampledSBR) c = Complexity.FULL;
+
+		final Complexity last = tier;
+		tier = c;
+		if(c==last) return c;
+
+		if(last==Complexity.CORE) {
+			/* the smoothing history of the HF adjustment is stale */
+			for(int j = 0; j<2; j++) {
+				Arrays.fill(G_temp_prev[j], 0);
+				Arrays.fill(Q_temp_prev[j], 0);
+			}
+		}
+
+		if(c==Complexity.DOWNSAMPLED_SBR) {
+			if(qmfs32==null) {
+				qmfs32 = new SynthesisFilterbank[]{new SynthesisFilterbank(32), new SynthesisFilterbank(32)};
+			}
+			else {
+				qmfs32[0].reset();
+				qmfs32[1].reset();
+			}
+		}
+		else if(last==Complexity.DOWNSAMPLED_SBR) {
+			if(qmfs[0]!=null) qmfs[0].reset();
+			if(qmfs[1]!=null) qmfs[1].reset();
+		}
+		return c;
+	}
+
+	private void synthesis(int ch, float[] X, float[] output) {
+		if(tier==Complexity.DOWNSAMPLED_SBR) qmfs32[ch].sbr_qmf_synthesis_32(this, X, output);
+		else if(downSampledSBR) qmfs[ch].sbr_qmf_synthesis_32(this, X, output);
+		else qmfs[ch].sbr_qmf_synthesis_64(this, X, output);
+	}
+
+	/**
+	 * Enables measuring the time spent in PS.
+	 * @param timing true to measure the time
+	 */
+	public void setPSTiming(boolean timing) {
+		psTiming = timing;
+	}
+
+	/**
+	 * Returns the time spent in PS since the last call and resets it.
+	 * @return the time in nanoseconds
+	 */
+	public long takePSNanos() {
+		final long l = psNanos;
+		psNanos = 0;
+		return l;
+	}
+
 	public boolean isPSUsed() {
 		return ps_used;
 	}
@@ -1,8 +1,9 @@
 package net.sourceforge.jaad.aac.sbr;
 
 import java.util.Arrays;
+import net.sourceforge.jaad.aac.filterbank.Kernels;
 
-class SynthesisFilterbank implements FilterbankTable {
+class SynthesisFilterbank implements Constants, FilterbankTable {
 
 	private static final float[][] qmf32_pre_twiddle = {
 		{0.999924701839145f, -0.012271538285720f},
@@ -38,10 +39,27 @@ class SynthesisFilterbank implements FilterbankTable {
 		{0.732654271672413f, -0.680600997795453f},
 		{0.715730825283819f, -0.698376249408973f}
 	};
+	//offsets of the polyphase components in v
+	private static final int[] TAPS_32 = {0, 96, 128, 224, 256, 352, 384, 480, 512, 608};
+	private static final int[] TAPS_64 = {0, 192, 256, 448, 512, 704, 768, 960, 1024, 1216};
+	//every second window coefficient, for 32 bands
+	private static final float[] QMF_C_32 = new float[320];
 
+	static {
+		for(int t = 0; t<10; t++) {
+			for(int k = 0; k<32; k++) {
+				QMF_C_32[t*32+k] = qmf_c[t*64+2*k];
+			}
+		}
+	}
 	private float[] v; //double ringbuffer
 	private int v_index; //ringbuffer index
 	private final int channels;
+	//work buffers
+	private final float[] x1 = new float[32], x2 = new float[32];
+	private final float[] in_real1 = new float[32], in_imag1 = new float[32], out_real1 = new float[32], out_imag1 = new float[32];
+	private final float[] in_real2 = new float[32], in_imag2 = new float[32], out_real2 = new float[32], out_imag2 = new float[32];
+	private final Kernels kernels = Kernels.getInstance();
 
 	public SynthesisFilterbank(int channels) {
 		this.channels = channels;
@@ -51,14 +69,14 @@ class SynthesisFilterbank implements FilterbankTable {
 
 	public void reset() {
 		Arrays.fill(v, 0);
+		v_index = 0;
 	}
 
-	void sbr_qmf_synthesis_32(SBR sbr, float[][][] X,
+	void sbr_qmf_synthesis_32(SBR sbr, float[] X,
 		float[] output) {
-		float[] x1 = new float[32], x2 = new float[32];
 		float scale = 1.f/64.f;
 		int n, k, out = 0;
-		int l;
+		int l, pX;
 
 
 		/* qmf subsample l */
@@ -69,9 +87,10 @@ class SynthesisFilterbank implements FilterbankTable {
 
 			/* calculate 64 samples */
 			/* complex pre-twiddle */
-			for(k = 0; k<32; k++) {
-				x1[k] = (X[l][k][0]*qmf32_pre_twiddle[k][0])-(X[l][k][1]*qmf32_pre_twiddle[k][1]);
-				x2[k] = (X[l][k][1]*qmf32_pre_twiddle[k][0])+(X[l][k][0]*qmf32_pre_twiddle[k][1]);
+			pX = l*QMF_SLOT;
+			for(k = 0; k<32; k++, pX += 2) {
+				x1[k] = (X[pX]*qmf32_pre_twiddle[k][0])-(X[pX+1]*qmf32_pre_twiddle[k][1]);
+				x2[k] = (X[pX+1]*qmf32_pre_twiddle[k][0])+(X[pX]*qmf32_pre_twiddle[k][1]);
 
 				x1[k] *= scale;
 				x2[k] *= scale;
@@ -87,18 +106,8 @@ class SynthesisFilterbank implements FilterbankTable {
 			}
 
 			/* calculate 32 output samples and window */
-			for(k = 0; k<32; k++) {
-				output[out++] = (this.v[this.v_index+k]*qmf_c[2*k])
-					+(this.v[this.v_index+96+k]*qmf_c[64+2*k])
-					+(this.v[this.v_index+128+k]*qmf_c[128+2*k])
-					+(this.v[this.v_index+224+k]*qmf_c[192+2*k])
-					+(this.v[this.v_index+256+k]*qmf_c[256+2*k])
-					+(this.v[this.v_index+352+k]*qmf_c[320+2*k])
-					+(this.v[this.v_index+384+k]*qmf_c[384+2*k])
-					+(this.v[this.v_index+480+k]*qmf_c[448+2*k])
-					+(this.v[this.v_index+512+k]*qmf_c[512+2*k])
-					+(this.v[this.v_index+608+k]*qmf_c[576+2*k]);
-			}
+			kernels.window(v, v_index, TAPS_32, QMF_C_32, output, out, 32);
+			out += 32;
 
 			/* update ringbuffer index */
 			this.v_index -= 64;
@@ -107,11 +116,9 @@ class SynthesisFilterbank implements FilterbankTable {
 		}
 	}
 
-	void sbr_qmf_synthesis_64(SBR sbr, float[][][] X,
+	void sbr_qmf_synthesis_64(SBR sbr, float[] X,
 		float[] output) {
-		float[] in_real1 = new float[32], in_imag1 = new float[32], out_real1 = new float[32], out_imag1 = new float[32];
-		float[] in_real2 = new float[32], in_imag2 = new float[32], out_real2 = new float[32], out_imag2 = new float[32];
-		float[][] pX;
+		int pX;
 		float scale = 1.f/64.f;
 		int n, k, out = 0;
 		int l;
@@ -124,22 +131,22 @@ class SynthesisFilterbank implements FilterbankTable {
 			//memmove(qmfs.v + 128, qmfs.v, (1280-128)*sizeof(real_t));
 
 			/* calculate 128 samples */
-			pX = X[l];
+			pX = l*QMF_SLOT;
 
-			in_imag1[31] = scale*pX[1][0];
-			in_real1[0] = scale*pX[0][0];
-			in_imag2[31] = scale*pX[63-1][1];
-			in_real2[0] = scale*pX[63-0][1];
+			in_imag1[31] = scale*X[pX+2*1];
+			in_real1[0] = scale*X[pX+2*0];
+			in_imag2[31] = scale*X[pX+2*(63-1)+1];
+			in_real2[0] = scale*X[pX+2*(63-0)+1];
 			for(k = 1; k<31; k++) {
-				in_imag1[31-k] = scale*pX[2*k+1][0];
-				in_real1[     k] = scale*pX[2*k][0];
-				in_imag2[31-k] = scale*pX[63-(2*k+1)][1];
-				in_real2[     k] = scale*pX[63-(2*k)][1];
+				in_imag1[31-k] = scale*X[pX+2*(2*k+1)];
+				in_real1[     k] = scale*X[pX+2*(2*k)];
+				in_imag2[31-k] = scale*X[pX+2*(63-(2*k+1))+1];
+				in_real2[     k] = scale*X[pX+2*(63-(2*k))+1];
 			}
-			in_imag1[0] = scale*pX[63][0];
-			in_real1[31] = scale*pX[62][0];
-			in_imag2[0] = scale*pX[63-63][1];
-			in_real2[31] = scale*pX[63-62][1];
+			in_imag1[0] = scale*X[pX+2*63];
+			in_real1[31] = scale*X[pX+2*62];
+			in_imag2[0] = scale*X[pX+2*(63-63)+1];
+			in_real2[31] = scale*X[pX+2*(63-62)+1];
 
 			// dct4_kernel is DCT_IV without reordering which is done before and after FFT
 			DCT.dct4_kernel(in_real1, in_imag1, out_real1, out_imag1);
@@ -161,19 +168,8 @@ class SynthesisFilterbank implements FilterbankTable {
 			pring_buffer_1 = v_index; //*v
 
 			/* calculate 64 output samples and window */
-			for(k = 0; k<64; k++) {
-				output[out++]
-					= (v[pring_buffer_1+k+0]*qmf_c[k+0])
-					+(v[pring_buffer_1+k+192]*qmf_c[k+64])
-					+(v[pring_buffer_1+k+256]*qmf_c[k+128])
-					+(v[pring_buffer_1+k+(256+192)]*qmf_c[k+192])
-					+(v[pring_buffer_1+k+512]*qmf_c[k+256])
-					+(v[pring_buffer_1+k+(512+192)]*qmf_c[k+320])
-					+(v[pring_buffer_1+k+768]*qmf_c[k+384])
-					+(v[pring_buffer_1+k+(768+192)]*qmf_c[k+448])
-					+(v[pring_buffer_1+k+1024]*qmf_c[k+512])
-					+(v[pring_buffer_1+k+(1024+192)]*qmf_c[k+576]);
-			}
+			kernels.window(v, pring_buffer_1, TAPS_64, qmf_c, output, out, 64);
+			out += 64;
 
 			/* update ringbuffer index */
 			this.v_index -= 128;
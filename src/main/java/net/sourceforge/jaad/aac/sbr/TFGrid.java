@@ -1,5 +1,7 @@
 package net.sourceforge.jaad.aac.sbr;
 
+import java.util.Arrays;
+
 class TFGrid implements Constants {
 
 
@@ -7,7 +9,8 @@ class TFGrid implements Constants {
 	/* first build into temp vector to be able to use previous vector on error */
 	public static int envelope_time_border_vector(SBR sbr, int ch) {
 		int l, border, temp;
-		int[] t_E_temp = new int[6];
+		final int[] t_E_temp = sbr.t_E_temp;
+		Arrays.fill(t_E_temp, 0);
 
 		t_E_temp[0] = sbr.rate*sbr.abs_bord_lead[ch];
 		t_E_temp[sbr.L_E[ch]] = sbr.rate*sbr.abs_bord_trail[ch];
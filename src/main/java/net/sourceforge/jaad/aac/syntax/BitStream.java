@@ -9,6 +9,7 @@ public class BitStream {
 	private static final int BYTE_MASK = 0xff;
 	private byte[] buffer;
 	private int pos; //offset in the buffer array
+	private int limit; //end of the data in the buffer array
 	private int cache; //current 4 bytes, that are read from the buffer
 	protected int bitsCached; //remaining bits in current cache
 	protected int position; //number of total bits read
@@ -23,32 +24,38 @@ public class BitStream {
 	public void destroy() {
 		reset();
 		buffer = null;
+		limit = 0;
 	}
 
 	public final void setData(byte[] data) {
-		reset();
+		setData(data, 0, data.length);
+	}
 
-		int size = data.length;
+	/**
+	 * Sets the data to read from. The array is not copied, so it must not be
+	 * modified until all data is read from this stream.
+	 * @param data an array containing the data
+	 * @param off the offset of the first byte to read
+	 * @param len the number of bytes to read
+	 */
+	public final void setData(byte[] data, int off, int len) {
+		if(off<0||len<0||off+len>data.length) throw new IndexOutOfBoundsException("offset: "+off+", length: "+len+", array length: "+data.length);
+		reset();
 
 		// reduce the buffer size to an integer number of words
-		int shift = size%WORD_BYTES;
+		final int shift = len%WORD_BYTES;
 
 		// push leading bytes to cache
 		bitsCached = 8*shift;
 
-		for(int i=0; i<shift; ++i) {
-			byte c = data[i];
+		for(int i = 0; i<shift; ++i) {
 			cache <<= 8;
-			cache |= 0xff & c;
+			cache |= BYTE_MASK&data[off+i];
 		}
 
-		size -= shift;
-
-		//only reallocate if needed
-		if(buffer==null||buffer.length!=size)
-			buffer = new byte[size];
-
-		System.arraycopy(data, shift, buffer, 0, buffer.length);
+		buffer = data;
+		pos = off+shift;
+		limit = off+len;
 	}
 
 	public void byteAlign() throws AACException {
@@ -68,7 +75,7 @@ public class BitStream {
 	}
 
 	public int getBitsLeft() {
-		return 8*(buffer.length-pos)+bitsCached;
+		return 8*(limit-pos)+bitsCached;
 	}
 
 	/**
@@ -77,7 +84,7 @@ public class BitStream {
 	 */
 	protected int readCache(boolean peek) throws AACException {
 		int i;
-		if(pos>buffer.length-WORD_BYTES) throw new AACException("end of stream", true);
+		if(pos>limit-WORD_BYTES) throw new AACException("end of stream", true);
 		else i = ((buffer[pos]&BYTE_MASK)<<24)
 					|((buffer[pos+1]&BYTE_MASK)<<16)
 					|((buffer[pos+2]&BYTE_MASK)<<8)
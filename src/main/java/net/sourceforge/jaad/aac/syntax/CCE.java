@@ -27,15 +27,21 @@ class CCE extends Element implements Constants {
 	 */
 	private final float[][] gain;
 
-	CCE(DecoderConfig config) {
+	CCE(DecoderConfig config, NoiseGenerator noise) {
 		super();
-		ics = new ICStream(config);
+		ics = new ICStream(config, noise);
 		channelPair = new boolean[8];
 		idSelect = new int[8];
 		chSelect = new int[8];
 		gain = new float[16][120];
 	}
 
+	@Override
+	void reset() {
+		super.reset();
+		ics.reset();
+	}
+
 	int getCouplingPoint() {
 		return couplingPoint;
 	}
@@ -15,11 +15,11 @@ public class CPE extends Element implements Constants {
 	private boolean commonWindow;
 	ICStream icsL, icsR;
 
-	CPE(DecoderConfig config) {
+	CPE(DecoderConfig config, NoiseGenerator noise) {
 		super();
 		msUsed = new boolean[MAX_MS_MASK];
-		icsL = new ICStream(config);
-		icsR = new ICStream(config);
+		icsL = new ICStream(config, noise);
+		icsR = new ICStream(config, noise);
 	}
 
 	void decode(BitStream in, DecoderConfig conf) throws AACException {
@@ -62,6 +62,13 @@ public class CPE extends Element implements Constants {
 		icsR.decode(in, commonWindow, conf);
 	}
 
+	@Override
+	void reset() {
+		super.reset();
+		icsL.reset();
+		icsR.reset();
+	}
+
 	public ICStream getLeftChannel() {
 		return icsL;
 	}
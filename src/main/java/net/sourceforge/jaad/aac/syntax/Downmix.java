@@ -0,0 +1,280 @@
+package net.sourceforge.jaad.aac.syntax;
+
+import java.util.Arrays;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.OutputLayout;
+import net.sourceforge.jaad.aac.filterbank.FilterBank;
+
+/**
+ * Mixes the decoded channels to a mono or stereo layout.
+ *
+ * The IMDCT and the overlap-add are linear, so the spectra of channels with
+ * the same window sequence and shapes are mixed before the filterbank, which
+ * then runs once per output channel instead of once per decoded channel.
+ * Channels with other windows are transformed separately and added, so only
+ * the overlap of the output channels is kept. SBR and LTP need the time
+ * signal of each channel, so these streams are mixed after decoding.
+ *
+ * The coefficients follow the matrix mixdown of ISO/IEC 14496-3, 4.5.1.2.2:
+ * the center is mixed with -3 dB and the surround channels with the gain
+ * signalled by the PCE (-3 dB if not present); the LFE is dropped. The
+ * coefficients are normalized so full-scale input doesn't clip.
+ */
+class Downmix {
+
+	//roles of the decoded channels
+	static final int NONE = 0, CENTER = 1, LEFT = 2, RIGHT = 3, SURROUND_LEFT = 4, SURROUND_RIGHT = 5, SURROUND_CENTER = 6;
+	private static final float SQRT1_2 = 0.70710678f;
+	//surround gain for each matrix mixdown index
+	private static final float[] SURROUND_GAINS = {SQRT1_2, 0.5f, 0.5f*SQRT1_2, 0};
+	private static final int SPECTRAL = 1, TIME = 2;
+	private final int outs;
+	private final int length;
+	//holds the overlap of each output channel and one for separately transformed windows
+	private final FilterBank filterBank;
+	private final float[] mixed, temp;
+	private float[][] out;
+	private float[][] coefs;
+	private int[] roles;
+	private float surroundGain = SQRT1_2;
+	private boolean changed;
+	private int channels, mode;
+	//spectral input of the current frame
+	private ICSInfo[] infos;
+	private float[][] spectra, coupling;
+	private boolean[] coupled, done;
+
+	Downmix(OutputLayout layout, boolean smallFrames, int length) throws AACException {
+		outs = layout.getChannelCount();
+		this.length = length;
+		filterBank = new FilterBank(smallFrames, outs+1);
+		mixed = new float[length];
+		temp = new float[length];
+		setChannelCount(2);
+	}
+
+	int getChannelCount() {
+		return outs;
+	}
+
+	float[][] getOutput() {
+		return out;
+	}
+
+	/**
+	 * Prepares the next frame.
+	 * @param main the filterbank of the decoded channels
+	 * @param channels the number of decoded channels
+	 * @param spectral true to mix the spectra, false to mix the decoded output
+	 * @param matrixMixdownIDX the matrix mixdown index of the PCE, or -1
+	 */
+	void startFrame(FilterBank main, int channels, boolean spectral, int matrixMixdownIDX) {
+		if(channels!=this.channels) setChannelCount(channels);
+		final float gain = (matrixMixdownIDX<0) ? SQRT1_2 : SURROUND_GAINS[matrixMixdownIDX];
+		if(gain!=surroundGain) {
+			surroundGain = gain;
+			changed = true;
+		}
+		//the overlaps of the decoded channels were not updated while mixing spectra
+		if(!spectral&&mode==SPECTRAL) {
+			for(int i = 0; i<main.getChannelCount(); i++) {
+				Arrays.fill(main.getOverlap(i), 0);
+			}
+			mode = 0;
+		}
+	}
+
+	//clears the state of the previous stream
+	void reset() {
+		for(int i = 0; i<=outs; i++) {
+			Arrays.fill(filterBank.getOverlap(i), 0);
+		}
+		surroundGain = SQRT1_2;
+		mode = 0;
+		setChannelCount(2);
+	}
+
+	private void setChannelCount(int channels) {
+		this.channels = channels;
+		coefs = new float[outs][channels];
+		roles = new int[channels];
+		infos = new ICSInfo[channels];
+		spectra = new float[channels][];
+		coupling = new float[channels][];
+		coupled = new boolean[channels];
+		done = new boolean[channels];
+		changed = true;
+	}
+
+	void setRole(int channel, int role) {
+		if(channel>=channels||roles[channel]==role) return;
+		roles[channel] = role;
+		changed = true;
+	}
+
+	//passes the spectrum of a channel, which must not change until the frame is mixed
+	void setSpectrum(int channel, ICSInfo info, float[] spectrum) {
+		infos[channel] = info;
+		spectra[channel] = spectrum;
+	}
+
+	//returns a cleared buffer to add time domain data to a channel
+	float[] getCouplingBuffer(int channel) {
+		if(coupling[channel]==null) coupling[channel] = new float[length];
+		else if(!coupled[channel]) Arrays.fill(coupling[channel], 0);
+		coupled[channel] = true;
+		return coupling[channel];
+	}
+
+	private void updateCoefficients() {
+		changed = false;
+		final float[] left = new float[channels], right = new float[channels];
+		float sumL = 0, sumR = 0;
+		for(int i = 0; i<channels; i++) {
+			switch(roles[i]) {
+				case CENTER:
+					left[i] = SQRT1_2;
+					right[i] = SQRT1_2;
+					break;
+				case LEFT:
+					left[i] = 1;
+					break;
+				case RIGHT:
+					right[i] = 1;
+					break;
+				case SURROUND_LEFT:
+					left[i] = surroundGain;
+					break;
+				case SURROUND_RIGHT:
+					right[i] = surroundGain;
+					break;
+				case SURROUND_CENTER:
+					left[i] = SQRT1_2*surroundGain;
+					right[i] = SQRT1_2*surroundGain;
+					break;
+			}
+			sumL += left[i];
+			sumR += right[i];
+		}
+
+		if(outs==2) {
+			final float max = Math.max(sumL, sumR);
+			final float norm = (max>0) ? 1/max : 0;
+			for(int i = 0; i<channels; i++) {
+				coefs[0][i] = norm*left[i];
+				coefs[1][i] = norm*right[i];
+			}
+		}
+		else {
+			final float sum = (sumL+sumR)/2;
+			final float norm = (sum>0) ? 1/sum : 0;
+			for(int i = 0; i<channels; i++) {
+				coefs[0][i] = norm*(left[i]+right[i])/2;
+			}
+		}
+	}
+
+	private void allocateOutput(int len) {
+		if(out==null||out[0].length<len) out = new float[outs][len];
+	}
+
+	/**
+	 * Transforms the mixed spectra of the current frame.
+	 * @param main the filterbank of the decoded channels
+	 */
+	void mixSpectra(FilterBank main) {
+		if(changed) updateCoefficients();
+		allocateOutput(length);
+
+		int o, i, j;
+		float[] overlap;
+		if(mode!=SPECTRAL) {
+			//continue from the decoded channels
+			for(o = 0; o<outs; o++) {
+				overlap = filterBank.getOverlap(o);
+				Arrays.fill(overlap, 0);
+				for(i = 0; i<Math.min(channels, main.getChannelCount()); i++) {
+					addScaled(main.getOverlap(i), coefs[o][i], overlap, length);
+				}
+			}
+			mode = SPECTRAL;
+		}
+
+		final float[] scratch = filterBank.getOverlap(outs);
+		ICSInfo info;
+		boolean first;
+		for(o = 0; o<outs; o++) {
+			overlap = filterBank.getOverlap(o);
+			Arrays.fill(done, false);
+			first = true;
+			for(i = 0; i<channels; i++) {
+				info = infos[i];
+				if(done[i]||info==null||coefs[o][i]==0) continue;
+
+				//mix all channels with the same windows
+				Arrays.fill(mixed, 0);
+				for(j = i; j<channels; j++) {
+					if(!done[j]&&infos[j]!=null&&coefs[o][j]!=0&&isSameWindow(info, infos[j])) {
+						addScaled(spectra[j], coefs[o][j], mixed, length);
+						done[j] = true;
+					}
+				}
+
+				if(first) {
+					filterBank.process(info.getWindowSequence(), info.getWindowShape(ICSInfo.CURRENT), info.getWindowShape(ICSInfo.PREVIOUS), mixed, out[o], o);
+					first = false;
+				}
+				else {
+					//without the overlap of the previous frame, which is already added
+					Arrays.fill(scratch, 0);
+					filterBank.process(info.getWindowSequence(), info.getWindowShape(ICSInfo.CURRENT), info.getWindowShape(ICSInfo.PREVIOUS), mixed, temp, outs);
+					addScaled(temp, 1, out[o], length);
+					addScaled(scratch, 1, overlap, length);
+				}
+			}
+			if(first) {
+				//no input: only the overlap remains
+				System.arraycopy(overlap, 0, out[o], 0, length);
+				Arrays.fill(overlap, 0);
+			}
+
+			for(i = 0; i<channels; i++) {
+				if(coupled[i]) addScaled(coupling[i], coefs[o][i], out[o], length);
+			}
+		}
+
+		Arrays.fill(infos, null);
+		Arrays.fill(spectra, null);
+		Arrays.fill(coupled, false);
+	}
+
+	/**
+	 * Mixes the decoded output of the current frame.
+	 * @param data the decoded channels
+	 * @param len the number of samples per channel
+	 */
+	void mixTime(float[][] data, int len) {
+		if(changed) updateCoefficients();
+		allocateOutput(data[0].length);
+		mode = TIME;
+
+		for(int o = 0; o<outs; o++) {
+			Arrays.fill(out[o], 0, len, 0);
+			for(int i = 0; i<channels; i++) {
+				if(coefs[o][i]!=0) addScaled(data[i], coefs[o][i], out[o], len);
+			}
+		}
+	}
+
+	private static boolean isSameWindow(ICSInfo a, ICSInfo b) {
+		return a.getWindowSequence()==b.getWindowSequence()
+			&&a.getWindowShape(ICSInfo.CURRENT)==b.getWindowShape(ICSInfo.CURRENT)
+			&&a.getWindowShape(ICSInfo.PREVIOUS)==b.getWindowShape(ICSInfo.PREVIOUS);
+	}
+
+	private static void addScaled(float[] in, float f, float[] out, int len) {
+		for(int i = 0; i<len; i++) {
+			out[i] += f*in[i];
+		}
+	}
+}
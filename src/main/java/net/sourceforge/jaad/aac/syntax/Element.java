@@ -28,6 +28,15 @@ public abstract class Element implements Constants {
 		sbr.decode(in, count, crc);
 	}
 
+	/**
+	 * Clears the state of the previous stream, keeping the allocated
+	 * buffers, so the element can decode a new stream with the same
+	 * configuration.
+	 */
+	void reset() {
+		if(sbr!=null) sbr.reset();
+	}
+
 	boolean isSBRPresent() {
 		return sbr!=null;
 	}
@@ -8,6 +8,7 @@ class FIL extends Element implements Constants {
 	public static class DynamicRangeInfo {
 
 		private static final int MAX_NBR_BANDS = 7;
+		private static final int MAX_DRC_BANDS = 16; //1+bandsIncrement
 		private final boolean[] excludeMask;
 		private final boolean[] additionalExcludedChannels;
 		private boolean pceTagPresent;
@@ -15,16 +16,19 @@ class FIL extends Element implements Constants {
 		private int tagReservedBits;
 		private boolean excludedChannelsPresent;
 		private boolean bandsPresent;
-		private int bandsIncrement, interpolationScheme;
-		private int[] bandTop;
+		private int bandsIncrement, interpolationScheme, bandCount;
+		private final int[] bandTop;
 		private boolean progRefLevelPresent;
 		private int progRefLevel, progRefLevelReservedBits;
-		private boolean[] dynRngSgn;
-		private int[] dynRngCtl;
+		private final boolean[] dynRngSgn;
+		private final int[] dynRngCtl;
 
 		public DynamicRangeInfo() {
 			excludeMask = new boolean[MAX_NBR_BANDS];
 			additionalExcludedChannels = new boolean[MAX_NBR_BANDS];
+			bandTop = new int[MAX_DRC_BANDS];
+			dynRngSgn = new boolean[MAX_DRC_BANDS];
+			dynRngCtl = new int[MAX_DRC_BANDS];
 		}
 	}
 	private static final int TYPE_FILL = 0;
@@ -114,7 +118,6 @@ class FIL extends Element implements Constants {
 			dri.interpolationScheme = in.readBits(4);
 			ret -= 8;
 			bandCount += dri.bandsIncrement;
-			dri.bandTop = new int[bandCount];
 			for(int i = 0; i<bandCount; i++) {
 				dri.bandTop[i] = in.readBits(8);
 				ret -= 8;
@@ -128,8 +131,7 @@ class FIL extends Element implements Constants {
 			ret -= 8;
 		}
 
-		dri.dynRngSgn = new boolean[bandCount];
-		dri.dynRngCtl = new int[bandCount];
+		dri.bandCount = bandCount;
 		for(int i = 0; i<bandCount; i++) {
 			dri.dynRngSgn[i] = in.readBool();
 			dri.dynRngCtl[i] = in.readBits(7);
@@ -6,7 +6,6 @@ import net.sourceforge.jaad.aac.Profile;
 import net.sourceforge.jaad.aac.SampleFrequency;
 import net.sourceforge.jaad.aac.tools.ICPrediction;
 import net.sourceforge.jaad.aac.tools.LTPrediction;
-import java.util.Arrays;
 
 public class ICSInfo implements Constants, ScaleFactorBands {
 
@@ -45,7 +44,7 @@ public class ICSInfo implements Constants, ScaleFactorBands {
 	}
 	private final int frameLength;
 	private WindowSequence windowSequence;
-	private int[] windowShape;
+	private final int[] windowShape;
 	private int maxSFB;
 	//prediction
 	private boolean predictionDataPresent;
@@ -54,7 +53,7 @@ public class ICSInfo implements Constants, ScaleFactorBands {
 	//windows/sfbs
 	private int windowCount;
 	private int windowGroupCount;
-	private int[] windowGroupLength;
+	private final int[] windowGroupLength;
 	private int swbCount;
 	private int[] swbOffsets;
 
@@ -181,13 +180,28 @@ public class ICSInfo implements Constants, ScaleFactorBands {
 	}
 
 
+	//clears the state of the previous stream
+	void reset() {
+		windowSequence = WindowSequence.ONLY_LONG_SEQUENCE;
+		windowShape[PREVIOUS] = 0;
+		windowShape[CURRENT] = 0;
+		predictionDataPresent = false;
+		//the predictor state is created again when needed
+		icPredict = null;
+		if(ltPredict!=null) ltPredict.reset();
+	}
+
+	void setPreviousWindowShape(int shape) {
+		windowShape[PREVIOUS] = shape;
+	}
+
 	public void unsetPredictionSFB(int sfb) {
 		if(predictionDataPresent) icPredict.setPredictionUnused(sfb);
 		if(ltPredict!=null) ltPredict.setPredictionUnused(sfb);
 	}
 
 	public void setData(BitStream in, DecoderConfig conf, ICSInfo info) throws AACException {
-		windowSequence = WindowSequence.valueOf(info.windowSequence.name());
+		windowSequence = info.windowSequence;
 		windowShape[PREVIOUS] = windowShape[CURRENT];
 		windowShape[CURRENT] = info.windowShape[CURRENT];
 		maxSFB = info.maxSFB;
@@ -196,9 +210,9 @@ public class ICSInfo implements Constants, ScaleFactorBands {
 
 		windowCount = info.windowCount;
 		windowGroupCount = info.windowGroupCount;
-		windowGroupLength = Arrays.copyOf(info.windowGroupLength, info.windowGroupLength.length);
+		System.arraycopy(info.windowGroupLength, 0, windowGroupLength, 0, windowGroupLength.length);
 		swbCount = info.swbCount;
-		swbOffsets = Arrays.copyOf(info.swbOffsets, info.swbOffsets.length);
+		swbOffsets = info.swbOffsets; //shared constant table
 
 		if(predictionDataPresent) {
 			ltPredict.decode(in, this, conf.getProfile());
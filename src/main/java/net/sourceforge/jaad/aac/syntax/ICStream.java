@@ -13,24 +13,25 @@ import java.util.logging.Level;
 import net.sourceforge.jaad.aac.Decoder;
 
 //TODO: apply pulse data
-public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
+public class ICStream implements Constants, HCB, ScaleFactorTable {
 
 	private static final int SF_DELTA = 60;
 	private static final int SF_OFFSET = 200;
-	private static int randomState = 0x1F2E3D4C;
 	private final int frameLength;
+	private final NoiseGenerator noise;
 	//always needed
 	private final ICSInfo info;
 	private final int[] sfbCB;
 	private final int[] sectEnd;
 	private final float[] data;
 	private final float[] scaleFactors;
+	private final int[] spectralBuf, sfOffsets;
 	private int globalGain;
 	private boolean pulseDataPresent, tnsDataPresent, gainControlPresent;
 	//only allocated if needed
 	private TNS tns;
 	private GainControl gainControl;
-	private int[] pulseOffset, pulseAmp;
+	private final int[] pulseOffset, pulseAmp;
 	private int pulseCount;
 	private int pulseStartSWB;
 	//error resilience
@@ -39,12 +40,22 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 	private RVLC rvlc;
 
 	public ICStream(DecoderConfig config) {
+		this(config, new NoiseGenerator());
+	}
+
+	ICStream(DecoderConfig config, NoiseGenerator noise) {
+		this.noise = noise;
 		this.frameLength = config.getFrameLength();
 		info = new ICSInfo(config);
 		sfbCB = new int[MAX_SECTIONS];
 		sectEnd = new int[MAX_SECTIONS];
 		data = new float[frameLength];
 		scaleFactors = new float[MAX_SECTIONS];
+		spectralBuf = new int[4];
+		sfOffsets = new int[3];
+		//up to four pulses per channel
+		pulseOffset = new int[4];
+		pulseAmp = new int[4];
 	}
 
 	/* ========= decoding ========== */
@@ -129,12 +140,6 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 		pulseStartSWB = in.readBits(6);
 		if(pulseStartSWB>=info.getSWBCount()) throw new AACException("pulse SWB out of range: "+pulseStartSWB+" > "+info.getSWBCount());
 
-		if(pulseOffset==null||pulseCount!=pulseOffset.length) {
-			//only reallocate if needed
-			pulseOffset = new int[pulseCount];
-			pulseAmp = new int[pulseCount];
-		}
-
 		pulseOffset[0] = info.getSWBOffsets()[pulseStartSWB];
 		pulseOffset[0] += in.readBits(5);
 		pulseAmp[0] = in.readBits(4);
@@ -149,7 +154,10 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 		final int windowGroups = info.getWindowGroupCount();
 		final int maxSFB = info.getMaxSFB();
 		//0: spectrum, 1: noise, 2: intensity
-		final int[] offset = {globalGain, globalGain-90, 0};
+		final int[] offset = sfOffsets;
+		offset[0] = globalGain;
+		offset[1] = globalGain-90;
+		offset[2] = 0;
 
 		int tmp;
 		boolean noiseFlag = true;
@@ -200,7 +208,7 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 		final int maxSFB = info.getMaxSFB();
 		final int windowGroups = info.getWindowGroupCount();
 		final int[] offsets = info.getSWBOffsets();
-		final int[] buf = new int[4];
+		final int[] buf = spectralBuf;
 
 		int sfb, j, k, w, hcb, off, width, num;
 		int groupOff = 0, idx = 0;
@@ -222,8 +230,7 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 						float energy = 0;
 
 						for(k = 0; k<width; k++) {
-							randomState = 1664525*randomState+1013904223;
-							data[off+k] = randomState;
+							data[off+k] = noise.next();
 							energy += data[off+k]*data[off+k];
 						}
 
@@ -241,7 +248,7 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 
 							//inverse quantization & scaling
 							for(j = 0; j<num; j++) {
-								data[off+k+j] = (buf[j]>0) ? IQ_TABLE[buf[j]] : -IQ_TABLE[-buf[j]];
+								data[off+k+j] = (buf[j]>0) ? IQTable.IQ_TABLE[buf[j]] : -IQTable.IQ_TABLE[-buf[j]];
 								data[off+k+j] *= scaleFactors[idx];
 							}
 						}
@@ -263,6 +270,11 @@ public class ICStream implements Constants, HCB, ScaleFactorTable, IQTable {
 		return data;
 	}
 
+	//clears the state of the previous stream
+	void reset() {
+		info.reset();
+	}
+
 	public ICSInfo getInfo() {
 		return info;
 	}
@@ -0,0 +1,30 @@
+package net.sourceforge.jaad.aac.syntax;
+
+/**
+ * Random number generator for perceptual noise substitution. Each decoder
+ * owns one instance, shared by all of its channels, so that decoders running
+ * in parallel don't influence each other and the output of a stream is always
+ * the same.
+ */
+final class NoiseGenerator {
+
+	private static final int SEED = 0x1F2E3D4C;
+	private int state;
+
+	NoiseGenerator() {
+		reset();
+	}
+
+	/**
+	 * Restarts the sequence, as for a newly created decoder.
+	 */
+	void reset() {
+		state = SEED;
+	}
+
+	//linear congruential generator (Numerical Recipes)
+	int next() {
+		state = 1664525*state+1013904223;
+		return state;
+	}
+}
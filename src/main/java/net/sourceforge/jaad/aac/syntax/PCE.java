@@ -98,7 +98,6 @@ public class PCE extends Element {
 			stereoMixdownElementNumber = in.readBits(4);
 		}
 		if(matrixMixdownIDXPresent = in.readBool()) {
-			Constants.LOGGER.warning("matrix mixdown present, but not yet supported");
 			matrixMixdownIDX = in.readBits(2);
 			pseudoSurround = in.readBool();
 		}
@@ -145,6 +144,14 @@ public class PCE extends Element {
 		return sampleFrequency;
 	}
 
+	public boolean isMatrixMixdownIDXPresent() {
+		return matrixMixdownIDXPresent;
+	}
+
+	public int getMatrixMixdownIDX() {
+		return matrixMixdownIDX;
+	}
+
 	public int getChannelCount() {
 		int count = lfeChannelElementsCount+assocDataElementsCount;
 
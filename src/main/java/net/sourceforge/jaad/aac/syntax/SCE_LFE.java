@@ -6,18 +6,31 @@ import net.sourceforge.jaad.aac.DecoderConfig;
 class SCE_LFE extends Element {
 
 	private final ICStream ics;
+	private boolean lfe;
 
-	SCE_LFE(DecoderConfig config) {
+	SCE_LFE(DecoderConfig config, NoiseGenerator noise) {
 		super();
-		ics = new ICStream(config);
+		ics = new ICStream(config, noise);
 	}
 
-	void decode(BitStream in, DecoderConfig conf) throws AACException {
+	void decode(BitStream in, DecoderConfig conf, boolean lfe) throws AACException {
+		this.lfe = lfe;
 		readElementInstanceTag(in);
 		ics.decode(in, false, conf);
 	}
 
+	@Override
+	void reset() {
+		super.reset();
+		ics.reset();
+	}
+
 	public ICStream getICStream() {
 		return ics;
 	}
+
+	//true if read as low frequency enhancement element
+	boolean isLFE() {
+		return lfe;
+	}
 }
@@ -1,8 +1,13 @@
 package net.sourceforge.jaad.aac.syntax;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import net.sourceforge.jaad.aac.*;
+import net.sourceforge.jaad.aac.DecoderMetrics.Stage;
 import net.sourceforge.jaad.aac.filterbank.FilterBank;
+import net.sourceforge.jaad.aac.filterbank.Kernels;
 import net.sourceforge.jaad.aac.sbr.SBR;
 import net.sourceforge.jaad.aac.tools.IS;
 import net.sourceforge.jaad.aac.tools.LTPrediction;
@@ -10,21 +15,53 @@ import net.sourceforge.jaad.aac.tools.MS;
 
 public class SyntacticElements implements Constants {
 
+	private static final float FLOAT_SCALE = 1.0f/32768.0f;
+	private static final int SPECTRAL = Stage.SPECTRAL.ordinal(), FILTERBANK = Stage.FILTERBANK.ordinal();
+	private static final int SBR_STAGE = Stage.SBR.ordinal(), PS_STAGE = Stage.PS.ordinal();
+
 	//global properties
 	private DecoderConfig config;
 	private boolean sbrPresent, psPresent;
 	private int bitsRead;
 	private int frame = 0;
 	//elements
-	private final PCE pce;
+	private PCE pce;
 	private final Element[] elements; //SCE, LFE and CPE
 	private final CCE[] cces;
 	private final DSE[] dses;
 	private final FIL[] fils;
+	//PNS state of this decoder, shared by all channels
+	private final NoiseGenerator noise;
 	private int curElem, curCCE, curDSE, curFIL;
 	private float[][] data;
+	private short[] pcm;
+	private final Kernels kernels;
+	//concurrent processing
+	private final ElementTask[] tasks;
+	private ForkJoinPool pool;
+	private Complexity complexity = Complexity.FULL;
+	private Downmix downmix;
+	//mix the spectra of the current frame instead of the decoded channels
+	private boolean spectralDownmix;
+	//time spent in each stage of the current frame, null if not measured
+	private long[] stageNanos;
 
 	public SyntacticElements(DecoderConfig config) {
+		this(config, new NoiseGenerator());
+	}
+
+	/**
+	 * Creates an instance to parse every other frame alternately with the
+	 * given one. Both draw the PNS noise from the same generator, so the
+	 * noise follows the order of the frames.
+	 * @param config the decoder configuration
+	 * @param shared the instance parsing the other frames
+	 */
+	public SyntacticElements(DecoderConfig config, SyntacticElements shared) {
+		this(config, shared.noise);
+	}
+
+	private SyntacticElements(DecoderConfig config, NoiseGenerator noise) {
 		this.config = config;
 
 		pce = new PCE();
@@ -32,6 +69,12 @@ public class SyntacticElements implements Constants {
 		cces = new CCE[MAX_ELEMENTS];
 		dses = new DSE[MAX_ELEMENTS];
 		fils = new FIL[MAX_ELEMENTS];
+		kernels = Kernels.getInstance();
+		this.noise = noise;
+		tasks = new ElementTask[elements.length];
+		for(int i = 0; i<tasks.length; i++) {
+			tasks[i] = new ElementTask();
+		}
 
 		startNewFrame();
 	}
@@ -44,6 +87,7 @@ public class SyntacticElements implements Constants {
 		sbrPresent = false;
 		psPresent = false;
 		bitsRead = 0;
+		if(stageNanos!=null) Arrays.fill(stageNanos, 0);
 	}
 
 	public void decode(BitStream in) throws AACException {
@@ -59,7 +103,7 @@ public class SyntacticElements implements Constants {
 					case ELEMENT_SCE:
 					case ELEMENT_LFE:
 						LOGGER.finest("SCE");
-						prev = decodeSCE_LFE(in);
+						prev = decodeSCE_LFE(in, type==ELEMENT_LFE);
 						break;
 					case ELEMENT_CPE:
 						LOGGER.finest("CPE");
@@ -95,37 +139,37 @@ public class SyntacticElements implements Constants {
 			//error resilient raw data block
 			switch(config.getChannelConfiguration()) {
 				case CHANNEL_CONFIG_MONO:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					break;
 				case CHANNEL_CONFIG_STEREO:
 					decodeCPE(in);
 					break;
 				case CHANNEL_CONFIG_STEREO_PLUS_CENTER:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					decodeCPE(in);
 					break;
 				case CHANNEL_CONFIG_STEREO_PLUS_CENTER_PLUS_REAR_MONO:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					decodeCPE(in);
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					break;
 				case CHANNEL_CONFIG_FIVE:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					decodeCPE(in);
 					decodeCPE(in);
 					break;
 				case CHANNEL_CONFIG_FIVE_PLUS_ONE:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					decodeCPE(in);
 					decodeCPE(in);
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, true);
 					break;
 				case CHANNEL_CONFIG_SEVEN_PLUS_ONE:
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, false);
 					decodeCPE(in);
 					decodeCPE(in);
 					decodeCPE(in);
-					decodeSCE_LFE(in);
+					decodeSCE_LFE(in, true);
 					break;
 				default:
 					throw new AACException("unsupported channel configuration for error resilience: "+config.getChannelConfiguration());
@@ -136,15 +180,15 @@ public class SyntacticElements implements Constants {
 		bitsRead = in.getPosition()-start;
 	}
 
-	private Element decodeSCE_LFE(BitStream in) throws AACException {
-		if(elements[curElem]==null) elements[curElem] = new SCE_LFE(config);
-		((SCE_LFE) elements[curElem]).decode(in, config);
+	private Element decodeSCE_LFE(BitStream in, boolean lfe) throws AACException {
+		if(elements[curElem]==null) elements[curElem] = new SCE_LFE(config, noise);
+		((SCE_LFE) elements[curElem]).decode(in, config, lfe);
 		curElem++;
 		return elements[curElem-1];
 	}
 
 	private Element decodeCPE(BitStream in) throws AACException {
-		if(elements[curElem]==null) elements[curElem] = new CPE(config);
+		if(elements[curElem]==null) elements[curElem] = new CPE(config, noise);
 		((CPE) elements[curElem]).decode(in, config);
 		curElem++;
 		return elements[curElem-1];
@@ -152,7 +196,7 @@ public class SyntacticElements implements Constants {
 
 	private void decodeCCE(BitStream in) throws AACException {
 		if(curCCE==MAX_ELEMENTS) throw new AACException("too much CCE elements");
-		if(cces[curCCE]==null) cces[curCCE] = new CCE(config);
+		if(cces[curCCE]==null) cces[curCCE] = new CCE(config, noise);
 		cces[curCCE].decode(in, config);
 		curCCE++;
 	}
@@ -183,6 +227,115 @@ public class SyntacticElements implements Constants {
 		}
 	}
 
+	/**
+	 * Takes the window shapes of the previous frame from the instance that
+	 * parsed it, if the frames are parsed alternately by two instances. The
+	 * window shape of the previous frame selects the window of the first
+	 * half of the current one.
+	 * @param previous the instance holding the previous frame
+	 */
+	public void setPreviousWindowShapes(SyntacticElements previous) {
+		Element e, p;
+		for(int i = 0; i<curElem&&i<previous.curElem; i++) {
+			e = elements[i];
+			p = previous.elements[i];
+			if(e instanceof SCE_LFE&&p instanceof SCE_LFE) {
+				setPreviousWindowShape(((SCE_LFE) e).getICStream(), ((SCE_LFE) p).getICStream());
+			}
+			else if(e instanceof CPE&&p instanceof CPE) {
+				setPreviousWindowShape(((CPE) e).getLeftChannel(), ((CPE) p).getLeftChannel());
+				setPreviousWindowShape(((CPE) e).getRightChannel(), ((CPE) p).getRightChannel());
+			}
+		}
+	}
+
+	private static void setPreviousWindowShape(ICStream ics, ICStream previous) {
+		ics.getInfo().setPreviousWindowShape(previous.getInfo().getWindowShape(ICSInfo.CURRENT));
+	}
+
+	/**
+	 * Prepares the decoding of a new stream. The configuration must be
+	 * compatible to the current one, so the elements keep their buffers and
+	 * only the state of the previous stream is cleared.
+	 * @param config the configuration of the new stream
+	 */
+	public void reset(DecoderConfig config) {
+		this.config = config;
+		pce = new PCE();
+		int i;
+		for(i = 0; i<elements.length; i++) {
+			if(elements[i]!=null) elements[i].reset();
+		}
+		for(i = 0; i<cces.length; i++) {
+			if(cces[i]!=null) cces[i].reset();
+		}
+		noise.reset();
+		if(downmix!=null) downmix.reset();
+		frame = 0;
+		startNewFrame();
+	}
+
+	/**
+	 * Sets the pool used to process the channel elements of a frame
+	 * concurrently. If null (the default), the elements are processed one
+	 * after another on the calling thread.
+	 *
+	 * Once a frame is parsed, the elements are independent: each one only
+	 * writes its own spectra and output channels, coupling channel elements
+	 * are fully decoded by the parser and only read by the coupled elements,
+	 * and PNS noise is generated while parsing. The only shared state is the
+	 * work buffer of the filterbank, so each element gets its own transforms.
+	 * @param pool the pool to run the elements on, or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets the complexity tier of the SBR and PS synthesis, applied from the
+	 * next processed frame on.
+	 * @param complexity the tier
+	 */
+	public void setComplexity(Complexity complexity) {
+		this.complexity = complexity;
+	}
+
+	public Complexity getComplexity() {
+		return complexity;
+	}
+
+	/**
+	 * Enables measuring the time spent in each stage of a frame.
+	 * @param timing true to measure the stages
+	 * @see #getStageNanos()
+	 */
+	public void setStageTiming(boolean timing) {
+		if(!timing) stageNanos = null;
+		else if(stageNanos==null) stageNanos = new long[Stage.values().length];
+		for(int i = 0; i<tasks.length; i++) {
+			tasks[i].nanos = (stageNanos==null) ? null : new long[stageNanos.length];
+		}
+	}
+
+	/**
+	 * Returns the time spent in each stage of the current frame, indexed by
+	 * the ordinal of the stage. The parsing time is not measured here.
+	 * @return the times in nanoseconds, or null if not measured
+	 */
+	public long[] getStageNanos() {
+		return stageNanos;
+	}
+
+	/**
+	 * Sets the channel layout of the output.
+	 * @param layout the layout, <code>NATIVE</code> to output the decoded channels
+	 * @throws AACException if the filterbank for the mixed channels can't be created
+	 */
+	public void setOutputLayout(OutputLayout layout) throws AACException {
+		if(layout==OutputLayout.NATIVE) downmix = null;
+		else if(downmix==null||downmix.getChannelCount()!=layout.getChannelCount()) downmix = new Downmix(layout, config.isSmallFrameUsed(), config.getFrameLength());
+	}
+
 	public void process(FilterBank filterBank) throws AACException {
 		final Profile profile = config.getProfile();
 		final SampleFrequency sf = config.getSampleFrequency();
@@ -194,36 +347,120 @@ public class SyntacticElements implements Constants {
 		//only reallocate if needed
 		if(data==null||chs!=data.length||(mult*config.getFrameLength())!=data[0].length) data = new float[chs][mult*config.getFrameLength()];
 
-		int channel = 0;
+		//SBR and LTP need the decoded channels
+		spectralDownmix = downmix!=null&&!sbrPresent&&!LTPrediction.isLTPProfile(profile);
+		if(downmix!=null) downmix.startFrame(filterBank, chs, spectralDownmix, pce.isMatrixMixdownIDXPresent() ? pce.getMatrixMixdownIDX() : -1);
+
+		//assign the output channels
+		int channel = 0, count = 0, pairs = 0;
 		Element e;
-		SCE_LFE scelfe;
-		CPE cpe;
 		for(int i = 0; i<elements.length&&channel<chs; i++) {
 			e = elements[i];
 			if(e==null) continue;
 			if(e instanceof SCE_LFE) {
-				scelfe = (SCE_LFE) e;
-				channel += processSingle(scelfe, filterBank, channel, profile, sf);
+				tasks[count++].set(e, channel);
+				if(sbrPresent&&config.isSBREnabled()&&e.getSBR().isPSUsed()) {
+					if(downmix!=null) {
+						downmix.setRole(channel, Downmix.LEFT);
+						downmix.setRole(channel+1, Downmix.RIGHT);
+					}
+					channel += 2;
+				}
+				else {
+					if(downmix!=null) {
+						if(((SCE_LFE) e).isLFE()) downmix.setRole(channel, Downmix.NONE);
+						else downmix.setRole(channel, (pairs==0) ? Downmix.CENTER : Downmix.SURROUND_CENTER);
+					}
+					channel++;
+				}
 			}
 			else if(e instanceof CPE) {
-				cpe = (CPE) e;
-				processPair(cpe, filterBank, channel, profile, sf);
+				tasks[count++].set(e, channel);
+				if(downmix!=null) {
+					//7.1 has two front pairs
+					final boolean front = pairs==0||(pairs==1&&config.getChannelConfiguration()==ChannelConfiguration.CHANNEL_CONFIG_SEVEN_PLUS_ONE);
+					downmix.setRole(channel, front ? Downmix.LEFT : Downmix.SURROUND_LEFT);
+					downmix.setRole(channel+1, front ? Downmix.RIGHT : Downmix.SURROUND_RIGHT);
+				}
+				pairs++;
 				channel += 2;
 			}
 			else if(e instanceof CCE) {
 				//applies invquant and save the result in the CCE
 				((CCE) e).process();
+				if(downmix!=null) downmix.setRole(channel, Downmix.NONE);
 				channel++;
 			}
 		}
+
+		if(pool!=null&&count>1) processConcurrently(filterBank, count, profile, sf);
+		else {
+			for(int i = 0; i<count; i++) {
+				processElement(tasks[i].element, filterBank, tasks[i].channel, profile, sf, stageNanos);
+			}
+		}
+
+		if(downmix!=null) {
+			final long start = (stageNanos==null) ? 0 : System.nanoTime();
+			if(spectralDownmix) downmix.mixSpectra(filterBank);
+			else downmix.mixTime(data, getOutputLength());
+			if(stageNanos!=null) stageNanos[FILTERBANK] += System.nanoTime()-start;
+		}
+	}
+
+	private void processConcurrently(FilterBank filterBank, final int count, Profile profile, SampleFrequency sf) throws AACException {
+		ElementTask task;
+		for(int i = 0; i<count; i++) {
+			task = tasks[i];
+			//the first element uses the decoder's filterbank
+			if(i==0) task.filterBank = filterBank;
+			else if(task.filterBank==null) task.filterBank = new FilterBank(filterBank);
+			task.profile = profile;
+			task.sf = sf;
+			task.error = null;
+			if(task.nanos!=null) Arrays.fill(task.nanos, 0);
+			task.reinitialize();
+		}
+
+		pool.invoke(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				invokeAll(Arrays.asList(tasks).subList(0, count));
+			}
+		});
+
+		for(int i = 0; i<count; i++) {
+			if(tasks[i].error!=null) throw tasks[i].error;
+		}
+		if(stageNanos!=null) {
+			//the sum of the stages over all threads
+			for(int i = 0; i<count; i++) {
+				for(int j = 0; j<stageNanos.length; j++) {
+					stageNanos[j] += tasks[i].nanos[j];
+				}
+			}
+		}
 	}
 
-	private int processSingle(SCE_LFE scelfe, FilterBank filterBank, int channel, Profile profile, SampleFrequency sf) throws AACException {
+	private void processElement(Element e, FilterBank filterBank, int channel, Profile profile, SampleFrequency sf, long[] nanos) throws AACException {
+		if(e instanceof SCE_LFE) processSingle((SCE_LFE) e, filterBank, channel, profile, sf, nanos);
+		else processPair((CPE) e, filterBank, channel, profile, sf, nanos);
+	}
+
+	//adds the time since start to the stage and returns the current time
+	private static long lap(long[] nanos, int stage, long start) {
+		final long t = System.nanoTime();
+		nanos[stage] += t-start;
+		return t;
+	}
+
+	private void processSingle(SCE_LFE scelfe, FilterBank filterBank, int channel, Profile profile, SampleFrequency sf, long[] nanos) throws AACException {
 		final ICStream ics = scelfe.getICStream();
 		final ICSInfo info = ics.getInfo();
 		final LTPrediction ltp = info.getLTPrediction();
 		final int elementID = scelfe.getElementInstanceTag();
 
+		long t = (nanos==null) ? 0 : System.nanoTime();
 		//inverse quantization
 		final float[] iqData = ics.getInvQuantData();
 
@@ -239,6 +476,13 @@ public class SyntacticElements implements Constants {
 
 		//dependent coupling
 		processDependentCoupling(false, elementID, CCE.AFTER_TNS, iqData, null);
+		if(nanos!=null) t = lap(nanos, SPECTRAL, t);
+
+		if(spectralDownmix) {
+			downmix.setSpectrum(channel, info, iqData);
+			if(isIndependentCouplingPresent()) processIndependentCoupling(false, elementID, downmix.getCouplingBuffer(channel), null);
+			return;
+		}
 
 		//filterbank
 		filterBank.process(info.getWindowSequence(), info.getWindowShape(ICSInfo.CURRENT), info.getWindowShape(ICSInfo.PREVIOUS), iqData, data[channel], channel);
@@ -250,22 +494,26 @@ public class SyntacticElements implements Constants {
 
 		//gain control
 		if(ics.isGainControlPresent()) ics.getGainControl().process(iqData, info.getWindowShape(ICSInfo.CURRENT), info.getWindowShape(ICSInfo.PREVIOUS), info.getWindowSequence());
+		if(nanos!=null) t = lap(nanos, FILTERBANK, t);
 
 		//SBR
-		int chs = 1;
 		if(sbrPresent&&config.isSBREnabled()) {
 			if(data[channel].length==config.getFrameLength()) LOGGER.log(Level.WARNING, "SBR data present, but buffer has normal size!");
 			final SBR sbr = scelfe.getSBR();
-			if(sbr.isPSUsed()) {
-				chs = 2;
-				scelfe.getSBR().processPS(data[channel], data[channel+1], false);
+			sbr.setComplexity(complexity);
+			sbr.setPSTiming(nanos!=null);
+			if(sbr.isPSUsed()) sbr.processPS(data[channel], data[channel+1], false);
+			else sbr.process(data[channel], false);
+			if(nanos!=null) {
+				//SBR without the time spent in PS
+				final long ps = sbr.takePSNanos();
+				lap(nanos, SBR_STAGE, t+ps);
+				nanos[PS_STAGE] += ps;
 			}
-			else scelfe.getSBR().process(data[channel], false);
 		}
-		return chs;
 	}
 
-	private void processPair(CPE cpe, FilterBank filterBank, int channel, Profile profile, SampleFrequency sf) throws AACException {
+	private void processPair(CPE cpe, FilterBank filterBank, int channel, Profile profile, SampleFrequency sf, long[] nanos) throws AACException {
 		final ICStream ics1 = cpe.getLeftChannel();
 		final ICStream ics2 = cpe.getRightChannel();
 		final ICSInfo info1 = ics1.getInfo();
@@ -274,6 +522,7 @@ public class SyntacticElements implements Constants {
 		final LTPrediction ltp2 = info2.getLTPrediction();
 		final int elementID = cpe.getElementInstanceTag();
 
+		long t = (nanos==null) ? 0 : System.nanoTime();
 		//inverse quantization
 		final float[] iqData1 = ics1.getInvQuantData();
 		final float[] iqData2 = ics2.getInvQuantData();
@@ -301,6 +550,14 @@ public class SyntacticElements implements Constants {
 
 		//dependent coupling
 		processDependentCoupling(true, elementID, CCE.AFTER_TNS, iqData1, iqData2);
+		if(nanos!=null) t = lap(nanos, SPECTRAL, t);
+
+		if(spectralDownmix) {
+			downmix.setSpectrum(channel, info1, iqData1);
+			downmix.setSpectrum(channel+1, info2, iqData2);
+			if(isIndependentCouplingPresent()) processIndependentCoupling(true, elementID, downmix.getCouplingBuffer(channel), downmix.getCouplingBuffer(channel+1));
+			return;
+		}
 
 		//filterbank
 		filterBank.process(info1.getWindowSequence(), info1.getWindowShape(ICSInfo.CURRENT), info1.getWindowShape(ICSInfo.PREVIOUS), iqData1, data[channel], channel);
@@ -315,12 +572,23 @@ public class SyntacticElements implements Constants {
 		//gain control
 		if(ics1.isGainControlPresent()) ics1.getGainControl().process(iqData1, info1.getWindowShape(ICSInfo.CURRENT), info1.getWindowShape(ICSInfo.PREVIOUS), info1.getWindowSequence());
 		if(ics2.isGainControlPresent()) ics2.getGainControl().process(iqData2, info2.getWindowShape(ICSInfo.CURRENT), info2.getWindowShape(ICSInfo.PREVIOUS), info2.getWindowSequence());
+		if(nanos!=null) t = lap(nanos, FILTERBANK, t);
 
 		//SBR
 		if(sbrPresent&&config.isSBREnabled()) {
 			if(data[channel].length==config.getFrameLength()) LOGGER.log(Level.WARNING, "SBR data present, but buffer has normal size!");
-			cpe.getSBR().process(data[channel], data[channel+1], false);
+			final SBR sbr = cpe.getSBR();
+			sbr.setComplexity(complexity);
+			sbr.process(data[channel], data[channel+1], false);
+			if(nanos!=null) lap(nanos, SBR_STAGE, t);
+		}
+	}
+
+	private boolean isIndependentCouplingPresent() {
+		for(int i = 0; i<cces.length; i++) {
+			if(cces[i]!=null&&cces[i].getCouplingPoint()==CCE.AFTER_IMDCT) return true;
 		}
+		return false;
 	}
 
 	private void processIndependentCoupling(boolean channelPair, int elementID, float[] data1, float[] data2) {
@@ -373,28 +641,59 @@ public class SyntacticElements implements Constants {
 		}
 	}
 
+	//processes one element of the current frame
+	private final class ElementTask extends RecursiveAction {
+
+		//tasks are never serialized, ForkJoinTask is Serializable anyway
+		private static final long serialVersionUID = 1L;
+		private Element element;
+		private int channel;
+		private FilterBank filterBank;
+		private Profile profile;
+		private SampleFrequency sf;
+		private AACException error;
+		//time spent in each stage, null if not measured
+		private long[] nanos;
+
+		void set(Element element, int channel) {
+			this.element = element;
+			this.channel = channel;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				processElement(element, filterBank, channel, profile, sf, nanos);
+			}
+			catch(AACException e) {
+				error = e;
+			}
+		}
+	}
+
 	public void sendToOutput(SampleBuffer buffer) {
 		final boolean be = buffer.isBigEndian();
 
-		// always allocate at least two channels
+		final float[][] output = getOutput();
+		// always allocate at least two channels, unless mixed
 		// mono can't be upgraded after implicit PS occures
-		final int chs = Math.max(data.length, 2);
+		final int chs = (downmix!=null) ? output.length : Math.max(output.length, 2);
 
-		final int mult = (sbrPresent&&config.isSBREnabled()) ? 2 : 1;
+		final int mult = getOutputMultiplier();
 		final int length = mult*config.getFrameLength();
 		final int freq = mult*config.getSampleFrequency().getFrequency();
 
 		byte[] b = buffer.getData();
 		if(b.length!=chs*length*2) b = new byte[chs*length*2];
 
-		float[] cur;
+		if(pcm==null||pcm.length<length) pcm = new short[length];
 		int i, j, off;
 		short s;
 		for(i = 0; i<chs; i++) {
 			// duplicate possible mono channel
-			cur = data[i<data.length?i:0];
+			kernels.toShort(output[i<output.length?i:0], 0, pcm, 0, length);
 			for(j = 0; j<length; j++) {
-				s = (short) Math.max(Math.min(Math.round(cur[j]), Short.MAX_VALUE), Short.MIN_VALUE);
+				s = pcm[j];
 				off = (j*chs+i)*2;
 				if(be) {
 					b[off] = (byte) ((s>>8)&BYTE_MASK);
@@ -409,4 +708,76 @@ public class SyntacticElements implements Constants {
 
 		buffer.setData(b, freq, chs, 16, bitsRead);
 	}
+
+	public int sendToOutput(float[][] out) throws AACException {
+		final float[][] output = getOutput();
+		final int chs = Math.min(output.length, out.length);
+		final int length = getOutputLength();
+
+		for(int i = 0; i<chs; i++) {
+			if(out[i].length<length) throw new AACException("output buffer too small: "+out[i].length+", needed: "+length);
+			kernels.scale(output[i], 0, FLOAT_SCALE, out[i], 0, length);
+		}
+		return length;
+	}
+
+	public int sendToOutput(short[][] out) throws AACException {
+		final float[][] output = getOutput();
+		final int chs = Math.min(output.length, out.length);
+		final int length = getOutputLength();
+
+		for(int i = 0; i<chs; i++) {
+			if(out[i].length<length) throw new AACException("output buffer too small: "+out[i].length+", needed: "+length);
+			kernels.toShort(output[i], 0, out[i], 0, length);
+		}
+		return length;
+	}
+
+	//the decoded or the mixed channels
+	private float[][] getOutput() {
+		return (downmix!=null&&downmix.getOutput()!=null) ? downmix.getOutput() : data;
+	}
+
+	private int getOutputLength() {
+		return getOutputMultiplier()*config.getFrameLength();
+	}
+
+	//SBR doubles the core sample rate, unless downsampled by the stream or the tier
+	private int getOutputMultiplier() {
+		final boolean full = sbrPresent&&config.isSBREnabled()&&!config.isSBRDownSampled();
+		return (full&&complexity.isFullRate()) ? 2 : 1;
+	}
+
+	/**
+	 * Returns true if an element of the current frame carries SBR data.
+	 * @return true if SBR is present
+	 */
+	public boolean isSBRPresent() {
+		return sbrPresent;
+	}
+
+	/**
+	 * Returns true if an element of the current frame carries PS data.
+	 * @return true if PS is present
+	 */
+	public boolean isPSPresent() {
+		return psPresent;
+	}
+
+	/**
+	 * Returns the number of bits read for the current frame.
+	 * @return the size of the frame in bits
+	 */
+	public int getBitsRead() {
+		return bitsRead;
+	}
+
+	public int getChannelCount() {
+		if(downmix!=null) return downmix.getChannelCount();
+		return (data==null) ? config.getChannelConfiguration().getChannelCount() : data.length;
+	}
+
+	public int getSampleRate() {
+		return getOutputMultiplier()*config.getSampleFrequency().getFrequency();
+	}
 }
@@ -1,5 +1,6 @@
 package net.sourceforge.jaad.aac.tools;
 
+import java.util.Arrays;
 import net.sourceforge.jaad.aac.AACException;
 import net.sourceforge.jaad.aac.Profile;
 import net.sourceforge.jaad.aac.SampleFrequency;
@@ -8,7 +9,6 @@ import net.sourceforge.jaad.aac.syntax.BitStream;
 import net.sourceforge.jaad.aac.syntax.Constants;
 import net.sourceforge.jaad.aac.syntax.ICSInfo;
 import net.sourceforge.jaad.aac.syntax.ICStream;
-import java.util.Arrays;
 
 /**
  * Long-term prediction
@@ -33,12 +33,19 @@ public class LTPrediction implements Constants {
 	private final int[] states;
 	private int coef, lag, lastBand;
 	private boolean lagUpdate;
-	private boolean[] shortUsed, shortLagPresent, longUsed;
-	private int[] shortLag;
+	private final boolean[] shortUsed, shortLagPresent, longUsed;
+	private final int[] shortLag;
+	private final float[] in, out;
 
 	public LTPrediction(int frameLength) {
 		this.frameLength = frameLength;
 		states = new int[4*frameLength];
+		shortUsed = new boolean[MAX_WINDOW_COUNT];
+		shortLagPresent = new boolean[MAX_WINDOW_COUNT];
+		shortLag = new int[MAX_WINDOW_COUNT];
+		longUsed = new boolean[MAX_LTP_SFB];
+		in = new float[2048];
+		out = new float[2048];
 	}
 
 	public boolean isPresent() {
@@ -64,9 +71,6 @@ public class LTPrediction implements Constants {
 		final int windowCount = info.getWindowCount();
 
 		if(info.isEightShortFrame()) {
-			shortUsed = new boolean[windowCount];
-			shortLagPresent = new boolean[windowCount];
-			shortLag = new int[windowCount];
 			for(int w = 0; w<windowCount; w++) {
 				if((shortUsed[w] = in.readBool())) {
 					shortLagPresent[w] = in.readBool();
@@ -76,7 +80,6 @@ public class LTPrediction implements Constants {
 		}
 		else {
 			lastBand = Math.min(info.getMaxSFB(), MAX_LTP_SFB);
-			longUsed = new boolean[lastBand];
 			for(int i = 0; i<lastBand; i++) {
 				longUsed[i] = in.readBool();
 			}
@@ -84,7 +87,7 @@ public class LTPrediction implements Constants {
 	}
 
 	public void setPredictionUnused(int sfb) {
-		if(longUsed!=null) longUsed[sfb] = false;
+		if(sfb<MAX_LTP_SFB) longUsed[sfb] = false;
 	}
 
 	public void process(ICStream ics, float[] data, FilterBank filterBank, SampleFrequency sf) {
@@ -96,9 +99,6 @@ public class LTPrediction implements Constants {
 
 		if(!info.isEightShortFrame()) {
 			final int samples = frameLength<<1;
-			final float[] in = new float[2048];
-			final float[] out = new float[2048];
-
 			for(int i = 0; i<samples; i++) {
 				in[i] = states[samples+i-lag]*CODEBOOK[coef];
 			}
@@ -144,6 +144,12 @@ public class LTPrediction implements Constants {
 		isPresent = false;
 	}
 
+	//clears the history of the previous stream
+	public void reset() {
+		Arrays.fill(states, 0);
+		isPresent = false;
+	}
+
 	public static boolean isLTPProfile(Profile profile) {
 		return profile.equals(Profile.AAC_LTP)||profile.equals(Profile.ER_AAC_LTP)||profile.equals(Profile.AAC_LD);
 	}
@@ -154,9 +160,9 @@ public class LTPrediction implements Constants {
 		lag = ltp.lag;
 		lastBand = ltp.lastBand;
 		lagUpdate = ltp.lagUpdate;
-		shortUsed = Arrays.copyOf(ltp.shortUsed, ltp.shortUsed.length);
-		shortLagPresent = Arrays.copyOf(ltp.shortLagPresent, ltp.shortLagPresent.length);
-		shortLag = Arrays.copyOf(ltp.shortLag, ltp.shortLag.length);
-		longUsed = Arrays.copyOf(ltp.longUsed, ltp.longUsed.length);
+		System.arraycopy(ltp.shortUsed, 0, shortUsed, 0, shortUsed.length);
+		System.arraycopy(ltp.shortLagPresent, 0, shortLagPresent, 0, shortLagPresent.length);
+		System.arraycopy(ltp.shortLag, 0, shortLag, 0, shortLag.length);
+		System.arraycopy(ltp.longUsed, 0, longUsed, 0, longUsed.length);
 	}
 }
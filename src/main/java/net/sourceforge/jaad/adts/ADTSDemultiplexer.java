@@ -4,6 +4,8 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import net.sourceforge.jaad.util.jfr.ADTSResyncEvent;
+import net.sourceforge.jaad.util.jfr.Events;
 
 public class ADTSDemultiplexer {
 
@@ -48,10 +50,23 @@ public class ADTSDemultiplexer {
 			}
 		}
 
+		//the syncword itself is not skipped
+		final int skipped = MAXIMUM_FRAME_SIZE-left-(found ? 1 : 0);
+		if(skipped>0&&Events.isEnabled(Events.ADTS_RESYNC)) reportResync(skipped, found);
+
 		if(found) frame = new ADTSFrame(din);
 		return found;
 	}
 
+	private static void reportResync(int skipped, boolean found) {
+		final ADTSResyncEvent event = new ADTSResyncEvent();
+		if(event.shouldCommit()) {
+			event.skippedBytes = skipped;
+			event.found = found;
+			event.commit();
+		}
+	}
+
 	public int getSampleFrequency() {
 		return frame.getSampleFrequency();
 	}
@@ -2,11 +2,18 @@ package net.sourceforge.jaad.adts;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import net.sourceforge.jaad.aac.ChannelConfiguration;
 import net.sourceforge.jaad.aac.SampleFrequency;
 
-class ADTSFrame {
+/**
+ * The header of an ADTS frame. Frames returned by the <code>ADTSParser</code>
+ * also contain the raw data following the header.
+ */
+public class ADTSFrame {
 
+	static final int HEADER_LENGTH = 7;
+	static final int MAXIMUM_FRAME_LENGTH = 0x1FFF;
 	//fixed
 	private boolean id, protectionAbsent, privateBit, copy, home;
 	private int layer, profile, sampleFrequency, channelConfiguration;
@@ -18,48 +25,59 @@ class ADTSFrame {
 	private int crcCheck;
 	//decoder specific info
 	private byte[] info;
+	//raw data, only set by the parser
+	private ByteBuffer data;
 
+	ADTSFrame() {
+		rawDataBlockPosition = new int[3];
+	}
+
+	//reads a frame header; the first byte of the syncword was already read
 	ADTSFrame(DataInputStream in) throws IOException {
-		readHeader(in);
+		this();
+		final byte[] b = new byte[HEADER_LENGTH];
+		b[0] = (byte) 0xFF;
+		in.readFully(b, 1, HEADER_LENGTH-1);
+		readHeader(ByteBuffer.wrap(b), 0);
 
-		if(!protectionAbsent) crcCheck = in.readUnsignedShort();
-		if(rawDataBlockCount==0) {
-			//raw_data_block();
-		}
-		else {
-			int i;
-			//header error check
-			if(!protectionAbsent) {
-				rawDataBlockPosition = new int[rawDataBlockCount];
-				for(i = 0; i<rawDataBlockCount; i++) {
-					rawDataBlockPosition[i] = in.readUnsignedShort();
-				}
-				crcCheck = in.readUnsignedShort();
-			}
-			//raw data blocks
-			for(i = 0; i<rawDataBlockCount; i++) {
-				//raw_data_block();
-				if(!protectionAbsent) crcCheck = in.readUnsignedShort();
+		if(!protectionAbsent) {
+			for(int i = 0; i<rawDataBlockCount; i++) {
+				rawDataBlockPosition[i] = in.readUnsignedShort();
 			}
+			crcCheck = in.readUnsignedShort();
 		}
 	}
 
-	private void readHeader(DataInputStream in) throws IOException {
+	/**
+	 * Checks if the bytes at the given position start a valid fixed header.
+	 * At least two bytes must be available.
+	 */
+	static boolean isSyncword(ByteBuffer b, int pos) {
+		//12 bits syncword, layer 0
+		return (b.get(pos)&0xFF)==0xFF&&(b.get(pos+1)&0xF6)==0xF0;
+	}
+
+	/**
+	 * Reads the fixed and variable header at the given absolute position.
+	 *
+	 * @return false if the header is invalid
+	 */
+	final boolean readHeader(ByteBuffer b, int pos) {
 		//fixed header:
-		//1 bit ID, 2 bits layer, 1 bit protection absent
-		int i = in.read();
+		//12 bits syncword, 1 bit ID, 2 bits layer, 1 bit protection absent
+		int i = b.get(pos+1);
 		id = ((i>>3)&0x1)==1;
 		layer = (i>>1)&0x3;
 		protectionAbsent = (i&0x1)==1;
 
 		//2 bits profile, 4 bits sample frequency, 1 bit private bit
-		i = in.read();
+		i = b.get(pos+2)&0xFF;
 		profile = ((i>>6)&0x3)+1;
 		sampleFrequency = (i>>2)&0xF;
 		privateBit = ((i>>1)&0x1)==1;
 
 		//3 bits channel configuration, 1 bit copy, 1 bit home
-		i = (i<<8)|in.read();
+		i = (i<<8)|(b.get(pos+3)&0xFF);
 		channelConfiguration = ((i>>6)&0x7);
 		copy = ((i>>5)&0x1)==1;
 		home = ((i>>4)&0x1)==1;
@@ -70,18 +88,161 @@ class ADTSFrame {
 		//11 bits adtsBufferFullness, 2 bits rawDataBlockCount
 		copyrightIDBit = ((i>>3)&0x1)==1;
 		copyrightIDStart = ((i>>2)&0x1)==1;
-		i = (i<<16)|in.readUnsignedShort();
+		i = (i<<16)|((b.get(pos+4)&0xFF)<<8)|(b.get(pos+5)&0xFF);
 		frameLength = (i>>5)&0x1FFF;
-		i = (i<<8)|in.read();
+		i = (i<<8)|(b.get(pos+6)&0xFF);
 		adtsBufferFullness = (i>>2)&0x7FF;
 		rawDataBlockCount = i&0x3;
+
+		info = null;
+		data = null;
+		return sampleFrequency<SampleFrequency.values().length-1&&frameLength>=getHeaderLength();
+	}
+
+	/**
+	 * Reads the header error check following the header. The bytes must be
+	 * available.
+	 */
+	final void readErrorCheck(ByteBuffer b, int pos) {
+		if(protectionAbsent) {
+			crcCheck = 0;
+			return;
+		}
+		pos += HEADER_LENGTH;
+		for(int i = 0; i<rawDataBlockCount; i++, pos += 2) {
+			rawDataBlockPosition[i] = b.getShort(pos)&0xFFFF;
+		}
+		crcCheck = b.getShort(pos)&0xFFFF;
+	}
+
+	void setData(ByteBuffer data) {
+		this.data = data;
 	}
 
 	int getFrameLength() {
-		return frameLength-(protectionAbsent ? 7 : 9);
+		return frameLength-getHeaderLength();
+	}
+
+	/**
+	 * Returns the length of the header including the error check.
+	 *
+	 * @return the header length in bytes
+	 */
+	public int getHeaderLength() {
+		//with CRC: raw data block positions and header CRC
+		return protectionAbsent ? HEADER_LENGTH : HEADER_LENGTH+2*rawDataBlockCount+2;
+	}
+
+	/**
+	 * Returns the length of the whole frame, including the header.
+	 *
+	 * @return the frame length in bytes
+	 */
+	public int getTotalLength() {
+		return frameLength;
+	}
+
+	/**
+	 * Returns the raw data of the frame, i.e. everything after the header.
+	 * For frames returned by the parser, the buffer is only valid until the
+	 * parser is called again. For frames read by the
+	 * <code>ADTSDemultiplexer</code> this is null.
+	 *
+	 * @return the raw data
+	 */
+	public ByteBuffer getData() {
+		return data;
+	}
+
+	/**
+	 * Indicates if the frame was encoded as MPEG-2 (true) or MPEG-4 AAC.
+	 */
+	public boolean isMPEG2() {
+		return id;
+	}
+
+	public boolean isProtectionAbsent() {
+		return protectionAbsent;
+	}
+
+	/**
+	 * Returns the CRC of the header or 0 if the frame is not protected.
+	 *
+	 * @return the CRC check value
+	 */
+	public int getCRC() {
+		return crcCheck;
+	}
+
+	/**
+	 * Returns the number of raw data blocks in the frame.
+	 *
+	 * @return the number of raw data blocks (1 to 4)
+	 */
+	public int getRawDataBlockCount() {
+		return rawDataBlockCount+1;
+	}
+
+	/**
+	 * Returns the start position of a raw data block, relative to the raw
+	 * data. The positions are only transmitted in protected frames.
+	 *
+	 * @param block the index of the block
+	 * @return the position in bytes or -1 if unknown
+	 */
+	public int getRawDataBlockPosition(int block) {
+		if(block==0) return 0;
+		return (protectionAbsent||block>rawDataBlockCount) ? -1 : rawDataBlockPosition[block-1];
+	}
+
+	/**
+	 * Returns the audio object type (1: main, 2: LC, 3: SSR, 4: LTP).
+	 *
+	 * @return the profile
+	 */
+	public int getProfile() {
+		return profile;
+	}
+
+	public int getSampleFrequencyIndex() {
+		return sampleFrequency;
+	}
+
+	public int getChannelConfiguration() {
+		return channelConfiguration;
+	}
+
+	public int getBufferFullness() {
+		return adtsBufferFullness;
+	}
+
+	public boolean isPrivateBitSet() {
+		return privateBit;
+	}
+
+	public boolean isOriginal() {
+		return copy;
+	}
+
+	public boolean isHome() {
+		return home;
+	}
+
+	public boolean isCopyrightIDBitSet() {
+		return copyrightIDBit;
+	}
+
+	public boolean isCopyrightIDStart() {
+		return copyrightIDStart;
 	}
 
-	byte[] createDecoderSpecificInfo() {
+	/**
+	 * Returns the decoder specific info (an AudioSpecificConfig) for
+	 * initializing a <code>Decoder</code>.
+	 *
+	 * @return the decoder specific info
+	 */
+	public byte[] createDecoderSpecificInfo() {
 		if(info==null) {
 			//5 bits profile, 4 bits sample frequency, 4 bits channel configuration
 			info = new byte[2];
@@ -96,11 +257,11 @@ class ADTSFrame {
 		return info;
 	}
 
-	int getSampleFrequency() {
+	public int getSampleFrequency() {
 		return SampleFrequency.forInt(sampleFrequency).getFrequency();
 	}
 
-	int getChannelCount() {
+	public int getChannelCount() {
 		return ChannelConfiguration.forInt(channelConfiguration).getChannelCount();
 	}
 }
@@ -0,0 +1,172 @@
+package net.sourceforge.jaad.adts;
+
+import java.nio.ByteBuffer;
+import net.sourceforge.jaad.util.jfr.ADTSResyncEvent;
+import net.sourceforge.jaad.util.jfr.Events;
+
+/**
+ * Incremental ADTS parser for non-blocking input. The data is passed in
+ * chunks of any size as it arrives; the parser never blocks and keeps
+ * incomplete frames until the rest is available.
+ *
+ * <pre>
+ * while((frame = parser.parse(chunk))!=null) {
+ *	decode(frame.getData());
+ * }
+ * </pre>
+ *
+ * If a frame is contained completely in the passed buffer, its data is a
+ * slice of that buffer, so the buffer must not be modified before the frame
+ * is processed. Only frames spanning multiple chunks are copied into an
+ * internal buffer. The returned <code>ADTSFrame</code> is reused and only
+ * valid until the next call.
+ *
+ * Garbage between frames is skipped.
+ */
+public class ADTSParser {
+
+	private final ADTSFrame frame;
+	private final byte[] pending;
+	private final ByteBuffer pendingBuffer;
+	private int pendingLength;
+	//bytes at the end of the pending data copied from the current input
+	private int pendingFromInput;
+	private long skipped;
+
+	public ADTSParser() {
+		frame = new ADTSFrame();
+		pending = new byte[ADTSFrame.MAXIMUM_FRAME_LENGTH];
+		pendingBuffer = ByteBuffer.wrap(pending);
+		pendingLength = 0;
+		skipped = 0;
+	}
+
+	/**
+	 * Parses the next frame. Returns null if the buffer contains no more
+	 * complete frame; in this case all remaining bytes have been consumed and
+	 * the parser waits for the next chunk.
+	 *
+	 * @param in the input data, its position is advanced
+	 * @return the next frame or null
+	 */
+	public ADTSFrame parse(ByteBuffer in) {
+		final long skippedBefore = skipped;
+		final ADTSFrame f = parseFrame(in);
+		if(skipped>skippedBefore&&Events.isEnabled(Events.ADTS_RESYNC)) reportResync(skipped-skippedBefore, f!=null);
+		return f;
+	}
+
+	private ADTSFrame parseFrame(ByteBuffer in) {
+		pendingFromInput = 0;
+		while(true) {
+			if(pendingLength==0) {
+				//parse directly from the input
+				final int start = findSyncword(in, in.position(), in.limit());
+				skipped += start-in.position();
+				in.position(start);
+				if(in.remaining()<ADTSFrame.HEADER_LENGTH) break;
+				if(!frame.readHeader(in, start)) {
+					skip(in, 1);
+					continue;
+				}
+				final int len = frame.getTotalLength();
+				if(in.remaining()<len) break;
+
+				frame.readErrorCheck(in, start);
+				frame.setData(slice(in, start+frame.getHeaderLength(), start+len));
+				in.position(start+len);
+				return frame;
+			}
+			else {
+				//continue the incomplete frame
+				if(!fill(in, ADTSFrame.HEADER_LENGTH)) return null;
+				if(!ADTSFrame.isSyncword(pendingBuffer, 0)||!frame.readHeader(pendingBuffer, 0)) {
+					resync(in);
+					continue;
+				}
+				final int len = frame.getTotalLength();
+				if(!fill(in, len)) return null;
+
+				frame.readErrorCheck(pendingBuffer, 0);
+				frame.setData(slice(pendingBuffer, frame.getHeaderLength(), len));
+				pendingLength = 0;
+				return frame;
+			}
+		}
+		//keep the rest for the next call
+		pendingLength = in.remaining();
+		in.get(pending, 0, pendingLength);
+		return null;
+	}
+
+	/**
+	 * Discards incomplete data, e.g. after a discontinuity in the input.
+	 */
+	public void reset() {
+		pendingLength = 0;
+	}
+
+	/**
+	 * Returns the number of bytes skipped while searching for frames.
+	 *
+	 * @return the number of skipped bytes
+	 */
+	public long getSkippedBytes() {
+		return skipped;
+	}
+
+	//returns the position of the next syncword; a possible start at the end is kept
+	private static int findSyncword(ByteBuffer b, int pos, int end) {
+		for(; pos<end-1; pos++) {
+			if(ADTSFrame.isSyncword(b, pos)) return pos;
+		}
+		return (pos<end&&(b.get(pos)&0xFF)==0xFF) ? pos : end;
+	}
+
+	private void skip(ByteBuffer in, int n) {
+		in.position(in.position()+n);
+		skipped += n;
+	}
+
+	//appends input to the incomplete frame until it has the given length
+	private boolean fill(ByteBuffer in, int length) {
+		if(pendingLength<length) {
+			final int n = Math.min(length-pendingLength, in.remaining());
+			in.get(pending, pendingLength, n);
+			pendingLength += n;
+			pendingFromInput += n;
+		}
+		return pendingLength>=length;
+	}
+
+	//drops the invalid header at the start of the incomplete frame
+	private void resync(ByteBuffer in) {
+		final int start = findSyncword(pendingBuffer, 1, pendingLength);
+		skipped += start;
+		if(start>=pendingLength-pendingFromInput) {
+			//the rest is still in the input: parse it from there, so that a frame is not copied
+			in.position(in.position()-(pendingLength-start));
+			pendingLength = 0;
+		}
+		else {
+			pendingLength -= start;
+			System.arraycopy(pending, start, pending, 0, pendingLength);
+		}
+	}
+
+	private static void reportResync(long skipped, boolean found) {
+		final ADTSResyncEvent event = new ADTSResyncEvent();
+		if(event.shouldCommit()) {
+			event.skippedBytes = skipped;
+			event.found = found;
+			event.commit();
+		}
+	}
+
+	private static ByteBuffer slice(ByteBuffer b, int start, int end) {
+		final ByteBuffer dup = b.duplicate();
+		dup.limit(end);
+		dup.position(start);
+		return dup.slice();
+	}
+}
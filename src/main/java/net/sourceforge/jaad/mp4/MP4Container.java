@@ -3,6 +3,10 @@ package net.sourceforge.jaad.mp4;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,19 +21,24 @@ import net.sourceforge.jaad.mp4.boxes.BoxFactory;
 import net.sourceforge.jaad.mp4.boxes.BoxTypes;
 import net.sourceforge.jaad.mp4.boxes.impl.FileTypeBox;
 import net.sourceforge.jaad.mp4.boxes.impl.ProgressiveDownloadInformationBox;
+import net.sourceforge.jaad.util.jfr.ContainerParseEvent;
+import net.sourceforge.jaad.util.jfr.Events;
 
 /**
  * The MP4Container is the central class for the MP4 demultiplexer. It reads the
  * container and gives access to the containing data.
  *
- * The data source can be either an <code>InputStream</code> or a
- * <code>RandomAccessFile</code>. Since the specification does not decree a
- * specific order of the content, the data needed for parsing (the sample
- * tables) may be at the end of the stream. In this case, random access is
- * needed and reading from an <code>InputSteam</code> will cause an exception.
- * Thus, whenever possible, a <code>RandomAccessFile</code> should be used for 
- * local files. Parsing from an <code>InputStream</code> is useful when reading 
- * from a network stream.
+ * The data source can be either an <code>InputStream</code>, a
+ * <code>RandomAccessFile</code>, a <code>FileChannel</code> (or a
+ * <code>Path</code>) or a <code>ByteBuffer</code> holding the whole file.
+ * Since the specification does not decree a specific order of the content,
+ * the data needed for parsing (the sample tables) may be at the end of the
+ * stream. In this case, random access is needed and reading from an
+ * <code>InputSteam</code> will cause an exception.
+ * Thus, whenever possible, a <code>FileChannel</code> should be used for
+ * local files: it is mapped into memory, which avoids a system call per read.
+ * Parsing from an <code>InputStream</code> is useful when reading from a
+ * network stream.
  *
  * Each <code>MP4Container</code> can return the used file brand (file format
  * version). Optionally, the following data may be present:
@@ -39,6 +48,18 @@ import net.sourceforge.jaad.mp4.boxes.impl.ProgressiveDownloadInformationBox;
  * <li>a <code>Movie</code></li>
  * </ul>
  *
+ * With random access the container can be parsed lazily: boxes that only
+ * contain other boxes (like the movie box, track boxes or sample tables) are
+ * read when they are accessed the first time. This is useful if only a part
+ * of the file is needed, e.g. when scanning for metadata, because the sample
+ * tables of the tracks are never decoded then.
+ *
+ * Fragmented files (with movie fragments following the movie box) are read
+ * incrementally: the container stops at the first movie fragment and the
+ * tracks read the fragments when they need more samples. Thus the movie
+ * fragment boxes are not contained in the list returned by
+ * <code>getBoxes()</code>.
+ *
  * Additionally it gives access to the underlying MP4 boxes, that can be 
  * retrieved by <code>getBoxes()</code>. However, it is not recommended to 
  * access the boxes directly.
@@ -71,23 +92,65 @@ public class MP4Container {
 		this.in = new MP4InputStream(in);
 		boxes = new ArrayList<Box>();
 
-		readContent();
+		readContent(false);
 	}
 
 	public MP4Container(RandomAccessFile in) throws IOException {
+		this(in, false);
+	}
+
+	public MP4Container(RandomAccessFile in, boolean lazy) throws IOException {
+		this.in = new MP4InputStream(in);
+		boxes = new ArrayList<Box>();
+
+		readContent(lazy);
+	}
+
+	public MP4Container(FileChannel in) throws IOException {
+		this(in, false);
+	}
+
+	public MP4Container(FileChannel in, boolean lazy) throws IOException {
 		this.in = new MP4InputStream(in);
 		boxes = new ArrayList<Box>();
 
-		readContent();
+		readContent(lazy);
 	}
 
-	private void readContent() throws IOException {
+	public MP4Container(Path path) throws IOException {
+		this(path, false);
+	}
+
+	public MP4Container(Path path, boolean lazy) throws IOException {
+		this(FileChannel.open(path, StandardOpenOption.READ), lazy);
+	}
+
+	public MP4Container(ByteBuffer in) throws IOException {
+		this(in, false);
+	}
+
+	public MP4Container(ByteBuffer in, boolean lazy) throws IOException {
+		this.in = new MP4InputStream(in);
+		boxes = new ArrayList<Box>();
+
+		readContent(lazy);
+	}
+
+	private void readContent(boolean lazy) throws IOException {
+		ContainerParseEvent event = null;
+		if(Events.isEnabled(Events.CONTAINER_PARSE)) {
+			event = new ContainerParseEvent();
+			event.begin();
+		}
+
 		//read all boxes
 		Box box = null;
 		long type;
 		boolean moovFound = false;
 		while(in.hasLeft()) {
-			box = BoxFactory.parseBox(null, in);
+			//movie fragments are read by the tracks while playing
+			if(moovFound&&(in.peekBytes(8)&0xFFFFFFFFL)==BoxTypes.MOVIE_FRAGMENT_BOX) break;
+			box = BoxFactory.parseBox(null, in, lazy);
 			if(boxes.isEmpty()&&box.getType()!=BoxTypes.FILE_TYPE_BOX) throw new MP4Exception("no MP4 signature found");
 			boxes.add(box);
 
@@ -107,6 +170,17 @@ public class MP4Container {
 				else if(!in.hasRandomAccess()) throw new MP4Exception("movie box at end of file, need random access");
 			}
 		}
+
+		if(event!=null) {
+			event.end();
+			if(event.shouldCommit()) {
+				event.randomAccess = in.hasRandomAccess();
+				event.lazy = lazy;
+				event.boxes = boxes.size();
+				event.bytesRead = in.getOffset();
+				event.commit();
+			}
+		}
 	}
 
 	public Brand getMajorBrand() {
@@ -4,9 +4,10 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
-import java.util.LinkedList;
 
 public class MP4InputStream {
 
@@ -15,10 +16,22 @@ public class MP4InputStream {
 	public static final String UTF8 = "UTF-8";
 	public static final String UTF16 = "UTF-16";
 	private static final int BYTE_ORDER_MASK = 0xFEFF;
+	//maximum size of a mapped region of a FileChannel
+	private static final long MAP_SIZE = 1L<<30;
+	//initial size of the read-ahead buffer
+	private static final int READ_AHEAD = 8192;
 	private final InputStream in;
 	private final RandomAccessFile fin;
-	private final LinkedList<Byte> peeked = new LinkedList<Byte>();
-	private long offset; //only used with InputStream
+	private long offset; //not used with ByteBuffer
+	//read-ahead of the InputStream or RandomAccessFile: the bytes from
+	//aheadPos to aheadLength follow the current offset
+	private byte[] ahead;
+	private int aheadPos, aheadLength;
+	//ByteBuffer or mapped region of the FileChannel, starting at bufferStart
+	private final FileChannel channel;
+	private ByteBuffer buffer;
+	private long bufferStart, length;
+	private final byte[] number = new byte[8];
 
 	/**
 	 * Constructs an <code>MP4InputStream</code> that reads from an 
@@ -30,7 +43,9 @@ public class MP4InputStream {
 	MP4InputStream(InputStream in) {
 		this.in = in;
 		fin = null;
+		channel = null;
 		offset = 0;
+		ahead = new byte[READ_AHEAD];
 	}
 
 	/**
@@ -43,6 +58,80 @@ public class MP4InputStream {
 	MP4InputStream(RandomAccessFile fin) {
 		this.fin = fin;
 		in = null;
+		channel = null;
+		ahead = new byte[READ_AHEAD];
+	}
+
+	/**
+	 * Constructs an <code>MP4InputStream</code> that reads from a
+	 * <code>FileChannel</code>. The file is mapped into memory, so reading
+	 * needs no system calls and frame data is copied directly from the
+	 * mapped pages. It will have random access and seeking will be possible.
+	 *
+	 * @param channel a <code>FileChannel</code> to read from, opened for reading
+	 * @throws IOException if the file could not be mapped
+	 */
+	MP4InputStream(FileChannel channel) throws IOException {
+		this.channel = channel;
+		in = null;
+		fin = null;
+		length = channel.size();
+		map(0);
+	}
+
+	/**
+	 * Constructs an <code>MP4InputStream</code> that reads from a
+	 * <code>ByteBuffer</code>, that contains the whole file. The stream starts
+	 * at the buffer's current position and ends at its limit; the buffer's
+	 * position is not modified. It will have random access and seeking will
+	 * be possible.
+	 *
+	 * @param buffer a <code>ByteBuffer</code> to read from
+	 */
+	MP4InputStream(ByteBuffer buffer) {
+		this.buffer = buffer.slice();
+		in = null;
+		fin = null;
+		channel = null;
+		bufferStart = 0;
+		length = this.buffer.limit();
+	}
+
+	//maps the region of the channel, that starts at the given offset
+	private void map(long pos) throws IOException {
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_SIZE, length-pos));
+		bufferStart = pos;
+	}
+
+	//makes sure, that at least n bytes are left in the buffer
+	private void ensure(int n) throws IOException {
+		if(buffer.remaining()<n&&channel!=null) {
+			final long pos = bufferStart+buffer.position();
+			if(pos+buffer.remaining()<length) map(pos);
+		}
+		if(buffer.remaining()<n) throw new EOFException();
+	}
+
+	//makes sure, that at least n bytes are left in the read-ahead buffer
+	private void fill(int n) throws IOException {
+		if(aheadLength-aheadPos>=n) return;
+		if(n>ahead.length) ahead = Arrays.copyOf(ahead, Math.max(n, 2*ahead.length));
+		if(aheadPos>0) {
+			System.arraycopy(ahead, aheadPos, ahead, 0, aheadLength-aheadPos);
+			aheadLength -= aheadPos;
+			aheadPos = 0;
+		}
+		int i;
+		while(aheadLength<n) {
+			//takes what is available, but blocks only until n bytes are read
+			i = readInput(ahead, aheadLength, ahead.length-aheadLength);
+			if(i<0) throw new EOFException();
+			aheadLength += i;
+		}
+	}
+
+	private int readInput(byte[] b, int off, int len) throws IOException {
+		return (in!=null) ? in.read(b, off, len) : fin.read(b, off, len);
 	}
 
 	/**
@@ -56,22 +145,12 @@ public class MP4InputStream {
 	 * @throws IOException If the end of the stream is detected or any I/O error occurs.
 	 */
 	public int peek() throws IOException {
-		int i = 0;
-		if(!peeked.isEmpty()){
-			i = peeked.remove() & MASK8;
-		}
-		else if(in!=null){
-			i = in.read();
-		}
-		else if(fin!=null){
-			i = fin.read();
+		if(buffer!=null) {
+			ensure(1);
+			return buffer.get(buffer.position())&MASK8;
 		}
-
-		if(i==-1){
-			throw new EOFException();
-		}
-		peeked.addFirst((byte) i);
-		return i;
+		fill(1);
+		return ahead[aheadPos]&MASK8;
 	}
 
 	/**
@@ -85,24 +164,13 @@ public class MP4InputStream {
 	 * @throws IOException If the end of the stream is detected or any I/O error occurs.
 	 */
 	public int read() throws IOException {
-		int i = 0;
-		if(!peeked.isEmpty()){
-			i = peeked.remove() & MASK8;
+		if(buffer!=null) {
+			ensure(1);
+			return buffer.get()&MASK8;
 		}
-		else if(in!=null){
-			i = in.read();
-		}
-		else if(fin!=null){
-			i = fin.read();
-		}
-
-		if(i==-1){
-			throw new EOFException();
-		}
-		
+		fill(1);
 		offset++;
-
-		return i;
+		return ahead[aheadPos++]&MASK8;
 	}
 
 	/**
@@ -122,33 +190,15 @@ public class MP4InputStream {
 	 * stream has been closed, or if some other I/O error occurs.
 	 */
 	public void peek(final byte[] b, int off, int len) throws IOException {
-		int read = 0;
-		int i = 0;
-
-		while(read<len && read < peeked.size()) {
-			b[off+read] = peeked.get(read);
-			read++;
-		}
-
-		{
-			while(read<len) {
-				if(in!=null){
-					i = in.read(b, off+read, len-read);
-				}
-				else if(fin!=null){
-					i = fin.read(b, off+read, len-read);
-				}
-				if(i<0) {
-					throw new EOFException();
-				}
-				else {
-					for(int j = 0; j < i; j++){
-						peeked.add(b[off+j]);
-					}
-					read += i;
-				}
-			}
+		if(buffer!=null) {
+			ensure(len);
+			final int pos = buffer.position();
+			buffer.get(b, off, len);
+			buffer.position(pos);
+			return;
 		}
+		fill(len);
+		System.arraycopy(ahead, aheadPos, b, off, len);
 	}
 
 	/**
@@ -171,19 +221,42 @@ public class MP4InputStream {
 		int read = 0;
 		int i = 0;
 
-		while(read<len && ! peeked.isEmpty()) {
-			b[off+read] = peeked.remove();
-			read++;
+		if(buffer!=null) {
+			//bulk copy, possibly spanning several mapped regions
+			while(read<len) {
+				if(!buffer.hasRemaining()) ensure(1);
+				i = Math.min(len-read, buffer.remaining());
+				buffer.get(b, off+read, i);
+				read += i;
+			}
+			return;
 		}
 
-		while(read<len) {
-			if(in!=null) i = in.read(b, off+read, len-read);
-			else if(fin!=null) i = fin.read(b, off+read, len-read);
-			if(i<0) throw new EOFException();
-			else read += i;
+		//the read-ahead first
+		read = Math.min(len, aheadLength-aheadPos);
+		System.arraycopy(ahead, aheadPos, b, off, read);
+		aheadPos += read;
+
+		if(len-read<ahead.length) {
+			//small reads are buffered
+			if(read<len) {
+				fill(len-read);
+				System.arraycopy(ahead, aheadPos, b, off+read, len-read);
+				aheadPos += len-read;
+			}
+		}
+		else {
+			//large reads go directly into the array
+			aheadPos = 0;
+			aheadLength = 0;
+			while(read<len) {
+				i = readInput(b, off+read, len-read);
+				if(i<0) throw new EOFException();
+				read += i;
+			}
 		}
 
-		offset += read;
+		offset += len;
 	}
 
 	/**
@@ -200,12 +273,11 @@ public class MP4InputStream {
 	 */
 	public long peekBytes(int n) throws IOException {
 		if(n<1||n>8) throw new IndexOutOfBoundsException("invalid number of bytes to read: "+n);
-		final byte[] b = new byte[n];
-		peek(b, 0, n);
+		peek(number, 0, n);
 
 		long result = 0;
 		for(int i = 0; i<n; i++) {
-			result = (result<<8)|(b[i]&0xFF);
+			result = (result<<8)|(number[i]&0xFF);
 		}
 		return result;
 	}
@@ -224,12 +296,11 @@ public class MP4InputStream {
 	 */
 	public long readBytes(int n) throws IOException {
 		if(n<1||n>8) throw new IndexOutOfBoundsException("invalid number of bytes to read: "+n);
-		final byte[] b = new byte[n];
-		read(b, 0, n);
+		read(number, 0, n);
 
 		long result = 0;
 		for(int i = 0; i<n; i++) {
-			result = (result<<8)|(b[i]&0xFF);
+			result = (result<<8)|(number[i]&0xFF);
 		}
 		return result;
 	}
@@ -400,18 +471,35 @@ public class MP4InputStream {
 	 * stream has been closed, or if some other I/O error occurs.
 	 */
 	public void skipBytes(final long n) throws IOException {
-		long l = 0;
-		while(l<n && !peeked.isEmpty()){
-			peeked.remove();
-			l++;
+		if(buffer!=null) {
+			final long pos = getOffset()+n;
+			if(pos>length) throw new EOFException();
+			seek(pos);
+			return;
 		}
-
-		while(l<n) {
-			if(in!=null) l += in.skip((n-l));
-			else if(fin!=null) l += fin.skipBytes((int) (n-l));
+		long l = Math.min(n, aheadLength-aheadPos);
+		aheadPos += (int) l;
+
+		if(l<n) {
+			aheadPos = 0;
+			aheadLength = 0;
+			if(fin!=null) {
+				final long pos = offset+n;
+				if(pos>fin.length()) throw new EOFException();
+				fin.seek(pos);
+				l = n;
+			}
+			long i;
+			while(l<n) {
+				i = in.skip(n-l);
+				if(i>0) l += i;
+				//skip doesn't report the end of the stream
+				else if(in.read()<0) throw new EOFException();
+				else l++;
+			}
 		}
 
-		offset += l;
+		offset += n;
 	}
 
 	/**
@@ -421,13 +509,14 @@ public class MP4InputStream {
 	 * @throws IOException if an I/O error occurs (only when using a RandomAccessFile)
 	 */
 	public long getOffset() throws IOException {
+		if(buffer!=null) return bufferStart+buffer.position();
 		return offset;
 	}
 
 	/**
 	 * Seeks to a specific offset in the stream. This is only possible when 
-	 * using a RandomAccessFile. If an InputStream is used, this method throws 
-	 * an IOException.
+	 * using a RandomAccessFile, FileChannel or ByteBuffer. If an InputStream is
+	 * used, this method throws an IOException.
 	 * 
 	 * @param pos the offset position, measured in bytes from the beginning of the
 	 * stream
@@ -435,20 +524,50 @@ public class MP4InputStream {
 	 * I/O error occurs
 	 */
 	public void seek(long pos) throws IOException {
-		peeked.clear();
-		if(fin!=null) fin.seek(pos);
+		if(buffer!=null) {
+			if(pos<0||pos>length) throw new IOException("could not seek: offset out of range: "+pos);
+			if(pos>=bufferStart&&pos<=bufferStart+buffer.limit()) buffer.position((int) (pos-bufferStart));
+			else map(pos);
+			return;
+		}
+		if(fin!=null) {
+			//inside the read-ahead no data is read again
+			final long start = offset-aheadPos;
+			if(pos>=start&&pos<=start+aheadLength) aheadPos = (int) (pos-start);
+			else {
+				if(pos<0) throw new IOException("could not seek: offset out of range: "+pos);
+				fin.seek(pos);
+				aheadPos = 0;
+				aheadLength = 0;
+			}
+			offset = pos;
+		}
 		else throw new IOException("could not seek: no random access");
 	}
 
+	/**
+	 * Returns the length of the input. This is only possible with random
+	 * access.
+	 *
+	 * @return the length in bytes
+	 * @throws IOException if an InputStream is used or an I/O error occurs
+	 */
+	public long getLength() throws IOException {
+		if(buffer!=null) return length;
+		else if(fin!=null) return fin.length();
+		else throw new IOException("unknown length: no random access");
+	}
+
 	/**
 	 * Indicates, if random access is available. That is, if this 
-	 * <code>MP4InputStream</code> was constructed with a RandomAccessFile. If 
-	 * this method returns false, seeking is not possible.
+	 * <code>MP4InputStream</code> was constructed with a RandomAccessFile, 
+	 * FileChannel or ByteBuffer. If this method returns false, seeking is not
+	 * possible.
 	 * 
 	 * @return true if random access is available
 	 */
 	public boolean hasRandomAccess() {
-		return fin!=null;
+		return fin!=null||buffer!=null;
 	}
 
 	/**
@@ -459,14 +578,19 @@ public class MP4InputStream {
 	 */
 	public boolean hasLeft() throws IOException {
 		final boolean b;
-		if(!peeked.isEmpty()){
-			b = true;
-		}else if(fin!=null){
-			b = fin.getFilePointer()<(fin.length()-1);
-		} else {
-			final int i = in.read();
-			b = (i!=-1);
-			if(b) peeked.add((byte) i);
+		if(buffer!=null) b = getOffset()<length;
+		else if(aheadPos<aheadLength) b = true;
+		else if(fin!=null) b = offset<fin.length();
+		else {
+			aheadPos = 0;
+			aheadLength = 0;
+			int i;
+			do {
+				i = in.read(ahead, 0, ahead.length);
+			}
+			while(i==0);
+			if(i>0) aheadLength = i;
+			b = (i>0);
 		}
 		return b;
 	}
@@ -479,8 +603,10 @@ public class MP4InputStream {
 	 * @throws IOException if an I/O error occurs
 	 */
 	void close() throws IOException {
-		peeked.clear();
+		aheadPos = 0;
+		aheadLength = 0;
 		if(in!=null) in.close();
 		else if(fin!=null) fin.close();
+		else if(channel!=null) channel.close();
 	}
 }
@@ -37,12 +37,16 @@ public class AudioTrack extends Track {
 			return ac;
 		}
 	}
+
+	//transform codecs need the previous frame for the overlap
+	private static final int DEFAULT_PRE_ROLL = 1;
 	private final SoundMediaHeaderBox smhd;
 	private final AudioSampleEntry sampleEntry;
 	private Codec codec;
 
 	public AudioTrack(Box trak, MP4InputStream in) {
 		super(trak, in);
+		setPreRoll(DEFAULT_PRE_ROLL);
 
 		final Box mdia = trak.getChild(BoxTypes.MEDIA_BOX);
 		final Box minf = mdia.getChild(BoxTypes.MEDIA_INFORMATION_BOX);
@@ -0,0 +1,170 @@
+package net.sourceforge.jaad.mp4.api;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import net.sourceforge.jaad.mp4.MP4InputStream;
+import net.sourceforge.jaad.mp4.boxes.Box;
+import net.sourceforge.jaad.mp4.boxes.BoxFactory;
+import net.sourceforge.jaad.mp4.boxes.BoxTypes;
+import net.sourceforge.jaad.mp4.boxes.impl.MovieFragmentRandomAccessOffsetBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackFragmentHeaderBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackFragmentRandomAccessBox;
+
+/**
+ * Reads the movie fragments ('moof') of a fragmented movie one after another
+ * and passes their track fragments to the tracks. A fragment is read when a
+ * track has no more samples, so the file is never indexed completely and
+ * streams can be played while they arrive.
+ *
+ * With random access, the movie fragment random access box ('mfra') at the end
+ * of the file is used for seeking. It is read on the first seek.
+ * Since all tracks share the reader, seeking one track repositions the
+ * fragments for all of them. The other tracks keep their index and position:
+ * they skip the fragments they have indexed already, but miss the fragments
+ * passed over by a seek forward.
+ */
+class FragmentReader {
+
+	private final MP4InputStream in;
+	private final List<Track> tracks;
+	private final long firstOffset;
+	private long nextOffset; //offset of the next top-level box
+	private boolean finished;
+	//track ID -> random access table; null until the first seek
+	private Map<Long, TrackFragmentRandomAccessBox> randomAccess;
+
+	FragmentReader(MP4InputStream in, Box moov, List<Track> tracks) throws IOException {
+		this.in = in;
+		this.tracks = tracks;
+		//without random access the container stopped in front of the first fragment
+		firstOffset = in.hasRandomAccess() ? moov.getOffset()+moov.getSize() : in.getOffset();
+		nextOffset = firstOffset;
+		finished = false;
+	}
+
+	/**
+	 * Reads the next movie fragment and adds its samples to the tracks.
+	 *
+	 * @return false if there are no more fragments
+	 * @throws IOException if reading fails
+	 */
+	boolean readFragment() throws IOException {
+		while(!finished) {
+			final long pos = in.getOffset();
+			if(pos!=nextOffset) {
+				if(in.hasRandomAccess()) in.seek(nextOffset);
+				else if(pos<nextOffset) in.skipBytes(nextOffset-pos);
+				else throw new IOException("movie fragment already skipped and no random access");
+			}
+			if(!in.hasLeft()) {
+				finished = true;
+				break;
+			}
+
+			final Box box = BoxFactory.parseBox(null, in);
+			//a size of 0 means 'until the end of the file'
+			if(box.getSize()<8) finished = true;
+			nextOffset = box.getOffset()+box.getSize();
+
+			if(box.getType()==BoxTypes.MOVIE_FRAGMENT_BOX) {
+				//without random access the samples must be read before the next
+				//box is parsed: skip the header of the following media data box
+				if(!in.hasRandomAccess()&&in.hasLeft()&&(in.peekBytes(8)&0xFFFFFFFFL)==BoxTypes.MEDIA_DATA_BOX) {
+					final Box mdat = BoxFactory.parseBox(null, in);
+					if(mdat.getSize()<8) finished = true;
+					nextOffset = mdat.getOffset()+mdat.getSize();
+				}
+				addFragment(box);
+				return true;
+			}
+			else if(box.getType()==BoxTypes.MOVIE_FRAGMENT_RANDOM_ACCESS_BOX&&randomAccess==null) parseRandomAccess(box);
+		}
+		return false;
+	}
+
+	private void addFragment(Box moof) {
+		for(Box traf : moof.getChildren(BoxTypes.TRACK_FRAGMENT_BOX)) {
+			final long id = ((TrackFragmentHeaderBox) traf.getChild(BoxTypes.TRACK_FRAGMENT_HEADER_BOX)).getTrackID();
+			for(Track track : tracks) {
+				if(track.getTrackID()==id) track.addFragment(traf, moof.getOffset());
+			}
+		}
+	}
+
+	/**
+	 * Positions the reader at the last fragment of the track, that starts
+	 * before the given time, using the random access information.
+	 *
+	 * @param track the track
+	 * @param time a media time in the track's timescale
+	 * @return the decoding time of the found fragment or -1 if no random
+	 * access information is available
+	 * @throws IOException if reading the random access information fails
+	 */
+	long seek(Track track, long time) throws IOException {
+		if(!in.hasRandomAccess()) return -1;
+		if(randomAccess==null) readRandomAccess();
+
+		final TrackFragmentRandomAccessBox tfra = randomAccess.get(track.getTrackID());
+		if(tfra==null||tfra.getEntryCount()==0) return -1;
+
+		//last entry before the time, so that the pre-roll is available
+		final long[] times = tfra.getTimes();
+		int low = 0, high = tfra.getEntryCount()-1;
+		while(low<high) {
+			final int mid = (low+high+1)>>>1;
+			if(times[mid]<time) low = mid;
+			else high = mid-1;
+		}
+		nextOffset = tfra.getMoofOffsets()[low];
+		finished = false;
+		return times[low];
+	}
+
+	/**
+	 * Positions the reader at the first fragment.
+	 *
+	 * @return false if this is not possible without random access
+	 */
+	boolean rewind() {
+		if(!in.hasRandomAccess()) return false;
+		nextOffset = firstOffset;
+		finished = false;
+		return true;
+	}
+
+	//finds the 'mfra' using the 'mfro' at the end of the file
+	private void readRandomAccess() throws IOException {
+		randomAccess = new HashMap<Long, TrackFragmentRandomAccessBox>();
+		final long pos = in.getOffset();
+		try {
+			final long length = in.getLength();
+			if(length<16) return;
+			in.seek(length-16);
+			if((in.peekBytes(8)&0xFFFFFFFFL)!=BoxTypes.MOVIE_FRAGMENT_RANDOM_ACCESS_OFFSET_BOX) return;
+			final long size = ((MovieFragmentRandomAccessOffsetBox) BoxFactory.parseBox(null, in)).getByteSize();
+			if(size<16||size>length) return;
+			in.seek(length-size);
+			if((in.peekBytes(8)&0xFFFFFFFFL)!=BoxTypes.MOVIE_FRAGMENT_RANDOM_ACCESS_BOX) return;
+			parseRandomAccess(BoxFactory.parseBox(null, in));
+		}
+		catch(IOException e) {
+			Logger.getLogger("MP4 API").log(Level.WARNING, "reading movie fragment random access box failed: {0}", e.toString());
+		}
+		finally {
+			in.seek(pos);
+		}
+	}
+
+	private void parseRandomAccess(Box mfra) {
+		if(randomAccess==null) randomAccess = new HashMap<Long, TrackFragmentRandomAccessBox>();
+		for(Box box : mfra.getChildren(BoxTypes.TRACK_FRAGMENT_RANDOM_ACCESS_BOX)) {
+			final TrackFragmentRandomAccessBox tfra = (TrackFragmentRandomAccessBox) box;
+			randomAccess.put(tfra.getTrackID(), tfra);
+		}
+	}
+}
@@ -26,6 +26,14 @@ public class Frame implements Comparable<Frame> {
 		return size;
 	}
 
+	/**
+	 * Returns the presentation time of this frame in seconds, the time base
+	 * of <code>Track.seek</code>. The track's edit list is applied, so frames
+	 * before the beginning of the presentation, like the encoder delay of
+	 * AAC streams, have a negative time.
+	 *
+	 * @return the timestamp of this frame
+	 */
 	public double getTime() {
 		return time;
 	}
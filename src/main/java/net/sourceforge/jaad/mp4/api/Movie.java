@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import net.sourceforge.jaad.mp4.MP4InputStream;
 import net.sourceforge.jaad.mp4.boxes.Box;
 import net.sourceforge.jaad.mp4.boxes.BoxTypes;
@@ -14,31 +16,18 @@ import net.sourceforge.jaad.mp4.boxes.impl.MovieHeaderBox;
 public class Movie {
 
 	private final MP4InputStream in;
+	private final Box moov;
 	private final MovieHeaderBox mvhd;
-	private final List<Track> tracks;
-	private final MetaData metaData;
+	//created on first access
+	private List<Track> tracks;
+	private MetaData metaData;
 	private final List<Protection> protections;
 
 	public Movie(Box moov, MP4InputStream in) {
 		this.in = in;
+		this.moov = moov;
 
-		//create tracks
 		mvhd = (MovieHeaderBox) moov.getChild(BoxTypes.MOVIE_HEADER_BOX);
-		List<Box> trackBoxes = moov.getChildren(BoxTypes.TRACK_BOX);
-		tracks = new ArrayList<Track>(trackBoxes.size());
-		Track track;
-		for(int i = 0; i<trackBoxes.size(); i++) {
-			track = createTrack(trackBoxes.get(i));
-			if(track!=null) tracks.add(track);
-		}
-
-		//read metadata: moov.meta/moov.udta.meta
-		metaData = new MetaData();
-		if(moov.hasChild(BoxTypes.META_BOX)) metaData.parse(null, moov.getChild(BoxTypes.META_BOX));
-		else if(moov.hasChild(BoxTypes.USER_DATA_BOX)) {
-			final Box udta = moov.getChild(BoxTypes.USER_DATA_BOX);
-			if(udta.hasChild(BoxTypes.META_BOX)) metaData.parse(udta, udta.getChild(BoxTypes.META_BOX));
-		}
 
 		//detect DRM
 		protections = new ArrayList<Protection>();
@@ -50,6 +39,32 @@ public class Movie {
 		}
 	}
 
+	private List<Track> loadTracks() {
+		if(tracks==null) {
+			final List<Box> trackBoxes = moov.getChildren(BoxTypes.TRACK_BOX);
+			tracks = new ArrayList<Track>(trackBoxes.size());
+			Track track;
+			for(int i = 0; i<trackBoxes.size(); i++) {
+				track = createTrack(trackBoxes.get(i));
+				if(track!=null) tracks.add(track);
+			}
+
+			//fragmented movie: the tracks read the fragments while playing
+			if(moov.hasChild(BoxTypes.MOVIE_EXTENDS_BOX)) {
+				try {
+					final FragmentReader fragments = new FragmentReader(in, moov, tracks);
+					for(Track t : tracks) {
+						t.setFragments(fragments);
+					}
+				}
+				catch(IOException e) {
+					Logger.getLogger("MP4 API").log(Level.WARNING, "reading movie fragments failed: {0}", e.toString());
+				}
+			}
+		}
+		return tracks;
+	}
+
 	//TODO: support hint and meta
 	private Track createTrack(Box trak) {
 		final HandlerBox hdlr = (HandlerBox) trak.getChild(BoxTypes.MEDIA_BOX).getChild(BoxTypes.HANDLER_BOX);
@@ -74,7 +89,7 @@ public class Movie {
 	 * @return the tracks contained by this movie
 	 */
 	public List<Track> getTracks() {
-		return Collections.unmodifiableList(tracks);
+		return Collections.unmodifiableList(loadTracks());
 	}
 
 	/**
@@ -86,7 +101,7 @@ public class Movie {
 	 */
 	public List<Track> getTracks(Type type) {
 		final List<Track> l = new ArrayList<Track>();
-		for(Track t : tracks) {
+		for(Track t : loadTracks()) {
 			if(t.getType().equals(type)) l.add(t);
 		}
 		return Collections.unmodifiableList(l);
@@ -101,7 +116,7 @@ public class Movie {
 	 */
 	public List<Track> getTracks(Track.Codec codec) {
 		final List<Track> l = new ArrayList<Track>();
-		for(Track t : tracks) {
+		for(Track t : loadTracks()) {
 			if(t.getCodec().equals(codec)) l.add(t);
 		}
 		return Collections.unmodifiableList(l);
@@ -114,7 +129,7 @@ public class Movie {
 	 * @return true if this movie contains any metadata
 	 */
 	public boolean containsMetaData() {
-		return metaData.containsMetaData();
+		return getMetaData().containsMetaData();
 	}
 
 	/**
@@ -123,6 +138,15 @@ public class Movie {
 	 * @return the MetaData for this movie
 	 */
 	public MetaData getMetaData() {
+		if(metaData==null) {
+			//read metadata: moov.meta/moov.udta.meta
+			metaData = new MetaData();
+			if(moov.hasChild(BoxTypes.META_BOX)) metaData.parse(null, moov.getChild(BoxTypes.META_BOX));
+			else if(moov.hasChild(BoxTypes.USER_DATA_BOX)) {
+				final Box udta = moov.getChild(BoxTypes.USER_DATA_BOX);
+				if(udta.hasChild(BoxTypes.META_BOX)) metaData.parse(udta, udta.getChild(BoxTypes.META_BOX));
+			}
+		}
 		return metaData;
 	}
 
@@ -168,7 +192,7 @@ public class Movie {
 	 * @return true if there is at least one track in this movie that has at least one more frame to read.
 	 */
 	public boolean hasMoreFrames() {
-		for(Track track : tracks) {
+		for(Track track : loadTracks()) {
 			if(track.hasMoreFrames()) return true;
 		}
 		return false;
@@ -184,7 +208,7 @@ public class Movie {
 	 */
 	public Frame readNextFrame() throws IOException {
 		Track track = null;
-		for(Track t : tracks) {
+		for(Track t : loadTracks()) {
 			if(t.hasMoreFrames()&&(track==null||t.getNextTimeStamp()<track.getNextTimeStamp())) track = t;
 		}
 
@@ -5,8 +5,7 @@ import java.util.logging.Logger;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -17,15 +16,24 @@ import net.sourceforge.jaad.mp4.boxes.BoxTypes;
 import net.sourceforge.jaad.mp4.boxes.impl.ChunkOffsetBox;
 import net.sourceforge.jaad.mp4.boxes.impl.DataEntryUrlBox;
 import net.sourceforge.jaad.mp4.boxes.impl.DataReferenceBox;
+import net.sourceforge.jaad.mp4.boxes.impl.EditListBox;
 import net.sourceforge.jaad.mp4.boxes.impl.MediaHeaderBox;
+import net.sourceforge.jaad.mp4.boxes.impl.MovieHeaderBox;
 import net.sourceforge.jaad.mp4.boxes.impl.SampleSizeBox;
 import net.sourceforge.jaad.mp4.boxes.impl.SampleToChunkBox;
 import net.sourceforge.jaad.mp4.boxes.impl.DecodingTimeToSampleBox;
+import net.sourceforge.jaad.mp4.boxes.impl.SyncSampleBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackExtendsBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackFragmentDecodeTimeBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackFragmentHeaderBox;
+import net.sourceforge.jaad.mp4.boxes.impl.TrackFragmentRunBox;
 import net.sourceforge.jaad.mp4.boxes.impl.TrackHeaderBox;
 import net.sourceforge.jaad.mp4.od.DecoderSpecificInfo;
 import net.sourceforge.jaad.mp4.boxes.impl.ESDBox;
 import net.sourceforge.jaad.mp4.boxes.impl.sampleentries.SampleEntry;
 import net.sourceforge.jaad.mp4.od.Descriptor;
+import net.sourceforge.jaad.util.jfr.Events;
+import net.sourceforge.jaad.util.jfr.FrameReadEvent;
 
 /**
  * This class represents a track in a movie.
@@ -46,9 +54,24 @@ public abstract class Track {
 	protected final TrackHeaderBox tkhd;
 	private final MediaHeaderBox mdhd;
 	private final boolean inFile;
-	private final List<Frame> frames;
+	private final double timeScale;
+	//sample index in decoding order: offset in the file, size and decoding time in timescale units
+	private long[] sampleOffsets;
+	private int[] sampleSizes;
+	private long[] sampleTimes;
+	private int sampleCount;
+	private int tableSampleCount; //samples from the sample table, followed by fragment samples
+	private long tableEndTime, nextSampleTime; //decoding time after the last sample
+	private int[] syncSamples; //null if all samples are sync samples
+	private long editOffset; //media time at presentation time 0, in timescale units
 	private URL location;
 	private int currentFrame;
+	private int maxFrameSize;
+	private int preRoll, preRollFrames;
+	//movie fragments: null if the movie is not fragmented
+	private FragmentReader fragments;
+	private long fragmentOffset; //offset of the last movie fragment in the index
+	private long defaultSampleDuration, defaultSampleSize;
 	//info structures
 	protected DecoderSpecificInfo decoderSpecificInfo;
 	protected DecoderInfo decoderInfo;
@@ -61,6 +84,7 @@ public abstract class Track {
 
 		final Box mdia = trak.getChild(BoxTypes.MEDIA_BOX);
 		mdhd = (MediaHeaderBox) mdia.getChild(BoxTypes.MEDIA_HEADER_BOX);
+		timeScale = mdhd.getTimeScale();
 		final Box minf = mdia.getChild(BoxTypes.MEDIA_INFORMATION_BOX);
 
 		final Box dinf = minf.getChild(BoxTypes.DATA_INFORMATION_BOX);
@@ -91,20 +115,46 @@ public abstract class Track {
 
 		//sample table
 		final Box stbl = minf.getChild(BoxTypes.SAMPLE_TABLE_BOX);
-		if(stbl.hasChildren()) {
-			frames = new ArrayList<Frame>();
-			parseSampleTable(stbl);
+		if(stbl.hasChildren()) parseSampleTable(stbl);
+		else {
+			sampleOffsets = new long[0];
+			sampleSizes = new int[0];
+			sampleTimes = new long[0];
+			sampleCount = 0;
+		}
+		tableSampleCount = sampleCount;
+		nextSampleTime = tableEndTime;
+		fragmentOffset = -1;
+		if(stbl.hasChild(BoxTypes.SYNC_SAMPLE_BOX)) parseSyncSamples((SyncSampleBox) stbl.getChild(BoxTypes.SYNC_SAMPLE_BOX));
+		else syncSamples = null;
+		if(trak.hasChild(BoxTypes.EDIT_BOX)) {
+			final Box edts = trak.getChild(BoxTypes.EDIT_BOX);
+			if(edts.hasChild(BoxTypes.EDIT_LIST_BOX)) parseEditList((EditListBox) edts.getChild(BoxTypes.EDIT_LIST_BOX), trak.getParent());
 		}
-		else frames = Collections.emptyList();
 		currentFrame = 0;
+		preRoll = 0;
+		preRollFrames = 0;
+
+		//defaults for movie fragments
+		final Box moov = trak.getParent();
+		if(moov!=null&&moov.hasChild(BoxTypes.MOVIE_EXTENDS_BOX)) {
+			for(Box box : moov.getChild(BoxTypes.MOVIE_EXTENDS_BOX).getChildren(BoxTypes.TRACK_EXTENDS_BOX)) {
+				final TrackExtendsBox trex = (TrackExtendsBox) box;
+				if(trex.getTrackID()==getTrackID()) {
+					defaultSampleDuration = trex.getDefaultSampleDuration();
+					defaultSampleSize = trex.getDefaultSampleSize();
+				}
+			}
+		}
 	}
 
 	private void parseSampleTable(Box stbl) {
-		final double timeScale = mdhd.getTimeScale();
-		final Type type = getType();
-
 		//sample sizes
-		final long[] sampleSizes = ((SampleSizeBox) stbl.getChild(BoxTypes.SAMPLE_SIZE_BOX)).getSampleSizes();
+		final long[] sizes = ((SampleSizeBox) stbl.getChild(BoxTypes.SAMPLE_SIZE_BOX)).getSampleSizes();
+		sampleCount = sizes.length;
+		sampleOffsets = new long[sampleCount];
+		sampleSizes = new int[sampleCount];
+		sampleTimes = new long[sampleCount];
 
 		//chunk offsets
 		final ChunkOffsetBox stco;
@@ -117,26 +167,25 @@ public abstract class Track {
 		final long[] firstChunks = stsc.getFirstChunks();
 		final long[] samplesPerChunk = stsc.getSamplesPerChunk();
 
-		//sample durations/timestamps
+		//sample durations/timestamps: decoding times never decrease, so the
+		//samples are already in time order
 		final DecodingTimeToSampleBox stts = (DecodingTimeToSampleBox) stbl.getChild(BoxTypes.DECODING_TIME_TO_SAMPLE_BOX);
 		final long[] sampleCounts = stts.getSampleCounts();
 		final long[] sampleDeltas = stts.getSampleDeltas();
-		final long[] timeOffsets = new long[sampleSizes.length];
-		long tmp = 0;
-		int off = 0;
+		long time = 0;
+		int current = 0;
 		for(int i = 0; i<sampleCounts.length; i++) {
-			for(int j = 0; j<sampleCounts[i]; j++) {
-				timeOffsets[off+j] = tmp;
-				tmp += sampleDeltas[i];
+			for(int j = 0; j<sampleCounts[i]&&current<sampleCount; j++) {
+				sampleTimes[current++] = time;
+				time += sampleDeltas[i];
 			}
-			off += sampleCounts[i];
 		}
+		tableEndTime = time;
 
-		//create samples
-		int current = 0;
+		//sample offsets
+		current = 0;
 		int lastChunk;
-		double timeStamp;
-		long offset = 0;
+		long offset;
 		//iterate over all chunk groups
 		for(int i = 0; i<firstChunks.length; i++) {
 			if(i<firstChunks.length-1) lastChunk = (int) firstChunks[i+1]-1;
@@ -147,19 +196,120 @@ public abstract class Track {
 				offset = chunkOffsets[j];
 
 				//iterate over all samples in current chunk
-				for(int k = 0; k<samplesPerChunk[i]; k++) {
-					//create samples
-					timeStamp = ((double) timeOffsets[current])/timeScale;
-					frames.add(new Frame(type, offset, sampleSizes[current], timeStamp));
-					offset += sampleSizes[current];
+				for(int k = 0; k<samplesPerChunk[i]&&current<sampleCount; k++) {
+					sampleOffsets[current] = offset;
+					sampleSizes[current] = (int) sizes[current];
+					maxFrameSize = Math.max(maxFrameSize, sampleSizes[current]);
+					offset += sizes[current];
 					current++;
 				}
 			}
 		}
+	}
+
+	private void parseSyncSamples(SyncSampleBox stss) {
+		final long[] numbers = stss.getSampleNumbers();
+		syncSamples = new int[numbers.length];
+		for(int i = 0; i<numbers.length; i++) {
+			syncSamples[i] = (int) numbers[i]-1; //sample numbers start at 1
+		}
+		Arrays.sort(syncSamples);
+	}
+
+	//only the initial empty edits and the first media edit are supported,
+	//which covers the encoder delay of AAC streams
+	private void parseEditList(EditListBox elst, Box moov) {
+		final long[] durations = elst.getSegmentDuration();
+		final long[] mediaTimes = elst.getMediaTime();
+
+		//segment durations are in the movie's timescale
+		double movieTimeScale = timeScale;
+		if(moov!=null&&moov.hasChild(BoxTypes.MOVIE_HEADER_BOX)) movieTimeScale = ((MovieHeaderBox) moov.getChild(BoxTypes.MOVIE_HEADER_BOX)).getTimeScale();
+
+		long empty = 0;
+		for(int i = 0; i<mediaTimes.length; i++) {
+			if(mediaTimes[i]==-1) empty += durations[i];
+			else {
+				editOffset = mediaTimes[i]-Math.round(empty*timeScale/movieTimeScale);
+				break;
+			}
+		}
+	}
+
+	long getTrackID() {
+		return tkhd.getTrackID();
+	}
+
+	void setFragments(FragmentReader fragments) {
+		this.fragments = fragments;
+	}
+
+	/**
+	 * Appends the samples of a track fragment ('traf') to the sample index.
+	 * Called by the <code>FragmentReader</code>.
+	 */
+	void addFragment(Box traf, long moofOffset) {
+		//after the reader was repositioned by another track, fragments are read again
+		if(moofOffset<=fragmentOffset) return;
+		fragmentOffset = moofOffset;
+
+		//without random access consumed samples can be dropped
+		if(!in.hasRandomAccess()&&currentFrame>0) dropSamples(currentFrame);
+
+		final TrackFragmentHeaderBox tfhd = (TrackFragmentHeaderBox) traf.getChild(BoxTypes.TRACK_FRAGMENT_HEADER_BOX);
+		final long duration = tfhd.isDefaultSampleDurationPresent() ? tfhd.getDefaultSampleDuration() : defaultSampleDuration;
+		final long size = tfhd.isDefaultSampleSizePresent() ? tfhd.getDefaultSampleSize() : defaultSampleSize;
+		final long base = tfhd.isBaseDataOffsetPresent() ? tfhd.getBaseDataOffset() : moofOffset;
+		if(traf.hasChild(BoxTypes.TRACK_FRAGMENT_DECODE_TIME_BOX)) nextSampleTime = ((TrackFragmentDecodeTimeBox) traf.getChild(BoxTypes.TRACK_FRAGMENT_DECODE_TIME_BOX)).getBaseMediaDecodeTime();
+
+		long offset = base;
+		for(Box box : traf.getChildren(BoxTypes.TRACK_FRAGMENT_RUN_BOX)) {
+			final TrackFragmentRunBox trun = (TrackFragmentRunBox) box;
+			//without data offset the run follows the previous one
+			if(trun.isDataOffsetPresent()) offset = base+trun.getDataOffset();
+			final int n = trun.getSampleCount();
+			final long[] sizes = trun.isSampleSizePresent() ? trun.getSampleSize() : null;
+			final long[] durations = trun.isSampleDurationPresent() ? trun.getSampleDuration() : null;
+
+			if(sampleCount+n>sampleOffsets.length) {
+				final int len = Math.max(sampleCount+n, 2*sampleOffsets.length);
+				sampleOffsets = Arrays.copyOf(sampleOffsets, len);
+				sampleSizes = Arrays.copyOf(sampleSizes, len);
+				sampleTimes = Arrays.copyOf(sampleTimes, len);
+			}
+			for(int i = 0; i<n; i++) {
+				sampleOffsets[sampleCount] = offset;
+				sampleSizes[sampleCount] = (int) ((sizes==null) ? size : sizes[i]);
+				sampleTimes[sampleCount] = nextSampleTime;
+				maxFrameSize = Math.max(maxFrameSize, sampleSizes[sampleCount]);
+				offset += sampleSizes[sampleCount];
+				nextSampleTime += (durations==null) ? duration : durations[i];
+				sampleCount++;
+			}
+		}
+	}
 
-		//frames need not to be time-ordered: sort by timestamp
-		//TODO: is it possible to add them to the specific position?
-		Collections.sort(frames);
+	//removes the first n samples from the index
+	private void dropSamples(int n) {
+		sampleCount -= n;
+		System.arraycopy(sampleOffsets, n, sampleOffsets, 0, sampleCount);
+		System.arraycopy(sampleSizes, n, sampleSizes, 0, sampleCount);
+		System.arraycopy(sampleTimes, n, sampleTimes, 0, sampleCount);
+		tableSampleCount = Math.max(tableSampleCount-n, 0);
+		if(syncSamples!=null) {
+			int j = 0;
+			for(int i = 0; i<syncSamples.length; i++) {
+				if(syncSamples[i]>=n) syncSamples[j++] = syncSamples[i]-n;
+			}
+			syncSamples = Arrays.copyOf(syncSamples, j);
+		}
+		currentFrame -= n;
+	}
+
+	//reads fragments until a frame is available or the input ends
+	private void readFragments() throws IOException {
+		while(currentFrame>=sampleCount&&fragments.readFragment()) {
+		}
 	}
 
 	//TODO: implement other entry descriptors
@@ -315,7 +465,15 @@ public abstract class Track {
 	 * @return true if there is at least one more frame to read.
 	 */
 	public boolean hasMoreFrames() {
-		return currentFrame<frames.size();
+		if(currentFrame>=sampleCount&&fragments!=null) {
+			try {
+				readFragments();
+			}
+			catch(IOException e) {
+				Logger.getLogger("MP4 API").log(Level.WARNING, "reading movie fragment failed: {0}", e.toString());
+			}
+		}
+		return currentFrame<sampleCount;
 	}
 
 	/**
@@ -326,28 +484,13 @@ public abstract class Track {
 	 * @throws IOException if reading fails
 	 */
 	public Frame readNextFrame() throws IOException {
+		if(fragments!=null) readFragments();
 		Frame frame = null;
 		if(hasMoreFrames()) {
-			frame = frames.get(currentFrame);
-
-			final long diff = frame.getOffset()-in.getOffset();
-			if(diff>0) in.skipBytes(diff);
-			else if(diff<0) {
-				if(in.hasRandomAccess()) in.seek(frame.getOffset());
-				else {
-					Logger.getLogger("MP4 API").log(Level.WARNING, "readNextFrame failed: frame {0} already skipped, offset:{1}, stream:{2}", new Object[]{currentFrame, frame.getOffset(), in.getOffset()});
-					throw new IOException("frame already skipped and no random access");
-				}
-			}
+			frame = new Frame(getType(), sampleOffsets[currentFrame], sampleSizes[currentFrame], getTime(currentFrame));
 
-			final byte[] b = new byte[(int) frame.getSize()];
-			try {
-				in.readBytes(b);
-			}
-			catch(EOFException e) {
-				Logger.getLogger("MP4 API").log(Level.WARNING, "readNextFrame failed: tried to read {0} bytes at {1}", new Long[]{frame.getSize(), in.getOffset()});
-				throw e;
-			}
+			final byte[] b = new byte[sampleSizes[currentFrame]];
+			readFrameData(b, 0);
 			frame.setData(b);
 			currentFrame++;
 		}
@@ -355,33 +498,209 @@ public abstract class Track {
 	}
 
 	/**
-	 * This method tries to seek to the frame that is nearest to the given
-	 * timestamp. It returns the timestamp of the frame it seeked to or -1 if
-	 * none was found.
-	 * 
-	 * @param timestamp a timestamp to seek to
-	 * @return the frame's timestamp that the method seeked to
+	 * Reads the data of the next frame from this track into the given buffer,
+	 * without creating a new array for each frame. The buffer should be able
+	 * to hold <code>getMaxFrameSize()</code> bytes.
+	 *
+	 * @param b the buffer into which the data is read
+	 * @param off the offset in the buffer at which the data is written
+	 * @return the size of the frame or -1 if there are no more frames to read
+	 * @throws IOException if reading fails
+	 * @throws IndexOutOfBoundsException if the frame does not fit into the
+	 * buffer
+	 */
+	public int readNextFrame(byte[] b, int off) throws IOException {
+		if(fragments!=null) readFragments();
+		if(!hasMoreFrames()) return -1;
+		final int size = sampleSizes[currentFrame];
+		if(off<0||off+size>b.length) throw new IndexOutOfBoundsException("frame size: "+size+", buffer: "+b.length+", offset: "+off);
+
+		readFrameData(b, off);
+		currentFrame++;
+		return size;
+	}
+
+	//reads the data of the current frame
+	private void readFrameData(byte[] b, int off) throws IOException {
+		FrameReadEvent event = null;
+		if(Events.isEnabled(Events.FRAME_READ)) {
+			event = new FrameReadEvent();
+			event.begin();
+		}
+		final long offset = sampleOffsets[currentFrame];
+		final int size = sampleSizes[currentFrame];
+		final long diff = offset-in.getOffset();
+		if(diff>0) in.skipBytes(diff);
+		else if(diff<0) {
+			if(in.hasRandomAccess()) in.seek(offset);
+			else {
+				Logger.getLogger("MP4 API").log(Level.WARNING, "readNextFrame failed: frame {0} already skipped, offset:{1}, stream:{2}", new Object[]{currentFrame, offset, in.getOffset()});
+				throw new IOException("frame already skipped and no random access");
+			}
+		}
+
+		try {
+			in.read(b, off, size);
+		}
+		catch(EOFException e) {
+			Logger.getLogger("MP4 API").log(Level.WARNING, "readNextFrame failed: tried to read {0} bytes at {1}", new Long[]{(long) size, in.getOffset()});
+			throw e;
+		}
+
+		if(event!=null) {
+			event.end();
+			if(event.shouldCommit()) {
+				event.offset = offset;
+				event.size = size;
+				event.seekDistance = diff;
+				event.commit();
+			}
+		}
+	}
+
+	//presentation time of a sample in seconds: the edit list is applied
+	private double getTime(int sample) {
+		return (sampleTimes[sample]-editOffset)/timeScale;
+	}
+
+	/**
+	 * Returns the size of the largest frame in this track. A buffer of this
+	 * size can hold each frame read by <code>readNextFrame(byte[], int)</code>.
+	 * For fragmented movies only the fragments read so far are known: the
+	 * value may grow after <code>hasMoreFrames()</code> read a new fragment.
+	 *
+	 * @return the maximum frame size in bytes
+	 */
+	public int getMaxFrameSize() {
+		return maxFrameSize;
+	}
+
+	/**
+	 * Seeks to the frame that contains the given timestamp. The timestamp is
+	 * a presentation time: the track's edit list is applied, so 0 is the
+	 * beginning of the presentation, not of the media.
+	 *
+	 * Decoding can only start at a sync sample and the decoder may need some
+	 * frames before the target frame to produce correct output (see
+	 * <code>setPreRoll</code>). Therefore the next frame read is not
+	 * necessarily the target frame: <code>getPreRollFrames()</code> returns
+	 * the number of frames that have to be decoded and discarded first.
+	 * The difference between the given timestamp and the returned one is the
+	 * position inside the target frame.
+	 *
+	 * In fragmented movies, the fragments are only read as far as needed. With
+	 * random access the fragment random access box ('mfra') is used to find
+	 * the fragment, without it the fragments are read from the beginning.
+	 * Without random access only forward seeking is possible, for all movies:
+	 * an earlier timestamp seeks to the next frame that can still be read.
+	 *
+	 * @param timestamp a presentation time in seconds
+	 * @return the presentation time of the target frame or -1 if the track
+	 * contains no frames (that can still be read)
 	 */
 	public double seek(double timestamp) {
-		//find first frame > timestamp
-		Frame frame = null;
-		for(int i = 0; i<frames.size(); i++) {
-			frame = frames.get(i++);
-			if(frame.getTime()>timestamp) {
-				currentFrame = i;
-				break;
+		final long time = Math.round(timestamp*timeScale)+editOffset;
+		if(fragments!=null) {
+			try {
+				seekFragments(time);
+				//all indexed frames may be read already
+				readFragments();
+			}
+			catch(IOException e) {
+				Logger.getLogger("MP4 API").log(Level.WARNING, "seeking in movie fragments failed: {0}", e.toString());
 			}
 		}
-		return (frame==null) ? -1 : frame.getTime();
+		//without random access skipped frames can't be read again
+		final int first = in.hasRandomAccess() ? 0 : currentFrame;
+		if(first>=sampleCount) {
+			preRollFrames = 0;
+			return -1;
+		}
+
+		//last frame that starts at or before the timestamp
+		int low = first, high = sampleCount-1;
+		while(low<high) {
+			final int mid = (low+high+1)>>>1;
+			if(sampleTimes[mid]<=time) low = mid;
+			else high = mid-1;
+		}
+		final int target = low;
+
+		//start at a sync sample that leaves enough frames for the pre-roll
+		final int start = Math.max(findSyncSample(Math.max(target-preRoll, first)), first);
+		currentFrame = start;
+		preRollFrames = target-start;
+		return getTime(target);
+	}
+
+	//makes sure that the fragment containing the given media time is indexed
+	private void seekFragments(long time) throws IOException {
+		final boolean before = sampleCount>0&&time<sampleTimes[0];
+		if(sampleCount>0&&!before&&time<nextSampleTime) return;
+
+		final long fragmentTime = fragments.seek(this, time);
+		if(fragmentTime>=0) {
+			//continue the index at the found fragment
+			sampleCount = tableSampleCount;
+			nextSampleTime = fragmentTime;
+			fragmentOffset = -1;
+		}
+		else if(before) {
+			if(!fragments.rewind()) return;
+			sampleCount = tableSampleCount;
+			nextSampleTime = tableEndTime;
+			fragmentOffset = -1;
+		}
+		currentFrame = Math.min(currentFrame, sampleCount);
+
+		while(nextSampleTime<=time) {
+			currentFrame = sampleCount;
+			if(!fragments.readFragment()) break;
+		}
+	}
+
+	//last sync sample at or before the given sample
+	private int findSyncSample(int sample) {
+		if(syncSamples==null||syncSamples.length==0) return sample;
+		int i = Arrays.binarySearch(syncSamples, sample);
+		if(i<0) i = -i-2; //insertion point-1
+		return (i<0) ? 0 : syncSamples[i];
+	}
+
+	/**
+	 * Returns the number of frames, that have to be decoded and discarded
+	 * after the last call of <code>seek</code> before the target frame is
+	 * reached.
+	 *
+	 * @return the number of pre-roll frames
+	 */
+	public int getPreRollFrames() {
+		return preRollFrames;
+	}
+
+	/**
+	 * Sets the number of frames the decoder needs before a frame to decode it
+	 * correctly. For audio tracks this is 1 by default, as transform codecs
+	 * like AAC overlap consecutive frames; for other tracks 0.
+	 *
+	 * @param frames the number of pre-roll frames
+	 */
+	public void setPreRoll(int frames) {
+		if(frames<0) throw new IllegalArgumentException("negative pre-roll: "+frames);
+		preRoll = frames;
+	}
+
+	public int getPreRoll() {
+		return preRoll;
 	}
 
 	/**
 	 * Returns the timestamp of the next frame to be read. This is needed to
 	 * read frames from a movie that contains multiple tracks.
 	 *
-	 * @return the next frame's timestamp
+	 * @return the next frame's presentation time
 	 */
 	double getNextTimeStamp() {
-		return frames.get(currentFrame).getTime();
+		return getTime(currentFrame);
 	}
 }
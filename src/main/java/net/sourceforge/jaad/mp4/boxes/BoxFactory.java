@@ -17,6 +17,8 @@ import net.sourceforge.jaad.mp4.boxes.impl.sampleentries.*;
 import net.sourceforge.jaad.mp4.boxes.impl.sampleentries.codec.*;
 import net.sourceforge.jaad.mp4.boxes.impl.ESDBox;
 import net.sourceforge.jaad.mp4.boxes.impl.drm.FairPlayDataBox;
+import net.sourceforge.jaad.util.jfr.BoxParseEvent;
+import net.sourceforge.jaad.util.jfr.Events;
 
 public class BoxFactory implements BoxTypes {
 
@@ -113,6 +115,7 @@ public class BoxFactory implements BoxTypes {
 		BOX_CLASSES.put(TRACK_BOX, BoxImpl.class);
 		BOX_CLASSES.put(TRACK_EXTENDS_BOX, TrackExtendsBox.class);
 		BOX_CLASSES.put(TRACK_FRAGMENT_BOX, BoxImpl.class);
+		BOX_CLASSES.put(TRACK_FRAGMENT_DECODE_TIME_BOX, TrackFragmentDecodeTimeBox.class);
 		BOX_CLASSES.put(TRACK_FRAGMENT_HEADER_BOX, TrackFragmentHeaderBox.class);
 		BOX_CLASSES.put(TRACK_FRAGMENT_RANDOM_ACCESS_BOX, TrackFragmentRandomAccessBox.class);
 		BOX_CLASSES.put(TRACK_FRAGMENT_RUN_BOX, TrackFragmentRunBox.class);
@@ -334,6 +337,29 @@ public class BoxFactory implements BoxTypes {
 	}
 
 	public static Box parseBox(Box parent, MP4InputStream in) throws IOException {
+		return parseBox(parent, in, false);
+	}
+
+	/**
+	 * Parses the next box from the input. In lazy mode, boxes that only
+	 * contain other boxes (like 'moov', 'trak' or 'stbl') record their
+	 * position and read their children not until they are queried the first
+	 * time. Thus boxes, that are never accessed, are skipped instead of
+	 * decoded. Lazy mode needs random access, without it the box is parsed
+	 * completely.
+	 *
+	 * @param parent the parent box or null for top-level boxes
+	 * @param in the input
+	 * @param lazy true to defer parsing of container boxes
+	 * @return the parsed box
+	 * @throws IOException if an error occurs while reading
+	 */
+	public static Box parseBox(Box parent, MP4InputStream in, boolean lazy) throws IOException {
+		BoxParseEvent event = null;
+		if(Events.isEnabled(Events.BOX_PARSE)) {
+			event = new BoxParseEvent();
+			event.begin();
+		}
 		final long offset = in.getOffset();
 
 		long size = in.readBytes(4);
@@ -350,22 +376,38 @@ public class BoxFactory implements BoxTypes {
 		Logger.getLogger("MP4 Boxes").finest(typeToString(type));
 		final BoxImpl box = forType(type, in.getOffset());
 		box.setParams(parent, size, type, offset);
+		box.lazy = lazy;
 		box.decode(in);
 
 		//if box doesn't contain data it only contains children
 		final Class<?> cl = box.getClass();
-		if(cl==BoxImpl.class||cl==FullBox.class) box.readChildren(in);
+		if(cl==BoxImpl.class||cl==FullBox.class) {
+			if(lazy&&in.hasRandomAccess()) box.deferChildren(in);
+			else box.readChildren(in);
+		}
 
 		//check bytes left
 		final long left = (box.getOffset()+box.getSize())-in.getOffset();
 		if(left>0
 				&&!(box instanceof MediaDataBox)
 				&&!(box instanceof UnknownBox)
-				&&!(box instanceof FreeSpaceBox)) LOGGER.log(Level.INFO, "bytes left after reading box {0}: left: {1}, offset: {2}", new Object[]{typeToString(type), left, in.getOffset()});
+				&&!(box instanceof FreeSpaceBox)
+				&&!box.isDeferred()) LOGGER.log(Level.INFO, "bytes left after reading box {0}: left: {1}, offset: {2}", new Object[]{typeToString(type), left, in.getOffset()});
 		else if(left<0) LOGGER.log(Level.SEVERE, "box {0} overread: {1} bytes, offset: {2}", new Object[]{typeToString(type), -left, in.getOffset()});
 
 		//if mdat found and no random access, don't skip
 		if(box.getType()!=MEDIA_DATA_BOX||in.hasRandomAccess()) in.skipBytes(left);
+
+		if(event!=null&&size>=BoxParseEvent.MIN_SIZE) {
+			event.end();
+			if(event.shouldCommit()) {
+				event.type = typeToString(type);
+				event.offset = offset;
+				event.size = size;
+				event.deferred = box.isDeferred();
+				event.commit();
+			}
+		}
 		return box;
 	}
 
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import net.sourceforge.jaad.mp4.MP4InputStream;
 
 public class BoxImpl implements Box {
@@ -12,6 +14,10 @@ public class BoxImpl implements Box {
 	protected long size, type, offset;
 	protected Box parent;
 	protected final List<Box> children;
+	//lazy parsing: the children are read on first access
+	boolean lazy;
+	private MP4InputStream deferredInput;
+	private long deferredOffset;
 
 	public BoxImpl(String name) {
 		this.name = name;
@@ -65,12 +71,44 @@ public class BoxImpl implements Box {
 		return name+" ["+BoxFactory.typeToString(type)+"]";
 	}
 
+	/**
+	 * Defers reading the children of this box until they are queried the
+	 * first time. Needs random access, the children start at the current
+	 * offset of the input.
+	 */
+	void deferChildren(MP4InputStream in) throws IOException {
+		deferredInput = in;
+		deferredOffset = in.getOffset();
+	}
+
+	boolean isDeferred() {
+		return deferredInput!=null;
+	}
+
+	//reads deferred children and restores the position of the input
+	private void loadChildren() {
+		if(deferredInput==null) return;
+		final MP4InputStream in = deferredInput;
+		deferredInput = null;
+		try {
+			final long pos = in.getOffset();
+			in.seek(deferredOffset);
+			readChildren(in);
+			in.seek(pos);
+		}
+		catch(IOException e) {
+			Logger.getLogger("MP4 Boxes").log(Level.SEVERE, "could not read children of box "+BoxFactory.typeToString(type)+" at offset "+offset, e);
+		}
+	}
+
 	//container methods
 	public boolean hasChildren() {
+		loadChildren();
 		return children.size()>0;
 	}
 
 	public boolean hasChild(long type) {
+		loadChildren();
 		boolean b = false;
 		for(Box box : children) {
 			if(box.getType()==type) {
@@ -82,6 +120,7 @@ public class BoxImpl implements Box {
 	}
 
 	public Box getChild(long type) {
+		loadChildren();
 		Box box = null, b = null;
 		int i = 0;
 		while(box==null&&i<children.size()) {
@@ -93,10 +132,12 @@ public class BoxImpl implements Box {
 	}
 
 	public List<Box> getChildren() {
+		loadChildren();
 		return Collections.unmodifiableList(children);
 	}
 
 	public List<Box> getChildren(long type) {
+		loadChildren();
 		List<Box> l = new ArrayList<Box>();
 		for(Box box : children) {
 			if(box.getType()==type) l.add(box);
@@ -107,7 +148,7 @@ public class BoxImpl implements Box {
 	protected void readChildren(MP4InputStream in) throws IOException {
 		Box box;
 		while(in.getOffset()<(offset+size)) {
-			box = BoxFactory.parseBox(this, in);
+			box = BoxFactory.parseBox(this, in, lazy);
 			children.add(box);
 		}
 	}
@@ -115,7 +156,7 @@ public class BoxImpl implements Box {
 	protected void readChildren(MP4InputStream in, int len) throws IOException {
 		Box box;
 		for(int i = 0; i<len; i++) {
-			box = BoxFactory.parseBox(this, in);
+			box = BoxFactory.parseBox(this, in, lazy);
 			children.add(box);
 		}
 	}
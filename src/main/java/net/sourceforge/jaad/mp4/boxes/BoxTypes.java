@@ -79,6 +79,7 @@ public interface BoxTypes {
 	long TRACK_BOX = 1953653099l; //trak
 	long TRACK_EXTENDS_BOX = 1953654136l; //trex
 	long TRACK_FRAGMENT_BOX = 1953653094l; //traf
+	long TRACK_FRAGMENT_DECODE_TIME_BOX = 1952867444l; //tfdt
 	long TRACK_FRAGMENT_HEADER_BOX = 1952868452l; //tfhd
 	long TRACK_FRAGMENT_RANDOM_ACCESS_BOX = 1952871009l; //tfra
 	long TRACK_FRAGMENT_RUN_BOX = 1953658222l; //trun
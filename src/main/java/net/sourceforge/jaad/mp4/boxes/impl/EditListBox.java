@@ -46,7 +46,8 @@ public class EditListBox extends FullBox {
 
 		for(int i = 0; i<entryCount; i++) {
 			segmentDuration[i] = in.readBytes(len);
-			mediaTime[i] = in.readBytes(len);
+			//signed: -1 for empty edits
+			mediaTime[i] = (len==8) ? in.readBytes(8) : (int) in.readBytes(4);
 
 			//int(16) mediaRate_integer;
 			//int(16) media_rate_fraction = 0;
@@ -0,0 +1,41 @@
+package net.sourceforge.jaad.mp4.boxes.impl;
+
+import java.io.IOException;
+import net.sourceforge.jaad.mp4.MP4InputStream;
+import net.sourceforge.jaad.mp4.boxes.FullBox;
+
+/**
+ * The Track Fragment Base Media Decode Time Box provides the absolute decode
+ * time, measured on the media timeline, of the first sample in decode order
+ * in the track fragment. This can be useful, for example, when performing
+ * random access in a file; it is not necessary to sum the sample durations of
+ * all preceding samples in previous fragments to find this value.
+ */
+public class TrackFragmentDecodeTimeBox extends FullBox {
+
+	private long baseMediaDecodeTime;
+
+	public TrackFragmentDecodeTimeBox() {
+		super("Track Fragment Base Media Decode Time Box");
+	}
+
+	@Override
+	public void decode(MP4InputStream in) throws IOException {
+		super.decode(in);
+
+		final int len = (version==1) ? 8 : 4;
+		baseMediaDecodeTime = in.readBytes(len);
+	}
+
+	/**
+	 * The base media decode time is an integer equal to the sum of the decode
+	 * durations of all earlier samples in the media, expressed in the media's
+	 * timescale. It does not include the samples added in the enclosing track
+	 * fragment.
+	 *
+	 * @return the decode time of the first sample in the track fragment
+	 */
+	public long getBaseMediaDecodeTime() {
+		return baseMediaDecodeTime;
+	}
+}
@@ -39,7 +39,7 @@ public class TrackFragmentRunBox extends FullBox {
 
 		//optional fields
 		dataOffsetPresent = ((flags&1)==1);
-		if(dataOffsetPresent) dataOffset = in.readBytes(4);
+		if(dataOffsetPresent) dataOffset = (int) in.readBytes(4); //signed
 
 		firstSampleFlagsPresent = ((flags&4)==4);
 		if(firstSampleFlagsPresent) firstSampleFlags = in.readBytes(4);
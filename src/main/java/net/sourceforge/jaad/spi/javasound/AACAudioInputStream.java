@@ -38,20 +38,14 @@ class AACAudioInputStream extends AsynchronousAudioInputStream {
 		return audioFormat;
 	}
 
-	public void execute() {
-		try {
-			if(saved==null) {
-				decoder.decodeFrame(adts.readNextFrame(), sampleBuffer);
-				buffer.write(sampleBuffer.getData());
-			}
-			else {
-				buffer.write(saved);
-				saved = null;
-			}
-		}
-		catch(IOException e) {
-			buffer.close();
-			return;
+	@Override
+	byte[] nextFrame() throws IOException {
+		if(saved!=null) {
+			final byte[] b = saved;
+			saved = null;
+			return b;
 		}
+		decoder.decodeFrame(adts.readNextFrame(), sampleBuffer);
+		return sampleBuffer.getData();
 	}
 }
@@ -1,58 +1,188 @@
 package net.sourceforge.jaad.spi.javasound;
 
-import net.sourceforge.jaad.spi.javasound.CircularBuffer.Trigger;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 
-abstract class AsynchronousAudioInputStream extends AudioInputStream implements Trigger {
+/**
+ * Base class for the decoding streams. By default, a background thread (a
+ * virtual thread if the JVM supports them) decodes ahead into a
+ * <code>RingBuffer</code>, so reading never waits for a slow frame as long as
+ * the decoder is faster than realtime. Reading takes no locks: the reading
+ * thread only waits in the ring buffer for the data of the decoding thread.
+ *
+ * The behaviour can be configured with system properties, that are read when
+ * a stream is created:
+ * <ul>
+ * <li><code>net.sourceforge.jaad.spi.javasound.async</code>: false to decode
+ * on the reading thread when the buffer runs empty (default: true)</li>
+ * <li><code>net.sourceforge.jaad.spi.javasound.bufferSize</code>: the size of
+ * the PCM buffer in bytes, rounded up to a power of two (default: 256 KiB)</li>
+ * <li><code>net.sourceforge.jaad.spi.javasound.watermark</code>: the number
+ * of buffered bytes at which the decoder continues after the buffer was full
+ * (default: half the buffer size)</li>
+ * </ul>
+ */
+abstract class AsynchronousAudioInputStream extends AudioInputStream {
 
+	static final String ASYNC_PROPERTY = "net.sourceforge.jaad.spi.javasound.async";
+	static final String BUFFER_SIZE_PROPERTY = "net.sourceforge.jaad.spi.javasound.bufferSize";
+	static final String WATERMARK_PROPERTY = "net.sourceforge.jaad.spi.javasound.watermark";
+	private static final int DEFAULT_BUFFER_SIZE = 1<<18;
+	//must hold at least one frame: 2048 samples, 8 channels, 16 bit
+	private static final int MIN_BUFFER_SIZE = 1<<15;
+	private final InputStream input;
+	private final RingBuffer buffer;
+	private final boolean async;
+	private final AtomicBoolean started;
+	private volatile Thread producer;
+	private volatile IOException error;
 	private byte[] singleByte;
-	protected final CircularBuffer buffer;
 
 	AsynchronousAudioInputStream(InputStream in, AudioFormat format, long length) throws IOException {
 		super(in, format, length);
-		buffer = new CircularBuffer(this);
+		input = in;
+		async = !"false".equalsIgnoreCase(System.getProperty(ASYNC_PROPERTY));
+		final int size = Math.max(Integer.getInteger(BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE), MIN_BUFFER_SIZE);
+		buffer = new RingBuffer(size, Integer.getInteger(WATERMARK_PROPERTY, size/2));
+		started = new AtomicBoolean();
+	}
+
+	/**
+	 * Decodes the next frame. In asynchronous mode this is called by the
+	 * decoding thread, after <code>getFormat()</code> was called once.
+	 *
+	 * @return the PCM data of the frame or null at the end of the stream
+	 * @throws IOException if reading or decoding fails
+	 */
+	abstract byte[] nextFrame() throws IOException;
+
+	//decodes a frame into the buffer; returns false at the end
+	private boolean decodeFrame() {
+		try {
+			final byte[] b = nextFrame();
+			if(b!=null) {
+				buffer.write(b, 0, b.length);
+				return true;
+			}
+		}
+		catch(EOFException e) {
+			//end of stream
+		}
+		catch(IOException e) {
+			if(!buffer.isClosed()) error = e;
+		}
+		catch(RuntimeException e) {
+			if(!buffer.isClosed()) error = new IOException(e);
+		}
+		buffer.finish();
+		return false;
+	}
+
+	//starts the decoding thread with the first read, or decodes on the
+	//reading thread if the buffer is empty
+	private void fill() throws IOException {
+		if(async) {
+			if(!started.get()&&started.compareAndSet(false, true)&&!buffer.isClosed()) {
+				//the format is determined from the first frame: decode it here,
+				//so that the decoder is only used by the producer afterwards
+				getFormat();
+				final Thread t = createThread(new Runnable() {
+					public void run() {
+						while(!buffer.isClosed()&&decodeFrame()) {
+						}
+					}
+				});
+				producer = t;
+				t.start();
+			}
+		}
+		else {
+			while(buffer.available()==0&&!buffer.isFinished()&&!buffer.isClosed()) {
+				decodeFrame();
+			}
+		}
+	}
+
+	//virtual thread on Java 21+, daemon platform thread otherwise
+	private static Thread createThread(Runnable r) {
+		try {
+			final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			final Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+			final Thread t = (Thread) unstarted.invoke(builder, r);
+			t.setName("jaad-decoder");
+			return t;
+		}
+		catch(Exception e) {
+			final Thread t = new Thread(r, "jaad-decoder");
+			t.setDaemon(true);
+			return t;
+		}
 	}
 
 	@Override
 	public int read() throws IOException {
-		int i = -1;
 		if(singleByte==null) singleByte = new byte[1];
-		if(buffer.read(singleByte, 0, 1)==-1) i = -1;
-		else i = singleByte[0]&0xFF;
-		return i;
+		return (read(singleByte, 0, 1)==-1) ? -1 : singleByte[0]&0xFF;
 	}
 
 	@Override
 	public int read(byte[] b) throws IOException {
-		return buffer.read(b, 0, b.length);
+		return read(b, 0, b.length);
 	}
 
 	@Override
 	public int read(byte[] b, int off, int len) throws IOException {
-		return buffer.read(b, off, len);
+		if(len==0) return 0;
+		fill();
+		final int i = buffer.read(b, off, len);
+		//report errors after the data decoded before
+		if(i==-1&&error!=null) {
+			final IOException e = error;
+			error = null;
+			throw e;
+		}
+		return i;
 	}
 
 	@Override
 	public long skip(long len) throws IOException {
-		int l = (int) len;
-		final byte[] b = new byte[l];
-		while(l>0) {
-			l -= buffer.read(b, 0, l);
+		final byte[] b = new byte[(int) Math.min(len, 4096)];
+		long skipped = 0;
+		int i;
+		while(skipped<len&&(i = read(b, 0, (int) Math.min(len-skipped, b.length)))!=-1) {
+			skipped += i;
 		}
-		return len;
+		return skipped;
 	}
 
 	@Override
 	public int available() throws IOException {
-		return buffer.availableRead();
+		return buffer.available();
 	}
 
+	/**
+	 * Stops the decoding thread and closes the underlying stream.
+	 */
 	@Override
 	public void close() throws IOException {
 		buffer.close();
+		//closing the input unblocks a producer waiting for data; a producer
+		//started concurrently stops at the closed buffer
+		input.close();
+		final Thread t = producer;
+		if(t!=null&&t!=Thread.currentThread()) {
+			try {
+				t.join();
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
 	}
 
 	@Override
@@ -38,40 +38,33 @@ class MP4AudioInputStream extends AsynchronousAudioInputStream {
 	public AudioFormat getFormat() {
 		if(audioFormat==null) {
 			//read first frame
-			decodeFrame();
+			try {
+				saved = decodeFrame();
+			}
+			catch(IOException e) {
+				return null;
+			}
+			if(saved==null) return null;
 			audioFormat = new AudioFormat(sampleBuffer.getSampleRate(), sampleBuffer.getBitsPerSample(), sampleBuffer.getChannels(), true, true);
-			saved = sampleBuffer.getData();
 		}
 		return audioFormat;
 	}
 
-	public void execute() {
-		if(saved==null) {
-			decodeFrame();
-			if(buffer.isOpen()) buffer.write(sampleBuffer.getData());
-		}
-		else {
-			buffer.write(saved);
+	@Override
+	byte[] nextFrame() throws IOException {
+		if(saved!=null) {
+			final byte[] b = saved;
 			saved = null;
+			return b;
 		}
+		return decodeFrame();
 	}
 
-	private void decodeFrame() {
-		if(!track.hasMoreFrames()) {
-			buffer.close();
-			return;
-		}
-		try {
-			final Frame frame = track.readNextFrame();
-			if(frame==null) {
-				buffer.close();
-				return;
-			}
-			decoder.decodeFrame(frame.getData(), sampleBuffer);
-		}
-		catch(IOException e) {
-			buffer.close();
-			return;
-		}
+	private byte[] decodeFrame() throws IOException {
+		if(!track.hasMoreFrames()) return null;
+		final Frame frame = track.readNextFrame();
+		if(frame==null) return null;
+		decoder.decodeFrame(frame.getData(), sampleBuffer);
+		return sampleBuffer.getData();
 	}
 }
@@ -0,0 +1,155 @@
+package net.sourceforge.jaad.spi.javasound;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free ring buffer for PCM data with a single producer (the decoding
+ * thread) and a single consumer (the reading thread). Each position is only
+ * written by one side and published through a volatile field; a side that
+ * has to wait parks until the other one made progress.
+ *
+ * A full buffer lets the producer sleep until the consumer has drained it to
+ * the watermark, so the decoder runs in bursts instead of waking up for each
+ * read.
+ */
+final class RingBuffer {
+
+	private final byte[] data;
+	private final int mask, watermark;
+	private volatile long readPos, writePos;
+	//finished: no more data will be written; closed: the consumer gave up
+	private volatile boolean finished, closed;
+	private volatile Thread waitingReader, waitingWriter;
+
+	/**
+	 * @param size the minimum capacity in bytes, rounded up to a power of two
+	 * @param watermark the fill level at which a waiting producer continues
+	 */
+	RingBuffer(int size, int watermark) {
+		final int capacity = Integer.highestOneBit(Math.max(size-1, 1))<<1;
+		data = new byte[capacity];
+		mask = capacity-1;
+		this.watermark = Math.max(0, Math.min(watermark, capacity-1));
+		readPos = 0;
+		writePos = 0;
+	}
+
+	int capacity() {
+		return data.length;
+	}
+
+	int available() {
+		return (int) (writePos-readPos);
+	}
+
+	/**
+	 * Signals the end of the data; the consumer can still read the remaining
+	 * bytes.
+	 */
+	void finish() {
+		finished = true;
+		LockSupport.unpark(waitingReader);
+	}
+
+	boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * Closes the buffer from the consumer side: waiting threads wake up and
+	 * further data is discarded.
+	 */
+	void close() {
+		closed = true;
+		LockSupport.unpark(waitingReader);
+		LockSupport.unpark(waitingWriter);
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Writes all bytes, waiting for free space if necessary. Returns early if
+	 * the buffer was closed.
+	 */
+	void write(byte[] b, int off, int len) throws InterruptedIOException {
+		while(len>0&&!closed) {
+			final long w = writePos;
+			final int free = data.length-(int) (w-readPos);
+			if(free==0) {
+				awaitSpace();
+				continue;
+			}
+			final int n = Math.min(free, len);
+			final int pos = (int) (w&mask);
+			final int first = Math.min(n, data.length-pos);
+			System.arraycopy(b, off, data, pos, first);
+			System.arraycopy(b, off+first, data, 0, n-first);
+			writePos = w+n;
+			off += n;
+			len -= n;
+			LockSupport.unpark(waitingReader);
+		}
+	}
+
+	/**
+	 * Reads up to <code>len</code> bytes, waiting until at least one byte is
+	 * available.
+	 *
+	 * @return the number of bytes read or -1 at the end of the data
+	 */
+	int read(byte[] b, int off, int len) throws InterruptedIOException {
+		if(len==0) return 0;
+		final long r = readPos;
+		int available;
+		while((available = (int) (writePos-r))==0) {
+			if(closed||(finished&&writePos==r)) return -1;
+			awaitData();
+		}
+		final int n = Math.min(available, len);
+		final int pos = (int) (r&mask);
+		final int first = Math.min(n, data.length-pos);
+		System.arraycopy(data, pos, b, off, first);
+		System.arraycopy(data, 0, b, off+first, n-first);
+		readPos = r+n;
+		if(available-n<=watermark) LockSupport.unpark(waitingWriter);
+		return n;
+	}
+
+	//the waiting side publishes itself before checking again, so a wakeup
+	//can't get lost between the check and park()
+	private void awaitData() throws InterruptedIOException {
+		waitingReader = Thread.currentThread();
+		try {
+			while(writePos==readPos&&!finished&&!closed) {
+				LockSupport.park(this);
+				checkInterrupt();
+			}
+		}
+		finally {
+			waitingReader = null;
+		}
+	}
+
+	private void awaitSpace() throws InterruptedIOException {
+		waitingWriter = Thread.currentThread();
+		try {
+			while(writePos-readPos>watermark&&!closed) {
+				LockSupport.park(this);
+				checkInterrupt();
+			}
+		}
+		finally {
+			waitingWriter = null;
+		}
+	}
+
+	private static void checkInterrupt() throws InterruptedIOException {
+		if(Thread.interrupted()) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+}
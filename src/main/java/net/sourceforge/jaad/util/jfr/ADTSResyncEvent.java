@@ -0,0 +1,28 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Data skipped by the ADTS demultiplexer or parser while searching for the
+ * next frame header.
+ */
+@Name("net.sourceforge.jaad.ADTSResync")
+@Label("ADTS Resync")
+@Category({"JAAD", "ADTS"})
+@Description("Bytes skipped to find the next ADTS frame")
+@Enabled(false)
+public final class ADTSResyncEvent extends Event {
+
+	@Label("Skipped Bytes")
+	@DataAmount(DataAmount.BYTES)
+	public long skippedBytes;
+	@Label("Found")
+	@Description("A frame header was found after the skipped bytes")
+	public boolean found;
+}
@@ -0,0 +1,36 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The parsing of a large MP4 box, including its children. Only boxes of at
+ * least <code>MIN_SIZE</code> bytes are recorded.
+ */
+@Name("net.sourceforge.jaad.BoxParse")
+@Label("MP4 Box Parse")
+@Category({"JAAD", "MP4"})
+@Description("Parsing of a large MP4 box")
+@Enabled(false)
+public final class BoxParseEvent extends Event {
+
+	/**
+	 * The minimum size of the recorded boxes in bytes.
+	 */
+	public static final long MIN_SIZE = 64*1024;
+	@Label("Type")
+	public String type;
+	@Label("Offset")
+	public long offset;
+	@Label("Size")
+	@DataAmount(DataAmount.BYTES)
+	public long size;
+	@Label("Deferred")
+	@Description("The children are parsed when first accessed")
+	public boolean deferred;
+}
@@ -0,0 +1,32 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The parsing of the top-level boxes when an <code>MP4Container</code> is
+ * created.
+ */
+@Name("net.sourceforge.jaad.ContainerParse")
+@Label("MP4 Container Parse")
+@Category({"JAAD", "MP4"})
+@Description("Parsing of the boxes of an MP4 container")
+@Enabled(false)
+public final class ContainerParseEvent extends Event {
+
+	@Label("Random Access")
+	public boolean randomAccess;
+	@Label("Lazy")
+	@Description("Container boxes are parsed when first accessed")
+	public boolean lazy;
+	@Label("Top-Level Boxes")
+	public int boxes;
+	@Label("Bytes Read")
+	@DataAmount(DataAmount.BYTES)
+	public long bytesRead;
+}
@@ -0,0 +1,60 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+/**
+ * Updates the flags of <code>Events</code> whenever a recording changes its
+ * state. Only loaded if the <code>jdk.jfr</code> API is available.
+ *
+ * Reading the event settings initializes the metadata of Flight Recorder,
+ * which takes some hundred milliseconds. Therefore they are only read after
+ * the recorder was initialized, which happens for the first recording; until
+ * then only the listener is registered.
+ */
+final class EventSettings implements FlightRecorderListener {
+
+	private EventSettings() {
+	}
+
+	static void install() {
+		try {
+			//calls recorderInitialized if a recording was started before
+			FlightRecorder.addListener(new EventSettings());
+		}
+		catch(SecurityException e) {
+			//the events stay disabled
+		}
+		catch(LinkageError e) {
+			//the jdk.jfr module is not resolved
+		}
+	}
+
+	@Override
+	public void recorderInitialized(FlightRecorder recorder) {
+		update();
+	}
+
+	@Override
+	public void recordingStateChanged(Recording recording) {
+		if(FlightRecorder.isInitialized()) update();
+	}
+
+	private void update() {
+		int events = 0;
+		if(isEnabled(FrameDecodeEvent.class)) events |= Events.FRAME_DECODE;
+		if(isEnabled(FrameReadEvent.class)) events |= Events.FRAME_READ;
+		if(isEnabled(BoxParseEvent.class)) events |= Events.BOX_PARSE;
+		if(isEnabled(ContainerParseEvent.class)) events |= Events.CONTAINER_PARSE;
+		if(isEnabled(ADTSResyncEvent.class)) events |= Events.ADTS_RESYNC;
+		Events.setEnabled(events);
+	}
+
+	//true if at least one running recording enables the event
+	private static boolean isEnabled(Class<? extends Event> event) {
+		return EventType.getEventType(event).isEnabled();
+	}
+}
@@ -0,0 +1,58 @@
+package net.sourceforge.jaad.util.jfr;
+
+/**
+ * Tells which Flight Recorder events of this package are enabled. The
+ * events are only created while a running recording enables them, so the
+ * instrumented code does not allocate anything otherwise, and the library
+ * still runs on Java 8 versions without the <code>jdk.jfr</code> API.
+ *
+ * The flags are updated whenever a recording changes its state. Settings
+ * that are changed while a recording is running take effect when the next
+ * recording starts or stops.
+ */
+public final class Events {
+
+	/**
+	 * True if the <code>jdk.jfr</code> API is available.
+	 */
+	public static final boolean AVAILABLE = isAvailable();
+	public static final int FRAME_DECODE = 1;
+	public static final int FRAME_READ = 2;
+	public static final int BOX_PARSE = 4;
+	public static final int CONTAINER_PARSE = 8;
+	public static final int ADTS_RESYNC = 16;
+	private static volatile int enabled;
+
+	static {
+		if(AVAILABLE) EventSettings.install();
+	}
+
+	private Events() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		}
+		catch(ClassNotFoundException e) {
+			return false;
+		}
+		catch(LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns true if a running recording enables the given event.
+	 * @param event one of the event constants of this class
+	 * @return true if the event should be created
+	 */
+	public static boolean isEnabled(int event) {
+		return (enabled&event)!=0;
+	}
+
+	static void setEnabled(int events) {
+		enabled = events;
+	}
+}
@@ -0,0 +1,32 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The decoding of an AAC frame by the <code>Decoder</code>.
+ */
+@Name("net.sourceforge.jaad.FrameDecode")
+@Label("AAC Frame Decode")
+@Category({"JAAD", "Decoder"})
+@Description("Decoding of one AAC frame")
+@Enabled(false)
+public final class FrameDecodeEvent extends Event {
+
+	@Label("Profile")
+	public String profile;
+	@Label("Channels")
+	public int channels;
+	@Label("SBR")
+	public boolean sbr;
+	@Label("PS")
+	public boolean ps;
+	@Label("Bits Read")
+	@DataAmount(DataAmount.BITS)
+	public int bitsRead;
+}
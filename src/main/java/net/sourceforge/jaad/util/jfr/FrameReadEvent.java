@@ -0,0 +1,29 @@
+package net.sourceforge.jaad.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The reading of a frame by a <code>Track</code>.
+ */
+@Name("net.sourceforge.jaad.FrameRead")
+@Label("MP4 Frame Read")
+@Category({"JAAD", "MP4"})
+@Description("Reading of the data of one frame from an MP4 track")
+@Enabled(false)
+public final class FrameReadEvent extends Event {
+
+	@Label("Offset")
+	public long offset;
+	@Label("Size")
+	@DataAmount(DataAmount.BYTES)
+	public int size;
+	@Label("Seek Distance")
+	@Description("Distance from the previous position of the input to the frame, negative for backward seeks")
+	public long seekDistance;
+}
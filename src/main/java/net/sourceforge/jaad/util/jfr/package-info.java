@@ -0,0 +1,7 @@
+/**
+ * Java Flight Recorder events of the decoder and the demultiplexers. All
+ * events are disabled by default and can be enabled in the settings of a
+ * recording, e.g. with <code>Recording.enable("net.sourceforge.jaad.FrameDecode")</code>.
+ * See the {@link net.sourceforge.jaad.util.jfr.Events} class for details.
+ */
+package net.sourceforge.jaad.util.jfr;
@@ -24,6 +24,7 @@ public class WaveFileWriter {
 		bytesWritten = 0;
 
 		out = new RandomAccessFile(output, "rw");
+		out.setLength(0); //an existing file may be longer
 		out.write(new byte[HEADER_LENGTH]); //space for the header
 	}
 
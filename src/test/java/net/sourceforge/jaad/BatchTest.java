@@ -0,0 +1,160 @@
+package net.sourceforge.jaad;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.jaad.aac.Decoder;
+import net.sourceforge.jaad.aac.SampleBuffer;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Decodes generated ADTS files with <code>Batch</code> and compares the
+ * WAVE files with the output of a single decoder.
+ */
+public class BatchTest {
+
+	private static final int FRAMES = 100;
+	private static final int FILES = 6;
+	private static final int HEADER_LENGTH = 44;
+	//ADTS header: AAC-LC, 44100 Hz, stereo, as generated for FrameWriter.Type.LC
+	private static final int PROFILE_LC = 1, SAMPLE_FREQUENCY_44100 = 4, CHANNELS = 2;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testExistingOutputIsTruncated() throws Exception {
+		final File in = folder.newFile("in.aac");
+		final byte[] pcm = writeADTS(in, 1);
+		//a longer file from an earlier run
+		final File out = folder.newFile("in.aac.wav");
+		final FileOutputStream fos = new FileOutputStream(out);
+		try {
+			fos.write(new byte[2*pcm.length]);
+		}
+		finally {
+			fos.close();
+		}
+
+		final Batch.Result result = Batch.decodeFile(in, out);
+		assertNull(result.getError());
+		assertEquals(pcm.length, result.getBytes());
+		assertWave(out, pcm);
+	}
+
+	@Test
+	public void testDecodersAreReused() throws Exception {
+		final List<File> inputs = new ArrayList<File>();
+		final List<byte[]> expected = new ArrayList<byte[]>();
+		for(int i = 0; i<FILES; i++) {
+			final File f = folder.newFile(i+".aac");
+			expected.add(writeADTS(f, i));
+			inputs.add(f);
+		}
+
+		final File outputDir = folder.newFolder("out");
+		final Batch.Statistics stats = new Batch(2, outputDir).decode(inputs.iterator());
+		assertEquals(FILES, stats.getDecodedCount());
+		assertEquals(0, stats.getFailedCount());
+		//a reused decoder starts like a new one
+		for(int i = 0; i<FILES; i++) {
+			assertWave(new File(outputDir, i+".aac.wav"), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testDirectoriesContainOnlyAACFiles() throws Exception {
+		final File dir = folder.newFolder("in");
+		final File sub = new File(dir, "sub");
+		sub.mkdir();
+		final File[] expected = {new File(dir, "a.aac"), new File(dir, "b.M4A"), new File(sub, "c.mp4")};
+		for(File f : expected) {
+			f.createNewFile();
+		}
+		//outputs of an earlier run and other files next to the music
+		new File(dir, "a.aac.wav").createNewFile();
+		new File(dir, "cover.jpg").createNewFile();
+		new File(sub, "notes.txt").createNewFile();
+		final File named = folder.newFile("named.wav");
+
+		final List<File> files = new ArrayList<File>();
+		final Batch.InputFiles it = new Batch.InputFiles(Arrays.asList(dir.getPath(), named.getPath()));
+		while(it.hasNext()) {
+			files.add(it.next());
+		}
+		//files named explicitly are always decoded
+		final List<File> all = new ArrayList<File>(Arrays.asList(expected));
+		all.add(named);
+		assertEquals(all, files);
+	}
+
+	//writes generated frames with ADTS headers and returns the PCM data of a new decoder
+	private static byte[] writeADTS(File f, long seed) throws IOException {
+		final FrameWriter writer = new FrameWriter(FrameWriter.Type.LC, seed);
+		final Decoder dec = new Decoder(writer.getDecoderSpecificInfo());
+		final SampleBuffer buf = new SampleBuffer();
+		final ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+		final FileOutputStream out = new FileOutputStream(f);
+		try {
+			byte[] frame;
+			for(int i = 0; i<FRAMES; i++) {
+				frame = writer.nextFrame();
+				out.write(createHeader(frame.length));
+				out.write(frame);
+				dec.decodeFrame(frame, buf);
+				pcm.write(buf.getData());
+			}
+		}
+		finally {
+			out.close();
+		}
+		return pcm.toByteArray();
+	}
+
+	private static byte[] createHeader(int frameLength) {
+		final int len = frameLength+7;
+		final byte[] b = new byte[7];
+		b[0] = (byte) 0xFF;
+		b[1] = (byte) 0xF1; //MPEG-4, layer 0, no CRC
+		b[2] = (byte) ((PROFILE_LC<<6)|(SAMPLE_FREQUENCY_44100<<2)|(CHANNELS>>2));
+		b[3] = (byte) (((CHANNELS&3)<<6)|(len>>11));
+		b[4] = (byte) (len>>3);
+		b[5] = (byte) (((len&7)<<5)|0x1F); //buffer fullness: variable
+		b[6] = (byte) 0xFC;
+		return b;
+	}
+
+	//checks the length in the header and the samples, which are little endian
+	private static void assertWave(File f, byte[] pcm) throws IOException {
+		final RandomAccessFile in = new RandomAccessFile(f, "r");
+		try {
+			assertEquals(f.getName()+": file length", HEADER_LENGTH+pcm.length, in.length());
+			in.seek(HEADER_LENGTH-4);
+			assertEquals(f.getName()+": data length", pcm.length, Integer.reverseBytes(in.readInt()));
+			final byte[] b = new byte[pcm.length];
+			in.readFully(b);
+			final byte[] expected = Arrays.copyOf(pcm, pcm.length);
+			byte tmp;
+			for(int i = 0; i<expected.length; i += 2) {
+				tmp = expected[i];
+				expected[i] = expected[i+1];
+				expected[i+1] = tmp;
+			}
+			assertArrayEquals(f.getName(), expected, b);
+		}
+		finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package net.sourceforge.jaad;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.Decoder;
+import net.sourceforge.jaad.aac.SampleBuffer;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Compares the output of the <code>SegmentedDecoder</code> with a
+ * sequential decode. Short segments are used, so that each stream is split
+ * many times.
+ */
+public class SegmentedDecoderTest {
+
+	private static final int FRAMES = 300;
+	private static final int SEGMENT_LENGTH = 20;
+	private static final int THREADS = 3;
+	//the noise of PNS and SBR is not reproduced, see SegmentedDecoder
+	private static final double MAX_FRAME_ENERGY_DB = 3;
+	private static final double MIN_SNR_DB = 12;
+
+	@Test
+	public void testLCIsBitExact() throws Exception {
+		final List<byte[]> frames = createFrames(FrameWriter.Type.LC);
+		final List<byte[]> expected = decodeSequential(frames);
+		final List<byte[]> actual = decodeSegmented(frames, 1);
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i<expected.size(); i++) {
+			assertArrayEquals("frame "+i, expected.get(i), actual.get(i));
+		}
+	}
+
+	@Test
+	public void testLCWithPNS() throws Exception {
+		assertWithinTolerance(FrameWriter.Type.LC_MONO, 1);
+	}
+
+	@Test
+	public void testHEAAC() throws Exception {
+		assertWithinTolerance(FrameWriter.Type.HE_AAC, SegmentedDecoder.DEFAULT_PRE_ROLL);
+	}
+
+	@Test
+	public void testHEAACv2() throws Exception {
+		assertWithinTolerance(FrameWriter.Type.HE_AAC_V2, SegmentedDecoder.DEFAULT_PRE_ROLL);
+	}
+
+	private static void assertWithinTolerance(FrameWriter.Type type, int preRoll) throws Exception {
+		final List<byte[]> frames = createFrames(type);
+		final List<byte[]> expected = decodeSequential(frames);
+		final List<byte[]> actual = decodeSegmented(frames, preRoll);
+		assertEquals(expected.size(), actual.size());
+
+		double signal = 0, error = 0;
+		for(int i = 0; i<expected.size(); i++) {
+			final short[] a = toShorts(expected.get(i));
+			final short[] b = toShorts(actual.get(i));
+			assertEquals("length of frame "+i, a.length, b.length);
+
+			double ea = 1, eb = 1, d;
+			for(int j = 0; j<a.length; j++) {
+				ea += a[j]*a[j];
+				eb += b[j]*b[j];
+				d = a[j]-b[j];
+				error += d*d;
+			}
+			signal += ea;
+			final double db = Math.abs(10*Math.log10(ea/eb));
+			assertTrue(type+": energy of frame "+i+" differs by "+db+" dB", db<=MAX_FRAME_ENERGY_DB);
+		}
+		final double snr = 10*Math.log10(signal/error);
+		assertTrue(type+": SNR "+snr+" dB", snr>=MIN_SNR_DB);
+	}
+
+	private static List<byte[]> createFrames(FrameWriter.Type type) {
+		final FrameWriter writer = new FrameWriter(type, 11);
+		final List<byte[]> frames = new ArrayList<byte[]>(FRAMES+1);
+		frames.add(writer.getDecoderSpecificInfo());
+		for(int i = 0; i<FRAMES; i++) {
+			frames.add(writer.nextFrame().clone());
+		}
+		return frames;
+	}
+
+	//the first element is the decoder specific info
+	private static List<byte[]> decodeSequential(List<byte[]> frames) throws AACException {
+		final Decoder dec = new Decoder(frames.get(0));
+		final SampleBuffer buf = new SampleBuffer();
+		final List<byte[]> pcm = new ArrayList<byte[]>(frames.size());
+		for(byte[] frame : frames.subList(1, frames.size())) {
+			dec.decodeFrame(frame, buf);
+			pcm.add(Arrays.copyOf(buf.getData(), buf.getData().length));
+		}
+		return pcm;
+	}
+
+	private static List<byte[]> decodeSegmented(List<byte[]> frames, int preRoll) throws Exception {
+		final SegmentedDecoder dec = new SegmentedDecoder(THREADS);
+		dec.setSegmentLength(SEGMENT_LENGTH);
+		dec.setPreRoll(preRoll);
+		final List<byte[]> pcm = new ArrayList<byte[]>(frames.size());
+		dec.decode(frames.get(0), frames.subList(1, frames.size()).iterator(), new SegmentedDecoder.Output() {
+			@Override
+			public void write(SampleBuffer buffer) {
+				pcm.add(buffer.getData());
+			}
+		});
+		return pcm;
+	}
+
+	private static short[] toShorts(byte[] b) {
+		final short[] s = new short[b.length/2];
+		for(int i = 0; i<s.length; i++) {
+			s[i] = (short) ((b[2*i]<<8)|(b[2*i+1]&0xFF));
+		}
+		return s;
+	}
+}
@@ -0,0 +1,73 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Checks that decoding allocates nothing once the decoder is warmed up,
+ * measured with the per-thread allocation counter of HotSpot.
+ *
+ * The JIT compiler allocates on the decoding thread when it deoptimizes
+ * code and has to materialize scalar-replaced objects. Therefore a single
+ * pass over the stream without any allocation is required, instead of all
+ * passes; an allocation in the decoder would show up in every pass.
+ */
+public class AllocationTest {
+
+	private static final int FRAMES = 200;
+	private static final int WARM_UP_RUNS = 20;
+	private static final int MAX_RUNS = 10;
+
+	@Test
+	public void testLC() throws AACException {
+		assertNoAllocation(FrameWriter.Type.LC);
+	}
+
+	@Test
+	public void testHEAAC() throws AACException {
+		assertNoAllocation(FrameWriter.Type.HE_AAC);
+	}
+
+	@Test
+	public void testHEAACv2() throws AACException {
+		assertNoAllocation(FrameWriter.Type.HE_AAC_V2);
+	}
+
+	private static void assertNoAllocation(FrameWriter.Type type) throws AACException {
+		final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) bean;
+		assumeTrue(mx.isThreadAllocatedMemorySupported()&&mx.isThreadAllocatedMemoryEnabled());
+
+		final FrameWriter writer = new FrameWriter(type, 7);
+		final byte[][] frames = new byte[FRAMES][];
+		for(int i = 0; i<FRAMES; i++) {
+			frames[i] = writer.nextFrame().clone();
+		}
+		final Decoder dec = new Decoder(writer.getDecoderSpecificInfo());
+		final float[][] out = new float[2][2048];
+
+		for(int r = 0; r<WARM_UP_RUNS; r++) {
+			decode(dec, frames, out);
+		}
+
+		final long id = Thread.currentThread().getId();
+		long allocated = Long.MAX_VALUE, before;
+		for(int r = 0; r<MAX_RUNS&&allocated>0; r++) {
+			before = mx.getThreadAllocatedBytes(id);
+			decode(dec, frames, out);
+			allocated = Math.min(allocated, mx.getThreadAllocatedBytes(id)-before);
+		}
+		assertEquals(type+": bytes allocated for "+FRAMES+" frames", 0, allocated);
+	}
+
+	private static void decode(Decoder dec, byte[][] frames, float[][] out) throws AACException {
+		for(int i = 0; i<frames.length; i++) {
+			dec.decodeFrame(frames[i], 0, frames[i].length, out);
+		}
+	}
+}
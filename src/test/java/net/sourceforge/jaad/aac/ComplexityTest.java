@@ -0,0 +1,103 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Checks that switching the complexity tier during a stream, as the
+ * <code>ComplexityController</code> does, keeps the sample rate and frame
+ * length of the output and doesn't restart the synthesis at the switches.
+ */
+public class ComplexityTest {
+
+	private static final int FRAMES = 240;
+	private static final int FRAMES_PER_TIER = 20;
+	private static final double LOWPASS = 0.1;
+	private static final double MIN_LOW_BAND_SNR = 15;
+	private static final Complexity[] TIERS = {Complexity.FULL, Complexity.NO_PS, Complexity.CORE, Complexity.NO_PS, Complexity.FULL, Complexity.CORE};
+
+	@Test
+	public void testHEAAC() throws Exception {
+		assertContinuous(FrameWriter.Type.HE_AAC, true);
+	}
+
+	@Test
+	public void testHEAACv2() throws Exception {
+		//PS changes the stereo image, so only the format is compared
+		assertContinuous(FrameWriter.Type.HE_AAC_V2, false);
+	}
+
+	@Test
+	public void testDefaultTiersKeepFullRate() {
+		final ComplexityController controller = new ComplexityController(0.5f);
+		for(int i = 0; i<1000; i++) {
+			assertTrue(controller.getComplexity().isFullRate());
+			//always over budget: steps down to the last tier
+			controller.update(1000, 1000);
+		}
+		assertEquals(Complexity.CORE, controller.getComplexity());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMixedRatesRejected() {
+		new ComplexityController(0.5f, Complexity.FULL, Complexity.DOWNSAMPLED_SBR);
+	}
+
+	private static void assertContinuous(FrameWriter.Type type, boolean compareLowBand) throws AACException {
+		final FrameWriter writer = new FrameWriter(type, 5);
+		final byte[] dsi = writer.getDecoderSpecificInfo();
+
+		final Decoder full = new Decoder(dsi);
+		final Decoder switched = new Decoder(dsi);
+		final SampleBuffer expected = new SampleBuffer();
+		final SampleBuffer buf = new SampleBuffer();
+		byte[] frame;
+		for(int i = 0; i<FRAMES; i++) {
+			frame = writer.nextFrame();
+			switched.setComplexity(TIERS[(i/FRAMES_PER_TIER)%TIERS.length]);
+			full.decodeFrame(frame, expected);
+			switched.decodeFrame(frame, buf);
+
+			assertEquals(type+", frame "+i+": sample rate", expected.getSampleRate(), buf.getSampleRate());
+			assertEquals(type+", frame "+i+": channels", expected.getChannels(), buf.getChannels());
+			assertEquals(type+", frame "+i+": length", expected.getData().length, buf.getData().length);
+			if(compareLowBand) {
+				final double snr = lowBandSNR(toShort(expected), toShort(buf), buf.getChannels());
+				assertTrue(type+", frame "+i+": low band SNR "+snr+" dB", snr>=MIN_LOW_BAND_SNR);
+			}
+		}
+	}
+
+	/* The tiers differ only in the high band, so the low band of the output
+	 * follows the full decode. A synthesis filterbank restarting from an
+	 * empty history would distort the low band of the whole frame. */
+	private static double lowBandSNR(short[] expected, short[] actual, int chs) {
+		double signal = 0, noise = 0;
+		double e, a;
+		for(int ch = 0; ch<chs; ch++) {
+			e = 0;
+			a = 0;
+			for(int i = ch; i<expected.length; i += chs) {
+				//one-pole lowpass
+				e += LOWPASS*(expected[i]-e);
+				a += LOWPASS*(actual[i]-a);
+				signal += e*e;
+				noise += (e-a)*(e-a);
+			}
+		}
+		return (noise==0) ? Double.POSITIVE_INFINITY : 10*Math.log10(signal/noise);
+	}
+
+	private static short[] toShort(SampleBuffer buf) {
+		final byte[] b = buf.getData();
+		final short[] s = new short[b.length/2];
+		for(int i = 0; i<s.length; i++) {
+			if(buf.isBigEndian()) s[i] = (short) ((b[2*i]<<8)|(b[2*i+1]&0xFF));
+			else s[i] = (short) ((b[2*i+1]<<8)|(b[2*i]&0xFF));
+		}
+		return s;
+	}
+}
@@ -0,0 +1,127 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Checks that decoders running in parallel don't influence each other: the
+ * decoder classes have no mutable static fields, and streams with PNS,
+ * whose noise generator was once shared by all decoders, are decoded
+ * bit-identical on many threads at once.
+ */
+public class ConcurrentDecodingTest {
+
+	private static final int THREADS = 8;
+	private static final int RUNS_PER_THREAD = 4;
+	private static final int FRAMES = 200;
+
+	@Test
+	public void testNoMutableStaticFields() throws Exception {
+		final File root = new File(Decoder.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		final List<String> found = new ArrayList<String>();
+		int classes = 0;
+		Field[] fields;
+		for(String name : listClasses(new File(root, "net/sourceforge/jaad/aac"), "net.sourceforge.jaad.aac")) {
+			try {
+				fields = Class.forName(name, false, getClass().getClassLoader()).getDeclaredFields();
+			}
+			catch(LinkageError e) {
+				//optional classes, e.g. the vector kernels without jdk.incubator.vector
+				continue;
+			}
+			classes++;
+			for(Field f : fields) {
+				final int mod = f.getModifiers();
+				if(Modifier.isStatic(mod)&&!Modifier.isFinal(mod)&&!f.isSynthetic()) found.add(name+"."+f.getName());
+			}
+		}
+		assertTrue("no classes found in "+root, classes>0);
+		if(!found.isEmpty()) fail("mutable static fields: "+found);
+	}
+
+	@Test
+	public void testLCWithPNS() throws Exception {
+		assertParallelOutputEqual(FrameWriter.Type.LC_MONO);
+	}
+
+	@Test
+	public void testHEAACv2() throws Exception {
+		assertParallelOutputEqual(FrameWriter.Type.HE_AAC_V2);
+	}
+
+	private static void assertParallelOutputEqual(FrameWriter.Type type) throws Exception {
+		final FrameWriter writer = new FrameWriter(type, 3);
+		final byte[] dsi = writer.getDecoderSpecificInfo();
+		final byte[][] frames = new byte[FRAMES][];
+		for(int i = 0; i<FRAMES; i++) {
+			frames[i] = writer.nextFrame().clone();
+		}
+		final byte[] expected = decode(dsi, frames);
+
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			final List<Future<List<byte[]>>> results = new ArrayList<Future<List<byte[]>>>();
+			for(int t = 0; t<THREADS; t++) {
+				results.add(executor.submit(new Callable<List<byte[]>>() {
+					@Override
+					public List<byte[]> call() throws Exception {
+						start.await();
+						final List<byte[]> pcm = new ArrayList<byte[]>();
+						for(int r = 0; r<RUNS_PER_THREAD; r++) {
+							pcm.add(decode(dsi, frames));
+						}
+						return pcm;
+					}
+				}));
+			}
+			start.countDown();
+			for(int t = 0; t<THREADS; t++) {
+				final List<byte[]> pcm = results.get(t).get();
+				for(int r = 0; r<pcm.size(); r++) {
+					assertArrayEquals(type+": thread "+t+", run "+r, expected, pcm.get(r));
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static byte[] decode(byte[] dsi, byte[][] frames) throws AACException {
+		final Decoder dec = new Decoder(dsi);
+		final SampleBuffer buf = new SampleBuffer();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for(int i = 0; i<frames.length; i++) {
+			dec.decodeFrame(frames[i], buf);
+			out.write(buf.getData(), 0, buf.getData().length);
+		}
+		return out.toByteArray();
+	}
+
+	private static List<String> listClasses(File dir, String pkg) {
+		final List<String> names = new ArrayList<String>();
+		final File[] files = dir.listFiles();
+		if(files==null) return names;
+		for(File f : files) {
+			if(f.isDirectory()) names.addAll(listClasses(f, pkg+"."+f.getName()));
+			else if(f.getName().endsWith(".class")) names.add(pkg+"."+f.getName().substring(0, f.getName().length()-6));
+		}
+		return names;
+	}
+}
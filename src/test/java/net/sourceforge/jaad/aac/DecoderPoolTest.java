@@ -0,0 +1,95 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Checks that a decoder reset for another stream, directly or by the
+ * <code>DecoderPool</code>, decodes it exactly like a new decoder. The
+ * previous stream is stopped in the middle, so that its history (overlap,
+ * SBR and PS state, downmix) would be audible in the next one.
+ */
+public class DecoderPoolTest {
+
+	private static final int FRAMES = 60;
+	private static final int PREVIOUS_FRAMES = 37;
+	private static final FrameWriter.Type[] TYPES = FrameWriter.Type.values();
+
+	@Test
+	public void testReset() throws AACException {
+		for(FrameWriter.Type first : TYPES) {
+			for(FrameWriter.Type second : TYPES) {
+				final FrameWriter writer = new FrameWriter(first, 1);
+				final Decoder dec = new Decoder(writer.getDecoderSpecificInfo());
+				decode(dec, writer, PREVIOUS_FRAMES, new SampleBuffer());
+
+				final FrameWriter next = new FrameWriter(second, 2);
+				dec.reset(next.getDecoderSpecificInfo());
+				assertEqualOutput(first+" then "+second, dec, second, 2);
+			}
+		}
+	}
+
+	@Test
+	public void testResetKeepsOutputLayout() throws AACException {
+		final FrameWriter writer = new FrameWriter(FrameWriter.Type.LC_5_1, 1);
+		final Decoder dec = new Decoder(writer.getDecoderSpecificInfo());
+		dec.setOutputLayout(OutputLayout.STEREO);
+		decode(dec, writer, PREVIOUS_FRAMES, new SampleBuffer());
+
+		final FrameWriter next = new FrameWriter(FrameWriter.Type.LC_5_1, 2);
+		dec.reset(next.getDecoderSpecificInfo());
+		final Decoder expected = new Decoder(next.getDecoderSpecificInfo());
+		expected.setOutputLayout(OutputLayout.STEREO);
+		assertEqualOutput("5.1 to stereo", expected, dec, next, new FrameWriter(FrameWriter.Type.LC_5_1, 2));
+	}
+
+	@Test
+	public void testPool() throws AACException {
+		final DecoderPool pool = new DecoderPool(1);
+		for(FrameWriter.Type first : TYPES) {
+			for(FrameWriter.Type second : TYPES) {
+				final FrameWriter writer = new FrameWriter(first, 3);
+				final Decoder dec = pool.acquire(writer.getDecoderSpecificInfo());
+				decode(dec, writer, PREVIOUS_FRAMES, new SampleBuffer());
+				pool.release(dec);
+
+				//the decoder is only reused for the same configuration
+				final FrameWriter next = new FrameWriter(second, 4);
+				final Decoder reused = pool.acquire(next.getDecoderSpecificInfo());
+				if(first==second) assertSame(dec, reused);
+				else assertNotSame(dec, reused);
+				assertEqualOutput(first+" then "+second+" (pool)", reused, second, 4);
+				pool.release(reused);
+			}
+		}
+	}
+
+	private static void assertEqualOutput(String msg, Decoder dec, FrameWriter.Type type, long seed) throws AACException {
+		final FrameWriter writer = new FrameWriter(type, seed);
+		final Decoder expected = new Decoder(writer.getDecoderSpecificInfo());
+		assertEqualOutput(msg, expected, dec, writer, new FrameWriter(type, seed));
+	}
+
+	private static void assertEqualOutput(String msg, Decoder expected, Decoder actual, FrameWriter expectedWriter, FrameWriter actualWriter) throws AACException {
+		final SampleBuffer a = new SampleBuffer(), b = new SampleBuffer();
+		for(int i = 0; i<FRAMES; i++) {
+			expected.decodeFrame(expectedWriter.nextFrame(), a);
+			actual.decodeFrame(actualWriter.nextFrame(), b);
+			assertEquals(msg+", frame "+i+": sample rate", a.getSampleRate(), b.getSampleRate());
+			assertEquals(msg+", frame "+i+": channels", a.getChannels(), b.getChannels());
+			assertArrayEquals(msg+", frame "+i, a.getData(), b.getData());
+		}
+	}
+
+	private static void decode(Decoder dec, FrameWriter writer, int frames, SampleBuffer buf) throws AACException {
+		for(int i = 0; i<frames; i++) {
+			dec.decodeFrame(writer.nextFrame(), buf);
+		}
+	}
+}
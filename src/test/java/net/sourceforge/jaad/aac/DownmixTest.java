@@ -0,0 +1,145 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the mono and stereo output layouts with a mix of the decoded
+ * channels in the time domain. For AAC-LC the decoder mixes the spectra,
+ * which differs from the time domain mix only by rounding; HE-AAC is mixed
+ * after decoding. The concurrent processing of the elements of 5.1 streams
+ * must give the same output as the sequential processing.
+ */
+public class DownmixTest {
+
+	private static final int FRAMES = 100;
+	private static final float SQRT1_2 = 0.70710678f;
+	//relative to the largest sample of the stream
+	private static final double MAX_ERROR = 1e-5;
+	//5.1 order: center, front left and right, surround left and right, LFE
+	private static final float[] LEFT_5_1 = {SQRT1_2, 1, 0, SQRT1_2, 0, 0};
+	private static final float[] RIGHT_5_1 = {SQRT1_2, 0, 1, 0, SQRT1_2, 0};
+	private static final float[] LEFT_STEREO = {1, 0}, RIGHT_STEREO = {0, 1};
+	private ForkJoinPool pool;
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testStereo51() throws AACException {
+		assertMix(FrameWriter.Type.LC_5_1, OutputLayout.STEREO, LEFT_5_1, RIGHT_5_1, null);
+	}
+
+	@Test
+	public void testMono51() throws AACException {
+		assertMix(FrameWriter.Type.LC_5_1, OutputLayout.MONO, LEFT_5_1, RIGHT_5_1, null);
+	}
+
+	@Test
+	public void testStereo51Concurrently() throws AACException {
+		assertMix(FrameWriter.Type.LC_5_1, OutputLayout.STEREO, LEFT_5_1, RIGHT_5_1, pool);
+	}
+
+	@Test
+	public void testMonoLC() throws AACException {
+		assertMix(FrameWriter.Type.LC, OutputLayout.MONO, LEFT_STEREO, RIGHT_STEREO, null);
+	}
+
+	@Test
+	public void testMonoHEAAC() throws AACException {
+		assertMix(FrameWriter.Type.HE_AAC, OutputLayout.MONO, LEFT_STEREO, RIGHT_STEREO, null);
+	}
+
+	@Test
+	public void testConcurrentElements() throws AACException {
+		final FrameWriter writer = new FrameWriter(FrameWriter.Type.LC_5_1, 13);
+		final Decoder sequential = new Decoder(writer.getDecoderSpecificInfo());
+		final Decoder concurrent = new Decoder(writer.getDecoderSpecificInfo());
+		concurrent.setParallelProcessing(pool);
+		final SampleBuffer expected = new SampleBuffer(), actual = new SampleBuffer();
+		byte[] frame;
+		for(int i = 0; i<FRAMES; i++) {
+			frame = writer.nextFrame();
+			sequential.decodeFrame(frame, expected);
+			concurrent.decodeFrame(frame, actual);
+			assertEquals(6, actual.getChannels());
+			assertArrayEquals("frame "+i, expected.getData(), actual.getData());
+		}
+	}
+
+	/*
+	 * Decodes the stream with the native layout and with the given layout,
+	 * which is compared with the time domain mix of the native output using
+	 * the same coefficients as the decoder: normalized so that the sum of
+	 * the coefficients of an output channel is 1.
+	 */
+	private static void assertMix(FrameWriter.Type type, OutputLayout layout, float[] left, float[] right, ForkJoinPool pool) throws AACException {
+		final FrameWriter writer = new FrameWriter(type, 12);
+		final Decoder nativeDecoder = new Decoder(writer.getDecoderSpecificInfo());
+		final Decoder mixing = new Decoder(writer.getDecoderSpecificInfo());
+		mixing.setOutputLayout(layout);
+		mixing.setParallelProcessing(pool);
+
+		final int chs = left.length;
+		final float[][] coefs;
+		if(layout==OutputLayout.STEREO) coefs = new float[][]{normalize(left), normalize(right)};
+		else {
+			final float[] mono = new float[chs];
+			for(int i = 0; i<chs; i++) {
+				mono[i] = left[i]+right[i];
+			}
+			coefs = new float[][]{normalize(mono)};
+		}
+
+		final float[][] decoded = new float[chs][2048], mixed = new float[layout.getChannelCount()][2048];
+		final double[] expected = new double[2048];
+		double peak = 0, error = 0;
+		byte[] frame;
+		for(int i = 0; i<FRAMES; i++) {
+			frame = writer.nextFrame();
+			final int len = nativeDecoder.decodeFrame(frame, decoded);
+			assertEquals(chs, nativeDecoder.getChannelCount());
+			assertEquals(len, mixing.decodeFrame(frame, mixed));
+			assertEquals(layout.getChannelCount(), mixing.getChannelCount());
+
+			for(int o = 0; o<coefs.length; o++) {
+				for(int j = 0; j<len; j++) {
+					expected[j] = 0;
+					for(int ch = 0; ch<chs; ch++) {
+						expected[j] += coefs[o][ch]*decoded[ch][j];
+					}
+					peak = Math.max(peak, Math.abs(expected[j]));
+					error = Math.max(error, Math.abs(mixed[o][j]-expected[j]));
+				}
+			}
+		}
+		assertTrue(type+" to "+layout+": no signal", peak>0.01);
+assertTrue(type+" to "+layout+": error "+error/peak, error<=MAX_ERROR*peak);
+	}
+
+	private static float[] normalize(float[] coefs) {
+		float sum = 0;
+		for(float f : coefs) {
+			sum += f;
+		}
+		final float[] norm = new float[coefs.length];
+		for(int i = 0; i<coefs.length; i++) {
+			norm[i] = coefs[i]/sum;
+		}
+		return norm;
+	}
+}
@@ -0,0 +1,58 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.zip.CRC32;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.Test;
+
+/**
+ * Compares checksums of the PCM output of generated streams with the output
+ * of the scalar decoder. This covers the synthesis kernels in the default
+ * build, where <code>KernelsTest</code> is skipped, and fails for any change
+ * of the output, even by one bit.
+ */
+public class GoldenOutputTest {
+
+	private static final int FRAMES = 200;
+	private static final long SEED = 3;
+
+	@Test
+	public void testLC() throws AACException {
+		assertChecksum(FrameWriter.Type.LC, 0x40b69daaL);
+	}
+
+	@Test
+	public void testLCMono() throws AACException {
+		assertChecksum(FrameWriter.Type.LC_MONO, 0x1d22e2e3L);
+	}
+
+	@Test
+	public void testHEAAC() throws AACException {
+		assertChecksum(FrameWriter.Type.HE_AAC, 0x6ee8cbd3L);
+	}
+
+	@Test
+	public void testHEAACv2() throws AACException {
+		assertChecksum(FrameWriter.Type.HE_AAC_V2, 0xf050677aL);
+	}
+
+	@Test
+	public void testLC51() throws AACException {
+		assertChecksum(FrameWriter.Type.LC_5_1, 0x2f40e259L);
+	}
+
+	private static void assertChecksum(FrameWriter.Type type, long expected) throws AACException {
+		final FrameWriter writer = new FrameWriter(type, SEED);
+		final Decoder dec = new Decoder(writer.getDecoderSpecificInfo());
+		final SampleBuffer buf = new SampleBuffer();
+		//the byte order of the output doesn't depend on the platform
+		buf.setBigEndian(true);
+		final CRC32 crc = new CRC32();
+		for(int i = 0; i<FRAMES; i++) {
+			dec.decodeFrame(writer.nextFrame(), buf);
+			crc.update(buf.getData());
+		}
+		assertEquals(type+": CRC32 "+Long.toHexString(crc.getValue()), expected, crc.getValue());
+	}
+}
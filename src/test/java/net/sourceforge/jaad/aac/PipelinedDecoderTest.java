@@ -0,0 +1,105 @@
+package net.sourceforge.jaad.aac;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.sourceforge.jaad.aac.syntax.FrameWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the output of the <code>PipelinedDecoder</code> with the
+ * <code>Decoder</code> frame by frame, for pipelined AAC-LC streams and for
+ * HE-AAC streams, which are decoded sequentially.
+ */
+public class PipelinedDecoderTest {
+
+	private static final int FRAMES = 150;
+	//frames after which the decoder is flushed
+	private static final int FLUSH = 100;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testLC() throws AACException {
+		assertEqualOutput(FrameWriter.Type.LC);
+	}
+
+	@Test
+	public void testLCMono() throws AACException {
+		assertEqualOutput(FrameWriter.Type.LC_MONO);
+	}
+
+	@Test
+	public void testHEAAC() throws AACException {
+		assertEqualOutput(FrameWriter.Type.HE_AAC);
+	}
+
+	@Test
+	public void testHEAACv2() throws AACException {
+		assertEqualOutput(FrameWriter.Type.HE_AAC_V2);
+	}
+
+	@Test
+	public void testLC51() throws AACException {
+		assertEqualOutput(FrameWriter.Type.LC_5_1);
+	}
+
+	private void assertEqualOutput(FrameWriter.Type type) throws AACException {
+		final FrameWriter writer = new FrameWriter(type, 11);
+		final byte[] dsi = writer.getDecoderSpecificInfo();
+		final Decoder dec = new Decoder(dsi);
+		final SampleBuffer buf = new SampleBuffer();
+		final List<SampleBuffer> expected = new ArrayList<SampleBuffer>();
+		final List<byte[]> frames = new ArrayList<byte[]>();
+		for(int i = 0; i<FRAMES; i++) {
+			final byte[] frame = writer.nextFrame().clone();
+			frames.add(frame);
+			dec.decodeFrame(frame, buf);
+			final SampleBuffer copy = new SampleBuffer();
+			copy.setData(buf.getData().clone(), buf.getSampleRate(), buf.getChannels(), buf.getBitsPerSample(), 0);
+			expected.add(copy);
+		}
+
+		final PipelinedDecoder pipelined = new PipelinedDecoder(dsi, executor);
+		int n = 0;
+		for(int i = 0; i<FRAMES; i++) {
+			//the output is delayed by one frame
+			final boolean output = pipelined.decodeFrame(frames.get(i), buf);
+			assertEquals(type+", frame "+i, i!=0&&i!=FLUSH, output);
+			if(output) assertFrame(type, n, expected.get(n++), buf);
+			//flushing returns the last frame, and the stream continues
+			if(i==FLUSH-1) {
+				assertTrue(pipelined.flush(buf));
+				assertFrame(type, n, expected.get(n++), buf);
+			}
+		}
+		assertTrue(pipelined.flush(buf));
+		assertFrame(type, n, expected.get(n++), buf);
+		assertEquals(FRAMES, n);
+		assertFalse(pipelined.flush(buf));
+	}
+
+	private static void assertFrame(FrameWriter.Type type, int frame, SampleBuffer expected, SampleBuffer actual) {
+		final String s = type+", frame "+frame;
+		assertEquals(s+": sample rate", expected.getSampleRate(), actual.getSampleRate());
+		assertEquals(s+": channels", expected.getChannels(), actual.getChannels());
+		assertArrayEquals(s, expected.getData(), actual.getData());
+	}
+}
@@ -0,0 +1,90 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.AACException;
+import org.junit.Test;
+
+/**
+ * Compares the FFT with a DFT computed in double precision, for all lengths
+ * used by the filterbank and for combinations of the radix 2, 3 and 5 stages.
+ * The error is relative to the largest output value.
+ */
+public class FFTTest {
+
+	//512/64: long and short windows, 128/16: gain control, 480/60: 960-sample frames
+	private static final int[] LENGTHS = {8, 15, 16, 30, 32, 60, 64, 120, 128, 240, 256, 480, 512, 960, 1024};
+	private static final int[] UNSUPPORTED = {1, 2, 4, 7, 9, 25, 90, 1000};
+	private static final double MAX_ERROR = 1e-6;
+	private static final int RUNS = 3;
+
+	@Test
+	public void testForward() throws AACException {
+		for(int length : LENGTHS) {
+			assertDFT(length, true);
+		}
+	}
+
+	@Test
+	public void testInverse() throws AACException {
+		for(int length : LENGTHS) {
+			assertDFT(length, false);
+		}
+	}
+
+	@Test
+	public void testUnsupportedLengths() {
+		for(int length : UNSUPPORTED) {
+			try {
+				new FFT(length);
+				throw new AssertionError("no exception for length "+length);
+			}
+			catch(AACException e) {
+			}
+		}
+	}
+
+	private static void assertDFT(int length, boolean forward) throws AACException {
+		final FFT fft = new FFT(length);
+		assertEquals(length, fft.getLength());
+		final Random rnd = new Random(length);
+		final float[] re = new float[length], im = new float[length];
+		final double[] expectedRe = new double[length], expectedIm = new double[length];
+		for(int r = 0; r<RUNS; r++) {
+			for(int i = 0; i<length; i++) {
+				re[i] = 2*rnd.nextFloat()-1;
+				im[i] = 2*rnd.nextFloat()-1;
+			}
+			dft(re, im, expectedRe, expectedIm, forward);
+			//the same instance is used for several transforms
+			fft.process(re, im, forward);
+
+			double max = 0, error = 0;
+			for(int i = 0; i<length; i++) {
+				max = Math.max(max, Math.hypot(expectedRe[i], expectedIm[i]));
+				error = Math.max(error, Math.hypot(re[i]-expectedRe[i], im[i]-expectedIm[i]));
+			}
+			assertTrue("length "+length+(forward ? ", forward" : ", inverse")+": error "+error/max, error<=MAX_ERROR*max);
+		}
+	}
+
+	private static void dft(float[] re, float[] im, double[] outRe, double[] outIm, boolean forward) {
+		final int n = re.length;
+		final double sign = forward ? -1 : 1;
+		double a, sr, si;
+		for(int k = 0; k<n; k++) {
+			sr = 0;
+			si = 0;
+			for(int i = 0; i<n; i++) {
+				//reduced before the multiplication, so the angle stays exact
+				a = sign*2*Math.PI*(((long) i*k)%n)/n;
+				sr += re[i]*Math.cos(a)-im[i]*Math.sin(a);
+				si += re[i]*Math.sin(a)+im[i]*Math.cos(a);
+			}
+			outRe[k] = sr;
+			outIm[k] = si;
+		}
+	}
+}
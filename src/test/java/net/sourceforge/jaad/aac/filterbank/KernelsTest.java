@@ -0,0 +1,148 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assume.assumeFalse;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the kernels selected at runtime with the scalar implementation.
+ * Both must be bit-identical, so the tolerance is zero. Without the Vector
+ * API the tests are skipped; run them with <code>mvn -Pvector test</code>.
+ */
+public class KernelsTest {
+
+	private static final int ITERATIONS = 2000;
+	private static final int SIZE = 2048;
+	private final Kernels scalar = new ScalarKernels();
+	private Kernels kernels;
+	private Random rnd;
+
+	@Before
+	public void setUp() {
+		kernels = Kernels.getInstance();
+		assumeFalse("vector kernels not available", kernels instanceof ScalarKernels);
+		rnd = new Random(5);
+	}
+
+	@Test
+	public void testMultiply() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] a = random(), w = random();
+			final int n = rnd.nextInt(300), aOff = rnd.nextInt(500), wOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.multiply(a, aOff, w, wOff, expected, outOff, n);
+			kernels.multiply(a, aOff, w, wOff, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testMultiplyReverse() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] a = random(), w = random();
+			final int n = rnd.nextInt(300), aOff = rnd.nextInt(500), wOff = 300+rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.multiplyReverse(a, aOff, w, wOff, expected, outOff, n);
+			kernels.multiplyReverse(a, aOff, w, wOff, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testMultiplyAdd() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] a = random(), w = random(), add = random();
+			final int n = rnd.nextInt(300), aOff = rnd.nextInt(500), wOff = rnd.nextInt(500), addOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.multiplyAdd(a, aOff, w, wOff, add, addOff, expected, outOff, n);
+			kernels.multiplyAdd(a, aOff, w, wOff, add, addOff, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testMultiplyReverseAdd() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] a = random(), w = random(), add = random();
+			final int n = rnd.nextInt(300), aOff = rnd.nextInt(500), wOff = 300+rnd.nextInt(500), addOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.multiplyReverseAdd(a, aOff, w, wOff, add, addOff, expected, outOff, n);
+			kernels.multiplyReverseAdd(a, aOff, w, wOff, add, addOff, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testWindow() {
+		//the taps of the 64 and 32 band QMF synthesis
+		final int[] taps = {0, 192, 256, 448, 512, 704, 768, 960, 1024, 1216};
+		for(int it = 0; it<ITERATIONS; it++) {
+			final int n = (it&1)==0 ? 64 : 32;
+			final float[] x = random(), c = random();
+			final int xOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.window(x, xOff, taps, c, expected, outOff, n);
+			kernels.window(x, xOff, taps, c, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testScale() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] a = random();
+			final float f = (float) rnd.nextGaussian();
+			final int n = rnd.nextInt(300), aOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final float[] expected = new float[SIZE], actual = new float[SIZE];
+			scalar.scale(a, aOff, f, expected, outOff, n);
+			kernels.scale(a, aOff, f, actual, outOff, n);
+			assertArrayEquals(expected, actual, 0);
+		}
+	}
+
+	@Test
+	public void testComplexMultiply() {
+		for(int it = 0; it<ITERATIONS; it++) {
+			final float[] re = random(), im = random(), c = random(), s = random();
+			final int n = rnd.nextInt(SIZE);
+			final float[] expectedRe = new float[SIZE], expectedIm = new float[SIZE];
+			scalar.complexMultiply(re, im, c, s, expectedRe, expectedIm, n);
+			//in place, as used by the MDCT
+			kernels.complexMultiply(re, im, c, s, re, im, n);
+			assertArrayEquals(Arrays.copyOf(expectedRe, n), Arrays.copyOf(re, n), 0);
+			assertArrayEquals(Arrays.copyOf(expectedIm, n), Arrays.copyOf(im, n), 0);
+		}
+	}
+
+	@Test
+	public void testToShort() {
+		final float[] special = {0.5f, -0.5f, 1.5f, -1.5f, Math.nextUp(0.5f), Math.nextDown(0.5f), -0f,
+			32767.4f, 32767.5f, -32768.5f, -32768.6f, 1e20f, -1e20f,
+			Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY};
+		final float[] a = new float[SIZE];
+		for(int it = 0; it<ITERATIONS; it++) {
+			for(int i = 0; i<SIZE; i++) {
+				if(rnd.nextInt(8)==0) a[i] = special[rnd.nextInt(special.length)];
+				else if(rnd.nextBoolean()) a[i] = rnd.nextInt(80000)-40000+0.5f;
+				else a[i] = (float) (rnd.nextGaussian()*20000);
+			}
+			final int n = rnd.nextInt(1500), aOff = rnd.nextInt(500), outOff = rnd.nextInt(500);
+			final short[] expected = new short[SIZE], actual = new short[SIZE];
+			scalar.toShort(a, aOff, expected, outOff, n);
+			kernels.toShort(a, aOff, actual, outOff, n);
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	private float[] random() {
+		final float[] f = new float[SIZE];
+		for(int i = 0; i<SIZE; i++) {
+			f[i] = (float) (rnd.nextGaussian()*1000);
+		}
+		return f;
+	}
+}
@@ -0,0 +1,64 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.AACException;
+import org.junit.Test;
+
+/**
+ * Compares the IMDCT with the definition, computed in double precision, for
+ * the long and short windows of 1024- and 960-sample frames. The error is
+ * relative to the largest output value.
+ */
+public class MDCTTest {
+
+	private static final int[] LENGTHS = {2048, 256, 1920, 240};
+	private static final double MAX_ERROR = 1e-6;
+	private static final int OFFSET = 7;
+
+	@Test
+	public void testIMDCT() throws AACException {
+		for(int length : LENGTHS) {
+			final MDCT mdct = new MDCT(length);
+			final Random rnd = new Random(length);
+			//input and output at offsets, as in the short window loop
+			final float[] in = new float[OFFSET+length/2];
+			final float[] out = new float[OFFSET+length];
+			for(int r = 0; r<2; r++) {
+				for(int k = 0; k<length/2; k++) {
+					in[OFFSET+k] = (float) rnd.nextGaussian();
+				}
+				mdct.process(in, OFFSET, out, OFFSET);
+				final double[] expected = imdct(in, OFFSET, length);
+
+				double max = 0, error = 0;
+				for(int n = 0; n<length; n++) {
+					max = Math.max(max, Math.abs(expected[n]));
+					error = Math.max(error, Math.abs(out[OFFSET+n]-expected[n]));
+				}
+				assertTrue("length "+length+": error "+error/max, error<=MAX_ERROR*max);
+			}
+		}
+	}
+
+	@Test(expected = AACException.class)
+	public void testUnsupportedLength() throws AACException {
+		new MDCT(1024);
+	}
+
+	//x[n] = 2/N*sum(X[k]*cos(2*pi/N*(n+n0)*(k+1/2))), n0 = (N/2+1)/2
+	private static double[] imdct(float[] in, int off, int length) {
+		final double n0 = (length/2+1)/2.0;
+		final double[] x = new double[length];
+		double sum;
+		for(int n = 0; n<length; n++) {
+			sum = 0;
+			for(int k = 0; k<length/2; k++) {
+				sum += in[off+k]*Math.cos(2*Math.PI/length*(n+n0)*(k+0.5));
+			}
+			x[n] = 2*sum/length;
+		}
+		return x;
+	}
+}
@@ -0,0 +1,133 @@
+package net.sourceforge.jaad.aac.huffman;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.AACException;
+import net.sourceforge.jaad.aac.syntax.BitStream;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+import org.junit.Test;
+
+/**
+ * Compares the lookup tables with the search through the codebooks, that
+ * the decoder used before, on random codewords of all codebooks.
+ */
+public class HuffmanTableTest implements Codebooks {
+
+	private static final int CODEWORDS = 5000;
+	private static final int REPEAT = 8;
+
+	@Test
+	public void testRandomCodewords() throws AACException {
+		final Random rnd = new Random(1);
+		for(int cb = 0; cb<CODEBOOKS.length; cb++) {
+			assertRandomCodewords("codebook "+(cb+1), CODEBOOKS[cb], rnd);
+		}
+		assertRandomCodewords("scalefactor codebook", HCB_SF, rnd);
+	}
+
+	@Test
+	public void testCodewordsAtEndOfFrame() throws AACException {
+		for(int cb = 0; cb<CODEBOOKS.length; cb++) {
+			assertCodewordsAtEnd("codebook "+(cb+1), CODEBOOKS[cb]);
+		}
+		assertCodewordsAtEnd("scalefactor codebook", HCB_SF);
+	}
+
+	@Test
+	public void testSpectralData() throws AACException {
+		final Random rnd = new Random(2);
+		final BitWriter out = new BitWriter();
+		final int[] expected = new int[4], actual = new int[4];
+		for(int cb = 1; cb<=CODEBOOKS.length; cb++) {
+			out.reset();
+			for(int i = 0; i<CODEWORDS; i++) {
+				CodewordWriter.writeSpectralData(out, cb, rnd);
+			}
+			final byte[] data = out.toByteArray();
+			final BitStream a = new BitStream(data), b = new BitStream(data);
+			for(int i = 0; i<CODEWORDS; i++) {
+				decodeSpectralData(a, cb, expected);
+				Huffman.decodeSpectralData(b, cb, actual, 0);
+				assertArrayEquals("codebook "+cb+", codeword "+i, expected, actual);
+				assertEquals("codebook "+cb+", codeword "+i+": position", a.getPosition(), b.getPosition());
+			}
+		}
+	}
+
+	//a stream of codewords chosen with the same probability, so long ones are frequent
+	private static void assertRandomCodewords(String msg, int[][] codebook, Random rnd) throws AACException {
+		final BitWriter out = new BitWriter();
+		for(int i = 0; i<CODEWORDS; i++) {
+			final int[] cw = codebook[rnd.nextInt(codebook.length)];
+			out.writeBits(cw[1], cw[0]);
+		}
+		assertDecoding(msg, codebook, out.toByteArray(), CODEWORDS);
+	}
+
+	//each codeword repeated, so that the last one ends exactly at the end of the data
+	private static void assertCodewordsAtEnd(String msg, int[][] codebook) throws AACException {
+		final BitWriter out = new BitWriter();
+		for(int[] cw : codebook) {
+			out.reset();
+			for(int i = 0; i<REPEAT; i++) {
+				out.writeBits(cw[1], cw[0]);
+			}
+			assertDecoding(msg, codebook, out.toByteArray(), REPEAT);
+		}
+	}
+
+	private static void assertDecoding(String msg, int[][] codebook, byte[] data, int count) throws AACException {
+		final HuffmanTable table = new HuffmanTable(codebook);
+		final BitStream a = new BitStream(data), b = new BitStream(data);
+		for(int i = 0; i<count; i++) {
+			assertEquals(msg+", codeword "+i, findOffset(a, codebook), table.decode(b));
+			assertEquals(msg+", codeword "+i+": position", a.getPosition(), b.getPosition());
+		}
+	}
+
+	//the search of the previous decoder: extends the codeword bit by bit
+	private static int findOffset(BitStream in, int[][] table) throws AACException {
+		int off = 0;
+		int len = table[off][0];
+		int cw = in.readBits(len);
+		int j;
+		while(cw!=table[off][1]) {
+			off++;
+			j = table[off][0]-len;
+			len = table[off][0];
+			cw <<= j;
+			cw |= in.readBits(j);
+		}
+		return off;
+	}
+
+	//the spectral decoding of the previous decoder, reading sign bits one at a time
+	private static void decodeSpectralData(BitStream in, int cb, int[] data) throws AACException {
+		final int[][] hcb = CODEBOOKS[cb-1];
+		final int offset = findOffset(in, hcb);
+		final int len = cb<5 ? 4 : 2;
+		for(int i = 0; i<len; i++) {
+			data[i] = hcb[offset][2+i];
+		}
+		final boolean unsigned = cb==3||cb==4||cb>=7;
+		if(unsigned) {
+			for(int i = 0; i<len; i++) {
+				if(data[i]!=0&&in.readBool()) data[i] = -data[i];
+			}
+		}
+		if(cb==11) {
+			for(int i = 0; i<len; i++) {
+				if(Math.abs(data[i])==16) {
+					int n = 4;
+					while(in.readBool()) {
+						n++;
+					}
+					final int j = in.readBits(n)|(1<<n);
+					data[i] = data[i]<0 ? -j : j;
+				}
+			}
+		}
+	}
+}
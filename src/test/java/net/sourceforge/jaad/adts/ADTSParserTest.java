@@ -0,0 +1,319 @@
+package net.sourceforge.jaad.adts;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Feeds generated ADTS streams to the <code>ADTSParser</code> in chunks of
+ * different sizes and compares the frames with the payloads read by the
+ * <code>ADTSDemultiplexer</code> and with the generated payloads.
+ */
+public class ADTSParserTest {
+
+	private static final int FRAMES = 200;
+	private static final int SAMPLE_FREQUENCY_44100 = 4, CHANNELS = 2;
+	//fixed header with an invalid sample frequency index (15)
+	private static final byte[] INVALID_SAMPLE_FREQUENCY = {(byte) 0xFF, (byte) 0xF1, (byte) 0x7C, (byte) 0x80, 0x10, 0x1F, (byte) 0xFC};
+	//fixed header with a frame length of 2, shorter than the header
+	private static final byte[] INVALID_LENGTH = {(byte) 0xFF, (byte) 0xF1, (byte) 0x50, (byte) 0x80, 0x00, 0x5F, (byte) 0xFC};
+
+	/**
+	 * A generated stream with the positions and payloads of its frames.
+	 */
+	private static class Stream {
+
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private final List<byte[]> payloads = new ArrayList<byte[]>();
+		private final List<Integer> starts = new ArrayList<Integer>(), ends = new ArrayList<Integer>();
+		private final List<int[]> blockPositions = new ArrayList<int[]>();
+		private final List<Integer> crcs = new ArrayList<Integer>();
+		private int garbage = 0;
+
+		void addFrame(byte[] payload, int[] positions, int crc) {
+			final boolean protection = positions!=null;
+			final int blocks = protection ? positions.length : 0;
+			final int len = (protection ? 9+2*blocks : 7)+payload.length;
+			starts.add(out.size());
+			out.write(0xFF);
+			out.write(protection ? 0xF0 : 0xF1); //MPEG-4, layer 0
+			out.write((1<<6)|(SAMPLE_FREQUENCY_44100<<2)|(CHANNELS>>2));
+			out.write(((CHANNELS&3)<<6)|(len>>11));
+			out.write(len>>3);
+			out.write(((len&7)<<5)|0x1F);
+			out.write(0xFC|blocks);
+			if(protection) {
+				for(int p : positions) {
+					out.write(p>>8);
+					out.write(p);
+				}
+				out.write(crc>>8);
+				out.write(crc);
+			}
+			out.write(payload, 0, payload.length);
+			ends.add(out.size());
+			payloads.add(payload);
+			blockPositions.add(protection ? positions : new int[0]);
+			crcs.add(protection ? crc : 0);
+		}
+
+		void addGarbage(byte[] b) {
+			out.write(b, 0, b.length);
+			garbage += b.length;
+		}
+
+		byte[] toByteArray() {
+			return out.toByteArray();
+		}
+	}
+
+	@Test
+	public void testSingleBytes() throws IOException {
+		final Stream s = createStream(1, false);
+		assertFrames(s, parse(s, new int[]{1}), true);
+	}
+
+	@Test
+	public void testRandomChunks() throws IOException {
+		final Stream s = createStream(2, false);
+		final Random rnd = new Random(3);
+		final int[] sizes = new int[1000];
+		for(int i = 0; i<sizes.length; i++) {
+			sizes[i] = 1+(rnd.nextBoolean() ? rnd.nextInt(20) : rnd.nextInt(3000));
+		}
+		assertFrames(s, parse(s, sizes), true);
+	}
+
+	@Test
+	public void testLargeChunks() throws IOException {
+		final Stream s = createStream(4, false);
+		//the whole stream, and chunks larger than the largest frame
+		assertFrames(s, parse(s, new int[]{s.toByteArray().length}), true);
+		assertFrames(s, parse(s, new int[]{3*ADTSFrame.MAXIMUM_FRAME_LENGTH}), true);
+	}
+
+	@Test
+	public void testSplitAtEveryOffset() throws IOException {
+		final Stream s = new Stream();
+		final Random rnd = new Random(5);
+		s.addFrame(random(rnd, 20), null, 0);
+		s.addFrame(random(rnd, 30), new int[]{5, 12, 20}, 0x1234);
+		s.addGarbage(new byte[]{1, (byte) 0xFF, 0, 2});
+		s.addFrame(random(rnd, 10), null, 0);
+		final int length = s.toByteArray().length;
+		for(int split = 1; split<length; split++) {
+			final Result r = parse(s, new int[]{split, length-split});
+			assertFrames(s, r, true);
+		}
+	}
+
+	@Test
+	public void testTrailingSyncwordByte() {
+		final Stream s = new Stream();
+		s.addFrame(random(new Random(6), 50), null, 0);
+		final byte[] frame = s.toByteArray();
+		final ADTSParser parser = new ADTSParser();
+
+		//a lone 0xFF at the end may start the next frame
+		final ByteBuffer first = ByteBuffer.allocate(frame.length+1);
+		first.put(frame).put((byte) 0xFF).flip();
+		assertEquals(frame.length-7, parser.parse(first).getData().remaining());
+		assertNull(parser.parse(first));
+		assertFalse(first.hasRemaining());
+		assertEquals(0, parser.getSkippedBytes());
+
+		//it does: the rest of the frame follows
+		final ByteBuffer second = ByteBuffer.wrap(frame, 1, frame.length-1);
+		final ADTSFrame f = parser.parse(second);
+		assertArrayEquals(s.payloads.get(0), toArray(f.getData()));
+		assertEquals(0, parser.getSkippedBytes());
+
+		//it doesn't: it is skipped with the following byte
+		assertNull(parser.parse(ByteBuffer.wrap(new byte[]{(byte) 0xFF})));
+		final ByteBuffer third = ByteBuffer.allocate(frame.length+1);
+		third.put((byte) 0x12).put(frame).flip();
+		assertArrayEquals(s.payloads.get(0), toArray(parser.parse(third).getData()));
+		assertEquals(2, parser.getSkippedBytes());
+	}
+
+	@Test
+	public void testResync() throws IOException {
+		final Stream s = createStream(7, true);
+		final Random rnd = new Random(8);
+		final int[] sizes = new int[1000];
+		for(int i = 0; i<sizes.length; i++) {
+			sizes[i] = 1+rnd.nextInt(40);
+		}
+		assertFrames(s, parse(s, sizes), false);
+		assertFrames(s, parse(s, new int[]{1}), false);
+		assertFrames(s, parse(s, new int[]{s.toByteArray().length}), false);
+	}
+
+	@Test
+	public void testResyncInsidePending() throws IOException {
+		final Stream s = new Stream();
+		final Random rnd = new Random(9);
+		s.addFrame(random(rnd, 40), null, 0);
+		//the invalid header is only detected when the chunk ends inside it
+		s.addGarbage(INVALID_SAMPLE_FREQUENCY);
+		s.addFrame(random(rnd, 40), null, 0);
+		s.addGarbage(INVALID_LENGTH);
+		s.addFrame(random(rnd, 40), new int[]{10}, 0xABCD);
+		final int length = s.toByteArray().length;
+		for(int split = 1; split<length; split++) {
+			for(int split2 = split+1; split2<length; split2 += 7) {
+				assertFrames(s, parse(s, new int[]{split, split2-split, length-split2}), false);
+			}
+		}
+	}
+
+	@Test
+	public void testMultipleRawDataBlocks() throws IOException {
+		final Stream s = new Stream();
+		final Random rnd = new Random(10);
+		for(int blocks = 1; blocks<=3; blocks++) {
+			final int[] positions = new int[blocks];
+			for(int i = 0; i<blocks; i++) {
+				positions[i] = 100*(i+1);
+			}
+			s.addFrame(random(rnd, 100*(blocks+1)), positions, 0x8000+blocks);
+		}
+		assertFrames(s, parse(s, new int[]{1}), true);
+		assertFrames(s, parse(s, new int[]{7, 11, 13}), true);
+		assertFrames(s, parse(s, new int[]{s.toByteArray().length}), true);
+	}
+
+	private static Stream createStream(long seed, boolean invalidHeaders) {
+		final Random rnd = new Random(seed);
+		final Stream s = new Stream();
+		for(int i = 0; i<FRAMES; i++) {
+			switch(rnd.nextInt(8)) {
+				case 0:
+					//garbage without syncwords
+					final byte[] b = random(rnd, 1+rnd.nextInt(100));
+					for(int j = 0; j<b.length; j++) {
+						if(b[j]==(byte) 0xFF) b[j] = 0;
+					}
+					s.addGarbage(b);
+					break;
+				case 1:
+					if(invalidHeaders) s.addGarbage(rnd.nextBoolean() ? INVALID_SAMPLE_FREQUENCY : INVALID_LENGTH);
+					break;
+				case 2:
+					//protected, with up to four raw data blocks
+					final int[] positions = new int[rnd.nextInt(4)];
+					for(int j = 0; j<positions.length; j++) {
+						positions[j] = rnd.nextInt(0x10000);
+					}
+					s.addFrame(random(rnd, rnd.nextInt(1000)), positions, rnd.nextInt(0x10000));
+					break;
+			}
+			//mostly small frames, a few up to the maximum frame length
+			final int len = rnd.nextInt(10)==0 ? rnd.nextInt(ADTSFrame.MAXIMUM_FRAME_LENGTH-7) : 1+rnd.nextInt(800);
+			s.addFrame(random(rnd, len), null, 0);
+		}
+		return s;
+	}
+
+	private static byte[] random(Random rnd, int length) {
+		final byte[] b = new byte[length];
+		rnd.nextBytes(b);
+		return b;
+	}
+
+	/**
+	 * The frames found by the parser, with their headers.
+	 */
+	private static class Result {
+
+		private final List<byte[]> payloads = new ArrayList<byte[]>();
+		private final List<int[]> blockPositions = new ArrayList<int[]>();
+		private final List<Integer> crcs = new ArrayList<Integer>();
+		private long skipped;
+	}
+
+	/*
+	 * Passes the stream in chunks of the given sizes, repeating the sizes until
+	 * the end. Each chunk has its own array; frames contained completely in a
+	 * chunk must be slices of it, others must be copies.
+	 */
+	private static Result parse(Stream s, int[] sizes) {
+		final byte[] data = s.toByteArray();
+		final ADTSParser parser = new ADTSParser();
+		final Result r = new Result();
+		int off = 0, len, n = 0;
+		ADTSFrame f;
+		while(off<data.length) {
+			len = Math.min(sizes[n++%sizes.length], data.length-off);
+			final byte[] chunk = Arrays.copyOfRange(data, off, off+len);
+			final ByteBuffer in = ByteBuffer.wrap(chunk);
+			while((f = parser.parse(in))!=null) {
+				final int i = r.payloads.size();
+				assertTrue("more frames than generated", i<s.payloads.size());
+				final ByteBuffer b = f.getData();
+				final boolean contained = s.starts.get(i)>=off&&s.ends.get(i)<=off+len;
+				assertEquals("frame "+i+" is a slice of the chunk", contained, b.hasArray()&&b.array()==chunk);
+				if(contained) assertEquals("frame "+i+": offset in the chunk", s.ends.get(i)-off-b.remaining(), b.arrayOffset()+b.position());
+
+				r.payloads.add(toArray(b));
+				final int[] positions = new int[f.getRawDataBlockCount()-1];
+				for(int j = 0; j<positions.length; j++) {
+					positions[j] = f.getRawDataBlockPosition(j+1);
+				}
+				if(f.isProtectionAbsent()) assertEquals(-1, f.getRawDataBlockPosition(1));
+				r.blockPositions.add(f.isProtectionAbsent() ? new int[0] : positions);
+				r.crcs.add(f.getCRC());
+				assertEquals(44100, f.getSampleFrequency());
+				assertEquals(CHANNELS, f.getChannelCount());
+			}
+			//all data is consumed
+			assertFalse(in.hasRemaining());
+			off += len;
+		}
+		r.skipped = parser.getSkippedBytes();
+		return r;
+	}
+
+	private static void assertFrames(Stream s, Result r, boolean compareDemultiplexer) throws IOException {
+		assertEquals("frames", s.payloads.size(), r.payloads.size());
+		for(int i = 0; i<s.payloads.size(); i++) {
+			assertArrayEquals("frame "+i, s.payloads.get(i), r.payloads.get(i));
+			assertArrayEquals("frame "+i+": raw data block positions", s.blockPositions.get(i), r.blockPositions.get(i));
+			assertEquals("frame "+i+": CRC", s.crcs.get(i), r.crcs.get(i));
+		}
+		assertEquals("skipped bytes", s.garbage, r.skipped);
+
+		//the demultiplexer doesn't validate headers, so only valid ones are used
+		if(compareDemultiplexer) {
+			final ADTSDemultiplexer demux = new ADTSDemultiplexer(new ByteArrayInputStream(s.toByteArray()));
+			for(int i = 0; i<r.payloads.size(); i++) {
+				assertArrayEquals("demultiplexer, frame "+i, demux.readNextFrame(), r.payloads.get(i));
+			}
+			try {
+				demux.readNextFrame();
+				throw new AssertionError("more frames from the demultiplexer");
+			}
+			catch(EOFException e) {
+			}
+		}
+	}
+
+	private static byte[] toArray(ByteBuffer b) {
+		final byte[] a = new byte[b.remaining()];
+		b.duplicate().get(a);
+		return a;
+	}
+}
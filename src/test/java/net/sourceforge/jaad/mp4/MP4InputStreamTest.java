@@ -0,0 +1,147 @@
+package net.sourceforge.jaad.mp4;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Compares the buffered reading of <code>InputStream</code>s and
+ * <code>RandomAccessFile</code>s with reading a <code>ByteBuffer</code>, for
+ * random sequences of small and large reads, peeks, skips and seeks.
+ */
+public class MP4InputStreamTest {
+
+	private static final int LENGTH = 100000;
+	private static final int OPERATIONS = 20000;
+	private static byte[] data;
+	private static File file;
+
+	@BeforeClass
+	public static void createFile() throws IOException {
+		data = new byte[LENGTH];
+		new Random(1).nextBytes(data);
+		file = File.createTempFile("jaad", ".mp4");
+		final FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(data);
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	@AfterClass
+	public static void deleteFile() {
+		file.delete();
+	}
+
+	@Test
+	public void testInputStream() throws IOException {
+		//returns few bytes per call, like a network stream
+		final InputStream in = new ByteArrayInputStream(data) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1000));
+			}
+		};
+		compare(new MP4InputStream(in), false);
+	}
+
+	@Test
+	public void testRandomAccessFile() throws IOException {
+		final RandomAccessFile fin = new RandomAccessFile(file, "r");
+		try {
+			compare(new MP4InputStream(fin), true);
+		}
+		finally {
+			fin.close();
+		}
+	}
+
+	private static void compare(MP4InputStream in, boolean seek) throws IOException {
+		final MP4InputStream expected = new MP4InputStream(ByteBuffer.wrap(data));
+		final Random rnd = new Random(2);
+		for(int i = 0; i<OPERATIONS; i++) {
+			final String op;
+			switch(rnd.nextInt(seek ? 8 : 7)) {
+				case 0:
+					op = "read";
+					if(expected.getOffset()<LENGTH) assertEquals(op, expected.read(), in.read());
+					break;
+				case 1:
+					op = "peek";
+					if(expected.getOffset()<LENGTH) assertEquals(op, expected.peek(), in.peek());
+					break;
+				case 2:
+					op = "readBytes";
+					final int n = 1+rnd.nextInt(8);
+					if(expected.getOffset()+n<=LENGTH) assertEquals(op, expected.readBytes(n), in.readBytes(n));
+					break;
+				case 3:
+					op = "peekBytes";
+					final int m = 1+rnd.nextInt(8);
+					if(expected.getOffset()+m<=LENGTH) assertEquals(op, expected.peekBytes(m), in.peekBytes(m));
+					break;
+				case 4:
+					op = "read array";
+					//frames and boxes, sometimes larger than the read-ahead
+					final byte[] a = new byte[rnd.nextBoolean() ? rnd.nextInt(2000) : rnd.nextInt(20000)];
+					final byte[] b = new byte[a.length];
+					if(expected.getOffset()+a.length<=LENGTH) {
+						expected.read(a, 0, a.length);
+						in.read(b, 0, b.length);
+						assertArrayEquals(op, a, b);
+					}
+					break;
+				case 5:
+					op = "skipBytes";
+					final long skip = rnd.nextBoolean() ? rnd.nextInt(100) : rnd.nextInt(20000);
+					if(expected.getOffset()+skip<=LENGTH) {
+						expected.skipBytes(skip);
+						in.skipBytes(skip);
+					}
+					break;
+				case 6:
+					op = "hasLeft";
+					assertEquals(op, expected.hasLeft(), in.hasLeft());
+					break;
+				default:
+					op = "seek";
+					//near the current position, inside the read-ahead, or anywhere
+					final long pos = rnd.nextBoolean() ? Math.max(0, Math.min(LENGTH, expected.getOffset()+rnd.nextInt(200)-100)) : rnd.nextInt(LENGTH+1);
+					expected.seek(pos);
+					in.seek(pos);
+					break;
+			}
+			assertEquals(op+": offset", expected.getOffset(), in.getOffset());
+			//restarts at the end of the input
+			if(!expected.hasLeft()&&seek) {
+				expected.seek(0);
+				in.seek(0);
+			}
+		}
+
+		//the end of the input is reported
+		while(in.hasLeft()) {
+			in.read();
+		}
+		try {
+			in.read();
+			throw new AssertionError("no EOFException");
+		}
+		catch(EOFException e) {
+		}
+	}
+}
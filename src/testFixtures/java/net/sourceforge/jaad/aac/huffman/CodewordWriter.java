@@ -0,0 +1,66 @@
+package net.sourceforge.jaad.aac.huffman;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+
+/**
+ * Writes codewords of the spectral and scalefactor codebooks. Random
+ * codewords are chosen with the probability 2^-length, that the codebooks
+ * were designed for, so the generated data has a realistic mix of short and
+ * long codewords.
+ */
+public class CodewordWriter implements Codebooks {
+
+	private static final boolean[] UNSIGNED = {false, false, true, true, false, false, true, true, true, true, true};
+	private static final int SF_DELTA = 60;
+	private static final int ESCAPE = 16;
+
+	private CodewordWriter() {
+	}
+
+	/**
+	 * Writes the codeword for the difference to the previous scalefactor.
+	 */
+	public static void writeScaleFactor(BitWriter out, int delta) {
+		for(int i = 0; i<HCB_SF.length; i++) {
+			if(HCB_SF[i][2]==delta+SF_DELTA) {
+				out.writeBits(HCB_SF[i][1], HCB_SF[i][0]);
+				return;
+			}
+		}
+		throw new IllegalArgumentException("scalefactor delta out of range: "+delta);
+	}
+
+	/**
+	 * Writes one random codeword of the given spectral codebook, including
+	 * the sign bits and escape sequences.
+	 */
+	public static void writeSpectralData(BitWriter out, int cb, Random rnd) {
+		final int[][] hcb = CODEBOOKS[cb-1];
+
+		//choose a codeword with the probability 2^-length
+		double r = rnd.nextDouble();
+		int i = 0;
+		while(i<hcb.length-1&&(r -= Math.pow(2, -hcb[i][0]))>=0) {
+			i++;
+		}
+		final int[] cw = hcb[i];
+		out.writeBits(cw[1], cw[0]);
+
+		final int len = cb<5 ? 4 : 2;
+		if(UNSIGNED[cb-1]) {
+			for(int j = 0; j<len; j++) {
+				if(cw[2+j]!=0) out.writeBool(rnd.nextBoolean());
+			}
+		}
+		if(cb==11) {
+			for(int j = 0; j<len; j++) {
+				if(cw[2+j]==ESCAPE) {
+					//shortest escape sequence: values 16 to 31
+					out.writeBit(0);
+					out.writeBits(rnd.nextInt(16), 4);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package net.sourceforge.jaad.aac.ps;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+
+/**
+ * Writes the parametric stereo extension of a synthetic HE-AACv2 stream: one
+ * envelope per frame with IID and ICC parameters for 10 bands, that slowly
+ * wander from frame to frame.
+ */
+public class PSWriter implements HuffmanTables {
+
+	private static final int PAR_COUNT = 10;
+	private static final int IID_MIN = -3, IID_MAX = 3, ICC_MIN = 0, ICC_MAX = 3;
+	private static final int HUFFMAN_OFFSET = 31;
+	private final int[] iid, icc;
+
+	public PSWriter() {
+		iid = new int[PAR_COUNT];
+		icc = new int[PAR_COUNT];
+	}
+
+	public void write(BitWriter out, Random rnd) {
+		//header
+		out.writeBool(true);
+		out.writeBool(true); //enable_iid
+		out.writeBits(0, 3); //iid_mode: 10 bands, default quantization
+		out.writeBool(true); //enable_icc
+		out.writeBits(0, 3); //icc_mode: 10 bands
+		out.writeBool(false); //enable_ext
+
+		out.writeBit(0); //frame_class: fixed borders
+		out.writeBits(1, 2); //one envelope
+
+		out.writeBit(0); //iid_dt: frequency direction
+		writeParameters(out, f_huff_iid_def, iid, IID_MIN, IID_MAX, rnd);
+		out.writeBit(0); //icc_dt: frequency direction
+		writeParameters(out, f_huff_icc, icc, ICC_MIN, ICC_MAX, rnd);
+	}
+
+	//varies the parameters and writes them as differences in frequency direction
+	private static void writeParameters(BitWriter out, int[][] huff, int[] par, int min, int max, Random rnd) {
+		int prev = 0;
+		for(int i = 0; i<par.length; i++) {
+			par[i] = Math.min(Math.max(par[i]+rnd.nextInt(3)-1, min), max);
+			out.writeTreeCode(huff, par[i]-prev-HUFFMAN_OFFSET);
+			prev = par[i];
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package net.sourceforge.jaad.aac.sbr;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.SampleFrequency;
+import net.sourceforge.jaad.aac.ps.PSWriter;
+import net.sourceforge.jaad.aac.syntax.BitWriter;
+
+/**
+ * Writes the SBR extension payload of a synthetic HE-AAC stream. Every frame
+ * carries a header and a single FIXFIX envelope in high frequency resolution;
+ * envelope and noise floor values slowly wander from frame to frame. Stereo
+ * streams are coded without coupling, mono streams may carry parametric
+ * stereo.
+ */
+public class SBRWriter implements Constants, HuffmanTables {
+
+	private static final int START_FREQ = 5, STOP_FREQ = 9, XOVER_BAND = 0;
+	private static final int ENVELOPE_MIN = 16, ENVELOPE_MAX = 40;
+	private static final int NOISE_MIN = 4, NOISE_MAX = 14;
+	private static final int HUFFMAN_OFFSET = 64;
+	private final int channels;
+	private final PSWriter ps;
+	private final int[][] envelope, noise;
+	private final BitWriter psData;
+
+	/**
+	 * @param sf the output sample frequency of the SBR tool
+	 * @param stereo true if the payload belongs to a CPE
+	 * @param ps true to add a parametric stereo extension (mono only)
+	 */
+	public SBRWriter(SampleFrequency sf, boolean stereo, boolean ps) {
+		if(stereo&&ps) throw new IllegalArgumentException("PS is only allowed for mono streams");
+		channels = stereo ? 2 : 1;
+		this.ps = ps ? new PSWriter() : null;
+		psData = new BitWriter();
+
+		//let the decoder calculate the band counts for the header values
+		final SBR sbr = new SBR(false, stereo, sf, false);
+		if(sbr.calc_sbr_tables(START_FREQ, STOP_FREQ, 1, 2, true, XOVER_BAND)>0) throw new IllegalArgumentException("invalid SBR header for "+sf);
+		envelope = new int[channels][sbr.n[HI_RES]];
+		noise = new int[channels][sbr.N_Q];
+		for(int ch = 0; ch<channels; ch++) {
+			for(int i = 0; i<envelope[ch].length; i++) {
+				envelope[ch][i] = (ENVELOPE_MIN+ENVELOPE_MAX)/2;
+			}
+			for(int i = 0; i<noise[ch].length; i++) {
+				noise[ch][i] = (NOISE_MIN+NOISE_MAX)/2;
+			}
+		}
+	}
+
+	public void write(BitWriter out, Random rnd) {
+		out.writeBool(true); //bs_header_flag
+		writeHeader(out);
+
+		out.writeBool(false); //bs_data_extra
+		if(channels==2) out.writeBool(false); //bs_coupling
+
+		for(int ch = 0; ch<channels; ch++) {
+			//grid: FIXFIX, one envelope, high frequency resolution
+			out.writeBits(FIXFIX, 2);
+			out.writeBits(0, 2);
+			out.writeBit(HI_RES);
+		}
+		for(int ch = 0; ch<channels; ch++) {
+			//dtdf: frequency direction for envelope and noise floor
+			out.writeBit(0);
+			out.writeBit(0);
+		}
+		for(int ch = 0; ch<channels; ch++) {
+			for(int i = 0; i<noise[ch].length; i++) {
+				out.writeBits(rnd.nextInt(4), 2); //bs_invf_mode
+			}
+		}
+		if(channels==2) {
+			writeValues(out, envelope[0], 7, F_HUFFMAN_ENV_1_5DB, ENVELOPE_MIN, ENVELOPE_MAX, rnd);
+			writeValues(out, envelope[1], 7, F_HUFFMAN_ENV_1_5DB, ENVELOPE_MIN, ENVELOPE_MAX, rnd);
+			writeValues(out, noise[0], 5, F_HUFFMAN_ENV_3_0DB, NOISE_MIN, NOISE_MAX, rnd);
+			writeValues(out, noise[1], 5, F_HUFFMAN_ENV_3_0DB, NOISE_MIN, NOISE_MAX, rnd);
+		}
+		else {
+			writeValues(out, envelope[0], 7, F_HUFFMAN_ENV_1_5DB, ENVELOPE_MIN, ENVELOPE_MAX, rnd);
+			writeValues(out, noise[0], 5, F_HUFFMAN_ENV_3_0DB, NOISE_MIN, NOISE_MAX, rnd);
+		}
+		for(int ch = 0; ch<channels; ch++) {
+			out.writeBool(false); //bs_add_harmonic_flag
+		}
+
+		out.writeBool(ps!=null); //bs_extended_data
+		if(ps!=null) {
+			psData.reset();
+			ps.write(psData, rnd);
+			final int cnt = (2+psData.getPosition()+7)/8;
+			if(cnt<15) out.writeBits(cnt, 4);
+			else {
+				out.writeBits(15, 4);
+				out.writeBits(cnt-15, 8);
+			}
+			out.writeBits(EXTENSION_ID_PS, 2);
+			out.write(psData);
+			for(int i = 2+psData.getPosition(); i<8*cnt; i++) {
+				out.writeBit(0);
+			}
+		}
+	}
+
+	private static void writeHeader(BitWriter out) {
+		out.writeBool(false); //bs_amp_res
+		out.writeBits(START_FREQ, 4);
+		out.writeBits(STOP_FREQ, 4);
+		out.writeBits(XOVER_BAND, 3);
+		out.writeBits(0, 2); //reserved
+		out.writeBool(false); //bs_header_extra_1: default frequency scale and noise bands
+		out.writeBool(false); //bs_header_extra_2: default limiter and smoothing
+	}
+
+	//varies the values and writes them as differences in frequency direction
+	private static void writeValues(BitWriter out, int[] values, int bits, int[][] huff, int min, int max, Random rnd) {
+		for(int i = 0; i<values.length; i++) {
+			values[i] = Math.min(Math.max(values[i]+rnd.nextInt(3)-1, min), max);
+		}
+		out.writeBits(values[0], bits);
+		for(int i = 1; i<values.length; i++) {
+			out.writeTreeCode(huff, values[i]-values[i-1]-HUFFMAN_OFFSET);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package net.sourceforge.jaad.aac.syntax;
+
+import java.util.Arrays;
+
+/**
+ * Counterpart of the <code>BitStream</code>: writes values most significant
+ * bit first into a growing byte array. Used to generate the synthetic
+ * streams for the benchmarks.
+ */
+public class BitWriter {
+
+	private byte[] buffer;
+	private int position; //number of total bits written
+
+	public BitWriter() {
+		buffer = new byte[256];
+		position = 0;
+	}
+
+	public void writeBits(int value, int n) {
+		for(int i = n-1; i>=0; i--) {
+			writeBit((value>>>i)&1);
+		}
+	}
+
+	public void writeBool(boolean b) {
+		writeBit(b ? 1 : 0);
+	}
+
+	public void writeBit(int bit) {
+		final int i = position>>3;
+		if(i==buffer.length) buffer = Arrays.copyOf(buffer, 2*buffer.length);
+		if(bit!=0) buffer[i] |= 0x80>>(position&7);
+		position++;
+	}
+
+	/**
+	 * Appends all bits written to the other writer.
+	 */
+	public void write(BitWriter other) {
+		for(int i = 0; i<other.position; i++) {
+			writeBit((other.buffer[i>>3]>>(7-(i&7)))&1);
+		}
+	}
+
+	/**
+	 * Writes the path to a leaf of a binary huffman tree, as used by SBR and
+	 * PS: each node holds the indices of its two children, leaves are
+	 * negative.
+	 */
+	public void writeTreeCode(int[][] tree, int leaf) {
+		if(!writePath(tree, 0, leaf, 0, 0)) throw new IllegalArgumentException("leaf not found: "+leaf);
+	}
+
+	private boolean writePath(int[][] tree, int node, int leaf, int path, int len) {
+		for(int bit = 0; bit<2; bit++) {
+			final int next = tree[node][bit];
+			if(next==leaf) {
+				writeBits((path<<1)|bit, len+1);
+				return true;
+			}
+			else if(next>0&&writePath(tree, next, leaf, (path<<1)|bit, len+1)) return true;
+		}
+		return false;
+	}
+
+	public int getPosition() {
+		return position;
+	}
+
+	public void byteAlign() {
+		while((position&7)!=0) {
+			writeBit(0);
+		}
+	}
+
+	public void reset() {
+		Arrays.fill(buffer, (byte) 0);
+		position = 0;
+	}
+
+	/**
+	 * Returns the written bytes; the last byte is padded with zeros.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, (position+7)>>3);
+	}
+}
@@ -0,0 +1,278 @@
+package net.sourceforge.jaad.aac.syntax;
+
+import java.util.Random;
+import net.sourceforge.jaad.aac.SampleFrequency;
+import net.sourceforge.jaad.aac.huffman.CodewordWriter;
+import net.sourceforge.jaad.aac.sbr.SBRWriter;
+
+/**
+ * Generates synthetic raw data blocks, as they are stored in MP4 containers.
+ * The spectral data consists of random codewords, so the streams sound like
+ * noise, but exercise the same code paths as real music: all spectral
+ * codebooks including escapes, M/S stereo, window switching with grouped
+ * short windows, and for the HE profiles SBR and parametric stereo.
+ */
+public class FrameWriter implements Constants, ScaleFactorBands {
+
+	public static enum Type {
+
+		/**
+		 * AAC-LC, stereo, 44100 Hz
+		 */
+		LC(SampleFrequency.SAMPLE_FREQUENCY_44100, 2, false, false),
+		/**
+		 * AAC-LC, mono with PNS, 44100 Hz
+		 */
+		LC_MONO(SampleFrequency.SAMPLE_FREQUENCY_44100, 1, false, false),
+		/**
+		 * HE-AAC with implicit SBR signalling, stereo, 22050 Hz core
+		 */
+		HE_AAC(SampleFrequency.SAMPLE_FREQUENCY_22050, 2, true, false),
+		/**
+		 * HE-AACv2 with implicit signalling, mono core with parametric
+		 * stereo, 22050 Hz core
+		 */
+		HE_AAC_V2(SampleFrequency.SAMPLE_FREQUENCY_22050, 1, true, true),
+		/**
+		 * AAC-LC, 5.1 (center, front pair, surround pair and LFE), 48000 Hz;
+		 * the surround pair switches windows in other frames than the front
+		 */
+		LC_5_1(SampleFrequency.SAMPLE_FREQUENCY_48000, 6, false, false);
+		private final SampleFrequency sf;
+		private final int channels;
+		private final boolean sbr, ps;
+
+		private Type(SampleFrequency sf, int channels, boolean sbr, boolean ps) {
+			this.sf = sf;
+			this.channels = channels;
+			this.sbr = sbr;
+			this.ps = ps;
+		}
+	}
+	private static final int OBJECT_TYPE_LC = 2;
+	private static final int GLOBAL_GAIN = 150;
+	private static final int SF_MIN = 130, SF_MAX = 170;
+	private static final int ZERO_HCB = 0, NOISE_HCB = 13;
+	//window switching pattern, repeated every 16 frames
+	private static final int[] WINDOW_SEQUENCES = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 0};
+	private static final int ONLY_LONG_SEQUENCE = 0, EIGHT_SHORT_SEQUENCE = 2;
+	//frames by which the windows of the surround channels are shifted
+	private static final int SURROUND_WINDOW_OFFSET = 5;
+	private final Type type;
+	private final Random rnd;
+	private final BitWriter out, sbrData;
+	private final SBRWriter sbr;
+	private int frame;
+	//ics_info of the current frame
+	private int windowSequence, maxSFB, windowGroupCount;
+	private final int[] windowGroupLength;
+	private int[] swbOffsets;
+	private final int[] sfbCB;
+
+	public FrameWriter(Type type, long seed) {
+		this.type = type;
+		rnd = new Random(seed);
+		out = new BitWriter();
+		sbrData = new BitWriter();
+		sbr = type.sbr ? new SBRWriter(SampleFrequency.forFrequency(2*type.sf.getFrequency()), type.channels==2, type.ps) : null;
+		windowGroupLength = new int[MAX_WINDOW_GROUP_COUNT];
+		sfbCB = new int[MAX_WINDOW_GROUP_COUNT*MAX_SECTIONS];
+		frame = 0;
+	}
+
+	/**
+	 * Returns the AudioSpecificConfig for the generated stream, as it is
+	 * passed to the <code>Decoder</code>. SBR is signalled implicitly.
+	 */
+	public byte[] getDecoderSpecificInfo() {
+		final BitWriter asc = new BitWriter();
+		asc.writeBits(OBJECT_TYPE_LC, 5);
+		asc.writeBits(type.sf.getIndex(), 4);
+		asc.writeBits(type.channels, 4);
+		asc.writeBool(false); //frameLengthFlag
+		asc.writeBool(false); //dependsOnCoreCoder
+		asc.writeBool(false); //extensionFlag
+		return asc.toByteArray();
+	}
+
+	/**
+	 * Generates the next frame; window sequences, codebooks and SBR
+	 * parameters vary from frame to frame.
+	 */
+	public byte[] nextFrame() {
+		out.reset();
+		final int sequence = WINDOW_SEQUENCES[frame%WINDOW_SEQUENCES.length];
+
+		if(type.channels==6) {
+			writeSCE(ELEMENT_SCE, sequence);
+			writeCPE(0, sequence, 2);
+			writeCPE(1, WINDOW_SEQUENCES[(frame+SURROUND_WINDOW_OFFSET)%WINDOW_SEQUENCES.length], 0);
+			writeSCE(ELEMENT_LFE, ONLY_LONG_SEQUENCE);
+		}
+		else if(type.channels==2) writeCPE(0, sequence, 2);
+		else writeSCE(ELEMENT_SCE, sequence);
+
+		if(sbr!=null) writeFIL();
+
+		out.writeBits(ELEMENT_END, 3);
+		out.byteAlign();
+		frame++;
+		return out.toByteArray();
+	}
+
+	private void writeSCE(int elementType, int sequence) {
+		windowSequence = sequence;
+		out.writeBits(elementType, 3);
+		out.writeBits(0, 4); //element instance tag
+		out.writeBits(GLOBAL_GAIN, 8);
+		writeICSInfo();
+		writeICStreamBody();
+	}
+
+	private void writeCPE(int tag, int sequence, int msMask) {
+		windowSequence = sequence;
+		out.writeBits(ELEMENT_CPE, 3);
+		out.writeBits(tag, 4); //element instance tag
+		out.writeBool(true); //common_window
+		writeICSInfo();
+		out.writeBits(msMask, 2); //ms_mask_present: 0 none, 2 all bands
+		writeICStream();
+		writeICStream();
+	}
+
+	private void writeICSInfo() {
+		final int sf = type.sf.getIndex();
+		out.writeBit(0); //reserved
+		out.writeBits(windowSequence, 2);
+		if(windowSequence==EIGHT_SHORT_SEQUENCE) {
+			out.writeBit(0); //window_shape: sine
+			swbOffsets = SWB_OFFSET_SHORT_WINDOW[sf];
+			maxSFB = SWB_SHORT_WINDOW_COUNT[sf]*3/4;
+			out.writeBits(maxSFB, 4);
+			//scale_factor_grouping
+			windowGroupCount = 1;
+			windowGroupLength[0] = 1;
+			for(int i = 0; i<7; i++) {
+				if(rnd.nextBoolean()) {
+					out.writeBit(1);
+					windowGroupLength[windowGroupCount-1]++;
+				}
+				else {
+					out.writeBit(0);
+					windowGroupLength[windowGroupCount++] = 1;
+				}
+			}
+		}
+		else {
+			out.writeBit(1); //window_shape: KBD
+			swbOffsets = SWB_OFFSET_LONG_WINDOW[sf];
+			maxSFB = SWB_LONG_WINDOW_COUNT[sf]*3/4;
+			out.writeBits(maxSFB, 6);
+			out.writeBool(false); //predictor_data_present
+			windowGroupCount = 1;
+			windowGroupLength[0] = 1;
+		}
+	}
+
+	private void writeICStream() {
+		out.writeBits(GLOBAL_GAIN, 8);
+		writeICStreamBody();
+	}
+
+	//section data, scalefactors and spectral data of an ICS after ics_info
+	private void writeICStreamBody() {
+		final boolean shortWindows = windowSequence==EIGHT_SHORT_SEQUENCE;
+		final int bits = shortWindows ? 3 : 5;
+		final int escVal = (1<<bits)-1;
+
+		//section data: larger codebooks for lower frequencies
+		int idx = 0;
+		for(int g = 0; g<windowGroupCount; g++) {
+			int k = 0;
+			while(k<maxSFB) {
+				final int len = Math.min(1+rnd.nextInt(8), maxSFB-k);
+				final int cb = chooseCodebook(k);
+				out.writeBits(cb, 4);
+				int n = len;
+				while(n>=escVal) {
+					out.writeBits(escVal, bits);
+					n -= escVal;
+				}
+				out.writeBits(n, bits);
+				for(int i = 0; i<len; i++) {
+					sfbCB[idx++] = cb;
+				}
+				k += len;
+			}
+		}
+
+		//scalefactors
+		int sf = GLOBAL_GAIN;
+		boolean noiseFlag = true;
+		for(int i = 0; i<idx; i++) {
+			if(sfbCB[i]==ZERO_HCB) continue;
+			if(sfbCB[i]==NOISE_HCB) {
+				//noise energy, absolute for the first band
+				if(noiseFlag) {
+					out.writeBits(256, 9);
+					noiseFlag = false;
+				}
+				else CodewordWriter.writeScaleFactor(out, 0);
+			}
+			else {
+				final int delta = Math.min(Math.max(sf+rnd.nextInt(5)-2, SF_MIN), SF_MAX)-sf;
+				CodewordWriter.writeScaleFactor(out, delta);
+				sf += delta;
+			}
+		}
+
+		out.writeBool(false); //pulse_data_present
+		out.writeBool(false); //tns_data_present
+		out.writeBool(false); //gain_control_data_present
+
+		//spectral data
+		idx = 0;
+		for(int g = 0; g<windowGroupCount; g++) {
+			for(int sfb = 0; sfb<maxSFB; sfb++, idx++) {
+				final int cb = sfbCB[idx];
+				if(cb==ZERO_HCB||cb==NOISE_HCB) continue;
+				final int width = swbOffsets[sfb+1]-swbOffsets[sfb];
+				final int num = cb<5 ? 4 : 2;
+				for(int w = 0; w<windowGroupLength[g]; w++) {
+					for(int k = 0; k<width; k += num) {
+						CodewordWriter.writeSpectralData(out, cb, rnd);
+					}
+				}
+			}
+		}
+	}
+
+	private int chooseCodebook(int sfb) {
+		final int r = rnd.nextInt(16);
+		if(r==0) return ZERO_HCB;
+		//PNS only for mono streams; for CPEs it would be disabled by M/S
+		if(r==1&&type.channels==1) return NOISE_HCB;
+		//spectral codebooks 11 (low) to 1 (high frequencies)
+		final int cb = 11-(10*sfb)/maxSFB-rnd.nextInt(3);
+		return Math.max(cb, 1);
+	}
+
+	private void writeFIL() {
+		sbrData.reset();
+		sbr.write(sbrData, rnd);
+
+		final int bits = 4+sbrData.getPosition(); //extension_type + payload
+		final int count = (bits+7)/8;
+		out.writeBits(ELEMENT_FIL, 3);
+		if(count<15) out.writeBits(count, 4);
+		else {
+			out.writeBits(15, 4);
+			out.writeBits(count-14, 8);
+		}
+		out.writeBits(13, 4); //EXT_SBR_DATA
+		out.write(sbrData);
+		for(int i = bits; i<8*count; i++) {
+			out.writeBit(0);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package net.sourceforge.jaad.aac.filterbank;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels using the Vector API (incubator module, Java 16+). Loaded by
+ * reflection from <code>Kernels</code>, so the rest of the library doesn't
+ * depend on the module. The remainders of the loops are processed by the
+ * scalar kernels.
+ */
+final class VectorKernels extends Kernels {
+
+	private static final VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> I = VectorSpecies.of(int.class, F.vectorShape());
+	private static final VectorSpecies<Short> S = VectorSpecies.of(short.class, VectorShape.forBitSize(F.vectorBitSize()/2));
+	private static final VectorShuffle<Float> REVERSE = VectorShuffle.iota(F, F.length()-1, -1, true);
+	private final ScalarKernels scalar;
+
+	VectorKernels() {
+		//without SIMD support the Vector API is much slower than scalar code
+		if(F.length()<4) throw new UnsupportedOperationException("no SIMD support: "+F);
+		scalar = new ScalarKernels();
+	}
+
+	@Override
+	public String getName() {
+		return "vector ("+F.vectorBitSize()+" bit)";
+	}
+
+	@Override
+	public void multiply(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		int i = 0;
+		for(; i<bound; i += F.length()) {
+			FloatVector.fromArray(F, a, aOff+i)
+					.mul(FloatVector.fromArray(F, w, wOff+i))
+					.intoArray(out, outOff+i);
+		}
+		scalar.multiply(a, aOff+i, w, wOff+i, out, outOff+i, n-i);
+	}
+
+	@Override
+	public void multiplyReverse(float[] a, int aOff, float[] w, int wOff, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		final int last = F.length()-1;
+		int i = 0;
+		for(; i<bound; i += F.length()) {
+			FloatVector.fromArray(F, a, aOff+i)
+					.mul(FloatVector.fromArray(F, w, wOff-i-last).rearrange(REVERSE))
+					.intoArray(out, outOff+i);
+		}
+		scalar.multiplyReverse(a, aOff+i, w, wOff-i, out, outOff+i, n-i);
+	}
+
+	@Override
+	public void multiplyAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		int i = 0;
+		for(; i<bound; i += F.length()) {
+			FloatVector.fromArray(F, add, addOff+i)
+					.add(FloatVector.fromArray(F, a, aOff+i).mul(FloatVector.fromArray(F, w, wOff+i)))
+					.intoArray(out, outOff+i);
+		}
+		scalar.multiplyAdd(a, aOff+i, w, wOff+i, add, addOff+i, out, outOff+i, n-i);
+	}
+
+	@Override
+	public void multiplyReverseAdd(float[] a, int aOff, float[] w, int wOff, float[] add, int addOff, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		final int last = F.length()-1;
+		int i = 0;
+		for(; i<bound; i += F.length()) {
+			FloatVector.fromArray(F, add, addOff+i)
+					.add(FloatVector.fromArray(F, a, aOff+i).mul(FloatVector.fromArray(F, w, wOff-i-last).rearrange(REVERSE)))
+					.intoArray(out, outOff+i);
+		}
+		scalar.multiplyReverseAdd(a, aOff+i, w, wOff-i, add, addOff+i, out, outOff+i, n-i);
+	}
+
+	@Override
+	public void window(float[] x, int xOff, int[] taps, float[] c, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		int i = 0, t;
+		FloatVector sum;
+		for(; i<bound; i += F.length()) {
+			sum = FloatVector.fromArray(F, x, xOff+taps[0]+i).mul(FloatVector.fromArray(F, c, i));
+			for(t = 1; t<taps.length; t++) {
+				sum = sum.add(FloatVector.fromArray(F, x, xOff+taps[t]+i).mul(FloatVector.fromArray(F, c, t*n+i)));
+			}
+			sum.intoArray(out, outOff+i);
+		}
+		//remainder: same as scalar, with the offset into the coefficients
+		float s;
+		for(; i<n; i++) {
+			s = x[xOff+taps[0]+i]*c[i];
+			for(t = 1; t<taps.length; t++) {
+				s += x[xOff+taps[t]+i]*c[t*n+i];
+			}
+			out[outOff+i] = s;
+		}
+	}
+
+	@Override
+	public void scale(float[] a, int aOff, float f, float[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		int i = 0;
+		for(; i<bound; i += F.length()) {
+			FloatVector.fromArray(F, a, aOff+i).mul(f).intoArray(out, outOff+i);
+		}
+		scalar.scale(a, aOff+i, f, out, outOff+i, n-i);
+	}
+
+	@Override
+	public void complexMultiply(float[] re, float[] im, float[] c, float[] s, float[] outRe, float[] outIm, int n) {
+		final int bound = F.loopBound(n);
+		int k = 0;
+		FloatVector r, i, vc, vs;
+		for(; k<bound; k += F.length()) {
+			r = FloatVector.fromArray(F, re, k);
+			i = FloatVector.fromArray(F, im, k);
+			vc = FloatVector.fromArray(F, c, k);
+			vs = FloatVector.fromArray(F, s, k);
+			r.mul(vc).sub(i.mul(vs)).intoArray(outRe, k);
+			r.mul(vs).add(i.mul(vc)).intoArray(outIm, k);
+		}
+		for(float tr, ti; k<n; k++) {
+			tr = re[k];
+			ti = im[k];
+			outRe[k] = (tr*c[k])-(ti*s[k]);
+			outIm[k] = (tr*s[k])+(ti*c[k]);
+		}
+	}
+
+	@Override
+	public void toShort(float[] a, int aOff, short[] out, int outOff, int n) {
+		final int bound = F.loopBound(n);
+		int i = 0;
+		FloatVector v, frac;
+		IntVector r;
+		VectorMask<Float> m;
+		for(; i<bound; i += F.length()) {
+			//clip first: for values in range the truncation and the fraction are exact
+			v = FloatVector.fromArray(F, a, aOff+i).max(Short.MIN_VALUE).min(Short.MAX_VALUE);
+			r = (IntVector) v.convertShape(VectorOperators.F2I, I, 0);
+			frac = v.sub((FloatVector) r.convertShape(VectorOperators.I2F, F, 0));
+			//Math.round rounds half up: fix the truncation towards zero
+			m = frac.compare(VectorOperators.GE, 0.5f);
+			r = r.add(1, m.cast(I));
+			m = frac.compare(VectorOperators.LT, -0.5f);
+			r = r.sub(1, m.cast(I));
+			((ShortVector) r.convertShape(VectorOperators.I2S, S, 0)).intoArray(out, outOff+i);
+		}
+		scalar.toShort(a, aOff+i, out, outOff+i, n-i);
+	}
+}